@@ -164,6 +164,33 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String CONNECTION_TIMEOUT = "connection_timeout";
 
+	/**
+	 * Whether request bodies sent to the Elasticsearch cluster should be compressed with gzip.
+	 * <p>
+	 * Compression reduces network traffic, in particular for large bulk requests sent during indexing,
+	 * at the cost of some CPU usage.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#REQUEST_COMPRESSION}.
+	 */
+	public static final String REQUEST_COMPRESSION = "request_compression";
+
+	/**
+	 * Whether the Elasticsearch cluster should be asked to compress response bodies with gzip.
+	 * <p>
+	 * Compressed responses are decompressed transparently.
+	 * Compression reduces network traffic, in particular for search queries returning many or large hits,
+	 * at the cost of some CPU usage.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#RESPONSE_COMPRESSION}.
+	 */
+	public static final String RESPONSE_COMPRESSION = "response_compression";
+
 	/**
 	 * The maximum number of simultaneous connections to the Elasticsearch cluster,
 	 * all hosts taken together.
@@ -288,6 +315,43 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String SCROLL_TIMEOUT = "scroll_timeout";
 
+	/**
+	 * Whether {@link org.hibernate.search.engine.search.query.SearchFetchable#scroll(int) scrolls}
+	 * should rely on a point in time and {@code search_after}
+	 * instead of the legacy scroll API.
+	 * <p>
+	 * Point-in-time scrolls do not hold per-shard search contexts between chunks,
+	 * and thus do not count towards the cluster's limit of open scroll contexts.
+	 * They require Elasticsearch 7.12 or later;
+	 * enabling this on other distributions or versions will lead to a failure on startup.
+	 * <p>
+	 * The point in time is kept alive for the duration set through {@link #SCROLL_TIMEOUT}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_POINT_IN_TIME}.
+	 */
+	public static final String SCROLL_POINT_IN_TIME = "scroll_point_in_time";
+
+	/**
+	 * The number of slices to split point-in-time {@link org.hibernate.search.engine.search.query.SearchFetchable#scroll(int) scrolls} into.
+	 * <p>
+	 * Each chunk is built by fetching the next page of every slice concurrently,
+	 * waiting for all slices to respond, then concatenating their hits,
+	 * each page holding at most {@code chunkSize / slices} hits.
+	 * This speeds up the consumption of large result sets at the cost of sort order:
+	 * hits are only sorted within each slice.
+	 * <p>
+	 * Only effective if {@link #SCROLL_POINT_IN_TIME} is enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_SLICES}.
+	 */
+	public static final String SCROLL_SLICES = "scroll_slices";
+
 	/**
 	 * How long connections to the Elasticsearch cluster can be kept idle.
 	 * <p>
@@ -333,6 +397,8 @@ private Defaults() {
 		public static final String PATH_PREFIX = "";
 		public static final int READ_TIMEOUT = 30000;
 		public static final int CONNECTION_TIMEOUT = 1000;
+		public static final boolean REQUEST_COMPRESSION = false;
+		public static final boolean RESPONSE_COMPRESSION = false;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
 		public static final boolean DISCOVERY_ENABLED = false;
@@ -358,6 +424,8 @@ private Defaults() {
 		public static final BeanReference<IndexLayoutStrategy> LAYOUT_STRATEGY =
 				BeanReference.of( IndexLayoutStrategy.class, SimpleIndexLayoutStrategy.NAME );
 		public static final int SCROLL_TIMEOUT = 60;
+		public static final boolean SCROLL_POINT_IN_TIME = false;
+		public static final int SCROLL_SLICES = 1;
 		public static final boolean QUERY_SHARD_FAILURE_IGNORE = false;
 	}
 }
@@ -157,6 +157,39 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * How long, in microseconds, the executor of each indexing queue may wait for more works
+	 * before starting a batch that is not full.
+	 * <p>
+	 * Higher values mean larger batches (fewer bulk requests) under light load,
+	 * at the cost of a higher latency for each work.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BATCH_LINGER}.
+	 */
+	public static final String INDEXING_BATCH_LINGER = INDEXING_PREFIX + IndexingRadicals.BATCH_LINGER;
+
+	/**
+	 * Whether the executor of each indexing queue adjusts the number of works per batch
+	 * based on the observed processing throughput.
+	 * <p>
+	 * When disabled, batches include as many works as possible, up to the {@link #INDEXING_QUEUE_SIZE queue size}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BATCH_SIZE}.
+	 */
+	public static final String INDEXING_ADAPTIVE_BATCH_SIZE = INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BATCH_SIZE;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -168,6 +201,8 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String BATCH_LINGER = "batch_linger";
+		public static final String ADAPTIVE_BATCH_SIZE = "adaptive_batch_size";
 	}
 
 	/**
@@ -189,6 +224,8 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final int INDEXING_BATCH_LINGER = 0;
+		public static final boolean INDEXING_ADAPTIVE_BATCH_SIZE = false;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
@@ -102,6 +102,18 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.CONNECTION_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> REQUEST_COMPRESSION =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.REQUEST_COMPRESSION )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.REQUEST_COMPRESSION )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> RESPONSE_COMPRESSION =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.RESPONSE_COMPRESSION )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.RESPONSE_COMPRESSION )
+					.build();
+
 	private static final ConfigurationProperty<Integer> MAX_TOTAL_CONNECTION =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.MAX_CONNECTIONS )
 					.asIntegerStrictlyPositive()
@@ -145,6 +157,8 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 			Optional<ElasticsearchVersion> configuredVersion) {
 		Optional<Integer> requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
 		int connectionTimeoutMs = CONNECTION_TIMEOUT.get( propertySource );
+		boolean requestCompression = REQUEST_COMPRESSION.get( propertySource );
+		boolean responseCompression = RESPONSE_COMPRESSION.get( propertySource );
 
 		Optional<BeanHolder<? extends RestClient>> providedRestClientHolder = CLIENT_INSTANCE.getAndMap(
 				propertySource, beanResolver::resolve );
@@ -166,6 +180,7 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 		return new ElasticsearchClientImpl(
 				restClientHolder, sniffer, timeoutExecutorService,
 				requestTimeoutMs, connectionTimeoutMs,
+				requestCompression, responseCompression,
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
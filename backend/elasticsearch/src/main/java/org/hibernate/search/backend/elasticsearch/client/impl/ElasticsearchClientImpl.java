@@ -37,6 +37,7 @@
 import com.google.gson.JsonObject;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
@@ -61,6 +62,8 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final Optional<Integer> requestTimeoutMs;
 	private final int connectionTimeoutMs;
+	private final boolean requestCompression;
+	private final RequestOptions defaultRequestOptions;
 
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
@@ -68,12 +71,20 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	ElasticsearchClientImpl(BeanHolder<? extends RestClient> restClientHolder, Sniffer sniffer,
 			SimpleScheduledExecutor timeoutExecutorService,
 			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
+			boolean requestCompression, boolean responseCompression,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClientHolder = restClientHolder;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.requestTimeoutMs = requestTimeoutMs;
 		this.connectionTimeoutMs = connectionTimeoutMs;
+		this.requestCompression = requestCompression;
+		RequestOptions.Builder defaultRequestOptionsBuilder = RequestOptions.DEFAULT.toBuilder();
+		if ( responseCompression ) {
+			// The RestClient transparently decompresses responses with a gzip Content-Encoding.
+			defaultRequestOptionsBuilder.addHeader( HttpHeaders.ACCEPT_ENCODING, "gzip" );
+		}
+		this.defaultRequestOptions = defaultRequestOptionsBuilder.build();
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -103,7 +114,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, requestCompression );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -169,6 +180,7 @@ public void onFailure(Exception exception) {
 
 	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.method(), elasticsearchRequest.path() );
+		request.setOptions( defaultRequestOptions );
 		setPerRequestSocketTimeout( elasticsearchRequest, request );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.parameters().entrySet() ) {
@@ -196,7 +208,7 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 				.setConnectTimeout( connectionTimeoutMs )
 				.build();
 
-		RequestOptions.Builder requestOptions = RequestOptions.DEFAULT.toBuilder()
+		RequestOptions.Builder requestOptions = defaultRequestOptions.toBuilder()
 				.setRequestConfig( requestConfig );
 
 		request.setOptions( requestOptions );
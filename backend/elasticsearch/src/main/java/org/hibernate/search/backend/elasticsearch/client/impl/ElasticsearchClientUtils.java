@@ -43,12 +43,12 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
-	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean compress) throws IOException {
 		final List<JsonObject> bodyParts = request.bodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, bodyParts, compress );
 	}
 
 	public static ElasticsearchVersion tryGetElasticsearchVersion(ElasticsearchClient client) {
@@ -14,6 +14,7 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.hibernate.search.util.common.impl.Contracts;
 
@@ -64,6 +65,9 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private static final BasicHeader CONTENT_TYPE =
 			new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP =
+			new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -83,6 +87,7 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
+	private final boolean compress;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -122,13 +127,32 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
+	/**
+	 * When compression is enabled, sits between the {@link #writer} and the actual output sink.
+	 * Like the writer, we keep this as a field level attribute as it might hold compressed content
+	 * while flow control refuses to accept more bytes.
+	 */
+	private GzipContentEncoder gzipEncoder;
+
 	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+		this( gson, bodyParts, false );
+	}
+
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, boolean compress) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.compress = compress;
 		this.contentLength = -1;
-		attemptOnePassEncoding();
+		if ( compress ) {
+			// The compressed content length can only be known after compressing everything,
+			// so we don't even try to hint at the content length upfront.
+			this.gzipEncoder = new GzipContentEncoder( BYTE_BUFFER_PAGE_SIZE );
+		}
+		else {
+			attemptOnePassEncoding();
+		}
 	}
 
 	@Override
@@ -154,8 +178,8 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
-		//Apparently this is the correct value:
-		return null;
+		//Apparently this is the correct value when not compressing:
+		return compress ? CONTENT_ENCODING_GZIP : null;
 	}
 
 	@Override
@@ -172,12 +196,17 @@ public void writeTo(OutputStream out) throws IOException {
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
+		GZIPOutputStream gzipStream = compress ? new GZIPOutputStream( countingStream, BYTE_BUFFER_PAGE_SIZE ) : null;
+		Writer outWriter = new OutputStreamWriter( compress ? gzipStream : countingStream, CHARSET );
 		for ( JsonObject bodyPart : bodyParts ) {
 			gson.toJson( bodyPart, outWriter );
 			outWriter.append( '\n' );
 		}
 		outWriter.flush();
+		if ( gzipStream != null ) {
+			// Writes the trailer, but doesn't close the underlying stream
+			gzipStream.finish();
+		}
 		//Now we finally know the content size in bytes:
 		hintContentLength( countingStream.getBytesWritten() );
 	}
@@ -200,6 +229,10 @@ public void close() {
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
 		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		if ( compress ) {
+			this.gzipEncoder.close();
+			this.gzipEncoder = new GzipContentEncoder( BYTE_BUFFER_PAGE_SIZE );
+		}
 	}
 
 	/**
@@ -254,7 +287,13 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
 		//Re-set the encoder as it might be a different one than a previously used instance:
-		writer.setOutput( encoder );
+		if ( compress ) {
+			gzipEncoder.setOutput( encoder );
+			writer.setOutput( gzipEncoder );
+		}
+		else {
+			writer.setOutput( encoder );
+		}
 
 		//First write unfinished business from previous attempts
 		writer.resumePendingWrites();
@@ -283,9 +322,19 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// Note this is only useful if produceContent was called by some process
 		// that is not the HTTP client itself (e.g. for request signing),
 		// because the HTTP Client itself will request the size before it starts writing content.
-		hintContentLength( writer.contentLength() );
-
-		encoder.complete();
+		if ( compress ) {
+			// This may need to be called multiple times if flow control pushes back.
+			gzipEncoder.complete();
+			if ( !gzipEncoder.isCompleted() ) {
+				//Just quit: return control to the caller and trust we'll be called again.
+				return;
+			}
+			hintContentLength( gzipEncoder.compressedLength() );
+		}
+		else {
+			hintContentLength( writer.contentLength() );
+			encoder.complete();
+		}
 	}
 
 	private void hintContentLength(long contentLength) {
@@ -0,0 +1,195 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.apache.http.nio.ContentEncoder;
+
+/**
+ * A {@link ContentEncoder} that gzip-compresses everything written to it
+ * before passing it to another {@link #setOutput(ContentEncoder) output} encoder.
+ * <p>
+ * This encoder honors flow control:
+ * when the output does not accept all compressed bytes,
+ * the remaining compressed bytes are kept aside,
+ * and any further write will be refused (return {@code 0})
+ * until these bytes have been accepted by the output.
+ * This allows the caller, e.g. {@link ProgressiveCharBufferWriter},
+ * to detect that flow control is pushing back, and to keep its own content aside.
+ * <p>
+ * Similarly, {@link #complete()} may need to be called multiple times
+ * until the output finally accepts all the compressed bytes;
+ * the output is only {@link ContentEncoder#complete() completed} once that happens.
+ */
+final class GzipContentEncoder implements ContentEncoder {
+
+	private static final int GZIP_MAGIC = 0x8b1f;
+	private static final byte[] HEADER = {
+			(byte) GZIP_MAGIC, // Magic number (short)
+			(byte) ( GZIP_MAGIC >> 8 ), // Magic number (short)
+			Deflater.DEFLATED, // Compression method (CM)
+			0, // Flags (FLG)
+			0, // Modification time MTIME (int)
+			0, // Modification time MTIME (int)
+			0, // Modification time MTIME (int)
+			0, // Modification time MTIME (int)
+			0, // Extra flags (XFLG)
+			0 // Operating system (OS)
+	};
+	private static final int TRAILER_SIZE = 8;
+
+	private final Deflater deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+	private final CRC32 crc = new CRC32();
+	private final byte[] deflateBuffer;
+
+	/**
+	 * Compressed bytes that have not been accepted by the output yet,
+	 * from index {@code pendingStart} (inclusive) to index {@code pendingEnd} (exclusive).
+	 */
+	private byte[] pending;
+	private int pendingStart = 0;
+	private int pendingEnd = 0;
+
+	private ContentEncoder output;
+	private boolean finished = false;
+	private long compressedLength = 0;
+
+	GzipContentEncoder(int bufferSize) {
+		this.deflateBuffer = new byte[bufferSize];
+		this.pending = new byte[bufferSize];
+		appendPending( HEADER, 0, HEADER.length );
+	}
+
+	/**
+	 * Set the encoder to write compressed bytes to.
+	 * <p>
+	 * This must be called before each attempt to write,
+	 * as the output might change between writes during chunked encoding.
+	 */
+	public void setOutput(ContentEncoder output) {
+		this.output = output;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		if ( finished ) {
+			throw new IllegalStateException( "Cannot write to a completed encoder" );
+		}
+		if ( !flushPending() ) {
+			// Flow control is pushing back: refuse new content.
+			return 0;
+		}
+		int length = src.remaining();
+		crc.update( src.duplicate() );
+		deflater.setInput( src );
+		while ( !deflater.needsInput() ) {
+			deflate( Deflater.NO_FLUSH );
+		}
+		flushPending();
+		// We accepted everything: compressed bytes that the output didn't accept are kept aside.
+		return length;
+	}
+
+	@Override
+	public void complete() throws IOException {
+		if ( !finished ) {
+			deflater.finish();
+			while ( !deflater.finished() ) {
+				deflate( Deflater.NO_FLUSH );
+			}
+			byte[] trailer = new byte[TRAILER_SIZE];
+			writeInt( trailer, 0, (int) crc.getValue() );
+			// Uncompressed size modulo 2^32
+			writeInt( trailer, 4, (int) deflater.getBytesRead() );
+			appendPending( trailer, 0, trailer.length );
+			deflater.end();
+			finished = true;
+		}
+		if ( flushPending() ) {
+			output.complete();
+		}
+		// Else: flow control is pushing back; the caller will call complete() again later.
+	}
+
+	@Override
+	public boolean isCompleted() {
+		return output != null && output.isCompleted();
+	}
+
+	/**
+	 * @return The number of compressed bytes produced so far,
+	 * including those that have not been accepted by the output yet.
+	 */
+	public long compressedLength() {
+		return compressedLength;
+	}
+
+	/**
+	 * Releases native resources, in case this encoder was not {@link #complete() completed}.
+	 */
+	public void close() {
+		deflater.end();
+	}
+
+	private void deflate(int flushMode) {
+		int length = deflater.deflate( deflateBuffer, 0, deflateBuffer.length, flushMode );
+		if ( length > 0 ) {
+			appendPending( deflateBuffer, 0, length );
+		}
+	}
+
+	private void appendPending(byte[] bytes, int offset, int length) {
+		if ( pendingEnd + length > pending.length ) {
+			int pendingLength = pendingEnd - pendingStart;
+			if ( pendingLength + length > pending.length ) {
+				pending = Arrays.copyOfRange( pending, pendingStart,
+						Math.max( pending.length * 2, pendingLength + length ) );
+			}
+			else {
+				System.arraycopy( pending, pendingStart, pending, 0, pendingLength );
+			}
+			pendingStart = 0;
+			pendingEnd = pendingLength;
+		}
+		System.arraycopy( bytes, offset, pending, pendingEnd, length );
+		pendingEnd += length;
+		compressedLength += length;
+	}
+
+	/**
+	 * @return {@code true} if all pending bytes were accepted by the output, {@code false} otherwise.
+	 */
+	private boolean flushPending() throws IOException {
+		if ( pendingStart == pendingEnd ) {
+			return true;
+		}
+		if ( output == null ) {
+			return false;
+		}
+		ByteBuffer buffer = ByteBuffer.wrap( pending, pendingStart, pendingEnd - pendingStart ).slice();
+		pendingStart += output.write( buffer );
+		if ( pendingStart == pendingEnd ) {
+			pendingStart = 0;
+			pendingEnd = 0;
+			return true;
+		}
+		return false;
+	}
+
+	private static void writeInt(byte[] bytes, int offset, int value) {
+		// Little-endian, as mandated by the gzip format
+		bytes[offset] = (byte) value;
+		bytes[offset + 1] = (byte) ( value >> 8 );
+		bytes[offset + 2] = (byte) ( value >> 16 );
+		bytes[offset + 3] = (byte) ( value >> 24 );
+	}
+}
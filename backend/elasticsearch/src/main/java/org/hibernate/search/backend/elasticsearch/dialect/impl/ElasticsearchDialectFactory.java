@@ -95,7 +95,10 @@ else if ( major == 7 ) {
 			return new Elasticsearch7ModelDialect();
 		}
 		else {
-			return new Elasticsearch8ModelDialect();
+			// The knn query is only available from 8.12 on.
+			// If the minor version is unknown, assume the cluster is recent enough.
+			boolean vectorSearchSupported = major > 8 || minorOptional.isEmpty() || minorOptional.getAsInt() >= 12;
+			return new Elasticsearch8ModelDialect( vectorSearchSupported );
 		}
 	}
 
@@ -163,7 +166,7 @@ else if ( major == 8 ) {
 		}
 		else {
 			log.unknownElasticsearchVersion( version );
-			return new Elasticsearch81ProtocolDialect();
+			return new Elasticsearch81ProtocolDialect( true );
 		}
 	}
 
@@ -171,7 +174,8 @@ private ElasticsearchProtocolDialect createProtocolDialectElasticV7(Elasticsearc
 		if ( minor > 17 ) {
 			log.unknownElasticsearchVersion( version );
 		}
-		return new Elasticsearch70ProtocolDialect();
+		// Point in time with the _shard_doc tiebreaker is only available from 7.12 on
+		return new Elasticsearch70ProtocolDialect( minor >= 12 );
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectElasticV8(ElasticsearchVersion version, int minor) {
@@ -181,7 +185,8 @@ private ElasticsearchProtocolDialect createProtocolDialectElasticV8(Elasticsearc
 		else if ( minor == 0 ) {
 			return new Elasticsearch80ProtocolDialect();
 		}
-		return new Elasticsearch81ProtocolDialect();
+		// The "k" parameter of the knn query is only available from 8.15 on
+		return new Elasticsearch81ProtocolDialect( minor >= 15 );
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectOpenSearch(ElasticsearchVersion version) {
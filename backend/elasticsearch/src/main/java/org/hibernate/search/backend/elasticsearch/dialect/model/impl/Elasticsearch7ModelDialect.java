@@ -18,6 +18,7 @@ public class Elasticsearch7ModelDialect implements ElasticsearchModelDialect {
 
 	@Override
 	public ElasticsearchIndexFieldTypeFactoryProvider createIndexTypeFieldFactoryProvider(Gson userFacingGson) {
-		return new Elasticsearch7IndexFieldTypeFactoryProvider( userFacingGson );
+		// Vector search is only available from Elasticsearch 8.12 on
+		return new Elasticsearch7IndexFieldTypeFactoryProvider( userFacingGson, false );
 	}
 }
@@ -16,8 +16,14 @@
  */
 public class Elasticsearch8ModelDialect implements ElasticsearchModelDialect {
 
+	private final boolean vectorSearchSupported;
+
+	public Elasticsearch8ModelDialect(boolean vectorSearchSupported) {
+		this.vectorSearchSupported = vectorSearchSupported;
+	}
+
 	@Override
 	public ElasticsearchIndexFieldTypeFactoryProvider createIndexTypeFieldFactoryProvider(Gson userFacingGson) {
-		return new Elasticsearch7IndexFieldTypeFactoryProvider( userFacingGson );
+		return new Elasticsearch7IndexFieldTypeFactoryProvider( userFacingGson, vectorSearchSupported );
 	}
 }
@@ -21,6 +21,20 @@
  */
 public class Elasticsearch70ProtocolDialect implements ElasticsearchProtocolDialect {
 
+	private final boolean pointInTimeSupported;
+
+	public Elasticsearch70ProtocolDialect() {
+		this( false );
+	}
+
+	/**
+	 * @param pointInTimeSupported Whether the cluster supports point in time with the {@code _shard_doc} tiebreaker,
+	 * i.e. whether it is Elasticsearch 7.12 or later (OpenSearch uses a different API).
+	 */
+	public Elasticsearch70ProtocolDialect(boolean pointInTimeSupported) {
+		this.pointInTimeSupported = pointInTimeSupported;
+	}
+
 	@Override
 	public ElasticsearchIndexMetadataSyntax createIndexMetadataSyntax() {
 		return new Elasticsearch7IndexMetadataSyntax();
@@ -33,7 +47,7 @@ public ElasticsearchSearchSyntax createSearchSyntax() {
 
 	@Override
 	public ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider, Boolean ignoreShardFailures) {
-		return new Elasticsearch7WorkFactory( gsonProvider, ignoreShardFailures );
+		return new Elasticsearch7WorkFactory( gsonProvider, ignoreShardFailures, pointInTimeSupported );
 	}
 
 	@Override
@@ -33,7 +33,7 @@ public ElasticsearchSearchSyntax createSearchSyntax() {
 
 	@Override
 	public ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider, Boolean ignoreShardFailures) {
-		return new Elasticsearch7WorkFactory( gsonProvider, ignoreShardFailures );
+		return new Elasticsearch7WorkFactory( gsonProvider, ignoreShardFailures, true );
 	}
 
 	@Override
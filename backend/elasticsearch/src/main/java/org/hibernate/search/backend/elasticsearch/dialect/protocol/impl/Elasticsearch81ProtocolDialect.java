@@ -21,6 +21,12 @@
  */
 public class Elasticsearch81ProtocolDialect implements ElasticsearchProtocolDialect {
 
+	private final boolean knnQueryWithK;
+
+	public Elasticsearch81ProtocolDialect(boolean knnQueryWithK) {
+		this.knnQueryWithK = knnQueryWithK;
+	}
+
 	@Override
 	public ElasticsearchIndexMetadataSyntax createIndexMetadataSyntax() {
 		return new Elasticsearch7IndexMetadataSyntax();
@@ -28,12 +34,12 @@ public ElasticsearchIndexMetadataSyntax createIndexMetadataSyntax() {
 
 	@Override
 	public ElasticsearchSearchSyntax createSearchSyntax() {
-		return new Elasticsearch81SearchSyntax();
+		return new Elasticsearch81SearchSyntax( knnQueryWithK );
 	}
 
 	@Override
 	public ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider, Boolean ignoreShardFailures) {
-		return new Elasticsearch7WorkFactory( gsonProvider, ignoreShardFailures );
+		return new Elasticsearch7WorkFactory( gsonProvider, ignoreShardFailures, true );
 	}
 
 	@Override
@@ -55,6 +55,18 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> SCROLL_POINT_IN_TIME =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_POINT_IN_TIME )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_POINT_IN_TIME )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SCROLL_SLICES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_SLICES )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_SLICES )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> QUERY_SHARD_FAILURE_IGNORE =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_SHARD_FAILURE_IGNORE )
 					.asBoolean()
@@ -76,6 +88,8 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private ElasticsearchWorkFactory workFactory;
 	private ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private Integer scrollTimeout;
+	private boolean scrollPointInTime;
+	private int scrollSlices;
 
 	ElasticsearchLinkImpl(BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder,
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
@@ -131,6 +145,18 @@ public Integer getScrollTimeout() {
 		return scrollTimeout;
 	}
 
+	@Override
+	public boolean isScrollPointInTime() {
+		checkStarted();
+		return scrollPointInTime;
+	}
+
+	@Override
+	public int getScrollSlices() {
+		checkStarted();
+		return scrollSlices;
+	}
+
 	ElasticsearchVersion getElasticsearchVersion() {
 		checkStarted();
 		return elasticsearchVersion;
@@ -154,6 +180,13 @@ void onStart(BeanResolver beanResolver, ConfigurationPropertySource propertySour
 			workFactory = protocolDialect.createWorkFactory( gsonProvider, QUERY_SHARD_FAILURE_IGNORE.get( propertySource ) );
 			searchResultExtractorFactory = protocolDialect.createSearchResultExtractorFactory();
 			scrollTimeout = SCROLL_TIMEOUT.get( propertySource );
+			scrollPointInTime = SCROLL_POINT_IN_TIME.getAndTransform( propertySource, enabled -> {
+				if ( enabled && !workFactory.isPointInTimeSupported() ) {
+					throw log.pointInTimeNotSupported( elasticsearchVersion );
+				}
+				return enabled;
+			} );
+			scrollSlices = SCROLL_SLICES.get( propertySource );
 		}
 	}
 
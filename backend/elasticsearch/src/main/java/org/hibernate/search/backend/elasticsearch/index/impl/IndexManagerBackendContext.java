@@ -182,7 +182,7 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 				link.getWorkFactory(), link.getSearchResultExtractorFactory(),
 				generalPurposeOrchestrator,
 				scope, sessionContext, loadingContextBuilder, rootProjection,
-				link.getScrollTimeout()
+				link.getScrollTimeout(), link.isScrollPointInTime(), link.getScrollSlices()
 		);
 	}
 
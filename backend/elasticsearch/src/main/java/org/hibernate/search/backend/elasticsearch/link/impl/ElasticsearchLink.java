@@ -35,4 +35,8 @@ public interface ElasticsearchLink {
 
 	Integer getScrollTimeout();
 
+	boolean isScrollPointInTime();
+
+	int getScrollSlices();
+
 }
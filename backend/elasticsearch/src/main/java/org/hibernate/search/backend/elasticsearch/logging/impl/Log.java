@@ -842,4 +842,25 @@ SearchException unexpectedAwsOpenSearchServerlessVersion(ElasticsearchVersion co
 			+ " so index status requirements cannot be enforced.")
 	SearchException cannotRequireIndexStatus();
 
+	@Message(id = ID_OFFSET + 178,
+			value = "Cannot use point-in-time scrolling with Elasticsearch version '%1$s'."
+					+ " Point-in-time scrolling requires Elasticsearch 7.12 or later."
+					+ " Either disable point-in-time scrolling or upgrade your cluster.")
+	SearchException pointInTimeNotSupported(ElasticsearchVersion version);
+
+	@Message(id = ID_OFFSET + 179,
+			value = "Invalid dimension for a vector field: '%1$s'. The dimension must be set, and must be between 1 and %2$s.")
+	SearchException invalidVectorDimension(int dimension, int maxDimension, @Param EventContext eventContext);
+
+	@Message(id = ID_OFFSET + 180,
+			value = "Invalid vector: expected %1$s components, but got %2$s.")
+	SearchException vectorDimensionMismatch(int expectedDimension, int actualDimension,
+			@Param EventContext eventContext);
+
+	@Message(id = ID_OFFSET + 181,
+			value = "Unable to use vector fields: this feature requires Elasticsearch 8.12 or later,"
+					+ " and is not available on other distributions such as OpenSearch."
+					+ " Upgrade your Elasticsearch cluster, or use the Lucene backend.")
+	SearchException vectorSearchNotSupported(@Param EventContext eventContext);
+
 }
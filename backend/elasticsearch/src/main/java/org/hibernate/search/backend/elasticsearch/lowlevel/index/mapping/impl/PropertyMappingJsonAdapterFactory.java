@@ -24,5 +24,8 @@ protected <T> void addFields(Builder<T> builder) {
 		builder.add( "format", new FormatJsonAdapter() );
 		builder.add( "scalingFactor", Double.class );
 		builder.add( "termVector", String.class );
+		builder.add( "dims", Integer.class );
+		builder.add( "similarity", String.class );
+		builder.add( "indexOptions", JsonElement.class );
 	}
 }
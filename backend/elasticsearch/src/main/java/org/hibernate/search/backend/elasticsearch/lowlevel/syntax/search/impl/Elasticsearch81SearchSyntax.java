@@ -29,6 +29,23 @@ public class Elasticsearch81SearchSyntax implements ElasticsearchSearchSyntax {
 	private static final JsonAccessor<JsonElement> FILTER_ACCESSOR = JsonAccessor.root().property( "filter" );
 	private static final JsonAccessor<Boolean> IGNORE_UNMAPPED_ACCESSOR =
 			JsonAccessor.root().property( "ignore_unmapped" ).asBoolean();
+	private static final JsonAccessor<Integer> K_ACCESSOR = JsonAccessor.root().property( "k" ).asInteger();
+	private static final JsonAccessor<Integer> NUM_CANDIDATES_ACCESSOR =
+			JsonAccessor.root().property( "num_candidates" ).asInteger();
+
+	// Same defaults as Elasticsearch when num_candidates is not set, so as to get decent recall.
+	private static final int MIN_NUM_CANDIDATES = 100;
+	private static final int MAX_NUM_CANDIDATES = 10_000;
+
+	private final boolean knnQueryWithK;
+
+	public Elasticsearch81SearchSyntax() {
+		this( false );
+	}
+
+	public Elasticsearch81SearchSyntax(boolean knnQueryWithK) {
+		this.knnQueryWithK = knnQueryWithK;
+	}
 
 	@Override
 	public String getTermAggregationOrderByTermToken() {
@@ -69,4 +86,19 @@ public JsonElement encodeLongForAggregation(Long value) {
 		// https://github.com/elastic/elasticsearch/issues/81529 was solved in ES8.1
 		return value == null ? JsonNull.INSTANCE : new JsonPrimitive( value );
 	}
+
+	@Override
+	public void requestKnnNeighborCount(JsonObject knnInnerObject, int k) {
+		if ( knnQueryWithK ) {
+			K_ACCESSOR.set( knnInnerObject, k );
+			// Explore more candidates than the number of neighbors we need, for better recall.
+			int numCandidates = Math.min( MAX_NUM_CANDIDATES, Math.max( MIN_NUM_CANDIDATES, 2 * k ) );
+			NUM_CANDIDATES_ACCESSOR.set( knnInnerObject, Math.max( k, numCandidates ) );
+		}
+		else {
+			// Before ES8.15, the knn query does not accept "k":
+			// each shard returns num_candidates hits, so that's the only way to limit the neighbor count.
+			NUM_CANDIDATES_ACCESSOR.set( knnInnerObject, k );
+		}
+	}
 }
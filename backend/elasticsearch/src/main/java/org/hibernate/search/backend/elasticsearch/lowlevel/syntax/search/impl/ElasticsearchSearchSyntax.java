@@ -24,4 +24,6 @@ public interface ElasticsearchSearchSyntax {
 
 	JsonElement encodeLongForAggregation(Long value);
 
+	void requestKnnNeighborCount(JsonObject knnInnerObject, int k);
+
 }
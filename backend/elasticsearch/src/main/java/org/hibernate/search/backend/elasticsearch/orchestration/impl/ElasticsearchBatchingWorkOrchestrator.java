@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
@@ -48,6 +49,18 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> BATCH_LINGER =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_BATCH_LINGER )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_BATCH_LINGER )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> ADAPTIVE_BATCH_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BATCH_SIZE )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BATCH_SIZE )
+					.build();
+
 	private static final ConfigurationProperty<Integer> MAX_BULK_SIZE =
 			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_SIZE )
 					.asIntegerStrictlyPositive()
@@ -84,6 +97,8 @@ public <T> CompletableFuture<T> submit(IndexingWork<T> work, OperationSubmitter
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		long batchLingerNanos = TimeUnit.MICROSECONDS.toNanos( BATCH_LINGER.get( propertySource ) );
+		boolean adaptiveBatchSize = ADAPTIVE_BATCH_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
@@ -97,6 +112,8 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					processor,
 					queueSize,
 					true,
+					batchLingerNanos,
+					adaptiveBatchSize,
 					failureHandler,
 					blockingRetryProducer
 			) );
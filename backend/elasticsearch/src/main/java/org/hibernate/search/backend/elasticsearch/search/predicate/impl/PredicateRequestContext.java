@@ -6,20 +6,32 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.predicate.impl;
 
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
 public class PredicateRequestContext {
 
 	private final BackendSessionContext sessionContext;
+	private final ElasticsearchSearchIndexScope<?> scope;
+	private final Set<String> routingKeys;
 	private final String nestedPath;
 
-	public PredicateRequestContext(BackendSessionContext sessionContext) {
-		this.sessionContext = sessionContext;
-		this.nestedPath = null;
+	public PredicateRequestContext(BackendSessionContext sessionContext, ElasticsearchSearchIndexScope<?> scope,
+			Set<String> routingKeys) {
+		this( sessionContext, scope, routingKeys, null );
 	}
 
-	private PredicateRequestContext(BackendSessionContext sessionContext, String nestedPath) {
+	private PredicateRequestContext(BackendSessionContext sessionContext, ElasticsearchSearchIndexScope<?> scope,
+			Set<String> routingKeys, String nestedPath) {
 		this.sessionContext = sessionContext;
+		this.scope = scope;
+		this.routingKeys = routingKeys;
 		this.nestedPath = nestedPath;
 	}
 
@@ -28,10 +40,26 @@ String getTenantId() {
 	}
 
 	public PredicateRequestContext withNestedPath(String path) {
-		return new PredicateRequestContext( sessionContext, path );
+		return new PredicateRequestContext( sessionContext, scope, routingKeys, path );
 	}
 
 	public String getNestedPath() {
 		return nestedPath;
 	}
+
+	/**
+	 * @return The filters applied to the whole query: tenant filter, routing filter, ...
+	 * Predicates that need these filters applied before they collect hits (knn, ...) can embed them.
+	 */
+	public JsonArray getRootFilters() {
+		JsonArray filters = new JsonArray();
+		JsonObject filter = scope.filterOrNull( sessionContext.tenantIdentifier() );
+		if ( filter != null ) {
+			filters.add( filter );
+		}
+		if ( !routingKeys.isEmpty() ) {
+			filters.add( Queries.anyTerm( "_routing", routingKeys ) );
+		}
+		return filters;
+	}
 }
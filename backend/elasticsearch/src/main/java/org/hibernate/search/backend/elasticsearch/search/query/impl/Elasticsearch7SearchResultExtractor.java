@@ -29,6 +29,15 @@
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+/**
+ * Extracts search results from a fully parsed response body.
+ * <p>
+ * Unlike bulk responses (see {@link org.hibernate.search.backend.elasticsearch.work.impl.BulkWork}),
+ * search responses are neither filtered nor parsed in a streaming fashion:
+ * the whole tree is exposed to users through {@code ElasticsearchSearchResult#responseBody()}
+ * and {@code jsonHit} projections, and projection and aggregation extractors operate on {@link JsonObject}s.
+ * Besides, the low-level REST client buffers the whole body before handing it to us anyway.
+ */
 class Elasticsearch7SearchResultExtractor<H>
 		implements ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> {
 
@@ -56,6 +65,12 @@
 	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
 			JsonAccessor.root().property( "_scroll_id" ).asString();
 
+	private static final JsonAccessor<String> POINT_IN_TIME_ID_ACCESSOR =
+			JsonAccessor.root().property( "pit_id" ).asString();
+
+	private static final JsonAccessor<JsonArray> HIT_SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+
 	private static final JsonObjectAccessor HIT_SOURCE_ACCESSOR =
 			JsonAccessor.root().property( "_source" ).asObject();
 
@@ -100,6 +115,8 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 				aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations( extractContext, responseBody );
 
 		String scrollId = extractScrollId( responseBody );
+		String pointInTimeId = POINT_IN_TIME_ID_ACCESSOR.get( responseBody ).orElse( null );
+		JsonArray lastHitSortValues = pointInTimeId == null ? null : extractLastHitSortValues( responseBody );
 
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
@@ -108,6 +125,7 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 				extractedHits,
 				extractedAggregations,
 				took, timedOut, scrollId,
+				pointInTimeId, lastHitSortValues,
 				deadline
 		);
 	}
@@ -156,6 +174,14 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 		return extractedMap;
 	}
 
+	private JsonArray extractLastHitSortValues(JsonObject responseBody) {
+		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElse( null );
+		if ( jsonHits == null || jsonHits.isEmpty() ) {
+			return null;
+		}
+		return HIT_SORT_ACCESSOR.get( jsonHits.get( jsonHits.size() - 1 ).getAsJsonObject() ).orElse( null );
+	}
+
 	protected String extractScrollId(JsonObject responseBody) {
 		return SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null );
 	}
@@ -17,6 +17,8 @@
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 
+import com.google.gson.JsonArray;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -37,8 +39,10 @@
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private final Integer took;
 	private final Boolean timedOut;
-	private final boolean hasHits;
+	private final int hitCount;
 	private final String scrollId;
+	private final String pointInTimeId;
+	private final JsonArray lastHitSortValues;
 	private final Deadline deadline;
 
 	ElasticsearchLoadableSearchResult(ElasticsearchSearchQueryExtractContext extractContext,
@@ -47,6 +51,7 @@
 			List<Object> extractedHits,
 			Map<AggregationKey<?>, ?> extractedAggregations,
 			Integer took, Boolean timedOut, String scrollId,
+			String pointInTimeId, JsonArray lastHitSortValues,
 			Deadline deadline) {
 		this.extractContext = extractContext;
 		this.extractor = extractor;
@@ -55,8 +60,10 @@
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
-		this.hasHits = !extractedHits.isEmpty();
+		this.hitCount = extractedHits.size();
 		this.scrollId = scrollId;
+		this.pointInTimeId = pointInTimeId;
+		this.lastHitSortValues = lastHitSortValues;
 		this.deadline = deadline;
 	}
 
@@ -102,6 +109,29 @@ ElasticsearchSearchResultImpl<H> loadBlocking() {
 	}
 
 	boolean hasHits() {
-		return hasHits;
+		return hitCount > 0;
+	}
+
+	/**
+	 * @return The number of hits returned by Elasticsearch, including those that may fail to load.
+	 */
+	int hitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return The most recent identifier of the point in time this search was executed against,
+	 * or {@code null} if it was not executed against a point in time.
+	 */
+	String pointInTimeId() {
+		return pointInTimeId;
+	}
+
+	/**
+	 * @return The sort values of the last hit, to be passed as {@code search_after} to get the next page,
+	 * or {@code null} if there were no hits or the search was not executed against a point in time.
+	 */
+	JsonArray lastHitSortValues() {
+		return lastHitSortValues;
 	}
 }
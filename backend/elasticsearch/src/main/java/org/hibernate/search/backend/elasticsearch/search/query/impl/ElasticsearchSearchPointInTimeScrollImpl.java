@@ -0,0 +1,170 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.impl.Futures;
+
+import com.google.gson.JsonArray;
+
+/**
+ * A scroll relying on a point in time and {@code search_after},
+ * optionally split into multiple slices.
+ * <p>
+ * Each call to {@link #next()} fetches the next page of every slice that is not exhausted yet, in parallel,
+ * then loads the hits in the calling thread and concatenates them into a single chunk.
+ * Each page holds at most {@code chunkSize / sliceCount} hits,
+ * so that a chunk never holds more than {@code chunkSize} hits.
+ * <p>
+ * Hits are sorted within each slice, but not across slices.
+ *
+ * @param <H> The type of hits.
+ */
+public class ElasticsearchSearchPointInTimeScrollImpl<H> implements ElasticsearchSearchScroll<H> {
+
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchWorkFactory workFactory;
+	private final String keepAlive;
+	private final OpenPointInTimeWork.Builder openPointInTime;
+	private final IntFunction<SearchWork.Builder<ElasticsearchLoadableSearchResult<H>>> sliceSearchWorkBuilder;
+	private final int sliceSize;
+	private final TimeoutManager timeoutManager;
+
+	private final JsonArray[] searchAfter;
+	private final boolean[] exhausted;
+
+	private String pointInTimeId;
+	private SearchResultTotal total;
+
+	public ElasticsearchSearchPointInTimeScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchWorkFactory workFactory,
+			String keepAlive,
+			OpenPointInTimeWork.Builder openPointInTime,
+			IntFunction<SearchWork.Builder<ElasticsearchLoadableSearchResult<H>>> sliceSearchWorkBuilder,
+			int sliceSize, int sliceCount,
+			TimeoutManager timeoutManager) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.keepAlive = keepAlive;
+		this.openPointInTime = openPointInTime;
+		this.sliceSearchWorkBuilder = sliceSearchWorkBuilder;
+		this.sliceSize = sliceSize;
+		this.timeoutManager = timeoutManager;
+		this.searchAfter = new JsonArray[sliceCount];
+		this.exhausted = new boolean[sliceCount];
+	}
+
+	@Override
+	public void close() {
+		if ( pointInTimeId != null ) {
+			Futures.unwrappedExceptionJoin(
+					queryOrchestrator.submit(
+							workFactory.closePointInTime( pointInTimeId ).build(),
+							OperationSubmitter.blocking()
+					)
+			);
+		}
+	}
+
+	@Override
+	public ElasticsearchSearchScrollResult<H> next() {
+		timeoutManager.start();
+
+		if ( pointInTimeId == null ) {
+			pointInTimeId = Futures.unwrappedExceptionJoin(
+					queryOrchestrator.submit( openPointInTime.build(), OperationSubmitter.blocking() )
+			);
+		}
+
+		List<CompletableFuture<ElasticsearchLoadableSearchResult<H>>> futures = new ArrayList<>();
+		List<Integer> slices = new ArrayList<>();
+		for ( int slice = 0; slice < exhausted.length; slice++ ) {
+			if ( exhausted[slice] ) {
+				continue;
+			}
+			SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder = sliceSearchWorkBuilder.apply( slice )
+					.pointInTime( pointInTimeId, keepAlive )
+					.searchAfter( searchAfter[slice] );
+			if ( total != null ) {
+				// We already know the total hit count: no need to compute it again.
+				builder.disableTrackTotalHits();
+			}
+			slices.add( slice );
+			futures.add( queryOrchestrator.submit( builder.build(), OperationSubmitter.blocking() ) );
+		}
+
+		if ( futures.isEmpty() ) {
+			timeoutManager.stop();
+			return new ElasticsearchSearchScrollResultImpl<>( total, false, Collections.emptyList(),
+					Duration.ZERO, false );
+		}
+
+		Futures.unwrappedExceptionJoin( CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ) );
+
+		boolean computeTotal = total == null;
+		long totalHitCount = 0L;
+		boolean totalExact = true;
+		boolean hasHits = false;
+		List<H> hits = new ArrayList<>();
+		Duration took = Duration.ZERO;
+		boolean timedOut = false;
+		for ( int i = 0; i < futures.size(); i++ ) {
+			int slice = slices.get( i );
+			ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin( futures.get( i ) );
+
+			String newPointInTimeId = loadableSearchResult.pointInTimeId();
+			if ( newPointInTimeId != null ) {
+				// The identifier may change between requests; we must always use the most recent one.
+				pointInTimeId = newPointInTimeId;
+			}
+			searchAfter[slice] = loadableSearchResult.lastHitSortValues();
+			exhausted[slice] = loadableSearchResult.hitCount() < sliceSize;
+			hasHits = hasHits || loadableSearchResult.hasHits();
+
+			/*
+			 * WARNING: the following call must run in the user thread,
+			 * as loading generally relies on non-thread-safe resources such as an ORM session.
+			 */
+			ElasticsearchSearchResultImpl<H> searchResult = loadableSearchResult.loadBlocking();
+			hits.addAll( searchResult.hits() );
+			if ( computeTotal ) {
+				totalHitCount += searchResult.total().hitCountLowerBound();
+				totalExact = totalExact && !searchResult.total().isHitCountLowerBound();
+			}
+			if ( searchResult.took().compareTo( took ) > 0 ) {
+				// Slices are fetched in parallel: report the slowest one
+				took = searchResult.took();
+			}
+			timedOut = timedOut || searchResult.timedOut();
+		}
+
+		if ( computeTotal ) {
+			total = SimpleSearchResultTotal.of( totalHitCount, totalExact );
+		}
+
+		timeoutManager.stop();
+
+		return new ElasticsearchSearchScrollResultImpl<>( total, hasHits, Collections.unmodifiableList( hits ),
+				took, timedOut );
+	}
+}
@@ -70,9 +70,11 @@
 	private final SearchLoadingContextBuilder<?, ?> loadingContextBuilder;
 	private final ElasticsearchSearchProjection<H> rootProjection;
 	private final Integer scrollTimeout;
+	private final boolean scrollPointInTime;
+	private final int scrollSlices;
 
 	private final Set<String> routingKeys;
-	private JsonObject jsonPredicate;
+	private ElasticsearchSearchPredicate rootPredicate;
 	private JsonArray jsonSort;
 	private Map<DistanceSortKey, Integer> distanceSorts;
 	private Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
@@ -92,7 +94,7 @@ public ElasticsearchSearchQueryBuilder(
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
 			ElasticsearchSearchProjection<H> rootProjection,
-			Integer scrollTimeout) {
+			Integer scrollTimeout, boolean scrollPointInTime, int scrollSlices) {
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
@@ -101,16 +103,19 @@ public ElasticsearchSearchQueryBuilder(
 		this.sessionContext = sessionContext;
 		this.routingKeys = new HashSet<>();
 
-		this.rootPredicateContext = new PredicateRequestContext( sessionContext );
+		this.rootPredicateContext = new PredicateRequestContext( sessionContext, scope, routingKeys );
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
 		this.scrollTimeout = scrollTimeout;
+		this.scrollPointInTime = scrollPointInTime;
+		this.scrollSlices = scrollSlices;
 	}
 
 	@Override
 	public void predicate(SearchPredicate predicate) {
-		ElasticsearchSearchPredicate elasticsearchPredicate = ElasticsearchSearchPredicate.from( scope, predicate );
-		this.jsonPredicate = elasticsearchPredicate.toJsonQuery( rootPredicateContext );
+		// Rendered on build, because some predicates (knn) embed the routing filter,
+		// and routing keys may be added after the predicate.
+		this.rootPredicate = ElasticsearchSearchPredicate.from( scope, predicate );
 	}
 
 	@Override
@@ -223,15 +228,8 @@ public void requestTransformer(ElasticsearchSearchRequestTransformer transformer
 	public ElasticsearchSearchQuery<H> build() {
 		JsonObject payload = new JsonObject();
 
-		JsonArray filters = new JsonArray();
-		JsonObject filter = scope.filterOrNull( sessionContext.tenantIdentifier() );
-		if ( filter != null ) {
-			filters.add( filter );
-		}
-		if ( !routingKeys.isEmpty() ) {
-			filters.add( Queries.anyTerm( "_routing", routingKeys ) );
-		}
-		JsonObject jsonQuery = Queries.boolFilter( jsonPredicate, filters );
+		JsonObject jsonPredicate = rootPredicate == null ? null : rootPredicate.toJsonQuery( rootPredicateContext );
+		JsonObject jsonQuery = Queries.boolFilter( jsonPredicate, rootPredicateContext.getRootFilters() );
 
 		if ( jsonQuery != null ) {
 			payload.add( "query", jsonQuery );
@@ -284,7 +282,7 @@ public ElasticsearchSearchQuery<H> build() {
 				payload, requestTransformer,
 				searchResultExtractor,
 				timeoutManager,
-				scrollTimeout, totalHitCountThreshold
+				scrollTimeout, scrollPointInTime, scrollSlices, totalHitCountThreshold
 		);
 	}
 }
@@ -27,6 +27,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -60,6 +61,8 @@
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final Integer scrollTimeout;
+	private final boolean scrollPointInTime;
+	private final int scrollSlices;
 	private final Long totalHitCountThreshold;
 
 	/**
@@ -78,7 +81,8 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
+			TimeoutManager timeoutManager, Integer scrollTimeout, boolean scrollPointInTime, int scrollSlices,
+			Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.scope = scope;
@@ -90,6 +94,8 @@
 		this.searchResultExtractor = searchResultExtractor;
 		this.timeoutManager = timeoutManager;
 		this.scrollTimeout = scrollTimeout;
+		this.scrollPointInTime = scrollPointInTime;
+		this.scrollSlices = scrollSlices;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.maxResultWindow = scope.maxResultWindow();
 	}
@@ -198,6 +204,21 @@ public long fetchTotalHitCount() {
 	public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
 		String scrollTimeoutString = this.scrollTimeout + "s";
 
+		if ( scrollPointInTime ) {
+			OpenPointInTimeWork.Builder openPointInTime = workFactory.openPointInTime( scrollTimeoutString );
+			for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
+				openPointInTime.index( index.names().read() );
+			}
+			openPointInTime.routingKeys( routingKeys );
+			// Each chunk aggregates one page per slice, and must not exceed chunkSize
+			int sliceCount = Math.max( 1, Math.min( scrollSlices, chunkSize ) );
+			int sliceSize = Math.max( 1, chunkSize / sliceCount );
+			return new ElasticsearchSearchPointInTimeScrollImpl<>( queryOrchestrator, workFactory,
+					scrollTimeoutString, openPointInTime,
+					sliceIndex -> pointInTimeSearchWorkBuilder( sliceSize, sliceIndex, sliceCount ),
+					sliceSize, sliceCount, timeoutManager );
+		}
+
 		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder()
 				.scrolling( chunkSize, scrollTimeoutString );
 
@@ -233,6 +254,21 @@ public JsonObject explain(String typeName, Object id) {
 		return doExplain( index, id );
 	}
 
+	private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> pointInTimeSearchWorkBuilder(int sliceSize,
+			int sliceIndex, int sliceCount) {
+		// Indexes and routing keys are defined when opening the point in time,
+		// and must not be set on the search request.
+		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder =
+				workFactory.search( payload, searchResultExtractor );
+		builder.paging( sliceSize, null )
+				.slice( sliceIndex, sliceCount )
+				.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				);
+		return builder;
+	}
+
 	private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder() {
 		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder =
 				workFactory.search( payload, searchResultExtractor );
@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.codec.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonElementTypes;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+public class ElasticsearchFloatVectorFieldCodec implements ElasticsearchFieldCodec<float[]> {
+
+	private final int dimension;
+	private final float[] indexNullAsValue;
+
+	public ElasticsearchFloatVectorFieldCodec(int dimension, float[] indexNullAsValue) {
+		this.dimension = dimension;
+		this.indexNullAsValue = indexNullAsValue;
+	}
+
+	@Override
+	public JsonElement encode(float[] value) {
+		if ( value == null ) {
+			// Elasticsearch does not support "null_value" for dense vectors: we handle it ourselves.
+			value = indexNullAsValue;
+		}
+		if ( value == null ) {
+			return JsonNull.INSTANCE;
+		}
+		JsonArray result = new JsonArray( value.length );
+		for ( float component : value ) {
+			result.add( component );
+		}
+		return result;
+	}
+
+	@Override
+	public float[] decode(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return null;
+		}
+		JsonArray array = JsonElementTypes.ARRAY.fromElement( element );
+		float[] result = new float[array.size()];
+		for ( int i = 0; i < result.length; i++ ) {
+			result[i] = JsonElementTypes.FLOAT.fromElement( array.get( i ) );
+		}
+		return result;
+	}
+
+	@Override
+	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj.getClass() != this.getClass() ) {
+			return false;
+		}
+		ElasticsearchFloatVectorFieldCodec other = (ElasticsearchFloatVectorFieldCodec) obj;
+		return dimension == other.dimension;
+	}
+
+	public int dimension() {
+		return dimension;
+	}
+}
@@ -29,6 +29,7 @@ protected static boolean resolveDefault(Projectable projectable) {
 		switch ( projectable ) {
 			case DEFAULT:
 			case YES:
+			case DOC_VALUES:
 				return true;
 			case NO:
 				return false;
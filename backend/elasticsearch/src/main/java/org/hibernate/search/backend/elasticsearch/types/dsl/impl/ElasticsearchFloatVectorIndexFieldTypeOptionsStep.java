@@ -0,0 +1,184 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.dsl.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.DataTypes;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.PropertyMapping;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchExistsPredicate;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchFieldProjection;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFloatVectorFieldCodec;
+import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFloatVectorKnnPredicate;
+import org.hibernate.search.engine.backend.types.IndexFieldType;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
+import org.hibernate.search.engine.search.predicate.spi.PredicateTypeKeys;
+import org.hibernate.search.engine.search.projection.spi.ProjectionTypeKeys;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+class ElasticsearchFloatVectorIndexFieldTypeOptionsStep
+		extends AbstractElasticsearchIndexFieldTypeOptionsStep<ElasticsearchFloatVectorIndexFieldTypeOptionsStep, float[]>
+		implements VectorFieldTypeOptionsStep<ElasticsearchFloatVectorIndexFieldTypeOptionsStep, float[]> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// The maximum number of dimensions for indexed dense vectors, as of Elasticsearch 8.11
+	private static final int MAX_DIMENSION = 4096;
+	// Elasticsearch's defaults for the HNSW graph
+	private static final int DEFAULT_M = 16;
+	private static final int DEFAULT_EF_CONSTRUCTION = 100;
+
+	private Integer dimension;
+	private VectorSimilarity vectorSimilarity = VectorSimilarity.DEFAULT;
+	private int efConstruction = DEFAULT_EF_CONSTRUCTION;
+	private int m = DEFAULT_M;
+	private Projectable projectable = Projectable.DEFAULT;
+	private Searchable searchable = Searchable.DEFAULT;
+	private float[] indexNullAsValue = null;
+
+	ElasticsearchFloatVectorIndexFieldTypeOptionsStep(ElasticsearchIndexFieldTypeBuildContext buildContext) {
+		super( buildContext, float[].class, new PropertyMapping() );
+		builder.mapping().setType( DataTypes.DENSE_VECTOR );
+	}
+
+	@Override
+	public ElasticsearchFloatVectorIndexFieldTypeOptionsStep dimension(int dimension) {
+		this.dimension = dimension;
+		return this;
+	}
+
+	@Override
+	public ElasticsearchFloatVectorIndexFieldTypeOptionsStep vectorSimilarity(VectorSimilarity vectorSimilarity) {
+		this.vectorSimilarity = vectorSimilarity;
+		return this;
+	}
+
+	@Override
+	public ElasticsearchFloatVectorIndexFieldTypeOptionsStep efConstruction(int efConstruction) {
+		this.efConstruction = efConstruction;
+		return this;
+	}
+
+	@Override
+	public ElasticsearchFloatVectorIndexFieldTypeOptionsStep m(int m) {
+		this.m = m;
+		return this;
+	}
+
+	@Override
+	public ElasticsearchFloatVectorIndexFieldTypeOptionsStep projectable(Projectable projectable) {
+		this.projectable = projectable;
+		return this;
+	}
+
+	@Override
+	public ElasticsearchFloatVectorIndexFieldTypeOptionsStep searchable(Searchable searchable) {
+		this.searchable = searchable;
+		return this;
+	}
+
+	@Override
+	public ElasticsearchFloatVectorIndexFieldTypeOptionsStep indexNullAs(float[] indexNullAs) {
+		this.indexNullAsValue = indexNullAs;
+		return this;
+	}
+
+	@Override
+	public IndexFieldType<float[]> toIndexFieldType() {
+		if ( dimension == null || dimension < 1 || dimension > MAX_DIMENSION ) {
+			throw log.invalidVectorDimension( dimension == null ? 0 : dimension, MAX_DIMENSION,
+					buildContext.getEventContext() );
+		}
+		if ( indexNullAsValue != null && indexNullAsValue.length != dimension ) {
+			throw log.vectorDimensionMismatch( dimension, indexNullAsValue.length, buildContext.getEventContext() );
+		}
+
+		boolean resolvedProjectable = resolveDefault( projectable );
+		boolean resolvedSearchable = resolveDefault( searchable );
+
+		PropertyMapping mapping = builder.mapping();
+		mapping.setDims( dimension );
+		mapping.setIndex( resolvedSearchable );
+		if ( resolvedSearchable ) {
+			mapping.setSimilarity( toSimilarityName( vectorSimilarity ) );
+			JsonObject indexOptions = new JsonObject();
+			indexOptions.addProperty( "type", "hnsw" );
+			indexOptions.addProperty( "m", m );
+			indexOptions.addProperty( "ef_construction", efConstruction );
+			mapping.setIndexOptions( indexOptions );
+		}
+
+		ElasticsearchFloatVectorFieldCodec codec = new ElasticsearchFloatVectorFieldCodec( dimension, indexNullAsValue );
+		builder.codec( codec );
+
+		if ( resolvedSearchable ) {
+			builder.searchable( true );
+			builder.queryElementFactory( PredicateTypeKeys.EXISTS, new ElasticsearchExistsPredicate.Factory<>() );
+			builder.queryElementFactory( PredicateTypeKeys.KNN, new ElasticsearchFloatVectorKnnPredicate.Factory( codec ) );
+		}
+
+		if ( resolvedProjectable ) {
+			builder.projectable( true );
+			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new ElasticsearchFieldProjection.Factory<>( codec ) );
+		}
+
+		return builder.build();
+	}
+
+	@Override
+	protected ElasticsearchFloatVectorIndexFieldTypeOptionsStep thisAsS() {
+		return this;
+	}
+
+	private static String toSimilarityName(VectorSimilarity vectorSimilarity) {
+		switch ( vectorSimilarity ) {
+			case DEFAULT:
+			case L2:
+				return "l2_norm";
+			case DOT_PRODUCT:
+				return "dot_product";
+			case COSINE:
+				return "cosine";
+			case MAX_INNER_PRODUCT:
+				return "max_inner_product";
+			default:
+				throw new AssertionFailure( "Unexpected value for VectorSimilarity: " + vectorSimilarity );
+		}
+	}
+
+	private static boolean resolveDefault(Projectable projectable) {
+		switch ( projectable ) {
+			case DEFAULT:
+			case YES:
+			case DOC_VALUES:
+				return true;
+			case NO:
+				return false;
+			default:
+				throw new AssertionFailure( "Unexpected value for Projectable: " + projectable );
+		}
+	}
+
+	private static boolean resolveDefault(Searchable searchable) {
+		switch ( searchable ) {
+			case DEFAULT:
+			case YES:
+				return true;
+			case NO:
+				return false;
+			default:
+				throw new AssertionFailure( "Unexpected value for Searchable: " + searchable );
+		}
+	}
+}
@@ -29,6 +29,7 @@
 import org.hibernate.search.engine.backend.types.dsl.ScaledNumberIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexFieldTypeDefaultsProvider;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -46,16 +47,19 @@
 	private final Gson userFacingGson;
 	private final ElasticsearchDefaultFieldFormatProvider defaultFieldFormatProvider;
 	private final IndexFieldTypeDefaultsProvider typeDefaultsProvider;
+	private final boolean vectorSearchSupported;
 
 	public ElasticsearchIndexFieldTypeFactoryImpl(EventContext eventContext, BackendMapperContext backendMapperContext,
 			Gson userFacingGson,
 			ElasticsearchDefaultFieldFormatProvider defaultFieldFormatProvider,
-			IndexFieldTypeDefaultsProvider typeDefaultsProvider) {
+			IndexFieldTypeDefaultsProvider typeDefaultsProvider,
+			boolean vectorSearchSupported) {
 		this.eventContext = eventContext;
 		this.backendMapperContext = backendMapperContext;
 		this.userFacingGson = userFacingGson;
 		this.defaultFieldFormatProvider = defaultFieldFormatProvider;
 		this.typeDefaultsProvider = typeDefaultsProvider;
+		this.vectorSearchSupported = vectorSearchSupported;
 	}
 
 	@Override
@@ -234,6 +238,14 @@ public ScaledNumberIndexFieldTypeOptionsStep<?, BigInteger> asBigInteger() {
 		return new ElasticsearchBigIntegerIndexFieldTypeOptionsStep( this, typeDefaultsProvider );
 	}
 
+	@Override
+	public VectorFieldTypeOptionsStep<?, float[]> asFloatVector() {
+		if ( !vectorSearchSupported ) {
+			throw log.vectorSearchNotSupported( eventContext );
+		}
+		return new ElasticsearchFloatVectorIndexFieldTypeOptionsStep( this );
+	}
+
 	@Override
 	public ElasticsearchNativeIndexFieldTypeMappingStep asNative() {
 		return new ElasticsearchNativeIndexFieldTypeMappingStepImpl( this );
@@ -25,15 +25,19 @@
 	private final Elasticsearch7DefaultFieldFormatProvider defaultFieldFormatProvider =
 			new Elasticsearch7DefaultFieldFormatProvider();
 
-	public Elasticsearch7IndexFieldTypeFactoryProvider(Gson userFacingGson) {
+	private final boolean vectorSearchSupported;
+
+	public Elasticsearch7IndexFieldTypeFactoryProvider(Gson userFacingGson, boolean vectorSearchSupported) {
 		this.userFacingGson = userFacingGson;
+		this.vectorSearchSupported = vectorSearchSupported;
 	}
 
 	@Override
 	public ElasticsearchIndexFieldTypeFactory create(EventContext eventContext,
 			BackendMapperContext backendMapperContext, IndexFieldTypeDefaultsProvider typeDefaultsProvider) {
 		return new ElasticsearchIndexFieldTypeFactoryImpl(
-				eventContext, backendMapperContext, userFacingGson, defaultFieldFormatProvider, typeDefaultsProvider
+				eventContext, backendMapperContext, userFacingGson, defaultFieldFormatProvider, typeDefaultsProvider,
+				vectorSearchSupported
 		);
 	}
 }
@@ -0,0 +1,144 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.predicate.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.AbstractElasticsearchCodecAwareSearchQueryElementFactory;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexValueFieldContext;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.AbstractElasticsearchSingleFieldPredicate;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchPredicate;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.PredicateRequestContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFloatVectorFieldCodec;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.spi.KnnPredicateBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * A knn predicate, relying on the "knn" query introduced in Elasticsearch 8.12.
+ * <p>
+ * Only the knn query's own filter is applied while searching the graph:
+ * filters from an enclosing boolean query are applied afterwards, and could leave fewer than k hits.
+ * Thus the explicit filter, as well as filters applied to the whole query (tenant filter, routing filter),
+ * are all embedded in the knn query.
+ */
+public class ElasticsearchFloatVectorKnnPredicate extends AbstractElasticsearchSingleFieldPredicate {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonObjectAccessor KNN_ACCESSOR = JsonAccessor.root().property( "knn" ).asObject();
+	private static final JsonAccessor<String> FIELD_ACCESSOR = JsonAccessor.root().property( "field" ).asString();
+	private static final JsonAccessor<JsonElement> QUERY_VECTOR_ACCESSOR =
+			JsonAccessor.root().property( "query_vector" );
+	private static final JsonObjectAccessor FILTER_ACCESSOR = JsonAccessor.root().property( "filter" ).asObject();
+
+	private final ElasticsearchSearchSyntax searchSyntax;
+	private final int k;
+	private final JsonElement vector;
+	private final ElasticsearchSearchPredicate filter;
+
+	private ElasticsearchFloatVectorKnnPredicate(Builder builder) {
+		super( builder );
+		this.searchSyntax = builder.searchSyntax;
+		this.k = builder.k;
+		this.vector = builder.vector;
+		this.filter = builder.filter;
+	}
+
+	@Override
+	protected JsonObject doToJsonQuery(PredicateRequestContext context, JsonObject outerObject,
+			JsonObject innerObject) {
+		FIELD_ACCESSOR.set( innerObject, absoluteFieldPath );
+		QUERY_VECTOR_ACCESSOR.set( innerObject, vector );
+		searchSyntax.requestKnnNeighborCount( innerObject, k );
+
+		JsonArray filters = new JsonArray();
+		if ( filter != null ) {
+			filters.add( filter.toJsonQuery( context ) );
+		}
+		if ( context.getNestedPath() == null ) {
+			// Root filters can only be applied to root documents.
+			filters.addAll( context.getRootFilters() );
+		}
+		if ( filters.size() == 1 ) {
+			FILTER_ACCESSOR.set( innerObject, filters.get( 0 ).getAsJsonObject() );
+		}
+		else if ( filters.size() > 1 ) {
+			FILTER_ACCESSOR.set( innerObject, Queries.boolFilter( null, filters ) );
+		}
+
+		KNN_ACCESSOR.set( outerObject, innerObject );
+		return outerObject;
+	}
+
+	public static class Factory
+			extends AbstractElasticsearchCodecAwareSearchQueryElementFactory<KnnPredicateBuilder, float[]> {
+		private final ElasticsearchFloatVectorFieldCodec vectorCodec;
+
+		public Factory(ElasticsearchFloatVectorFieldCodec codec) {
+			super( codec );
+			this.vectorCodec = codec;
+		}
+
+		@Override
+		public Builder create(ElasticsearchSearchIndexScope<?> scope,
+				ElasticsearchSearchIndexValueFieldContext<float[]> field) {
+			return new Builder( vectorCodec, scope, field );
+		}
+	}
+
+	private static class Builder extends AbstractBuilder implements KnnPredicateBuilder {
+		private final ElasticsearchFloatVectorFieldCodec codec;
+		private final ElasticsearchSearchIndexValueFieldContext<float[]> field;
+		private final ElasticsearchSearchSyntax searchSyntax;
+
+		private int k;
+		private JsonElement vector;
+		private ElasticsearchSearchPredicate filter;
+
+		private Builder(ElasticsearchFloatVectorFieldCodec codec, ElasticsearchSearchIndexScope<?> scope,
+				ElasticsearchSearchIndexValueFieldContext<float[]> field) {
+			super( scope, field );
+			this.codec = codec;
+			this.field = field;
+			this.searchSyntax = scope.searchSyntax();
+		}
+
+		@Override
+		public void k(int k) {
+			this.k = k;
+		}
+
+		@Override
+		public void vector(float[] vector) {
+			if ( vector.length != codec.dimension() ) {
+				throw log.vectorDimensionMismatch( codec.dimension(), vector.length, field.eventContext() );
+			}
+			this.vector = codec.encode( vector );
+		}
+
+		@Override
+		public void filter(SearchPredicate filter) {
+			this.filter = ElasticsearchSearchPredicate.from( scope, filter );
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new ElasticsearchFloatVectorKnnPredicate( this );
+		}
+	}
+}
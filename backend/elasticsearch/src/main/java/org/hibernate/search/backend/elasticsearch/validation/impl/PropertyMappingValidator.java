@@ -65,6 +65,19 @@ public void validate(ValidationErrorCollector errorCollector, PropertyMapping ex
 				expectedMapping.getTermVector(), actualMapping.getTermVector(), "no"
 		);
 
+		LeafValidators.EQUAL.validate(
+				errorCollector, ValidationContextType.MAPPING_ATTRIBUTE, "dims",
+				expectedMapping.getDims(), actualMapping.getDims()
+		);
+		LeafValidators.EQUAL.validate(
+				errorCollector, ValidationContextType.MAPPING_ATTRIBUTE, "similarity",
+				expectedMapping.getSimilarity(), actualMapping.getSimilarity()
+		);
+		LeafValidators.EQUAL.validate(
+				errorCollector, ValidationContextType.MAPPING_ATTRIBUTE, "index_options",
+				expectedMapping.getIndexOptions(), actualMapping.getIndexOptions()
+		);
+
 		super.validate( errorCollector, expectedMapping, actualMapping );
 	}
 
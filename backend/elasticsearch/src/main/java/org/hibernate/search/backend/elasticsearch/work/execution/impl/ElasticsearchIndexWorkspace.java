@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -14,21 +16,36 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 public class ElasticsearchIndexWorkspace implements IndexWorkspace {
 
+	private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+	private static final String NUMBER_OF_REPLICAS_SETTING = "index.number_of_replicas";
+	private static final String TRANSLOG_DURABILITY_SETTING = "index.translog.durability";
+
 	private final ElasticsearchWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final ElasticsearchParallelWorkOrchestrator orchestrator;
 	private final URLEncodedString indexName;
 	private final Set<String> tenantIds;
 
+	/**
+	 * The settings that were in place before {@link #beginBulkLoad(OperationSubmitter, UnsupportedOperationBehavior)},
+	 * in the format expected by the "put settings" API, or {@code null} if bulk-load settings are not in place.
+	 */
+	private volatile JsonObject settingsBeforeBulkLoad;
+
 	public ElasticsearchIndexWorkspace(ElasticsearchWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy, ElasticsearchParallelWorkOrchestrator orchestrator,
 			WorkExecutionIndexManagerContext indexManagerContext,
@@ -100,4 +117,70 @@ public CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 		}
 		return orchestrator.submit( workFactory.refresh().index( indexName ).build(), operationSubmitter );
 	}
+
+	@Override
+	public CompletableFuture<?> beginBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		if ( !workFactory.isBulkLoadIndexSettingsSupported()
+				&& UnsupportedOperationBehavior.IGNORE.equals( unsupportedOperationBehavior ) ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return orchestrator.submit( workFactory.getIndexMetadata().index( indexName ).build(), operationSubmitter )
+				.thenCompose( existingIndexes -> {
+					settingsBeforeBulkLoad = toRestorableSettings( existingIndexes );
+					return orchestrator.submit(
+							workFactory.putIndexSettings( indexName, bulkLoadSettings() ).build(),
+							operationSubmitter
+					);
+				} );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		JsonObject settingsToRestore = settingsBeforeBulkLoad;
+		if ( settingsToRestore == null ) {
+			// Bulk-load settings were not applied: nothing to restore.
+			return CompletableFuture.completedFuture( null );
+		}
+		return orchestrator.submit(
+				workFactory.putIndexSettings( indexName, settingsToRestore ).build(),
+				operationSubmitter
+		)
+				.thenRun( () -> settingsBeforeBulkLoad = null );
+	}
+
+	private static JsonObject bulkLoadSettings() {
+		JsonObject settings = new JsonObject();
+		// No periodic refresh: documents do not need to be visible to searches until the end.
+		settings.addProperty( REFRESH_INTERVAL_SETTING, "-1" );
+		// Replicas would index every document a second time: better copy segments after the fact.
+		settings.addProperty( NUMBER_OF_REPLICAS_SETTING, 0 );
+		// No fsync on every bulk request: a final flush will make everything durable.
+		settings.addProperty( TRANSLOG_DURABILITY_SETTING, "async" );
+		return settings;
+	}
+
+	private JsonObject toRestorableSettings(List<ExistingIndexMetadata> existingIndexes) {
+		if ( existingIndexes.isEmpty() ) {
+			throw new AssertionFailure( "Index '" + indexName + "' does not exist; cannot apply bulk-load settings." );
+		}
+		Map<String, JsonElement> actual = existingIndexes.get( 0 ).getMetadata().getSettings().getExtraAttributes();
+		JsonObject settings = new JsonObject();
+		// Settings that were not set explicitly are reset to their default (null) at the end.
+		settings.add( REFRESH_INTERVAL_SETTING, valueOrNull( actual.get( "refresh_interval" ) ) );
+		settings.add( NUMBER_OF_REPLICAS_SETTING, valueOrNull( actual.get( "number_of_replicas" ) ) );
+		JsonElement translog = actual.get( "translog" );
+		settings.add( TRANSLOG_DURABILITY_SETTING, translog == null || !translog.isJsonObject()
+				? JsonNull.INSTANCE
+				: valueOrNull( translog.getAsJsonObject().get( "durability" ) ) );
+		return settings;
+	}
+
+	private static JsonElement valueOrNull(JsonElement element) {
+		if ( element == null || !element.isJsonPrimitive() ) {
+			return JsonNull.INSTANCE;
+		}
+		return new JsonPrimitive( element.getAsString() );
+	}
 }
@@ -98,4 +98,10 @@ public WaitForIndexStatusWork.Builder waitForIndexStatus(URLEncodedString indexN
 	public boolean isWaitForIndexStatusSupported() {
 		return false;
 	}
+
+	@Override
+	public boolean isBulkLoadIndexSettingsSupported() {
+		// Serverless collections do not expose refresh, replica or translog settings.
+		return false;
+	}
 }
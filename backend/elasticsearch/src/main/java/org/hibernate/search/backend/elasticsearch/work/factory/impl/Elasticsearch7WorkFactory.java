@@ -19,6 +19,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ClearScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CloseIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteByQueryWork;
@@ -31,6 +32,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -38,6 +40,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.WaitForIndexStatusWork;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import com.google.gson.JsonObject;
 
@@ -48,10 +51,17 @@ public class Elasticsearch7WorkFactory implements ElasticsearchWorkFactory {
 
 	protected final GsonProvider gsonProvider;
 	private final Boolean ignoreShardFailures;
+	private final boolean pointInTimeSupported;
 
 	public Elasticsearch7WorkFactory(GsonProvider gsonProvider, Boolean ignoreShardFailures) {
+		this( gsonProvider, ignoreShardFailures, false );
+	}
+
+	public Elasticsearch7WorkFactory(GsonProvider gsonProvider, Boolean ignoreShardFailures,
+			boolean pointInTimeSupported) {
 		this.gsonProvider = gsonProvider;
 		this.ignoreShardFailures = ignoreShardFailures;
+		this.pointInTimeSupported = pointInTimeSupported;
 	}
 
 	@Override
@@ -144,6 +154,27 @@ public ClearScrollWork.Builder clearScroll(String scrollId) {
 		return new ClearScrollWork.Builder( scrollId );
 	}
 
+	@Override
+	public boolean isPointInTimeSupported() {
+		return pointInTimeSupported;
+	}
+
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		if ( !pointInTimeSupported ) {
+			throw new AssertionFailure( "Point in time is not supported by this work factory" );
+		}
+		return new OpenPointInTimeWork.Builder( keepAlive );
+	}
+
+	@Override
+	public ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId) {
+		if ( !pointInTimeSupported ) {
+			throw new AssertionFailure( "Point in time is not supported by this work factory" );
+		}
+		return new ClosePointInTimeWork.Builder( pointInTimeId );
+	}
+
 	@Override
 	public CreateIndexWork.Builder createIndex(URLEncodedString indexName) {
 		return CreateIndexWork.Builder.create( gsonProvider, indexName );
@@ -174,6 +205,16 @@ public PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName,
 		return new PutIndexSettingsWork.Builder( gsonProvider, indexName, settings );
 	}
 
+	@Override
+	public boolean isBulkLoadIndexSettingsSupported() {
+		return true;
+	}
+
+	@Override
+	public PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName, JsonObject settings) {
+		return new PutIndexSettingsWork.Builder( indexName, settings );
+	}
+
 	@Override
 	public PutIndexMappingWork.Builder putIndexTypeMapping(URLEncodedString indexName, RootTypeMapping mapping) {
 		return PutIndexMappingWork.Builder.create( gsonProvider, indexName, mapping );
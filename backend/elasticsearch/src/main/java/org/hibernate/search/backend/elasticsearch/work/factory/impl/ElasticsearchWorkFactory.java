@@ -18,6 +18,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ClearScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CloseIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteByQueryWork;
@@ -30,6 +31,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -79,6 +81,12 @@ <T> ScrollWork.Builder<T> scroll(String scrollId, String scrollTimeout,
 
 	ClearScrollWork.Builder clearScroll(String scrollId);
 
+	boolean isPointInTimeSupported();
+
+	OpenPointInTimeWork.Builder openPointInTime(String keepAlive);
+
+	ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId);
+
 	CreateIndexWork.Builder createIndex(URLEncodedString indexName);
 
 	DropIndexWork.Builder dropIndex(URLEncodedString indexName);
@@ -91,6 +99,10 @@ <T> ScrollWork.Builder<T> scroll(String scrollId, String scrollTimeout,
 
 	PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName, IndexSettings settings);
 
+	boolean isBulkLoadIndexSettingsSupported();
+
+	PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName, JsonObject settings);
+
 	PutIndexMappingWork.Builder putIndexTypeMapping(URLEncodedString indexName, RootTypeMapping mapping);
 
 	boolean isWaitForIndexStatusSupported();
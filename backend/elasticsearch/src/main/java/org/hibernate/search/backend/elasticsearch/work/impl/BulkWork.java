@@ -22,6 +22,16 @@ public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
 
+	/*
+	 * Only the status and the error of each item are ever inspected (see ElasticsearchRequestSuccessAssessor),
+	 * so we ask Elasticsearch to leave out everything else (_index, _id, _version, _shards, _seq_no, ...).
+	 * This shrinks bulk responses, which are the most frequent responses by far,
+	 * and thus the number of JSON elements we need to parse and allocate for each of them.
+	 * Search responses, on the other hand, are never filtered:
+	 * they are exposed to users as-is through ElasticsearchSearchResult#responseBody() and jsonHit projections.
+	 */
+	private static final String FILTER_PATH = "errors,items.*.status,items.*.error";
+
 	protected BulkWork(Builder builder) {
 		super( builder );
 	}
@@ -52,7 +62,8 @@ public Builder refresh(DocumentRefreshStrategy refreshStrategy) {
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
-							.pathComponent( Paths._BULK );
+							.pathComponent( Paths._BULK )
+							.param( "filter_path", FILTER_PATH );
 			switch ( refreshStrategy ) {
 				case FORCE:
 					builder.param( "refresh", true );
@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.util.common.AssertionFailure;
+
+import com.google.gson.JsonObject;
+
+public class OpenPointInTimeWork extends AbstractNonBulkableWork<String> {
+
+	private static final JsonAccessor<String> ID_ACCESSOR = JsonAccessor.root().property( "id" ).asString();
+
+	protected OpenPointInTimeWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	protected String generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		JsonObject body = response.body();
+		return ID_ACCESSOR.get( body )
+				.orElseThrow( () -> new AssertionFailure( "Elasticsearch response lacked a value for point in time id" ) );
+	}
+
+	public static class Builder extends AbstractBuilder<Builder> {
+
+		private final String keepAlive;
+		private final Set<URLEncodedString> indexNames = new LinkedHashSet<>();
+		private Set<String> routingKeys;
+
+		public Builder(String keepAlive) {
+			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			this.keepAlive = keepAlive;
+		}
+
+		public Builder index(URLEncodedString indexName) {
+			indexNames.add( indexName );
+			return this;
+		}
+
+		public Builder routingKeys(Set<String> routingKeys) {
+			this.routingKeys = routingKeys;
+			return this;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+							.multiValuedPathComponent( indexNames )
+							.pathComponent( Paths._PIT )
+							.param( "keep_alive", keepAlive );
+
+			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+				builder.multiValuedParam( "routing", routingKeys );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public OpenPointInTimeWork build() {
+			return new OpenPointInTimeWork( this );
+		}
+	}
+}
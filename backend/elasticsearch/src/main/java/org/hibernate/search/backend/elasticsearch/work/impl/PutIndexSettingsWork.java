@@ -45,6 +45,17 @@ public Builder(
 			this.payload = gson.toJsonTree( settings ).getAsJsonObject();
 		}
 
+		/**
+		 * @param indexName The name of the index to update.
+		 * @param payload The settings to apply, as a raw JSON object.
+		 * Unlike with {@link IndexSettings}, null values are preserved and reset the corresponding setting to its default.
+		 */
+		public Builder(URLEncodedString indexName, JsonObject payload) {
+			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			this.indexName = indexName;
+			this.payload = payload;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
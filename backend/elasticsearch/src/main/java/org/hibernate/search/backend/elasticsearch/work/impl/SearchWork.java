@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -19,6 +20,8 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 public class SearchWork<R> extends AbstractNonBulkableWork<R> {
@@ -60,6 +63,8 @@ public static <T> Builder<T> create(JsonObject payload, ElasticsearchSearchResul
 			return new Builder<>( payload, resultExtractor, true, false );
 		}
 
+		private static final String SHARD_DOC = "_shard_doc";
+
 		private final JsonObject payload;
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 		private final boolean allowPartialSearchResultsSupported;
@@ -74,6 +79,11 @@ public static <T> Builder<T> create(JsonObject payload, ElasticsearchSearchResul
 		private Set<String> routingKeys;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private String pointInTimeId;
+		private String pointInTimeKeepAlive;
+		private JsonArray searchAfter;
+		private int sliceId;
+		private int sliceCount = 1;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
@@ -101,6 +111,34 @@ public Builder<R> scrolling(int scrollSize, String scrollTimeout) {
 			return this;
 		}
 
+		/**
+		 * Executes the search against a point in time instead of the indexes.
+		 * <p>
+		 * Indexes and routing keys must not be set in that case:
+		 * they were defined when opening the point in time.
+		 * A tiebreaker is automatically added to the sort so that {@link #searchAfter(JsonArray)} can be used.
+		 *
+		 * @param pointInTimeId The identifier of the point in time, as returned by the last request using it.
+		 * @param keepAlive How long to extend the life of the point in time, e.g. {@code 60s}.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder<R> pointInTime(String pointInTimeId, String keepAlive) {
+			this.pointInTimeId = pointInTimeId;
+			this.pointInTimeKeepAlive = keepAlive;
+			return this;
+		}
+
+		public Builder<R> searchAfter(JsonArray searchAfter) {
+			this.searchAfter = searchAfter;
+			return this;
+		}
+
+		public Builder<R> slice(int sliceId, int sliceCount) {
+			this.sliceId = sliceId;
+			this.sliceCount = sliceCount;
+			return this;
+		}
+
 		public Builder<R> routingKeys(Set<String> routingKeys) {
 			this.routingKeys = routingKeys;
 			return this;
@@ -141,7 +179,7 @@ protected ElasticsearchRequest buildRequest() {
 					ElasticsearchRequest.post()
 							.multiValuedPathComponent( indexes )
 							.pathComponent( Paths._SEARCH )
-							.body( payload );
+							.body( pointInTimeId == null ? payload : pointInTimePayload() );
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -175,6 +213,69 @@ protected ElasticsearchRequest buildRequest() {
 			return builder.build();
 		}
 
+		private JsonObject pointInTimePayload() {
+			// Shallow copy: we only alter top-level properties
+			JsonObject result = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				result.add( entry.getKey(), entry.getValue() );
+			}
+
+			// Scrolls do not expose aggregations: don't compute them for every chunk
+			result.remove( "aggregations" );
+
+			JsonObject pit = new JsonObject();
+			pit.addProperty( "id", pointInTimeId );
+			pit.addProperty( "keep_alive", pointInTimeKeepAlive );
+			result.add( "pit", pit );
+
+			result.add( "sort", sortWithTiebreaker( payload.get( "sort" ) ) );
+
+			if ( searchAfter != null ) {
+				result.add( "search_after", searchAfter );
+			}
+
+			if ( sliceCount > 1 ) {
+				JsonObject slice = new JsonObject();
+				slice.addProperty( "id", sliceId );
+				slice.addProperty( "max", sliceCount );
+				result.add( "slice", slice );
+			}
+
+			return result;
+		}
+
+		private static JsonArray sortWithTiebreaker(JsonElement sort) {
+			JsonArray result = new JsonArray();
+			if ( sort == null ) {
+				// Default sort: by descending score
+				JsonObject scoreSort = new JsonObject();
+				JsonObject order = new JsonObject();
+				order.addProperty( "order", "desc" );
+				scoreSort.add( "_score", order );
+				result.add( scoreSort );
+			}
+			else if ( sort.isJsonArray() ) {
+				result.addAll( sort.getAsJsonArray() );
+			}
+			else {
+				result.add( sort );
+			}
+
+			for ( JsonElement element : result ) {
+				if ( element.isJsonObject() && element.getAsJsonObject().has( SHARD_DOC )
+						|| element.isJsonPrimitive() && SHARD_DOC.equals( element.getAsString() ) ) {
+					// The tiebreaker is already there
+					return result;
+				}
+			}
+
+			// The _shard_doc tiebreaker is the most efficient one, and unique within a point in time
+			JsonObject tiebreaker = new JsonObject();
+			tiebreaker.addProperty( SHARD_DOC, "asc" );
+			result.add( tiebreaker );
+			return result;
+		}
+
 		@Override
 		public SearchWork<R> build() {
 			return new SearchWork<>( this );
@@ -10,6 +10,7 @@
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -24,6 +25,7 @@
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 
@@ -257,6 +259,103 @@ void getContent(String ignoredLabel, List<JsonObject> payload) throws IOExceptio
 		}
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_contentEncoding(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		initCompressed( payload );
+		Header contentEncoding = gsonEntity.getContentEncoding();
+		assertThat( contentEncoding.getName() ).isEqualTo( "Content-Encoding" );
+		assertThat( contentEncoding.getValue() ).isEqualTo( "gzip" );
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_produceContent_noPushBack(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		initCompressed( payload );
+		int pushBackPeriod = Integer.MAX_VALUE;
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			assertThat( decompress( doProduceRawContent( gsonEntity, pushBackPeriod ) ) )
+					.isEqualTo( expectedPayloadString );
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_produceContent_pushBack_every5Bytes(String ignoredLabel, List<JsonObject> payload)
+			throws IOException {
+		initCompressed( payload );
+		int pushBackPeriod = 5;
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			assertThat( decompress( doProduceRawContent( gsonEntity, pushBackPeriod ) ) )
+					.isEqualTo( expectedPayloadString );
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_produceContent_pushBack_every500Bytes(String ignoredLabel, List<JsonObject> payload)
+			throws IOException {
+		initCompressed( payload );
+		int pushBackPeriod = 500;
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			byte[] rawContent = doProduceRawContent( gsonEntity, pushBackPeriod );
+			assertThat( decompress( rawContent ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() )
+					.isIn( -1L, (long) rawContent.length );
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_writeTo(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		initCompressed( payload );
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+				gsonEntity.writeTo( outputStream );
+				assertThat( decompress( outputStream.toByteArray() ) )
+						.isEqualTo( expectedPayloadString );
+			}
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void compressed_getContent(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		initCompressed( payload );
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			try ( InputStream inputStream = gsonEntity.getContent() ) {
+				assertThat( decompress( inputStream.readAllBytes() ) )
+						.isEqualTo( expectedPayloadString );
+			}
+		}
+	}
+
+	private void initCompressed(List<JsonObject> payload) throws IOException {
+		init( payload );
+		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
+		this.gsonEntity = new GsonHttpEntity( gson, payload, true );
+	}
+
+	private byte[] doProduceRawContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
+		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
+			while ( !contentEncoder.isCompleted() ) {
+				entity.produceContent( contentEncoder, StubIOControl.INSTANCE );
+			}
+			return outputStream.toByteArray();
+		}
+		finally {
+			entity.close();
+		}
+	}
+
+	private String decompress(byte[] compressed) throws IOException {
+		try ( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			return new String( inputStream.readAllBytes(), StandardCharsets.UTF_8 );
+		}
+	}
+
 	private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
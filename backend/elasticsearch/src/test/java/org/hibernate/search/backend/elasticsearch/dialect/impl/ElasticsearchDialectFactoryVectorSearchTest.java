@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.dialect.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchDistributionName;
+import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
+import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
+import org.hibernate.search.backend.elasticsearch.types.dsl.ElasticsearchIndexFieldTypeFactory;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+class ElasticsearchDialectFactoryVectorSearchTest {
+
+	private final ElasticsearchDialectFactory dialectFactory = new ElasticsearchDialectFactory();
+
+	@ParameterizedTest(name = "{0}:{1}")
+	@CsvSource({
+			"ELASTIC, 7.17.0",
+			"ELASTIC, 8.11.4",
+			"OPENSEARCH, 2.11.0"
+	})
+	void vectorField_unsupported(ElasticsearchDistributionName distributionName, String versionString) {
+		ElasticsearchIndexFieldTypeFactory typeFactory = createTypeFactory( distributionName, versionString );
+		assertThatThrownBy( typeFactory::asFloatVector )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "HSEARCH400681", "requires Elasticsearch 8.12 or later" );
+	}
+
+	@ParameterizedTest(name = "{0}:{1}")
+	@CsvSource({
+			"ELASTIC, 8",
+			"ELASTIC, 8.12.0",
+			"ELASTIC, 8.15.0",
+			"ELASTIC, 9.0.0"
+	})
+	void vectorField_supported(ElasticsearchDistributionName distributionName, String versionString) {
+		ElasticsearchIndexFieldTypeFactory typeFactory = createTypeFactory( distributionName, versionString );
+		assertThat( typeFactory.asFloatVector() ).isNotNull();
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@CsvSource({
+			"8.12.0, false",
+			"8.14.3, false",
+			"8.15.0, true",
+			"9.0.0, true"
+	})
+	void knnNeighborCount(String versionString, boolean expectK) {
+		ElasticsearchSearchSyntax syntax = dialectFactory.createProtocolDialect(
+				ElasticsearchVersion.of( ElasticsearchDistributionName.ELASTIC, versionString ) )
+				.createSearchSyntax();
+
+		JsonObject small = new JsonObject();
+		syntax.requestKnnNeighborCount( small, 10 );
+		JsonObject large = new JsonObject();
+		syntax.requestKnnNeighborCount( large, 20_000 );
+
+		if ( expectK ) {
+			assertThat( small.get( "k" ).getAsInt() ).isEqualTo( 10 );
+			assertThat( small.get( "num_candidates" ).getAsInt() ).isEqualTo( 100 );
+			assertThat( large.get( "k" ).getAsInt() ).isEqualTo( 20_000 );
+			assertThat( large.get( "num_candidates" ).getAsInt() ).isEqualTo( 20_000 );
+		}
+		else {
+			assertThat( small.has( "k" ) ).isFalse();
+			assertThat( small.get( "num_candidates" ).getAsInt() ).isEqualTo( 10 );
+		}
+	}
+
+	private ElasticsearchIndexFieldTypeFactory createTypeFactory(ElasticsearchDistributionName distributionName,
+			String versionString) {
+		return dialectFactory.createModelDialect( ElasticsearchVersion.of( distributionName, versionString ) )
+				.createIndexTypeFieldFactoryProvider( new Gson() )
+				.create( EventContexts.fromIndexName( "indexName" ), null, null );
+	}
+}
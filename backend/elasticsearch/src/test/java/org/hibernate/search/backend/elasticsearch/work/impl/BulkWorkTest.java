@@ -142,6 +142,8 @@ private void assertBulkRequest(ElasticsearchRequest request, int... bulkableIndi
 		assertSoftly( softly -> {
 			softly.assertThat( request.method() ).isEqualTo( "POST" );
 			softly.assertThat( request.path() ).isEqualTo( "/_bulk" );
+			softly.assertThat( request.parameters() )
+					.containsEntry( "filter_path", "errors,items.*.status,items.*.error" );
 			List<JsonObject> expectedBodyParts = new ArrayList<>();
 			for ( int bulkableIndex : bulkableIndices ) {
 				expectedBodyParts.add( bulkableWorkMetadata( bulkableIndex ) );
@@ -8,8 +8,12 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cache.LuceneCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.index.LuceneCommitStatistics;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.metamodel.IndexValueFieldTypeDescriptor;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.analysis.Analyzer;
 
@@ -28,4 +32,27 @@ public interface LuceneBackend extends Backend {
 	 */
 	Optional<? extends Analyzer> normalizer(String name);
 
+	/**
+	 * @return Statistics about the query result cache,
+	 * or {@link Optional#empty()} if the cache is disabled.
+	 * @see LuceneBackendSettings#QUERY_RESULT_CACHE_MAX_WEIGHT
+	 */
+	@Incubating
+	Optional<LuceneCacheStatistics> queryResultCacheStatistics();
+
+	/**
+	 * @return Statistics about the cache of parent document bitsets used to join nested documents,
+	 * or {@link Optional#empty()} if the cache is disabled.
+	 * @see LuceneBackendSettings#QUERY_PARENT_BITSET_CACHE_MAX_BYTES
+	 */
+	@Incubating
+	Optional<LuceneCacheStatistics> parentBitSetCacheStatistics();
+
+	/**
+	 * @return Statistics about commits of all indexes of this backend.
+	 * @see LuceneBackendSettings#COMMIT_COORDINATION_MAX_CONCURRENCY
+	 */
+	@Incubating
+	LuceneCommitStatistics commitStatistics();
+
 }
@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about a cache of the Lucene backend.
+ * <p>
+ * Counts are cumulative since the backend was started.
+ */
+@Incubating
+public interface LuceneCacheStatistics {
+
+	/**
+	 * @return The number of lookups that found a cached entry.
+	 */
+	long hitCount();
+
+	/**
+	 * @return The number of lookups that did not find a cached entry.
+	 */
+	long missCount();
+
+	/**
+	 * @return The number of entries removed from the cache to stay below its maximum size.
+	 */
+	long evictionCount();
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.cache.LuceneCacheStatistics;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * A cache of the bitsets of parent documents, used to join nested documents to their parents,
+ * shared by all indexes of a backend.
+ * <p>
+ * Entries are keyed by segment core and parent document path:
+ * they remain valid as long as the segment is open, regardless of deletions,
+ * and are removed as soon as the segment is closed.
+ */
+public final class LuceneParentBitSetCache implements LuceneCacheStatistics {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * @param maxBytes The maximum total size of cached bitsets, in bytes.
+	 * @return A cache, or {@code null} if {@code maxBytes} is zero, i.e. if caching is disabled.
+	 */
+	public static LuceneParentBitSetCache createOrNull(int maxBytes) {
+		return maxBytes > 0 ? new LuceneParentBitSetCache( maxBytes ) : null;
+	}
+
+	/**
+	 * Computes the bitset of documents matching the given query in the given segment, without any caching.
+	 *
+	 * @param context The segment.
+	 * @param parentsFilterQuery The query matching parent documents.
+	 * @return The bitset, or {@code null} if no document matches.
+	 * @throws IOException If reading the index fails.
+	 */
+	public static BitSet compute(LeafReaderContext context, Query parentsFilterQuery) throws IOException {
+		IndexSearcher searcher = new IndexSearcher( ReaderUtil.getTopLevelContext( context ) );
+		// The bitset is cached already, caching the underlying query would only waste memory.
+		searcher.setQueryCache( null );
+		Weight weight = searcher.createWeight( searcher.rewrite( parentsFilterQuery ),
+				ScoreMode.COMPLETE_NO_SCORES, 1f );
+		Scorer scorer = weight.scorer( context );
+		return scorer == null ? null : BitSet.of( scorer.iterator(), context.reader().maxDoc() );
+	}
+
+	private final WeightedLruCache<Key, CachedBitSet> entries;
+	private final Set<IndexReader.CacheKey> listenedCoreKeys = ConcurrentHashMap.newKeySet();
+
+	private LuceneParentBitSetCache(int maxBytes) {
+		this.entries = new WeightedLruCache<>( maxBytes, cached -> cached.bytes );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + entries + "]";
+	}
+
+	/**
+	 * @param context The segment.
+	 * @param parentDocumentPath The path of parent documents, or {@code null} for root documents.
+	 * @param parentsFilterQuery The query matching parent documents, used if the bitset is not cached yet.
+	 * @return The bitset, or {@code null} if no document matches.
+	 * @throws IOException If reading the index fails.
+	 */
+	public BitSet getOrCompute(LeafReaderContext context, String parentDocumentPath, Query parentsFilterQuery)
+			throws IOException {
+		IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+		if ( cacheHelper == null ) {
+			// Can't know when the segment will be closed: don't cache.
+			return compute( context, parentsFilterQuery );
+		}
+		IndexReader.CacheKey coreKey = cacheHelper.getKey();
+		Key key = new Key( coreKey, parentDocumentPath );
+
+		CachedBitSet cached = entries.get( key );
+		if ( cached != null ) {
+			return cached.bitSet;
+		}
+
+		// Compute outside of the lock: at worst, two threads will compute the same bitset concurrently.
+		cached = new CachedBitSet( compute( context, parentsFilterQuery ) );
+		entries.put( key, cached );
+		if ( listenedCoreKeys.add( coreKey ) ) {
+			cacheHelper.addClosedListener( this::onCoreClosed );
+		}
+		return cached.bitSet;
+	}
+
+	@Override
+	public long hitCount() {
+		return entries.hitCount();
+	}
+
+	@Override
+	public long missCount() {
+		return entries.missCount();
+	}
+
+	@Override
+	public long evictionCount() {
+		return entries.evictionCount();
+	}
+
+	/**
+	 * @return The total size of cached bitsets, in bytes.
+	 */
+	public long totalBytes() {
+		return entries.totalWeight();
+	}
+
+	public void clear() {
+		entries.clear();
+		log.debugf( "Cleared parent bitset cache: %s", this );
+	}
+
+	private void onCoreClosed(IndexReader.CacheKey coreKey) {
+		listenedCoreKeys.remove( coreKey );
+		entries.removeIf( key -> key.coreKey == coreKey );
+	}
+
+	private static final class Key {
+		private final IndexReader.CacheKey coreKey;
+		private final String parentDocumentPath;
+
+		private Key(IndexReader.CacheKey coreKey, String parentDocumentPath) {
+			this.coreKey = coreKey;
+			this.parentDocumentPath = parentDocumentPath;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return coreKey == other.coreKey
+					&& Objects.equals( parentDocumentPath, other.parentDocumentPath );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * coreKey.hashCode() + Objects.hashCode( parentDocumentPath );
+		}
+	}
+
+	private static final class CachedBitSet {
+		private final BitSet bitSet;
+		private final long bytes;
+
+		private CachedBitSet(BitSet bitSet) {
+			this.bitSet = bitSet;
+			// Account for the key and entry too, so that empty bitsets still have a cost
+			this.bytes = 64L + ( bitSet == null ? 0L : bitSet.ramBytesUsed() );
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cache.LuceneCacheStatistics;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+
+/**
+ * A size-bounded cache of query results, i.e. of the output of the collection phase of a query:
+ * total hit count, top docs and aggregation results.
+ * <p>
+ * Unlike Lucene's {@link org.apache.lucene.search.QueryCache}, which caches the set of documents matching a filter,
+ * this cache allows to skip matching, scoring, sorting and aggregating altogether
+ * when the exact same query is executed again on the exact same index readers.
+ * Since top docs are only valid for the readers they were collected from,
+ * keys are expected to include the {@link org.apache.lucene.index.IndexReader.CacheKey cache keys} of those readers:
+ * entries for previous readers simply stop being used once indexes are refreshed, and are eventually evicted.
+ * <p>
+ * Each entry has a weight equal to one plus its number of top docs and aggregation buckets;
+ * the least recently used entries are evicted when the total weight exceeds the configured maximum.
+ * <p>
+ * Top docs are exposed to callers through {@code LuceneSearchResult.topDocs()} and may be modified by them
+ * (e.g. {@link TopDocs#merge(int, TopDocs[])} sets {@link ScoreDoc#shardIndex}),
+ * so cached top docs are copied both when they are put in the cache and when they are retrieved.
+ */
+public final class LuceneQueryResultCache implements LuceneCacheStatistics {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * @param maxWeight The maximum total weight of cached entries.
+	 * @return A cache, or {@code null} if {@code maxWeight} is zero, i.e. if caching is disabled.
+	 */
+	public static LuceneQueryResultCache createOrNull(int maxWeight) {
+		return maxWeight > 0 ? new LuceneQueryResultCache( maxWeight ) : null;
+	}
+
+	private final WeightedLruCache<Object, CachedResult> entries;
+
+	private LuceneQueryResultCache(int maxWeight) {
+		this.entries = new WeightedLruCache<>( maxWeight, result -> result.weight );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + entries + "]";
+	}
+
+	/**
+	 * @param key The key, including the cache keys of the index readers targeted by the query.
+	 * @return The cached result, or {@code null}.
+	 */
+	public CachedResult get(Object key) {
+		return entries.get( key );
+	}
+
+	public void put(Object key, SearchResultTotal total, TopDocs topDocs, Map<AggregationKey<?>, ?> aggregations) {
+		entries.put( key, new CachedResult( total, topDocs, aggregations ) );
+	}
+
+	@Override
+	public long hitCount() {
+		return entries.hitCount();
+	}
+
+	@Override
+	public long missCount() {
+		return entries.missCount();
+	}
+
+	@Override
+	public long evictionCount() {
+		return entries.evictionCount();
+	}
+
+	public void clear() {
+		entries.clear();
+		log.debugf( "Cleared query result cache: %s", this );
+	}
+
+	public static final class CachedResult {
+		private final SearchResultTotal total;
+		private final TopDocs topDocs;
+		private final Map<AggregationKey<?>, ?> aggregations;
+		private final long weight;
+
+		private CachedResult(SearchResultTotal total, TopDocs topDocs, Map<AggregationKey<?>, ?> aggregations) {
+			this.total = total;
+			this.topDocs = copy( topDocs );
+			long theWeight = 1L;
+			if ( topDocs != null ) {
+				theWeight += topDocs.scoreDocs.length;
+			}
+			Map<AggregationKey<?>, Object> copiedAggregations = new LinkedHashMap<>();
+			for ( Map.Entry<AggregationKey<?>, ?> entry : aggregations.entrySet() ) {
+				Object value = entry.getValue();
+				// Results are shared between queries: protect them from modifications by callers.
+				if ( value instanceof Map ) {
+					theWeight += ( (Map<?, ?>) value ).size();
+					value = Collections.unmodifiableMap( new LinkedHashMap<>( (Map<?, ?>) value ) );
+				}
+				else {
+					++theWeight;
+				}
+				copiedAggregations.put( entry.getKey(), value );
+			}
+			this.aggregations = Collections.unmodifiableMap( copiedAggregations );
+			this.weight = theWeight;
+		}
+
+		public SearchResultTotal total() {
+			return total;
+		}
+
+		/**
+		 * @return A copy of the cached top docs, which the caller is free to modify.
+		 */
+		public TopDocs topDocs() {
+			return copy( topDocs );
+		}
+
+		public Map<AggregationKey<?>, ?> aggregations() {
+			return aggregations;
+		}
+	}
+
+	private static TopDocs copy(TopDocs topDocs) {
+		if ( topDocs == null ) {
+			return null;
+		}
+		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+		ScoreDoc[] copiedScoreDocs = scoreDocs instanceof FieldDoc[]
+				? new FieldDoc[scoreDocs.length]
+				: new ScoreDoc[scoreDocs.length];
+		for ( int i = 0; i < scoreDocs.length; i++ ) {
+			copiedScoreDocs[i] = copy( scoreDocs[i] );
+		}
+		return topDocs instanceof TopFieldDocs
+				? new TopFieldDocs( topDocs.totalHits, copiedScoreDocs, ( (TopFieldDocs) topDocs ).fields )
+				: new TopDocs( topDocs.totalHits, copiedScoreDocs );
+	}
+
+	private static ScoreDoc copy(ScoreDoc scoreDoc) {
+		if ( scoreDoc instanceof FieldDoc ) {
+			FieldDoc fieldDoc = (FieldDoc) scoreDoc;
+			return new FieldDoc( fieldDoc.doc, fieldDoc.score,
+					fieldDoc.fields == null ? null : fieldDoc.fields.clone(), fieldDoc.shardIndex );
+		}
+		return new ScoreDoc( scoreDoc.doc, scoreDoc.score, scoreDoc.shardIndex );
+	}
+}
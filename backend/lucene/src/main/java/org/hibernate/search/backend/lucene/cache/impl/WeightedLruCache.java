@@ -0,0 +1,175 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.search.backend.lucene.cache.LuceneCacheStatistics;
+
+/**
+ * A thread-safe cache bounded by the total weight of its entries,
+ * which evicts the least recently used entries first.
+ * <p>
+ * Entries are only ever held by the cache: computing values is the responsibility of callers,
+ * so that the lock is only held for map operations.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ */
+final class WeightedLruCache<K, V> implements LuceneCacheStatistics {
+
+	private final long maxWeight;
+	private final ToLongFunction<? super V> weigher;
+	private final Lock lock = new ReentrantLock();
+	// Access-ordered, so that iteration starts with the least recently used entry
+	private final LinkedHashMap<K, V> entries = new LinkedHashMap<>( 16, 0.75f, true );
+	private long totalWeight = 0L;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * @param maxWeight The maximum total weight of cached entries.
+	 * @param weigher A function returning the weight of a given value. Must always return the same weight for a given value.
+	 */
+	WeightedLruCache(long maxWeight, ToLongFunction<? super V> weigher) {
+		this.maxWeight = maxWeight;
+		this.weigher = weigher;
+	}
+
+	@Override
+	public String toString() {
+		return "maxWeight=" + maxWeight
+				+ ", hitCount=" + hitCount
+				+ ", missCount=" + missCount
+				+ ", evictionCount=" + evictionCount;
+	}
+
+	/**
+	 * @param key The key.
+	 * @return The cached value, or {@code null}.
+	 */
+	V get(K key) {
+		V value;
+		lock.lock();
+		try {
+			value = entries.get( key );
+		}
+		finally {
+			lock.unlock();
+		}
+		if ( value == null ) {
+			missCount.increment();
+		}
+		else {
+			hitCount.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Puts a value in the cache, evicting the least recently used entries if necessary.
+	 * <p>
+	 * Values heavier than the maximum weight are ignored:
+	 * they would evict everything else, and most likely would not be hit again anyway.
+	 *
+	 * @param key The key.
+	 * @param value The value.
+	 */
+	void put(K key, V value) {
+		long weight = weigher.applyAsLong( value );
+		if ( weight > maxWeight ) {
+			return;
+		}
+		lock.lock();
+		try {
+			V previous = entries.put( key, value );
+			if ( previous != null ) {
+				totalWeight -= weigher.applyAsLong( previous );
+			}
+			totalWeight += weight;
+			Iterator<V> iterator = entries.values().iterator();
+			while ( totalWeight > maxWeight && iterator.hasNext() ) {
+				V eldest = iterator.next();
+				iterator.remove();
+				totalWeight -= weigher.applyAsLong( eldest );
+				evictionCount.increment();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all entries whose key matches the given predicate.
+	 * <p>
+	 * Removed entries are not counted as evictions.
+	 *
+	 * @param keyPredicate A predicate on keys.
+	 */
+	void removeIf(Predicate<? super K> keyPredicate) {
+		lock.lock();
+		try {
+			Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+			while ( iterator.hasNext() ) {
+				Map.Entry<K, V> entry = iterator.next();
+				if ( keyPredicate.test( entry.getKey() ) ) {
+					iterator.remove();
+					totalWeight -= weigher.applyAsLong( entry.getValue() );
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	void clear() {
+		lock.lock();
+		try {
+			entries.clear();
+			totalWeight = 0L;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	long totalWeight() {
+		lock.lock();
+		try {
+			return totalWeight;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public long hitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long missCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long evictionCount() {
+		return evictionCount.sum();
+	}
+}
@@ -56,6 +56,25 @@ private LuceneBackendSettings() {
 	 */
 	public static final String MULTI_TENANCY_STRATEGY = "multi_tenancy.strategy";
 
+	/**
+	 * The number of index partitions tenants are spread over,
+	 * for the {@link MultiTenancyStrategyName#PARTITIONED partitioned} {@link #MULTI_TENANCY_STRATEGY multi-tenancy strategy}.
+	 * <p>
+	 * Each partition of each index gets its own directory, index writer and index reader,
+	 * and each tenant is assigned to a partition based on a hash of its identifier.
+	 * Several tenants generally share a partition:
+	 * index writers and readers of a partition are opened when first used and stay open until shutdown,
+	 * so this should be kept low enough that all partitions of all indexes can stay open at the same time.
+	 * <p>
+	 * Changing this setting requires reindexing.
+	 * <p>
+	 * Expects a strictly positive Integer value no larger than {@code 256}, such as {@code 64},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#MULTI_TENANCY_NUMBER_OF_PARTITIONS}.
+	 */
+	public static final String MULTI_TENANCY_NUMBER_OF_PARTITIONS = "multi_tenancy.number_of_partitions";
+
 	/**
 	 * The configurer for analysis.
 	 * <p>
@@ -80,6 +99,57 @@ private LuceneBackendSettings() {
 	 */
 	public static final String QUERY_CACHING_CONFIGURER = "query.caching.configurer";
 
+	/**
+	 * The maximum weight of the query result cache,
+	 * which allows to skip matching, sorting and aggregating entirely
+	 * when the exact same query is executed again on unchanged indexes.
+	 * <p>
+	 * Each cached result has a weight equal to one plus its number of hits and aggregation buckets;
+	 * the least recently used results are evicted when the total weight exceeds this maximum.
+	 * Cached results are only reused as long as the targeted indexes were not refreshed:
+	 * any change to the indexes makes the corresponding results obsolete.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables the query result cache.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_MAX_WEIGHT}.
+	 */
+	public static final String QUERY_RESULT_CACHE_MAX_WEIGHT = "query.result_cache.max_weight";
+
+	/**
+	 * The maximum size, in bytes, of the cache of parent document bitsets,
+	 * which are necessary to join nested documents to their parent
+	 * in nested predicates, sorts, aggregations and projections.
+	 * <p>
+	 * Bitsets are cached per index segment and parent document path,
+	 * and are shared by all queries and all indexes of the backend;
+	 * the least recently used bitsets are evicted when the total size exceeds this maximum.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables the cache.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_PARENT_BITSET_CACHE_MAX_BYTES}.
+	 */
+	public static final String QUERY_PARENT_BITSET_CACHE_MAX_BYTES = "query.parent_bitset_cache.max_bytes";
+
+	/**
+	 * The maximum number of index commits executed concurrently across all shards of all indexes of the backend,
+	 * which enables commit coordination.
+	 * <p>
+	 * When commit coordination is enabled, delayed commits of all shards are grouped together,
+	 * commits exceeding the maximum concurrency wait for other commits to finish,
+	 * and the commit interval of each shard is extended when its commits had to wait.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables commit coordination.
+	 * <p>
+	 * Defaults to {@link Defaults#COMMIT_COORDINATION_MAX_CONCURRENCY}.
+	 */
+	public static final String COMMIT_COORDINATION_MAX_CONCURRENCY = "commit_coordination.max_concurrency";
+
 	/**
 	 * The size of the thread pool assigned to the backend.
 	 * <p>
@@ -93,6 +163,23 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The number of threads used to execute a single query,
+	 * by searching slices of index segments concurrently.
+	 * <p>
+	 * When set to a value higher than 1, a dedicated thread pool of that size is assigned to the backend
+	 * and shared by all queries.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_PARALLELISM}.
+	 */
+	public static final String SEARCH_PARALLELISM = "search.parallelism";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -110,5 +197,10 @@ private Defaults() {
 		 */
 		@Deprecated
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+		public static final int SEARCH_PARALLELISM = 1;
+		public static final int QUERY_RESULT_CACHE_MAX_WEIGHT = 0;
+		public static final int COMMIT_COORDINATION_MAX_CONCURRENCY = 0;
+		public static final int QUERY_PARENT_BITSET_CACHE_MAX_BYTES = 64 * 1024 * 1024;
+		public static final int MULTI_TENANCY_NUMBER_OF_PARTITIONS = 16;
 	}
 }
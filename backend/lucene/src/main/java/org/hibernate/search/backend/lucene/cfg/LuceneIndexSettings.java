@@ -146,6 +146,26 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be refreshed in the background, ahead of their expiration,
+	 * instead of being refreshed by the first search query executed after they expire.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and only has an effect if {@link #IO_REFRESH_INTERVAL the refresh interval} is strictly positive.
+	 * <p>
+	 * When enabled, index readers are re-opened periodically by a background task
+	 * and search queries simply use the latest reader,
+	 * so that they do not have to pay for re-opening the index reader.
+	 * Individual write operations may still trigger a forced refresh
+	 * (see {@link #IO_REFRESH_INTERVAL}), which will happen in the next search query as usual.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_BACKGROUND_REFRESH}.
+	 */
+	public static final String IO_BACKGROUND_REFRESH = IO_PREFIX + IORadicals.BACKGROUND_REFRESH;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -344,6 +364,39 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * How long, in microseconds, the executor of each indexing queue may wait for more works
+	 * before starting a batch that is not full.
+	 * <p>
+	 * Higher values mean larger batches (fewer commits) under light load,
+	 * at the cost of a higher latency for each work.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BATCH_LINGER}.
+	 */
+	public static final String INDEXING_BATCH_LINGER = INDEXING_PREFIX + IndexingRadicals.BATCH_LINGER;
+
+	/**
+	 * Whether the executor of each indexing queue adjusts the number of works per batch
+	 * based on the observed processing throughput.
+	 * <p>
+	 * When disabled, batches include as many works as possible, up to the {@link #INDEXING_QUEUE_SIZE queue size}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BATCH_SIZE}.
+	 */
+	public static final String INDEXING_ADAPTIVE_BATCH_SIZE = INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BATCH_SIZE;
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -433,6 +486,7 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String BACKGROUND_REFRESH = "background_refresh";
 	}
 
 	/**
@@ -489,6 +543,8 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String BATCH_LINGER = "batch_linger";
+		public static final String ADAPTIVE_BATCH_SIZE = "adaptive_batch_size";
 	}
 
 	/**
@@ -507,7 +563,10 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_BACKGROUND_REFRESH = false;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final int INDEXING_BATCH_LINGER = 0;
+		public static final boolean INDEXING_ADAPTIVE_BATCH_SIZE = false;
 	}
 }
@@ -17,6 +17,9 @@
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.DelegatingAnalyzerWrapper;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.lucene95.Lucene95Codec;
 
 public class LuceneIndexModel extends AbstractIndexModel<LuceneIndexModel, LuceneIndexRoot, LuceneIndexField>
 		implements AutoCloseable, IndexDescriptor {
@@ -25,6 +28,7 @@ public class LuceneIndexModel extends AbstractIndexModel<LuceneIndexModel, Lucen
 
 	private final IndexingScopedAnalyzer indexingAnalyzer;
 	private final SearchScopedAnalyzer searchAnalyzer;
+	private final ScopedCodec codec;
 
 	public LuceneIndexModel(String hibernateSearchName, String mappedTypeName,
 			IndexIdentifier identifier,
@@ -34,6 +38,7 @@ public LuceneIndexModel(String hibernateSearchName, String mappedTypeName,
 		super( hibernateSearchName, mappedTypeName, identifier, rootNode, staticFields, fieldTemplates );
 		this.indexingAnalyzer = new IndexingScopedAnalyzer();
 		this.searchAnalyzer = new SearchScopedAnalyzer();
+		this.codec = new ScopedCodec();
 		this.hasNestedDocuments = hasNestedDocuments;
 	}
 
@@ -59,6 +64,10 @@ public Analyzer getSearchAnalyzer() {
 		return searchAnalyzer;
 	}
 
+	public Codec codec() {
+		return codec;
+	}
+
 	/**
 	 * An analyzer similar to {@link org.hibernate.search.backend.lucene.analysis.impl.ScopedAnalyzer},
 	 * except the field &rarr; analyzer map is implemented by querying the model
@@ -112,4 +121,27 @@ protected Analyzer getWrappedAnalyzer(String fieldName) {
 			return analyzer;
 		}
 	}
+
+	/**
+	 * A codec similar to the default codec,
+	 * except the field &rarr; vectors format map is implemented by querying the model
+	 * and retrieving the vectors format defined by the field codec.
+	 * This allows taking into account the graph parameters of each vector field, including dynamic ones.
+	 */
+	private class ScopedCodec extends Lucene95Codec {
+		@Override
+		public KnnVectorsFormat getKnnVectorsFormatForField(String fieldName) {
+			LuceneIndexField field = fieldOrNull( fieldName, IndexFieldFilter.ALL );
+			if ( field == null || !field.isValueField() ) {
+				return super.getKnnVectorsFormatForField( fieldName );
+			}
+
+			KnnVectorsFormat format = field.toValueField().type().codec().knnVectorsFormatOrNull();
+			if ( format == null ) {
+				return super.getKnnVectorsFormatForField( fieldName );
+			}
+
+			return format;
+		}
+	}
 }
@@ -19,13 +19,17 @@
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneDefaultAnalysisConfigurer;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurationContext;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurer;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneParentBitSetCache;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.LuceneCommitCoordinator;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.multitenancy.impl.PartitionedMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
@@ -58,6 +62,12 @@ public class LuceneBackendFactory implements BackendFactory {
 					.as( MultiTenancyStrategyName.class, MultiTenancyStrategyName::of )
 					.build();
 
+	private static final ConfigurationProperty<Integer> MULTI_TENANCY_NUMBER_OF_PARTITIONS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.MULTI_TENANCY_NUMBER_OF_PARTITIONS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.MULTI_TENANCY_NUMBER_OF_PARTITIONS )
+					.build();
+
 	private static final OptionalConfigurationProperty<
 			List<BeanReference<? extends LuceneAnalysisConfigurer>>> ANALYSIS_CONFIGURER =
 					ConfigurationProperty.forKey( LuceneBackendSettings.ANALYSIS_CONFIGURER )
@@ -72,6 +82,24 @@ public class LuceneBackendFactory implements BackendFactory {
 							.multivalued()
 							.build();
 
+	private static final ConfigurationProperty<Integer> QUERY_RESULT_CACHE_MAX_WEIGHT =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_WEIGHT )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_RESULT_CACHE_MAX_WEIGHT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_PARENT_BITSET_CACHE_MAX_BYTES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_PARENT_BITSET_CACHE_MAX_BYTES )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_PARENT_BITSET_CACHE_MAX_BYTES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMMIT_COORDINATION_MAX_CONCURRENCY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.COMMIT_COORDINATION_MAX_CONCURRENCY )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.COMMIT_COORDINATION_MAX_CONCURRENCY )
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -92,6 +120,15 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 
 			configureQueryCache( buildContext, propertySource, cachingContext );
 
+			LuceneQueryResultCache resultCache =
+					LuceneQueryResultCache.createOrNull( QUERY_RESULT_CACHE_MAX_WEIGHT.get( propertySource ) );
+
+			LuceneParentBitSetCache parentBitSetCache =
+					LuceneParentBitSetCache.createOrNull( QUERY_PARENT_BITSET_CACHE_MAX_BYTES.get( propertySource ) );
+
+			LuceneCommitCoordinator commitCoordinator =
+					LuceneCommitCoordinator.create( COMMIT_COORDINATION_MAX_CONCURRENCY.get( propertySource ) );
+
 			return new LuceneBackendImpl(
 					buildContext.backendName(),
 					eventContext,
@@ -99,6 +136,9 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					new LuceneWorkFactory( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					cachingContext,
+					resultCache,
+					commitCoordinator,
+					parentBitSetCache,
 					multiTenancyStrategy,
 					buildContext.timingSource(),
 					buildContext.failureHandler()
@@ -140,7 +180,8 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 							&& buildContext.multiTenancyEnabled() ) {
 						throw log.multiTenancyRequiredButExplicitlyDisabledByBackend();
 					}
-					if ( MultiTenancyStrategyName.DISCRIMINATOR.equals( optionalName )
+					if ( ( MultiTenancyStrategyName.DISCRIMINATOR.equals( optionalName )
+							|| MultiTenancyStrategyName.PARTITIONED.equals( optionalName ) )
 							&& !buildContext.multiTenancyEnabled() ) {
 						throw log.multiTenancyNotRequiredButExplicitlyEnabledByTheBackend();
 					}
@@ -157,6 +198,15 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 				return new NoMultiTenancyStrategy();
 			case DISCRIMINATOR:
 				return new DiscriminatorMultiTenancyStrategy();
+			case PARTITIONED:
+				return new PartitionedMultiTenancyStrategy( MULTI_TENANCY_NUMBER_OF_PARTITIONS.getAndTransform(
+						propertySource, numberOfPartitions -> {
+							if ( numberOfPartitions > PartitionedMultiTenancyStrategy.MAX_NUMBER_OF_PARTITIONS ) {
+								throw log.tooManyPartitions( numberOfPartitions,
+										PartitionedMultiTenancyStrategy.MAX_NUMBER_OF_PARTITIONS );
+							}
+							return numberOfPartitions;
+						} ) );
 			default:
 				throw new AssertionFailure( String.format(
 						Locale.ROOT, "Unsupported multi-tenancy strategy '%1$s'",
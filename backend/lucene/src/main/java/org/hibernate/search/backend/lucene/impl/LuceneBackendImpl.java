@@ -12,11 +12,16 @@
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.LuceneCacheStatistics;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneParentBitSetCache;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexRootBuilder;
+import org.hibernate.search.backend.lucene.index.LuceneCommitStatistics;
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.LuceneCommitCoordinator;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -52,6 +57,12 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
 	private final LuceneSyncWorkOrchestratorImpl readOrchestrator;
 
+	private final LuceneQueryResultCache resultCacheOrNull;
+
+	private final LuceneParentBitSetCache parentBitSetCacheOrNull;
+
+	private final LuceneCommitCoordinator commitCoordinator;
+
 	private final IndexManagerBackendContext indexManagerBackendContext;
 
 	LuceneBackendImpl(Optional<String> backendName,
@@ -60,6 +71,9 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			LuceneQueryCachingContext cachingContext,
+			LuceneQueryResultCache resultCacheOrNull,
+			LuceneCommitCoordinator commitCoordinator,
+			LuceneParentBitSetCache parentBitSetCacheOrNull,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			FailureHandler failureHandler) {
@@ -71,15 +85,19 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext, threads
 		);
 
+		this.resultCacheOrNull = resultCacheOrNull;
+		this.parentBitSetCacheOrNull = parentBitSetCacheOrNull;
+		this.commitCoordinator = commitCoordinator;
+
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
 				this, eventContext, threads, similarity,
 				workFactory, multiTenancyStrategy,
 				timingSource, analysisDefinitionRegistry,
 				failureHandler,
-				readOrchestrator
+				readOrchestrator, resultCacheOrNull, commitCoordinator, parentBitSetCacheOrNull
 		);
 	}
 
@@ -104,6 +122,8 @@ public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneSyncWorkOrchestratorImpl::stop, readOrchestrator );
 			closer.push( BackendThreads::onStop, threads );
+			closer.push( LuceneQueryResultCache::clear, resultCacheOrNull );
+			closer.push( LuceneParentBitSetCache::clear, parentBitSetCacheOrNull );
 		}
 	}
 
@@ -138,6 +158,21 @@ public Optional<Analyzer> normalizer(String name) {
 		return Optional.ofNullable( analysisDefinitionRegistry.getNormalizerDefinition( name ) );
 	}
 
+	@Override
+	public Optional<LuceneCacheStatistics> queryResultCacheStatistics() {
+		return Optional.ofNullable( resultCacheOrNull );
+	}
+
+	@Override
+	public Optional<LuceneCacheStatistics> parentBitSetCacheStatistics() {
+		return Optional.ofNullable( parentBitSetCacheOrNull );
+	}
+
+	@Override
+	public LuceneCommitStatistics commitStatistics() {
+		return commitCoordinator;
+	}
+
 	@Override
 	public IndexManagerBuilder createIndexManagerBuilder(
 			String indexName, String mappedTypeName, BackendBuildContext context, BackendMapperContext backendMapperContext,
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index;
+
+import java.time.Duration;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about commits of all shards of all indexes of a Lucene backend.
+ * <p>
+ * Counts and durations are cumulative since the backend was started.
+ */
+@Incubating
+public interface LuceneCommitStatistics {
+
+	/**
+	 * @return The number of commits, successful or not.
+	 */
+	long commitCount();
+
+	/**
+	 * @return The total time spent committing.
+	 */
+	Duration totalCommitTime();
+
+	/**
+	 * @return The total time commits spent waiting for other commits to finish
+	 * before they could start.
+	 * Always zero when commit coordination is disabled.
+	 * @see org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings#COMMIT_COORDINATION_MAX_CONCURRENCY
+	 */
+	Duration totalWaitTime();
+
+}
@@ -10,6 +10,8 @@
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneParentBitSetCache;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -20,6 +22,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.LuceneCommitCoordinator;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
@@ -75,6 +78,9 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
+	private final LuceneQueryResultCache resultCacheOrNull;
+	private final LuceneCommitCoordinator commitCoordinator;
+	private final LuceneParentBitSetCache parentBitSetCacheOrNull;
 
 	public IndexManagerBackendContext(LuceneBackend backendAPI,
 			EventContext eventContext,
@@ -85,7 +91,10 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
-			LuceneSyncWorkOrchestrator readOrchestrator) {
+			LuceneSyncWorkOrchestrator readOrchestrator,
+			LuceneQueryResultCache resultCacheOrNull,
+			LuceneCommitCoordinator commitCoordinator,
+			LuceneParentBitSetCache parentBitSetCacheOrNull) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -96,6 +105,9 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
 		this.readOrchestrator = readOrchestrator;
+		this.resultCacheOrNull = resultCacheOrNull;
+		this.commitCoordinator = commitCoordinator;
+		this.parentBitSetCacheOrNull = parentBitSetCacheOrNull;
 	}
 
 	@Override
@@ -161,6 +173,7 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				readOrchestrator,
+				resultCacheOrNull,
 				scope,
 				sessionContext,
 				loadingContextBuilder,
@@ -172,6 +185,14 @@ LuceneBackend toAPI() {
 		return backendAPI;
 	}
 
+	LuceneParentBitSetCache parentBitSetCacheOrNull() {
+		return parentBitSetCacheOrNull;
+	}
+
+	MultiTenancyStrategy multiTenancyStrategy() {
+		return multiTenancyStrategy;
+	}
+
 	EventContext getEventContext() {
 		return eventContext;
 	}
@@ -183,10 +204,11 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
-				return DebugIOStrategy.create( threads, failureHandler );
+				return DebugIOStrategy.create( commitCoordinator, threads, failureHandler );
 			case NEAR_REAL_TIME:
 			default:
-				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler );
+				return NearRealTimeIOStrategy.create( propertySource, timingSource, commitCoordinator, threads,
+						failureHandler );
 		}
 	}
 
@@ -199,7 +221,7 @@ IndexAccessorImpl createIndexAccessor(LuceneIndexModel model, EventContext shard
 			ConfigurationPropertySource propertySource) {
 		String indexName = model.hibernateSearchName();
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
-				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
+				similarity, model.getIndexingAnalyzer(), model.codec(), propertySource, shardEventContext
 		);
 		return ioStrategy.createIndexAccessor(
 				indexName, shardEventContext, directoryHolder, writerConfigSource
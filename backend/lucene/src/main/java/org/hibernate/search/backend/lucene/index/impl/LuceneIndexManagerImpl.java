@@ -13,6 +13,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneParentBitSetCache;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
@@ -161,8 +162,15 @@ public void addTo(IndexScopeBuilder builder) {
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
-		shardHolder.openIndexReaders( routingKeys, readerCollector );
+	public void openIndexReaders(Set<String> tenantIds, Set<String> routingKeys,
+			DirectoryReaderCollector readerCollector)
+			throws IOException {
+		shardHolder.openIndexReaders( tenantIds, routingKeys, readerCollector );
+	}
+
+	@Override
+	public LuceneParentBitSetCache parentBitSetCacheOrNull() {
+		return shardHolder.parentBitSetCacheOrNull();
 	}
 
 	@Override
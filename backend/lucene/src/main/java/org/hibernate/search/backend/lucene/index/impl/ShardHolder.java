@@ -19,11 +19,13 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneParentBitSetCache;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
@@ -45,6 +47,8 @@
 	private final LuceneIndexModel model;
 
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
+	// Non-null if and only if shards are tenant partitions
+	private MultiTenancyStrategy partitioningStrategy;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
 
@@ -80,7 +84,10 @@ void preStart(IndexManagerStartContext startContext, SavedState savedState) {
 				new ShardingStrategyInitializationContextImpl( backendContext, model, startContext, indexPropertySource );
 		Map<String, SavedState> states = savedState.get( SHARDS_KEY ).orElse( Collections.emptyMap() );
 
-		this.shardingStrategyHolder = initializationContext.create( shards );
+		MultiTenancyStrategy multiTenancyStrategy = backendContext.multiTenancyStrategy();
+		Set<String> partitionIdentifiers = multiTenancyStrategy.partitionIdentifiersOrNull();
+		this.shardingStrategyHolder = initializationContext.create( shards, partitionIdentifiers );
+		this.partitioningStrategy = partitionIdentifiers == null ? null : multiTenancyStrategy;
 
 		for ( Map.Entry<String, Shard> entry : shards.entrySet() ) {
 			String shardId = entry.getKey();
@@ -135,27 +142,34 @@ void stop() {
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
+	public void openIndexReaders(Set<String> tenantIds, Set<String> routingKeys,
+			DirectoryReaderCollector readerCollector)
+			throws IOException {
 		String mappedTypeName = model.mappedTypeName();
-		Collection<Shard> enabledShards = toShards( routingKeys );
+		Collection<Shard> enabledShards = toShards( tenantIds, routingKeys );
 		for ( Shard shard : enabledShards ) {
 			readerCollector.collect( mappedTypeName, shard.openReader() );
 		}
 	}
 
+	@Override
+	public LuceneParentBitSetCache parentBitSetCacheOrNull() {
+		return backendContext.parentBitSetCacheOrNull();
+	}
+
 	@Override
 	public String mappedTypeName() {
 		return model.mappedTypeName();
 	}
 
 	@Override
-	public LuceneSerialWorkOrchestrator indexingOrchestrator(String documentId, String routingKey) {
-		return toShard( documentId, routingKey ).indexingOrchestrator();
+	public LuceneSerialWorkOrchestrator indexingOrchestrator(String tenantId, String documentId, String routingKey) {
+		return toShard( tenantId, documentId, routingKey ).indexingOrchestrator();
 	}
 
 	@Override
-	public List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> routingKeys) {
-		Collection<Shard> enabledShards = toShards( routingKeys );
+	public List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> tenantIds, Set<String> routingKeys) {
+		Collection<Shard> enabledShards = toShards( tenantIds, routingKeys );
 		List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
 		for ( Shard shard : enabledShards ) {
 			orchestrators.add( shard.managementOrchestrator() );
@@ -177,7 +191,11 @@ public List<Shard> shardsForTests() {
 		return new ArrayList<>( shards.values() );
 	}
 
-	private Collection<Shard> toShards(Set<String> routingKeys) {
+	private Collection<Shard> toShards(Set<String> tenantIds, Set<String> routingKeys) {
+		if ( partitioningStrategy != null ) {
+			return toPartitions( tenantIds );
+		}
+
 		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
 			// No sharding or no routing key => target all shards
 			return shards.values();
@@ -192,7 +210,24 @@ private Collection<Shard> toShards(Set<String> routingKeys) {
 		return enabledShards;
 	}
 
-	private Shard toShard(String documentId, String routingKey) {
+	private Collection<Shard> toPartitions(Set<String> tenantIds) {
+		if ( tenantIds.isEmpty() ) {
+			// No tenant => target all partitions
+			return shards.values();
+		}
+
+		Collection<Shard> enabledShards = new HashSet<>();
+		for ( String tenantId : tenantIds ) {
+			enabledShards.add( shards.get( partitioningStrategy.toPartitionIdentifierOrNull( tenantId ) ) );
+		}
+		return enabledShards;
+	}
+
+	private Shard toShard(String tenantId, String documentId, String routingKey) {
+		if ( partitioningStrategy != null ) {
+			return shards.get( partitioningStrategy.toPartitionIdentifierOrNull( tenantId ) );
+		}
+
 		if ( shardingStrategyHolder == null ) {
 			// Sharding is disabled: there's only one shard
 			return shards.values().iterator().next();
@@ -79,12 +79,30 @@ public ConfigurationPropertySource configurationPropertySource() {
 		return shardingPropertySource;
 	}
 
-	public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCollector) {
+	/**
+	 * @param shardCollector A map to collect shards into.
+	 * @param partitionIdentifiersOrNull The identifiers of tenant partitions, if tenants are partitioned,
+	 * in which case each partition is a shard, and sharding must be disabled.
+	 * @return The sharding strategy, or {@code null} if sharding is disabled.
+	 */
+	public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCollector,
+			Set<String> partitionIdentifiersOrNull) {
 		BeanHolder<? extends ShardingStrategy> shardingStrategyHolder =
 				SHARDING_STRATEGY.getAndTransform( shardingPropertySource, beanResolver()::resolve );
 
 		shardingStrategyHolder.get().initialize( this );
 
+		if ( partitionIdentifiersOrNull != null ) {
+			if ( shardIdentifiers != null ) {
+				shardingStrategyHolder.close();
+				throw log.shardingWithPartitionedMultiTenancy();
+			}
+			for ( String partitionIdentifier : partitionIdentifiersOrNull ) {
+				contributeShard( shardCollector, Optional.of( partitionIdentifier ) );
+			}
+			return null;
+		}
+
 		if ( shardIdentifiers == null ) {
 			// Sharding is disabled => single shard
 			contributeShard( shardCollector, Optional.empty() );
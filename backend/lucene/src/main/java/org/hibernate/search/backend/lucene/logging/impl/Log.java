@@ -705,4 +705,28 @@ SearchException cannotHighlightInNestedContext(String currentNestingField,
 	@Message(id = ID_OFFSET + 173, value = "'%1$s' cannot be nested in an object projection. "
 			+ "%2$s")
 	SearchException cannotUseProjectionInNestedContext(String projection, String hint, @Param EventContext eventContext);
+
+	@Message(id = ID_OFFSET + 174,
+			value = "Invalid dimension for a vector field: '%1$s'. The dimension must be set, and must be between 1 and %2$s.")
+	SearchException invalidVectorDimension(int dimension, int maxDimension, @Param EventContext eventContext);
+
+	@Message(id = ID_OFFSET + 175,
+			value = "Invalid graph construction parameters for a vector field: %1$s")
+	SearchException invalidVectorGraphParameters(String causeMessage, @Cause Exception cause,
+			@Param EventContext eventContext);
+
+	@Message(id = ID_OFFSET + 176,
+			value = "Invalid vector: expected %1$s components, but got %2$s.")
+	SearchException vectorDimensionMismatch(int expectedDimension, int actualDimension,
+			@Param EventContext eventContext);
+
+	@Message(id = ID_OFFSET + 177,
+			value = "Invalid sharding configuration: sharding cannot be combined with the 'partitioned' multi-tenancy strategy,"
+					+ " which already spreads documents over multiple partitions.")
+	SearchException shardingWithPartitionedMultiTenancy();
+
+	@Message(id = ID_OFFSET + 178,
+			value = "Invalid number of partitions: '%1$s'. The number of partitions must be between 1 and %2$s,"
+					+ " because index writers and readers of each partition stay open once used.")
+	SearchException tooManyPartitions(int numberOfPartitions, int maxNumberOfPartitions);
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import org.apache.lucene.search.Collector;
 
@@ -16,4 +17,16 @@
 
 	CollectorKey<C> getCollectorKey();
 
+	/**
+	 * Merges collectors created for each slice of a concurrent search into a single collector.
+	 * <p>
+	 * The returned collector is only used to retrieve the collected data:
+	 * it will not be used to collect more documents.
+	 *
+	 * @param collectors The collectors, one per slice, after they collected all matching docs in their slice.
+	 * @return A collector exposing the data collected by all the given collectors.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	C reduce(Collection<C> collectors) throws IOException;
+
 }
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.util.Arrays;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldDocs;
+
+/**
+ * A read-only {@link TopDocsCollector} exposing top docs merged from the collectors of each slice
+ * of a concurrent search.
+ * <p>
+ * This allows consumers to extract top docs the same way,
+ * regardless of whether the search was executed concurrently or not.
+ */
+public final class MergedTopDocsCollector extends TopDocsCollector<ScoreDoc> {
+
+	private final TopDocs merged;
+
+	public MergedTopDocsCollector(TopDocs merged) {
+		super( null );
+		this.merged = merged;
+		this.totalHits = Math.toIntExact( merged.totalHits.value );
+		this.totalHitsRelation = merged.totalHits.relation;
+	}
+
+	@Override
+	protected int topDocsSize() {
+		return merged.scoreDocs.length;
+	}
+
+	@Override
+	public TopDocs topDocs(int start, int howMany) {
+		int size = topDocsSize();
+		if ( howMany < 0 ) {
+			throw new IllegalArgumentException( "Number of hits requested must be greater than 0 but value was "
+					+ howMany );
+		}
+		if ( start < 0 || start >= size || howMany == 0 ) {
+			return newTopDocs( null, start );
+		}
+		int end = start + Math.min( size - start, howMany );
+		return newTopDocs( Arrays.copyOfRange( merged.scoreDocs, start, end ), start );
+	}
+
+	@Override
+	protected TopDocs newTopDocs(ScoreDoc[] results, int start) {
+		if ( merged instanceof TopFieldDocs ) {
+			return new TopFieldDocs( merged.totalHits, results == null ? new ScoreDoc[0] : results,
+					( (TopFieldDocs) merged ).fields );
+		}
+		else {
+			return new TopDocs( merged.totalHits, results == null ? new ScoreDoc[0] : results );
+		}
+	}
+
+	@Override
+	public LeafCollector getLeafCollector(LeafReaderContext context) {
+		throw new AssertionFailure( "Merged top docs collectors cannot collect documents" );
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		throw new AssertionFailure( "Merged top docs collectors cannot collect documents" );
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * A cache of {@link OrdinalMap}s, i.e. mappings from segment ordinals to global ordinals,
+ * for {@link SortedSetDocValues}.
+ * <p>
+ * Building an {@link OrdinalMap} requires merging the term dictionaries of all segments,
+ * which is expensive for high-cardinality fields.
+ * This cache allows to build the map once per field and per top-level reader:
+ * entries are keyed by the {@link IndexReader.CacheHelper#getKey() reader's cache key}
+ * and evicted when the reader is closed.
+ * Readers that do not expose a {@link IndexReader#getReaderCacheHelper() cache helper}
+ * (e.g. multi-readers spanning multiple indexes or shards)
+ * are not cached and get a fresh {@link OrdinalMap} every time.
+ */
+public final class GlobalOrdinalsCache {
+
+	private static final Map<IndexReader.CacheKey, Map<String, OrdinalMap>> CACHE = new ConcurrentHashMap<>();
+
+	private GlobalOrdinalsCache() {
+	}
+
+	/**
+	 * Equivalent to {@link MultiDocValues#getSortedSetValues(IndexReader, String)},
+	 * but re-uses the {@link OrdinalMap} from previous calls for the same reader and field if possible.
+	 *
+	 * @param reader The top-level reader.
+	 * @param field The name of the field.
+	 * @return The doc values for the given field in the given reader, or {@code null} if there are none.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public static SortedSetDocValues getSortedSetValues(IndexReader reader, String field) throws IOException {
+		List<LeafReaderContext> leaves = reader.leaves();
+		int size = leaves.size();
+		if ( size == 0 ) {
+			return null;
+		}
+		else if ( size == 1 ) {
+			// No need for global ordinals
+			return leaves.get( 0 ).reader().getSortedSetDocValues( field );
+		}
+
+		boolean anyReal = false;
+		SortedSetDocValues[] values = new SortedSetDocValues[size];
+		int[] starts = new int[size + 1];
+		long totalCost = 0;
+		for ( int i = 0; i < size; i++ ) {
+			LeafReaderContext context = leaves.get( i );
+			SortedSetDocValues segmentValues = context.reader().getSortedSetDocValues( field );
+			if ( segmentValues == null ) {
+				segmentValues = DocValues.emptySortedSet();
+			}
+			else {
+				anyReal = true;
+			}
+			values[i] = segmentValues;
+			starts[i] = context.docBase;
+			totalCost += segmentValues.cost();
+		}
+		starts[size] = reader.maxDoc();
+
+		if ( !anyReal ) {
+			return null;
+		}
+
+		OrdinalMap mapping = getOrBuildOrdinalMap( reader, field, values );
+		return new MultiDocValues.MultiSortedSetDocValues( values, starts, mapping, totalCost );
+	}
+
+	private static OrdinalMap getOrBuildOrdinalMap(IndexReader reader, String field, SortedSetDocValues[] values)
+			throws IOException {
+		IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+		if ( cacheHelper == null ) {
+			return OrdinalMap.build( null, values, PackedInts.DEFAULT );
+		}
+
+		IndexReader.CacheKey cacheKey = cacheHelper.getKey();
+		Map<String, OrdinalMap> mapsForReader = CACHE.get( cacheKey );
+		if ( mapsForReader == null ) {
+			mapsForReader = new ConcurrentHashMap<>();
+			Map<String, OrdinalMap> previous = CACHE.putIfAbsent( cacheKey, mapsForReader );
+			if ( previous != null ) {
+				mapsForReader = previous;
+			}
+			else {
+				try {
+					cacheHelper.addClosedListener( CACHE::remove );
+				}
+				catch (RuntimeException e) {
+					// Most likely the reader was closed concurrently: don't leak the entry.
+					CACHE.remove( cacheKey );
+					throw e;
+				}
+			}
+		}
+
+		try {
+			// The values are only used while building the map,
+			// so it's fine to cache a map built from iterators that are specific to this call.
+			return mapsForReader.computeIfAbsent( field, ignored -> {
+				try {
+					return OrdinalMap.build( cacheKey, values, PackedInts.DEFAULT );
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException( e );
+				}
+			} );
+		}
+		catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+}
@@ -10,10 +10,13 @@
 import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
 
 import com.carrotsearch.hppc.IntHashSet;
+import com.carrotsearch.hppc.IntIntHashMap;
+import com.carrotsearch.hppc.cursors.IntIntCursor;
 import com.carrotsearch.hppc.procedures.IntProcedure;
 
 import org.apache.lucene.facet.FacetResult;
@@ -23,7 +26,6 @@
 import org.apache.lucene.facet.LabelAndValue;
 import org.apache.lucene.facet.TopOrdAndIntQueue;
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.MultiDocValues;
 import org.apache.lucene.index.MultiDocValues.MultiSortedSetDocValues;
 import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.index.ReaderUtil;
@@ -41,12 +43,14 @@ public class TextMultiValueFacetCounts extends Facets {
 	final SortedSetDocValues dv;
 	final String field;
 	final int ordCount;
+	// Exactly one of these two is non-null
 	final int[] counts;
+	final IntIntHashMap sparseCounts;
 
 	public TextMultiValueFacetCounts(IndexReader reader, String field, TextMultiValuesSource valuesSource, FacetsCollector hits)
 			throws IOException {
 		this.field = field;
-		dv = MultiDocValues.getSortedSetValues( reader, field );
+		dv = GlobalOrdinalsCache.getSortedSetValues( reader, field );
 		if ( dv != null && dv.getValueCount() > Integer.MAX_VALUE ) {
 			// We may want to remove this limitation?
 			// Note that DefaultSortedSetDocValuesReaderState has the same limitation,
@@ -55,8 +59,27 @@ public TextMultiValueFacetCounts(IndexReader reader, String field, TextMultiValu
 					"Cannot aggregate when more than " + Integer.MAX_VALUE + " terms are indexed" );
 		}
 		ordCount = dv == null ? 0 : (int) dv.getValueCount();
-		counts = new int[ordCount];
-		count( reader, valuesSource, hits.getMatchingDocs() );
+		List<MatchingDocs> matchingDocs = hits.getMatchingDocs();
+		if ( isSparse( matchingDocs, ordCount ) ) {
+			// Few hits compared to the number of terms:
+			// don't allocate (and scan) an array sized to the whole term dictionary.
+			counts = null;
+			sparseCounts = new IntIntHashMap();
+		}
+		else {
+			counts = new int[ordCount];
+			sparseCounts = null;
+		}
+		count( reader, valuesSource, matchingDocs );
+	}
+
+	private static boolean isSparse(List<MatchingDocs> matchingDocs, int ordCount) {
+		long totalHits = 0;
+		for ( MatchingDocs hits : matchingDocs ) {
+			totalHits += hits.totalHits;
+		}
+		// Same heuristic as for segment counts below
+		return totalHits < ordCount / 10;
 	}
 
 	@Override
@@ -95,19 +118,19 @@ private FacetResult getTopChildrenSortByCount(int topN) throws IOException {
 
 		TopOrdAndIntQueue.OrdAndValue reuse = null;
 
-		for ( int ord = 0; ord < ordCount; ord++ ) {
-			if ( counts[ord] > 0 ) {
-				totCount += counts[ord];
+		if ( sparseCounts != null ) {
+			for ( IntIntCursor cursor : sparseCounts ) {
+				int ord = cursor.key;
+				int count = cursor.value;
+				totCount += count;
 				childCount++;
-				if ( counts[ord] > bottomCount ) {
+				if ( count > bottomCount ) {
 					if ( reuse == null ) {
 						reuse = new TopOrdAndIntQueue.OrdAndValue();
 					}
 					reuse.ord = ord;
-					reuse.value = counts[ord];
+					reuse.value = count;
 					if ( q == null ) {
-						// Lazy init, so we don't create this for the
-						// sparse case unnecessarily
 						q = new TopOrdAndIntQueue( topN );
 					}
 					reuse = q.insertWithOverflow( reuse );
@@ -117,6 +140,30 @@ private FacetResult getTopChildrenSortByCount(int topN) throws IOException {
 				}
 			}
 		}
+		else {
+			for ( int ord = 0; ord < ordCount; ord++ ) {
+				if ( counts[ord] > 0 ) {
+					totCount += counts[ord];
+					childCount++;
+					if ( counts[ord] > bottomCount ) {
+						if ( reuse == null ) {
+							reuse = new TopOrdAndIntQueue.OrdAndValue();
+						}
+						reuse.ord = ord;
+						reuse.value = counts[ord];
+						if ( q == null ) {
+							// Lazy init, so we don't create this for the
+							// sparse case unnecessarily
+							q = new TopOrdAndIntQueue( topN );
+						}
+						reuse = q.insertWithOverflow( reuse );
+						if ( q.size() == topN ) {
+							bottomCount = q.top().value;
+						}
+					}
+				}
+			}
+		}
 
 		if ( q == null ) {
 			return null;
@@ -157,7 +204,7 @@ private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, i
 			int numSegOrds = (int) segValues.getValueCount();
 
 			if ( hits.totalHits < numSegOrds / 10 ) {
-				IntProcedure incrementCountForOrdinal = ord -> counts[ord]++;
+				IntProcedure incrementCountForOrdinal = incrementCountForGlobalOrdinal();
 				// Remap every ord to global ord as we iterate:
 				for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
 					if ( !segValues.advanceExact( doc ) ) {
@@ -192,7 +239,7 @@ private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, i
 				for ( int ord = 0; ord < numSegOrds; ord++ ) {
 					int count = segCounts[ord];
 					if ( count != 0 ) {
-						counts[(int) ordMap.get( ord )] += count;
+						incrementCount( (int) ordMap.get( ord ), count );
 					}
 				}
 			}
@@ -200,7 +247,7 @@ private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, i
 		else {
 			// No ord mapping (e.g., single segment index):
 			// just aggregate directly into counts.
-			IntProcedure incrementCountForOrdinal = ord -> counts[ord]++;
+			IntProcedure incrementCountForOrdinal = incrementCountForGlobalOrdinal();
 			for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
 				if ( !segValues.advanceExact( doc ) ) {
 					continue; // No value for this doc
@@ -215,6 +262,24 @@ private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, i
 		}
 	}
 
+	private IntProcedure incrementCountForGlobalOrdinal() {
+		if ( sparseCounts != null ) {
+			return ord -> sparseCounts.addTo( ord, 1 );
+		}
+		else {
+			return ord -> counts[ord]++;
+		}
+	}
+
+	private void incrementCount(int globalOrd, int count) {
+		if ( sparseCounts != null ) {
+			sparseCounts.addTo( globalOrd, count );
+		}
+		else {
+			counts[globalOrd] += count;
+		}
+	}
+
 	/**
 	 * Does all the "real work" of tallying up the counts.
 	 */
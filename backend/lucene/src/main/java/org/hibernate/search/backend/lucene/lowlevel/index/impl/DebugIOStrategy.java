@@ -11,18 +11,21 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.LuceneCommitCoordinator;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public class DebugIOStrategy extends IOStrategy {
 
-	public static DebugIOStrategy create(BackendThreads threads, FailureHandler failureHandler) {
-		return new DebugIOStrategy( threads, failureHandler );
+	public static DebugIOStrategy create(LuceneCommitCoordinator commitCoordinator, BackendThreads threads,
+			FailureHandler failureHandler) {
+		return new DebugIOStrategy( commitCoordinator, threads, failureHandler );
 	}
 
-	private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
-		super( threads, failureHandler );
+	private DebugIOStrategy(LuceneCommitCoordinator commitCoordinator, BackendThreads threads,
+			FailureHandler failureHandler) {
+		super( commitCoordinator, threads, failureHandler );
 	}
 
 	@Override
@@ -32,14 +35,15 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 				indexName, eventContext,
 				directoryHolder, configSource,
 				null, 0,
+				commitCoordinator,
 				threads,
 				failureHandler
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterProvider indexWriterProvider) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
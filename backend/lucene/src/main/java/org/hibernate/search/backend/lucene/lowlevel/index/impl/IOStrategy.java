@@ -10,6 +10,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.LuceneCommitCoordinator;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -17,10 +18,13 @@
 
 public abstract class IOStrategy {
 
+	final LuceneCommitCoordinator commitCoordinator;
 	final BackendThreads threads;
 	final FailureHandler failureHandler;
 
-	protected IOStrategy(BackendThreads threads, FailureHandler failureHandler) {
+	protected IOStrategy(LuceneCommitCoordinator commitCoordinator, BackendThreads threads,
+			FailureHandler failureHandler) {
+		this.commitCoordinator = commitCoordinator;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
 	}
@@ -31,7 +35,8 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 		IndexReaderProvider indexReaderProvider = null;
 		try {
 			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexReaderProvider = createIndexReaderProvider( indexName, eventContext, directoryHolder,
+					indexWriterProvider );
 			return new IndexAccessorImpl(
 					eventContext,
 					directoryHolder, indexWriterProvider, indexReaderProvider
@@ -49,7 +54,7 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+	abstract IndexReaderProvider createIndexReaderProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterProvider indexWriterProvider);
 
 }
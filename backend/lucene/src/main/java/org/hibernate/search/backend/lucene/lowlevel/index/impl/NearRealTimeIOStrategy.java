@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.LuceneCommitCoordinator;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
@@ -33,27 +34,39 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> BACKGROUND_REFRESH =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BACKGROUND_REFRESH )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BACKGROUND_REFRESH )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
-			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
+			TimingSource timingSource, LuceneCommitCoordinator commitCoordinator, BackendThreads threads,
+			FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		boolean backgroundRefresh = BACKGROUND_REFRESH.get( propertySource );
 		return new NearRealTimeIOStrategy(
-				timingSource, commitInterval, refreshInterval,
-				threads, failureHandler
+				timingSource, commitInterval, refreshInterval, backgroundRefresh,
+				commitCoordinator, threads, failureHandler
 		);
 	}
 
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final boolean backgroundRefresh;
 
 	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
+			boolean backgroundRefresh,
+			LuceneCommitCoordinator commitCoordinator,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
-		super( threads, failureHandler );
+		super( commitCoordinator, threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefresh = backgroundRefresh;
 	}
 
 	@Override
@@ -65,18 +78,21 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
-				timingSource, commitInterval, threads,
+				timingSource, commitInterval, commitCoordinator, threads,
 				failureHandler
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterProvider indexWriterProvider) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		// Background refresh doesn't make sense if readers must always be up-to-date.
+		boolean enableBackgroundRefresh = backgroundRefresh && refreshInterval != 0;
+		return new NearRealTimeIndexReaderProvider( eventContext, indexWriterProvider,
+				timingSource, refreshInterval, enableBackgroundRefresh, threads, failureHandler );
 	}
 
 }
@@ -24,7 +24,6 @@
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.join.BitSetProducer;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.util.BitSet;
 
 /**
@@ -38,6 +37,9 @@ public class NestedDocsProvider {
 	private final BitSetProducer parentFilter;
 	private final Query childQuery;
 
+	// Providers may be shared between queries (e.g. through sorts), which may execute concurrently
+	private volatile CachedWeight cachedChildDocsWeight;
+
 	public NestedDocsProvider(String parentDocumentPath, String nestedDocumentPath) {
 		this( parentDocumentPath, Collections.singleton( nestedDocumentPath ), null );
 	}
@@ -51,22 +53,25 @@ public NestedDocsProvider(Set<String> nestedDocumentPaths) {
 	}
 
 	public NestedDocsProvider(String parentDocumentPath, Set<String> nestedDocumentPaths, Query nestedFilter) {
-		Query parentsFilterQuery = Queries.parentsFilterQuery( parentDocumentPath );
 		// Note: this filter should include *all* parents, not just the matched ones.
 		// Otherwise we will not "see" non-matched parents,
 		// and we will consider its matching children as children of the next matching parent.
-		this.parentFilter = new QueryBitSetProducer( parentsFilterQuery );
+		this.parentFilter = new ParentBitSetProducer( parentDocumentPath );
 		this.childQuery = Queries.childDocumentsQuery( nestedDocumentPaths, nestedFilter );
 	}
 
 	public ChildDocIds childDocs(LeafReaderContext context, DocIdSetIterator childFilter) throws IOException {
 		final IndexReaderContext topLevelCtx = ReaderUtil.getTopLevelContext( context );
 		// See HSEARCH-4514; ideally we would use the calling searcher here,
-		// but it's not easy to pass it to this method
-		// and it hasn't been proven that creating a new searcher has a performance impact.
-		IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
-		Weight childDocsWeight = childDocsWeight( indexSearcher );
-		return childDocs( childDocsWeight, context, childFilter );
+		// but it's not easy to pass it to this method.
+		// Instead, we create a searcher once per top-level reader, not once per segment.
+		CachedWeight cached = cachedChildDocsWeight;
+		if ( cached == null || cached.topLevelCtx != topLevelCtx ) {
+			IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
+			cached = new CachedWeight( topLevelCtx, childDocsWeight( indexSearcher ) );
+			cachedChildDocsWeight = cached;
+		}
+		return childDocs( cached.weight, context, childFilter );
 	}
 
 	public ChildDocIds childDocs(Weight childDocsWeight, LeafReaderContext context,
@@ -94,4 +99,14 @@ public Weight childDocsWeight(IndexSearcher indexSearcher) throws IOException {
 		return indexSearcher.createWeight( indexSearcher.rewrite( childQuery ), ScoreMode.COMPLETE_NO_SCORES, 1f );
 	}
 
+	private static final class CachedWeight {
+		private final IndexReaderContext topLevelCtx;
+		private final Weight weight;
+
+		private CachedWeight(IndexReaderContext topLevelCtx, Weight weight) {
+			this.topLevelCtx = topLevelCtx;
+			this.weight = weight;
+		}
+	}
+
 }
@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.hibernate.search.backend.lucene.cache.impl.LuceneParentBitSetCache;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * A {@link BitSetProducer} for *all* parent documents at a given path,
+ * relying on the {@link LuceneParentBitSetCache backend-wide cache} when available.
+ * <p>
+ * Unlike {@link org.apache.lucene.search.join.QueryBitSetProducer},
+ * this does not keep a cache of its own, so it is cheap to create for every query.
+ */
+public final class ParentBitSetProducer implements BitSetProducer {
+
+	private final String parentDocumentPath;
+	private final Query parentsFilterQuery;
+
+	/**
+	 * @param parentDocumentPath The path of parent documents, or {@code null} for root documents.
+	 */
+	public ParentBitSetProducer(String parentDocumentPath) {
+		this.parentDocumentPath = parentDocumentPath;
+		this.parentsFilterQuery = Queries.parentsFilterQuery( parentDocumentPath );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + parentsFilterQuery + ")";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		ParentBitSetProducer other = (ParentBitSetProducer) obj;
+		return Objects.equals( parentDocumentPath, other.parentDocumentPath );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode( parentDocumentPath );
+	}
+
+	@Override
+	public BitSet getBitSet(LeafReaderContext context) throws IOException {
+		IndexReader topLevelReader = ReaderUtil.getTopLevelContext( context ).reader();
+		LuceneParentBitSetCache cache = topLevelReader instanceof HibernateSearchMultiReader
+				? ( (HibernateSearchMultiReader) topLevelReader ).parentBitSetCacheOrNull()
+				: null;
+		if ( cache == null ) {
+			return LuceneParentBitSetCache.compute( context, parentsFilterQuery );
+		}
+		return cache.getOrCompute( context, parentDocumentPath, parentsFilterQuery );
+	}
+}
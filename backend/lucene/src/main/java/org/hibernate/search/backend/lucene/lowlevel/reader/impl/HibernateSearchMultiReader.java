@@ -15,6 +15,7 @@
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneParentBitSetCache;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
@@ -40,15 +41,17 @@ public class HibernateSearchMultiReader extends MultiReader {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	public static HibernateSearchMultiReader open(Set<String> indexNames,
-			Collection<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> tenantIds, Set<String> routingKeys) {
 		if ( indexManagerContexts.isEmpty() ) {
 			return null;
 		}
 		else {
-			Builder builder = new Builder();
+			// All index managers belong to the same backend, thus share the same cache.
+			Builder builder = new Builder( indexManagerContexts.iterator().next().parentBitSetCacheOrNull() );
 			try {
 				for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
-					indexManagerContext.openIndexReaders( routingKeys, builder );
+					indexManagerContext.openIndexReaders( tenantIds, routingKeys, builder );
 				}
 				return builder.build();
 			}
@@ -64,19 +67,47 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 
 	private final List<DirectoryReader> directoryReaders;
 	private final IndexReaderMetadataResolver metadataResolver;
+	private final LuceneParentBitSetCache parentBitSetCacheOrNull;
 
-	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver)
+	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver,
+			LuceneParentBitSetCache parentBitSetCacheOrNull)
 			throws IOException {
 		// If this flag isn't set to true, the MultiReader will increase the usage counter!
 		super( toReaderArray( directoryReaders ), true );
 		this.directoryReaders = directoryReaders;
 		this.metadataResolver = metadataResolver;
+		this.parentBitSetCacheOrNull = parentBitSetCacheOrNull;
 	}
 
 	public IndexReaderMetadataResolver getMetadataResolver() {
 		return metadataResolver;
 	}
 
+	/**
+	 * @return The cache of parent document bitsets to use when joining nested documents to their parents,
+	 * or {@code null} if this cache is disabled.
+	 */
+	public LuceneParentBitSetCache parentBitSetCacheOrNull() {
+		return parentBitSetCacheOrNull;
+	}
+
+	/**
+	 * @return The cache keys of the underlying directory readers,
+	 * which change whenever a shard is modified and its reader is refreshed,
+	 * or {@code null} if one of these readers does not expose a cache key.
+	 */
+	public List<IndexReader.CacheKey> directoryReaderCacheKeysOrNull() {
+		List<IndexReader.CacheKey> keys = new ArrayList<>( directoryReaders.size() );
+		for ( DirectoryReader directoryReader : directoryReaders ) {
+			IndexReader.CacheHelper cacheHelper = directoryReader.getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				return null;
+			}
+			keys.add( cacheHelper.getKey() );
+		}
+		return keys;
+	}
+
 	@Override
 	protected synchronized void doClose() throws IOException {
 		final boolean traceEnabled = log.isTraceEnabled();
@@ -103,8 +134,10 @@ private static IndexReader[] toReaderArray(List<DirectoryReader> directoryReader
 	public static class Builder implements DirectoryReaderCollector {
 		private final List<DirectoryReader> directoryReaders = new ArrayList<>();
 		private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader = new HashMap<>();
+		private final LuceneParentBitSetCache parentBitSetCacheOrNull;
 
-		private Builder() {
+		private Builder(LuceneParentBitSetCache parentBitSetCacheOrNull) {
+			this.parentBitSetCacheOrNull = parentBitSetCacheOrNull;
 		}
 
 		@Override
@@ -116,7 +149,7 @@ public void collect(String mappedTypeName, DirectoryReader directoryReader) {
 		HibernateSearchMultiReader build() throws IOException {
 			IndexReaderMetadataResolver metadataResolver =
 					new IndexReaderMetadataResolver( mappedTypeNameByDirectoryReader );
-			return new HibernateSearchMultiReader( directoryReaders, metadataResolver );
+			return new HibernateSearchMultiReader( directoryReaders, metadataResolver, parentBitSetCacheOrNull );
 		}
 	}
 }
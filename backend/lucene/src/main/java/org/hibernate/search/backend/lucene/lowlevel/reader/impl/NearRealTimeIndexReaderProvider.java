@@ -7,9 +7,17 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -22,29 +30,63 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * Optionally, when the refresh interval is strictly positive,
+ * the index reader can be refreshed by a background task ahead of its expiration,
+ * so that search queries don't have to wait for the reader to be re-opened.
+ * The background refresh runs on a dedicated executor, never on indexing threads,
+ * and stops when the provider is cleared.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private final EventContext eventContext;
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final FailureHandler failureHandler;
+	/**
+	 * The executor running the background refresh, or null if background refresh is disabled.
+	 */
+	private final ScheduledExecutorService backgroundRefreshExecutor;
+	/**
+	 * The next execution of the background refresh, or null if not scheduled.
+	 * Guarded by {@code this}.
+	 */
+	private Future<?> backgroundRefreshFuture;
+	/**
+	 * Incremented every time the provider is cleared, so that background refresh executions
+	 * that were already running at that point don't re-schedule themselves.
+	 * Guarded by {@code this}.
+	 */
+	private long backgroundRefreshGeneration = 0L;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	public NearRealTimeIndexReaderProvider(EventContext eventContext,
+			IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval,
+			boolean backgroundRefresh, BackendThreads threads, FailureHandler failureHandler) {
+		this.eventContext = eventContext;
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.failureHandler = failureHandler;
+		this.backgroundRefreshExecutor = backgroundRefresh ? threads.getRefreshExecutor() : null;
 	}
 
 	@Override
 	public synchronized void clear() throws IOException {
+		Future<?> future = backgroundRefreshFuture;
+		backgroundRefreshFuture = null;
+		++backgroundRefreshGeneration;
+		if ( future != null ) {
+			future.cancel( false );
+		}
 		setCurrentReaderEntry( null );
 	}
 
@@ -75,15 +117,34 @@ public DirectoryReader getOrCreate() throws IOException {
 			}
 		}
 
-		return getFreshIndexReader().reader;
+		IndexReaderEntry freshEntry = getFreshIndexReader();
+		// At this point the reference count is at least one, for the holder.
+		// Let's also increment the reference for the caller.
+		// We do this in a synchronized block so that the reader is not closed concurrently
+		// by a background refresh.
+		return incRefIfCurrent( freshEntry );
+	}
+
+	private synchronized DirectoryReader incRefIfCurrent(IndexReaderEntry entry) throws IOException {
+		if ( entry != currentReaderEntry ) {
+			// The provider was cleared or refreshed concurrently; just retry.
+			return getOrCreate();
+		}
+		entry.reader.incRef();
+		return entry.reader;
 	}
 
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
+		if ( oldEntry != null && oldEntry.isFresh() ) {
+			// Another thread (or the background refresh) refreshed the reader while we were waiting for the lock.
+			return oldEntry;
+		}
 		IndexReaderEntry freshEntry;
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+			scheduleBackgroundRefresh();
 		}
 		else {
 			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
@@ -100,13 +161,62 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 			setCurrentReaderEntry( freshEntry );
 		}
 
-		// At this point the reference count is at least one, for the holder.
-		// Let's also increment the reference for the caller.
-		freshEntry.reader.incRef();
-
 		return freshEntry;
 	}
 
+	/**
+	 * Re-opens the reader if necessary, ahead of its expiration.
+	 *
+	 * @return {@code true} if the background refresh should go on, {@code false} if the provider was cleared.
+	 */
+	private boolean refreshInBackground() throws IOException {
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		if ( oldEntry == null ) {
+			return false;
+		}
+		// Open the new reader outside the lock, so that search queries are never blocked by the re-opening.
+		// Only the background task opens readers outside the lock, so we won't open the same reader twice.
+		// Writes that require a refresh and happen during the re-opening may not be visible in the new reader:
+		// remember whether a refresh was already forced, so that we can detect such writes.
+		boolean refreshForcedBeforeOpening = oldEntry.refreshForced;
+		if ( !oldEntry.reader.tryIncRef() ) {
+			// The reader was closed concurrently; the provider was cleared or refreshed by a search query.
+			return currentReaderEntry != null;
+		}
+		DirectoryReader newReaderOrNull;
+		try {
+			newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
+		}
+		finally {
+			oldEntry.reader.decRef();
+		}
+		synchronized (this) {
+			if ( currentReaderEntry != oldEntry ) {
+				// The provider was cleared or refreshed by a search query in the meantime:
+				// our new reader is not needed anymore.
+				if ( newReaderOrNull != null ) {
+					newReaderOrNull.decRef();
+				}
+				return currentReaderEntry != null;
+			}
+			if ( oldEntry.refreshForced && !refreshForcedBeforeOpening ) {
+				// A refresh was forced during the re-opening: let the next search query open an up-to-date reader.
+				if ( newReaderOrNull != null ) {
+					newReaderOrNull.decRef();
+				}
+				return true;
+			}
+			if ( newReaderOrNull == null ) {
+				// No change: the current reader is known to be fresh until the next refresh interval.
+				oldEntry.renewExpiration();
+			}
+			else {
+				setCurrentReaderEntry( new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval ) );
+			}
+			return true;
+		}
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
@@ -116,23 +226,68 @@ private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throw
 		}
 	}
 
+	private synchronized void scheduleBackgroundRefresh() {
+		if ( backgroundRefreshExecutor == null ) {
+			return;
+		}
+		long generation = backgroundRefreshGeneration;
+		try {
+			// Refresh halfway through the refresh interval,
+			// so that the reader gets re-opened well before it expires.
+			backgroundRefreshFuture = backgroundRefreshExecutor.schedule(
+					() -> backgroundRefresh( generation ),
+					Math.max( 1, refreshInterval / 2 ), TimeUnit.MILLISECONDS );
+		}
+		catch (RejectedExecutionException e) {
+			// The backend is stopping: search queries will refresh the reader themselves, if any.
+			backgroundRefreshFuture = null;
+		}
+	}
+
+	private void backgroundRefresh(long generation) {
+		boolean goOn = true;
+		try {
+			goOn = refreshInBackground();
+		}
+		catch (RuntimeException | IOException e) {
+			FailureContext.Builder contextBuilder = FailureContext.builder();
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( "Background refresh of the index reader for "
+					+ eventContext.render() );
+			failureHandler.handle( contextBuilder.build() );
+		}
+		synchronized (this) {
+			// If the provider was cleared in the meantime, the execution was cancelled:
+			// don't re-schedule it.
+			if ( goOn && generation == backgroundRefreshGeneration ) {
+				scheduleBackgroundRefresh();
+			}
+		}
+	}
+
 	private static class IndexReaderEntry {
 		private final DirectoryReader reader;
 		private final TimingSource timingSource;
-		private final long expiration;
+		private final int refreshInterval;
+		private volatile long expiration;
 
 		private volatile boolean refreshForced = false;
 
 		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
 			this.reader = reader;
 			this.timingSource = timingSource;
-			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+			this.refreshInterval = refreshInterval;
+			renewExpiration();
 		}
 
 		public void forceRefresh() {
 			refreshForced = true;
 		}
 
+		void renewExpiration() {
+			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+		}
+
 		/**
 		 * @return {@code true} if the reader is still fresh enough to be used,
 		 * i.e. if it is completely up-to-date with the state of the index writer
@@ -9,12 +9,29 @@
 import java.io.IOException;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneParentBitSetCache;
+
 /**
  * An interface with knowledge of the index manager internals,
  * able to retrieve components related to index reading.
  */
 public interface ReadIndexManagerContext {
 
-	void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException;
+	/**
+	 * @param tenantIds The identifiers of tenants whose documents must be readable,
+	 * or an empty set to read documents from all tenants.
+	 * @param routingKeys The routing keys of documents that must be readable,
+	 * or an empty set to read all documents.
+	 * @param readerCollector The collector for opened readers.
+	 * @throws IOException If a reader cannot be opened.
+	 */
+	void openIndexReaders(Set<String> tenantIds, Set<String> routingKeys, DirectoryReaderCollector readerCollector)
+			throws IOException;
+
+	/**
+	 * @return The cache of parent document bitsets, shared by all indexes of the backend,
+	 * or {@code null} if this cache is disabled.
+	 */
+	LuceneParentBitSetCache parentBitSetCacheOrNull();
 
 }
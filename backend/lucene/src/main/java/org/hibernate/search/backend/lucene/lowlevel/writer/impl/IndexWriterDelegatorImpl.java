@@ -40,6 +40,8 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final EventContext eventContext;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final LuceneCommitCoordinator commitCoordinator;
+	private final LuceneCommitCoordinator.ShardStatistics commitStatistics;
 	private final FailureHandler failureHandler;
 
 	private final SingletonTask delayedCommitTask;
@@ -50,12 +52,15 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			SimpleScheduledExecutor delayedCommitExecutor,
 			TimingSource timingSource, int commitInterval,
+			LuceneCommitCoordinator commitCoordinator,
 			FailureHandler failureHandler,
 			DelayedCommitFailureHandler delayedCommitFailureHandler) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitCoordinator = commitCoordinator;
+		this.commitStatistics = commitCoordinator.createShardStatistics( eventContext );
 		this.failureHandler = failureHandler;
 
 		if ( commitInterval == 0L ) {
@@ -155,6 +160,7 @@ void close() throws IOException {
 				commitLock.unlock();
 			}
 			log.trace( "IndexWriter closed" );
+			commitStatistics.publish();
 		}
 	}
 
@@ -188,7 +194,7 @@ private void doCommit() {
 			// NOTE: underlying Lucene code is using this pattern to sync on object block,
 			// which could be a problem with Loom:
 			// synchronized(commitLock)
-			delegate.commit();
+			commitCoordinator.commit( commitStatistics, delegate::commit );
 			updateCommitExpiration();
 		}
 		catch (RuntimeException | IOException e) {
@@ -226,7 +232,10 @@ private long getTimeToCommit() {
 	}
 
 	private void updateCommitExpiration() {
-		commitExpiration = commitInterval == 0 ? 0L : timingSource.monotonicTimeEstimate() + commitInterval;
+		commitExpiration = commitInterval == 0
+				? 0L
+				: commitCoordinator.commitExpiration( timingSource.monotonicTimeEstimate(), commitInterval,
+						commitStatistics );
 	}
 
 	private class LuceneDelayedCommitWorker implements SingletonTask.Worker {
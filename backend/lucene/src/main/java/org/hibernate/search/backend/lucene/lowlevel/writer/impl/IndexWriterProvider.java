@@ -37,6 +37,7 @@ public class IndexWriterProvider {
 	private final IndexWriterConfigSource configSource;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final LuceneCommitCoordinator commitCoordinator;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
 
@@ -53,6 +54,7 @@ public class IndexWriterProvider {
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
 			TimingSource timingSource, int commitInterval,
+			LuceneCommitCoordinator commitCoordinator,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
@@ -61,6 +63,7 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.configSource = configSource;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitCoordinator = commitCoordinator;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
 	}
@@ -125,6 +128,7 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 							indexWriter, eventContext,
 							threads.getWriteExecutor(),
 							timingSource, commitInterval,
+							commitCoordinator,
 							failureHandler,
 							this::clearAfterFailure
 					);
@@ -0,0 +1,235 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.index.LuceneCommitStatistics;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * Coordinates commits across all shards of all indexes of a backend.
+ * <p>
+ * When coordination is enabled (i.e. when a maximum concurrency is set):
+ * <ul>
+ *     <li>Delayed commits are aligned on slots shared by all shards,
+ *     so that shards receiving writes around the same time commit together
+ *     instead of triggering fsyncs at random times.</li>
+ *     <li>At most {@code maxConcurrency} commits are executed at the same time;
+ *     other commits wait for their turn.</li>
+ *     <li>The commit interval of each shard is extended by the time its commits recently spent waiting for their turn,
+ *     so that shards commit less often when the disk is under pressure.</li>
+ * </ul>
+ * <p>
+ * Regardless of coordination, the commit latency of each shard is recorded in {@link ShardStatistics},
+ * and totals for the whole backend are exposed through {@link LuceneCommitStatistics}.
+ */
+public final class LuceneCommitCoordinator implements LuceneCommitStatistics {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// The effective commit interval never exceeds this multiple of the configured commit interval
+	private static final int MAX_INTERVAL_FACTOR = 4;
+	// Delayed commits are aligned on slots whose duration is the commit interval divided by this number
+	private static final int SLOTS_PER_INTERVAL = 4;
+	// Each new sample accounts for 1/EWMA_DIVISOR of the moving averages
+	private static final int EWMA_DIVISOR = 8;
+
+	/**
+	 * @param maxConcurrency The maximum number of concurrent commits, or {@code 0} to disable coordination.
+	 * @return A commit coordinator.
+	 */
+	public static LuceneCommitCoordinator create(int maxConcurrency) {
+		return new LuceneCommitCoordinator( maxConcurrency );
+	}
+
+	private final int maxConcurrency;
+	private final Semaphore permitsOrNull;
+
+	private final LongAdder commitCount = new LongAdder();
+	private final LongAdder totalCommitNanos = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+
+	private LuceneCommitCoordinator(int maxConcurrency) {
+		this.maxConcurrency = maxConcurrency;
+		this.permitsOrNull = maxConcurrency > 0 ? new Semaphore( maxConcurrency, true ) : null;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxConcurrency=" + maxConcurrency
+				+ ", commitCount=" + commitCount
+				+ ", totalCommitMillis=" + TimeUnit.NANOSECONDS.toMillis( totalCommitNanos.sum() )
+				+ ", totalWaitMillis=" + TimeUnit.NANOSECONDS.toMillis( totalWaitNanos.sum() )
+				+ "]";
+	}
+
+	@Override
+	public long commitCount() {
+		return commitCount.sum();
+	}
+
+	@Override
+	public Duration totalCommitTime() {
+		return Duration.ofNanos( totalCommitNanos.sum() );
+	}
+
+	@Override
+	public Duration totalWaitTime() {
+		return Duration.ofNanos( totalWaitNanos.sum() );
+	}
+
+	public ShardStatistics createShardStatistics(EventContext eventContext) {
+		return new ShardStatistics( eventContext );
+	}
+
+	/**
+	 * @param now The current time, in milliseconds, as returned by the timing source.
+	 * @param commitInterval The configured commit interval, in milliseconds. Must be strictly positive.
+	 * @param statistics The statistics of the shard about to commit.
+	 * @return The time at which the next commit should happen, in milliseconds.
+	 */
+	public long commitExpiration(long now, int commitInterval, ShardStatistics statistics) {
+		if ( permitsOrNull == null ) {
+			return now + commitInterval;
+		}
+		long maxExtension = (long) commitInterval * ( MAX_INTERVAL_FACTOR - 1 );
+		long extension = Math.min( maxExtension,
+				TimeUnit.NANOSECONDS.toMillis( statistics.averageWaitNanos ) );
+		long expiration = now + commitInterval + extension;
+		// Round up to the end of the slot, so that shards whose commits expire in the same slot commit together.
+		long slot = Math.max( 1L, commitInterval / SLOTS_PER_INTERVAL );
+		return -Math.floorDiv( -expiration, slot ) * slot;
+	}
+
+	/**
+	 * Executes a commit, waiting for a permit first if coordination is enabled.
+	 *
+	 * @param statistics The statistics of the shard to commit.
+	 * @param action The commit itself.
+	 * @throws IOException If the commit fails.
+	 */
+	public void commit(ShardStatistics statistics, CommitAction action) throws IOException {
+		long waitStart = System.nanoTime();
+		if ( permitsOrNull != null ) {
+			// Commits must not be skipped: ignore interruptions, the commit will not wait forever anyway.
+			permitsOrNull.acquireUninterruptibly();
+		}
+		long commitStart = System.nanoTime();
+		try {
+			action.commit();
+		}
+		finally {
+			long commitEnd = System.nanoTime();
+			if ( permitsOrNull != null ) {
+				permitsOrNull.release();
+			}
+			long waitNanos = commitStart - waitStart;
+			long commitNanos = commitEnd - commitStart;
+			commitCount.increment();
+			totalWaitNanos.add( waitNanos );
+			totalCommitNanos.add( commitNanos );
+			statistics.record( waitNanos, commitNanos );
+		}
+	}
+
+	public interface CommitAction {
+
+		void commit() throws IOException;
+
+	}
+
+	/**
+	 * Commit statistics for a single shard.
+	 * <p>
+	 * Commits of a given shard are serialized, so samples are recorded by a single thread at a time,
+	 * but statistics may be read from any thread.
+	 */
+	public static final class ShardStatistics {
+		private final EventContext eventContext;
+
+		private final LongAdder commitCount = new LongAdder();
+		private final LongAdder totalCommitNanos = new LongAdder();
+		private final LongAdder totalWaitNanos = new LongAdder();
+		private volatile long maxCommitNanos = 0L;
+		private volatile long averageCommitNanos = 0L;
+		private volatile long averageWaitNanos = 0L;
+
+		private ShardStatistics(EventContext eventContext) {
+			this.eventContext = eventContext;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "["
+					+ "commitCount=" + commitCount
+					+ ", averageCommitMillis=" + TimeUnit.NANOSECONDS.toMillis( averageCommitNanos )
+					+ ", maxCommitMillis=" + TimeUnit.NANOSECONDS.toMillis( maxCommitNanos )
+					+ ", averageWaitMillis=" + TimeUnit.NANOSECONDS.toMillis( averageWaitNanos )
+					+ ", totalCommitMillis=" + TimeUnit.NANOSECONDS.toMillis( totalCommitNanos.sum() )
+					+ ", totalWaitMillis=" + TimeUnit.NANOSECONDS.toMillis( totalWaitNanos.sum() )
+					+ "]";
+		}
+
+		public long commitCount() {
+			return commitCount.sum();
+		}
+
+		/**
+		 * @return A moving average of the time spent committing, in nanoseconds.
+		 */
+		public long averageCommitNanos() {
+			return averageCommitNanos;
+		}
+
+		public long maxCommitNanos() {
+			return maxCommitNanos;
+		}
+
+		/**
+		 * @return A moving average of the time spent waiting for other commits to finish, in nanoseconds.
+		 */
+		public long averageWaitNanos() {
+			return averageWaitNanos;
+		}
+
+		void record(long waitNanos, long commitNanos) {
+			boolean first = commitCount.sum() == 0L;
+			commitCount.increment();
+			totalWaitNanos.add( waitNanos );
+			totalCommitNanos.add( commitNanos );
+			if ( commitNanos > maxCommitNanos ) {
+				maxCommitNanos = commitNanos;
+			}
+			averageCommitNanos = first ? commitNanos : movingAverage( averageCommitNanos, commitNanos );
+			averageWaitNanos = first ? waitNanos : movingAverage( averageWaitNanos, waitNanos );
+			if ( log.isTraceEnabled() ) {
+				log.tracef( "Committed %s in %d ms after waiting %d ms for other commits",
+						eventContext.render(),
+						TimeUnit.NANOSECONDS.toMillis( commitNanos ), TimeUnit.NANOSECONDS.toMillis( waitNanos ) );
+			}
+		}
+
+		void publish() {
+			if ( log.isDebugEnabled() && commitCount.sum() > 0L ) {
+				log.debugf( "Commit statistics for %s: %s", eventContext.render(), this );
+			}
+		}
+
+		private static long movingAverage(long average, long sample) {
+			return average + ( sample - average ) / EWMA_DIVISOR;
+		}
+	}
+}
@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.annotation.Incubating;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public enum MultiTenancyStrategyName {
@@ -22,7 +23,18 @@ public enum MultiTenancyStrategyName {
 	/**
 	 * The multi-tenancy information is stored in the index as a discriminator field.
 	 */
-	DISCRIMINATOR( "discriminator" );
+	DISCRIMINATOR( "discriminator" ),
+
+	/**
+	 * Tenants are spread over a fixed number of index partitions, each with its own directory,
+	 * so that queries and writes for a given tenant only involve the partition of that tenant.
+	 * <p>
+	 * Within each partition, the multi-tenancy information is stored as a discriminator field.
+	 *
+	 * @see org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings#MULTI_TENANCY_NUMBER_OF_PARTITIONS
+	 */
+	@Incubating
+	PARTITIONED( "partitioned" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
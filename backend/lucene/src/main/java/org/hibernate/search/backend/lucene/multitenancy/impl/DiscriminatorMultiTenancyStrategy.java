@@ -55,4 +55,14 @@ public void checkTenantId(Set<String> tenantIds, EventContext context) {
 			throw log.multiTenancyEnabledButNoTenantIdProvided( context );
 		}
 	}
+
+	@Override
+	public Set<String> partitionIdentifiersOrNull() {
+		return null;
+	}
+
+	@Override
+	public String toPartitionIdentifierOrNull(String tenantId) {
+		return null;
+	}
 }
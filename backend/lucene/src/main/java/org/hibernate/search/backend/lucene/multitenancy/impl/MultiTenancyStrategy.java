@@ -66,4 +66,17 @@ public interface MultiTenancyStrategy {
 	 */
 	void checkTenantId(Set<String> tenantIds, EventContext context);
 
+	/**
+	 * @return The identifiers of all index partitions, each holding the documents of one bucket of tenants,
+	 * or {@code null} if all tenants share the same index.
+	 */
+	Set<String> partitionIdentifiersOrNull();
+
+	/**
+	 * @param tenantId The tenant id.
+	 * @return The identifier of the index partition holding documents of the given tenant,
+	 * or {@code null} if all tenants share the same index.
+	 */
+	String toPartitionIdentifierOrNull(String tenantId);
+
 }
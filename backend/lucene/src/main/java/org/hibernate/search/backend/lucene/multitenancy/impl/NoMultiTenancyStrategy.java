@@ -54,4 +54,14 @@ public void checkTenantId(Set<String> tenantIds, EventContext context) {
 			throw log.tenantIdProvidedButMultiTenancyDisabled( tenantIds, context );
 		}
 	}
+
+	@Override
+	public Set<String> partitionIdentifiersOrNull() {
+		return null;
+	}
+
+	@Override
+	public String toPartitionIdentifierOrNull(String tenantId) {
+		return null;
+	}
 }
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.multitenancy.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.hibernate.search.util.common.data.impl.HashTable;
+import org.hibernate.search.util.common.data.impl.ModuloHashTable;
+import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
+
+/**
+ * A multi-tenancy strategy that spreads tenants over a fixed number of index partitions,
+ * each with its own directory, index writer and index reader.
+ * <p>
+ * Several tenants may share the same partition,
+ * so documents still hold a discriminator field and queries are still filtered by tenant,
+ * but a query for one tenant only ever reads the partition of that tenant.
+ */
+public class PartitionedMultiTenancyStrategy extends DiscriminatorMultiTenancyStrategy {
+
+	/**
+	 * The maximum number of partitions.
+	 * <p>
+	 * The index writer and index reader of a partition stay open until shutdown once the partition is used,
+	 * so the number of partitions must stay bounded.
+	 */
+	public static final int MAX_NUMBER_OF_PARTITIONS = 256;
+
+	private static final String PARTITION_IDENTIFIER_PREFIX = "tenant-partition-";
+
+	private final HashTable<String> partitionIds;
+	private final Set<String> partitionIdSet;
+
+	public PartitionedMultiTenancyStrategy(int numberOfPartitions) {
+		// Note the hash function / table implementations MUST NOT CHANGE,
+		// otherwise existing indexes will no longer work correctly.
+		this.partitionIds = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, numberOfPartitions );
+		Set<String> idSet = new LinkedHashSet<>();
+		for ( int i = 0; i < numberOfPartitions; i++ ) {
+			String partitionId = PARTITION_IDENTIFIER_PREFIX + i;
+			partitionIds.set( i, partitionId );
+			idSet.add( partitionId );
+		}
+		this.partitionIdSet = Collections.unmodifiableSet( idSet );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[numberOfPartitions=" + partitionIdSet.size() + "]";
+	}
+
+	@Override
+	public Set<String> partitionIdentifiersOrNull() {
+		return partitionIdSet;
+	}
+
+	@Override
+	public String toPartitionIdentifierOrNull(String tenantId) {
+		return partitionIds.get( tenantId );
+	}
+}
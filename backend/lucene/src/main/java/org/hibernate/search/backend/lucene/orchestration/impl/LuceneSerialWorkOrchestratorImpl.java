@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -37,6 +38,18 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> BATCH_LINGER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_BATCH_LINGER )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_BATCH_LINGER )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> ADAPTIVE_BATCH_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_ADAPTIVE_BATCH_SIZE )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_ADAPTIVE_BATCH_SIZE )
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
@@ -73,6 +86,8 @@ public void forceRefreshInCurrentThread() {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		long batchLingerNanos = TimeUnit.MICROSECONDS.toNanos( BATCH_LINGER.get( propertySource ) );
+		boolean adaptiveBatchSize = ADAPTIVE_BATCH_SIZE.get( propertySource );
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
@@ -81,6 +96,8 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					processor,
 					queueSize,
 					true,
+					batchLingerNanos,
+					adaptiveBatchSize,
 					failureHandler,
 					blockingRetryProducer
 			) );
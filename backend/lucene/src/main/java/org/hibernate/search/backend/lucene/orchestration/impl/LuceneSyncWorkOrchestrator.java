@@ -23,11 +23,11 @@
 public interface LuceneSyncWorkOrchestrator {
 
 	default <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work) {
-		return submit( indexNames, indexManagerContexts, routingKeys, work, null );
+			Set<String> tenantIds, Set<String> routingKeys, ReadWork<T> work) {
+		return submit( indexNames, indexManagerContexts, tenantIds, routingKeys, work, null );
 	}
 
 	<T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work, HibernateSearchMultiReader indexReader);
+			Set<String> tenantIds, Set<String> routingKeys, ReadWork<T> work, HibernateSearchMultiReader indexReader);
 
 }
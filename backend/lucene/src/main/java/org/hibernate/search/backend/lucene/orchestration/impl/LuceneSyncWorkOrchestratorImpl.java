@@ -11,12 +11,14 @@
 import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -38,21 +40,24 @@
 
 	private final Similarity similarity;
 	private final LuceneQueryCachingContext cachingContext;
+	private final BackendThreads threads;
 
 	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
-			LuceneQueryCachingContext cachingContext) {
+			LuceneQueryCachingContext cachingContext, BackendThreads threads) {
 		super( name );
 		this.similarity = similarity;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 		this.cachingContext = cachingContext;
+		this.threads = threads;
 	}
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work,
+			Set<String> tenantIds, Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
+				similarity, indexNames, indexManagerContexts, tenantIds, routingKeys, work, indexReader, cachingContext,
+				threads.getSearchExecutorOrNull()
 		);
 		Throwable throwable = null;
 		try {
@@ -108,20 +113,23 @@ protected void doStop() {
 		private final ReadWork<T> work;
 		private final boolean closeIndexReader;
 		private final LuceneQueryCachingContext cachingContext;
+		private final Executor searchExecutorOrNull;
 
 		private T result;
 
 		WorkExecution(Similarity similarity, Set<String> indexNames,
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work,
+				Set<String> tenantIds, Set<String> routingKeys, ReadWork<T> work,
 				HibernateSearchMultiReader indexReader,
-				LuceneQueryCachingContext cachingContext) {
+				LuceneQueryCachingContext cachingContext,
+				Executor searchExecutorOrNull) {
 			this.similarity = similarity;
 			this.indexNames = indexNames;
 			this.work = work;
 
 			if ( indexReader == null ) {
-				this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+				this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts,
+						tenantIds, routingKeys );
 				this.closeIndexReader = true;
 			}
 			else {
@@ -129,11 +137,14 @@ protected void doStop() {
 				this.closeIndexReader = false;
 			}
 			this.cachingContext = cachingContext;
+			this.searchExecutorOrNull = searchExecutorOrNull;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
+			// When an executor is provided, Lucene will search slices of segments concurrently
+			// for every search relying on a CollectorManager.
+			IndexSearcher searcher = new IndexSearcher( indexReader, searchExecutorOrNull );
 			searcher.setSimilarity( similarity );
 
 			cachingContext.queryCache().ifPresent( searcher::setQueryCache );
@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
@@ -27,10 +31,19 @@ public class BackendThreads {
 							.asBeanReference( LuceneWorkExecutorProvider.class )
 							.withDefault( LuceneBackendSpiSettings.Defaults.BACKEND_WORK_EXECUTOR_PROVIDER )
 							.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_PARALLELISM =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_PARALLELISM )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_PARALLELISM )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private SimpleScheduledExecutor writeExecutor;
+	private ExecutorService searchExecutor;
+	private ScheduledExecutorService refreshExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -64,11 +77,20 @@ public String recommendedThreadNamePrefix() {
 				}
 			} );
 		}
+
+		int searchParallelism = SEARCH_PARALLELISM.get( propertySource );
+		if ( searchParallelism > 1 ) {
+			// Each query will be split into slices of segments executed concurrently in this pool.
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool( searchParallelism,
+					prefix + " - Search thread" );
+		}
 	}
 
-	public void onStop() {
+	public synchronized void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( SimpleScheduledExecutor::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
+			closer.push( ExecutorService::shutdownNow, refreshExecutor );
 		}
 	}
 
@@ -82,6 +104,27 @@ public SimpleScheduledExecutor getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use when searching index segments concurrently,
+	 * or {@code null} if queries must be executed in the calling thread.
+	 */
+	public ExecutorService getSearchExecutorOrNull() {
+		checkStarted();
+		return searchExecutor;
+	}
+
+	/**
+	 * @return The executor to use when refreshing index readers in the background.
+	 * Created on first call, so that backends that don't use background refresh don't spawn any thread.
+	 */
+	public synchronized ScheduledExecutorService getRefreshExecutor() {
+		checkStarted();
+		if ( refreshExecutor == null ) {
+			refreshExecutor = threadPoolProvider.newScheduledExecutor( 1, prefix + " - Index reader refresh thread" );
+		}
+		return refreshExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
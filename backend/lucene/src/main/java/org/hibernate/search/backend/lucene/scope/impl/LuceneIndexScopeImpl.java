@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.scope.impl;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
@@ -45,6 +46,7 @@ public LuceneSearchQueryIndexScope<?> searchScope() {
 	public IndexReader openIndexReader(Set<String> routingKeys) {
 		Set<String> indexNames = searchScope.hibernateSearchIndexNames();
 		Collection<? extends LuceneSearchIndexContext> indexManagerContexts = searchScope.indexes();
-		return HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+		// The index reader is not bound to a session: it targets all tenants.
+		return HibernateSearchMultiReader.open( indexNames, indexManagerContexts, Collections.emptySet(), routingKeys );
 	}
 }
@@ -34,4 +34,13 @@
 
 	Set<String> getIndexNames();
 
+	/**
+	 * @return A key identifying this aggregation for the purpose of caching its result,
+	 * i.e. such that two aggregations with equal keys always produce equal results for the same matching documents,
+	 * or {@code null} if the result of this aggregation must not be cached.
+	 */
+	default Object resultCacheKeyOrNull() {
+		return null;
+	}
+
 }
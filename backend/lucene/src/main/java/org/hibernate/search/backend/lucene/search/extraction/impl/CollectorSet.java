@@ -7,7 +7,10 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -17,8 +20,15 @@
 import org.hibernate.search.backend.lucene.search.timeout.impl.LuceneCounterAdapter;
 import org.hibernate.search.engine.common.timing.Deadline;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.AssertionFailure;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.TimeLimitingCollector;
 
@@ -47,6 +57,7 @@ public static class Builder {
 		private final TimeoutManager timeoutManager;
 
 		private final Map<CollectorKey<?>, Collector> components = new LinkedHashMap<>();
+		private final Map<CollectorKey<?>, CollectorFactory<?>> componentFactories = new LinkedHashMap<>();
 
 		public Builder(CollectorExecutionContext executionContext, TimeoutManager timeoutManager) {
 			this.executionContext = executionContext;
@@ -57,28 +68,60 @@ public <C extends Collector> void add(CollectorKey<C> key, C collector) {
 			components.put( key, collector );
 		}
 
-		public void addAll(Set<CollectorFactory<?>> collectorFactories) throws IOException {
+		public void add(CollectorFactory<?> collectorFactory) {
+			componentFactories.put( collectorFactory.getCollectorKey(), collectorFactory );
+		}
+
+		public void addAll(Set<CollectorFactory<?>> collectorFactories) {
 			for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
-				Collector collector = collectorFactory.createCollector( executionContext );
-				components.put( collectorFactory.getCollectorKey(), collector );
+				add( collectorFactory );
+			}
+		}
+
+		public boolean isEmpty() {
+			return components.isEmpty() && componentFactories.isEmpty();
+		}
+
+		/**
+		 * @return A collector set for a non-concurrent search.
+		 * @throws IOException If Lucene throws an {@link IOException} while creating collectors.
+		 */
+		public CollectorSet build() throws IOException {
+			Map<CollectorKey<?>, Collector> builtComponents = new LinkedHashMap<>( components );
+			for ( CollectorFactory<?> collectorFactory : componentFactories.values() ) {
+				builtComponents.put( collectorFactory.getCollectorKey(),
+						collectorFactory.createCollector( executionContext ) );
+			}
+			return build( builtComponents );
+		}
+
+		/**
+		 * @return A collector manager for a concurrent search,
+		 * creating one collector set per slice and reducing them into a single collector set.
+		 */
+		public Manager buildManager() {
+			if ( !components.isEmpty() ) {
+				throw new AssertionFailure( "Pre-built collectors cannot be used in a concurrent search: "
+						+ components.keySet() );
 			}
+			return new Manager( this );
 		}
 
-		public CollectorSet build() {
-			if ( components.isEmpty() ) {
-				return new CollectorSet( null, components );
+		private CollectorSet build(Map<CollectorKey<?>, Collector> builtComponents) {
+			if ( builtComponents.isEmpty() ) {
+				return new CollectorSet( null, builtComponents );
 			}
 
 			Collector composed = wrapTimeLimitingCollectorIfNecessary(
 					// avoid to use a multi collector if we have just one collector,
 					// as MultiCollector explicitly ignores the total hit count optimization
-					( components.size() == 1 )
-							? components.values().iterator().next()
-							: MultiCollector.wrap( components.values() ),
+					( builtComponents.size() == 1 )
+							? builtComponents.values().iterator().next()
+							: MultiCollector.wrap( builtComponents.values() ),
 					timeoutManager
 			);
 
-			return new CollectorSet( composed, components );
+			return new CollectorSet( composed, builtComponents );
 		}
 
 		private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
@@ -96,4 +139,91 @@ private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, Time
 		}
 	}
 
+	/**
+	 * The collector of a single slice in a concurrent search.
+	 * <p>
+	 * Timeouts do not abort the whole search, as that would leave other slices running
+	 * while we reduce their collectors.
+	 * Instead, collection stops gracefully in each slice, and the timeout is reported after the search.
+	 */
+	public static final class SliceCollector extends FilterCollector {
+		private final Manager manager;
+		private final CollectorSet sliceCollectors;
+
+		private SliceCollector(Manager manager, CollectorSet sliceCollectors) {
+			super( sliceCollectors.composed );
+			this.manager = manager;
+			this.sliceCollectors = sliceCollectors;
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			if ( manager.timeExceeded != null ) {
+				throw new CollectionTerminatedException();
+			}
+			LeafCollector delegate;
+			try {
+				delegate = super.getLeafCollector( context );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				manager.timeExceeded = e;
+				throw new CollectionTerminatedException();
+			}
+			return new FilterLeafCollector( delegate ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					try {
+						super.collect( doc );
+					}
+					catch (TimeLimitingCollector.TimeExceededException e) {
+						manager.timeExceeded = e;
+						throw new CollectionTerminatedException();
+					}
+				}
+			};
+		}
+	}
+
+	public static final class Manager implements CollectorManager<SliceCollector, CollectorSet> {
+		private final Builder builder;
+		private volatile TimeLimitingCollector.TimeExceededException timeExceeded;
+
+		private Manager(Builder builder) {
+			this.builder = builder;
+		}
+
+		@Override
+		public SliceCollector newCollector() throws IOException {
+			return new SliceCollector( this, builder.build() );
+		}
+
+		@Override
+		public CollectorSet reduce(Collection<SliceCollector> sliceCollectors) throws IOException {
+			Map<CollectorKey<?>, Collector> reducedComponents = new LinkedHashMap<>();
+			for ( CollectorFactory<?> collectorFactory : builder.componentFactories.values() ) {
+				reducedComponents.put( collectorFactory.getCollectorKey(), reduce( collectorFactory, sliceCollectors ) );
+			}
+			// The reduced collectors are only used to retrieve collected data: there is nothing to compose.
+			return new CollectorSet( null, reducedComponents );
+		}
+
+		/**
+		 * @return The exception thrown when the timeout was exceeded in one of the slices,
+		 * or {@code null} if the timeout was not exceeded.
+		 */
+		public TimeLimitingCollector.TimeExceededException timeExceededOrNull() {
+			return timeExceeded;
+		}
+
+		private <C extends Collector> C reduce(CollectorFactory<C> collectorFactory,
+				Collection<SliceCollector> sliceCollectors)
+				throws IOException {
+			List<C> collectors = new ArrayList<>( sliceCollectors.size() );
+			for ( SliceCollector sliceCollector : sliceCollectors ) {
+				collectors.add( sliceCollector.sliceCollectors.get( collectorFactory.getCollectorKey() ) );
+			}
+			return collectorFactory.reduce( collectors );
+		}
+	}
+
 }
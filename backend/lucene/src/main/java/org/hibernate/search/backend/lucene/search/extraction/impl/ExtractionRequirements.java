@@ -21,12 +21,9 @@
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
-import org.apache.lucene.search.TopDocsCollector;
-import org.apache.lucene.search.TopFieldCollector;
-import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 
 /**
  * Regroups information about the data used as input of extraction (projections or aggregations):
@@ -44,8 +41,12 @@ private ExtractionRequirements(Builder builder) {
 		storedFieldsSourceFactoryOrNull = builder.createStoredFieldsSourceFactoryOrNull();
 	}
 
+	public boolean isScoreRequired() {
+		return requireScore;
+	}
+
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager,
+			ScoreDoc after, IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager,
 			int requestedTotalHitCountThreshold)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
@@ -63,9 +64,12 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 			totalHitCountThreshold = requestedTotalHitCountThreshold;
 		}
 
-		TopDocsCollector<?> topDocsCollector = null;
+		boolean hasTopDocsCollector = false;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
+		// When the searcher has an executor, slices of segments will be searched concurrently,
+		// and collectors will need to be reduced.
+		boolean concurrent = indexSearcher.getExecutor() != null;
 
 		CollectorExecutionContext executionContext =
 				new CollectorExecutionContext( metadataResolver, indexSearcher, maxDocs );
@@ -75,7 +79,8 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 
 		if ( maxDocs > 0 ) {
 			if ( sort == null || isDescendingScoreSort( sort ) ) {
-				topDocsCollector = TopScoreDocCollector.create( maxDocs, totalHitCountThreshold );
+				collectorsForAllMatchingDocsBuilder.add(
+						new TopDocsCollectorFactory( null, after, maxDocs, totalHitCountThreshold, concurrent ) );
 			}
 			else {
 				if ( requireScore ) {
@@ -86,21 +91,20 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollector = TopFieldCollector.create( sort, maxDocs, totalHitCountThreshold );
+				collectorsForAllMatchingDocsBuilder.add(
+						new TopDocsCollectorFactory( sort, after, maxDocs, totalHitCountThreshold, concurrent ) );
 			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
+			hasTopDocsCollector = true;
 		}
 
-		if ( topDocsCollector == null && totalHitCountThreshold > 0 ) {
+		if ( !hasTopDocsCollector && totalHitCountThreshold > 0 ) {
 			// Normally the topDocsCollector collects the total hit count,
 			// but if it's not there and not all docs are matched, we need a separate collector.
 			// Note that adding this collector can have a significant cost in some situations
 			// (e.g. for queries matching many hits), so we only add it if it's really necessary.
-			TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+			collectorsForAllMatchingDocsBuilder.add( TotalHitCountCollectorFactory.INSTANCE );
 		}
 		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
-		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
 
 		return new LuceneCollectors(
 				metadataResolver,
@@ -108,7 +112,8 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 				rewrittenLuceneQuery,
 				originalLuceneQuery,
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
-				collectorsForAllMatchingDocs,
+				collectorsForAllMatchingDocsBuilder,
+				concurrent,
 				storedFieldsSourceFactoryOrNull,
 				timeoutManager
 		);
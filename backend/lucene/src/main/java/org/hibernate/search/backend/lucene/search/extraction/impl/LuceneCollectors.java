@@ -50,18 +50,20 @@ public class LuceneCollectors {
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
+	private final CollectorSet.Builder collectorsForAllMatchingDocsBuilder;
+	private final boolean concurrent;
 	private final StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull;
 
 	private final TimeoutManager timeoutManager;
 
+	private CollectorSet collectorsForAllMatchingDocs;
 	private SearchResultTotal resultTotal;
 	private TopDocs topDocs = null;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher,
 			Query rewrittenLuceneQuery, Query originalLuceneQuery,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
-			CollectorSet collectorsForAllMatchingDocs,
+			CollectorSet.Builder collectorsForAllMatchingDocsBuilder, boolean concurrent,
 			StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
@@ -70,7 +72,8 @@ public class LuceneCollectors {
 		this.originalLuceneQuery = originalLuceneQuery;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
-		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.collectorsForAllMatchingDocsBuilder = collectorsForAllMatchingDocsBuilder;
+		this.concurrent = concurrent;
 		this.storedFieldsValuesDelegateOrNull = storedFieldsValuesDelegateOrNull;
 		this.timeoutManager = timeoutManager;
 	}
@@ -85,15 +88,29 @@ public class LuceneCollectors {
 	 */
 	public void collectMatchingDocs(int offset, Integer limit) throws IOException {
 		if ( timeoutManager.checkTimedOut() ) {
+			// Collectors are still needed for extraction, even though they won't collect anything.
+			collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
 			resultTotal = SimpleSearchResultTotal.lowerBound( 0L );
 			// in case of timeout before the query execution, skip the query
 			return;
 		}
 
 		try {
-			Collector composed = collectorsForAllMatchingDocs.getComposed();
-			if ( composed != null ) {
-				indexSearcher.search( rewrittenLuceneQuery, composed );
+			if ( concurrent && !collectorsForAllMatchingDocsBuilder.isEmpty() ) {
+				// Each slice of segments gets its own collectors; they are reduced after the search.
+				CollectorSet.Manager manager = collectorsForAllMatchingDocsBuilder.buildManager();
+				collectorsForAllMatchingDocs = indexSearcher.search( rewrittenLuceneQuery, manager );
+				TimeLimitingCollector.TimeExceededException timeExceeded = manager.timeExceededOrNull();
+				if ( timeExceeded != null ) {
+					throw timeExceeded;
+				}
+			}
+			else {
+				collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
+				Collector composed = collectorsForAllMatchingDocs.getComposed();
+				if ( composed != null ) {
+					indexSearcher.search( rewrittenLuceneQuery, composed );
+				}
 			}
 		}
 		catch (TimeLimitingCollector.TimeExceededException e) {
@@ -107,6 +124,21 @@ public void collectMatchingDocs(int offset, Integer limit) throws IOException {
 		processCollectedMatchingDocs( offset, limit );
 	}
 
+	/**
+	 * Alternative to phase 1: restore the result of a previous collection of matching docs
+	 * on the same index readers, e.g. from a cache.
+	 * <p>
+	 * Collectors for all matching docs are not available after calling this method,
+	 * so callers must not extract aggregations.
+	 *
+	 * @param resultTotal The total hit count collected previously.
+	 * @param topDocs The top docs collected previously.
+	 */
+	public void restoreMatchingDocs(SearchResultTotal resultTotal, TopDocs topDocs) {
+		this.resultTotal = resultTotal;
+		this.topDocs = topDocs;
+	}
+
 	private void processCollectedMatchingDocs(int offset, Integer limit) throws IOException {
 		if ( rewrittenLuceneQuery instanceof MatchAllDocsQuery ) {
 			// We can compute the total hit count in constant time.
@@ -0,0 +1,87 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.MergedTopDocsCollector;
+
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopScoreDocCollector;
+
+/**
+ * Creates top docs collectors.
+ * <p>
+ * For concurrent searches, collectors created by a given factory share the total hit count threshold
+ * and minimum competitive score, so that slices can skip non-competitive hits
+ * as early as a non-concurrent search would.
+ */
+final class TopDocsCollectorFactory implements CollectorFactory<TopDocsCollector<?>> {
+
+	private final Sort sortOrNull;
+	private final ScoreDoc afterOrNull;
+	private final int maxDocs;
+	private final int totalHitCountThreshold;
+	private final CollectorManager<? extends TopDocsCollector<?>, ? extends TopDocs> sharedManagerOrNull;
+
+	TopDocsCollectorFactory(Sort sortOrNull, ScoreDoc afterOrNull, int maxDocs, int totalHitCountThreshold,
+			boolean concurrent) {
+		this.sortOrNull = sortOrNull;
+		this.afterOrNull = afterOrNull;
+		this.maxDocs = maxDocs;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		if ( !concurrent ) {
+			this.sharedManagerOrNull = null;
+		}
+		else if ( sortOrNull == null ) {
+			this.sharedManagerOrNull = TopScoreDocCollector.createSharedManager( maxDocs, afterOrNull,
+					totalHitCountThreshold );
+		}
+		else {
+			this.sharedManagerOrNull = TopFieldCollector.createSharedManager( sortOrNull, maxDocs,
+					(FieldDoc) afterOrNull, totalHitCountThreshold );
+		}
+	}
+
+	@Override
+	public TopDocsCollector<?> createCollector(CollectorExecutionContext context) throws IOException {
+		if ( sharedManagerOrNull != null ) {
+			return sharedManagerOrNull.newCollector();
+		}
+		else if ( sortOrNull == null ) {
+			return TopScoreDocCollector.create( maxDocs, afterOrNull, totalHitCountThreshold );
+		}
+		else {
+			return TopFieldCollector.create( sortOrNull, maxDocs, (FieldDoc) afterOrNull, totalHitCountThreshold );
+		}
+	}
+
+	@Override
+	public CollectorKey<TopDocsCollector<?>> getCollectorKey() {
+		return LuceneCollectors.TOP_DOCS_KEY;
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Collectors were all created by the shared manager
+	public TopDocsCollector<?> reduce(Collection<TopDocsCollector<?>> collectors) throws IOException {
+		if ( collectors.size() == 1 ) {
+			return collectors.iterator().next();
+		}
+		TopDocs merged = (TopDocs) ( (CollectorManager) sharedManagerOrNull ).reduce( collectors );
+		return new MergedTopDocsCollector( merged );
+	}
+}
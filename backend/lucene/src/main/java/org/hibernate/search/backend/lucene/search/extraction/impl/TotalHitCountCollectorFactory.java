@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.Collection;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+
+import org.apache.lucene.search.TotalHitCountCollector;
+
+final class TotalHitCountCollectorFactory implements CollectorFactory<TotalHitCountCollector> {
+
+	static final TotalHitCountCollectorFactory INSTANCE = new TotalHitCountCollectorFactory();
+
+	private TotalHitCountCollectorFactory() {
+	}
+
+	@Override
+	public TotalHitCountCollector createCollector(CollectorExecutionContext context) {
+		return new TotalHitCountCollector();
+	}
+
+	@Override
+	public CollectorKey<TotalHitCountCollector> getCollectorKey() {
+		return LuceneCollectors.TOTAL_HIT_COUNT_KEY;
+	}
+
+	@Override
+	public TotalHitCountCollector reduce(Collection<TotalHitCountCollector> collectors) {
+		if ( collectors.size() == 1 ) {
+			return collectors.iterator().next();
+		}
+		int totalHits = 0;
+		for ( TotalHitCountCollector collector : collectors ) {
+			totalHits += collector.getTotalHits();
+		}
+		return new ReducedTotalHitCountCollector( totalHits );
+	}
+
+	private static final class ReducedTotalHitCountCollector extends TotalHitCountCollector {
+		private final int totalHits;
+
+		private ReducedTotalHitCountCollector(int totalHits) {
+			this.totalHits = totalHits;
+		}
+
+		@Override
+		public int getTotalHits() {
+			return totalHits;
+		}
+	}
+}
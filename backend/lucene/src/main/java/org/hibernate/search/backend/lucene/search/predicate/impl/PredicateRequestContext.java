@@ -6,21 +6,46 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import org.apache.lucene.search.Query;
+
 public class PredicateRequestContext {
 
 	private static final PredicateRequestContext ROOT = new PredicateRequestContext( null );
 
 	private final String nestedPath;
+	private final Query tenantFilterOrNull;
 
 	public PredicateRequestContext(String nestedPath) {
+		this( nestedPath, null );
+	}
+
+	private PredicateRequestContext(String nestedPath, Query tenantFilterOrNull) {
 		this.nestedPath = nestedPath;
+		this.tenantFilterOrNull = tenantFilterOrNull;
 	}
 
 	public String getNestedPath() {
 		return nestedPath;
 	}
 
+	/**
+	 * @return The filter that will be applied to the whole query to only match documents of the current tenant,
+	 * or {@code null} if unknown or if there is no such filter.
+	 * Useful for predicates that need to apply filters <em>before</em> matching, such as the knn predicate.
+	 */
+	public Query getTenantFilterOrNull() {
+		return tenantFilterOrNull;
+	}
+
+	public PredicateRequestContext withNestedPath(String nestedPath) {
+		return new PredicateRequestContext( nestedPath, tenantFilterOrNull );
+	}
+
 	public static PredicateRequestContext root() {
 		return ROOT;
 	}
+
+	public static PredicateRequestContext root(Query tenantFilterOrNull) {
+		return tenantFilterOrNull == null ? ROOT : new PredicateRequestContext( null, tenantFilterOrNull );
+	}
 }
@@ -0,0 +1,219 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.projection.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.function.LongFunction;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.Values;
+import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
+import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.projection.SearchProjection;
+import org.hibernate.search.engine.search.projection.spi.FieldProjectionBuilder;
+import org.hibernate.search.engine.search.projection.spi.ProjectionAccumulator;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * A projection on the values of an index field, retrieved from doc values instead of stored fields.
+ * <p>
+ * Used for numeric and temporal fields declared as
+ * {@link org.hibernate.search.engine.backend.types.Projectable#DOC_VALUES projectable from doc values},
+ * which are not stored at all.
+ * Values of multi-valued fields are returned in ascending order, since that's how doc values are sorted.
+ *
+ * @param <F> The type of individual field values obtained from the backend (before conversion).
+ * @param <V> The type of individual field values after conversion.
+ * @param <P> The type of the final projection result representing accumulated values of type {@code V}.
+ */
+public class LuceneDocValuesFieldProjection<F, V, P> extends AbstractLuceneProjection<P> {
+
+	private final String absoluteFieldPath;
+	private final String nestedDocumentPath;
+	private final String requiredContextAbsoluteFieldPath;
+
+	private final LongFunction<F> decodeFunction;
+	private final ProjectionConverter<F, ? extends V> converter;
+	private final ProjectionAccumulator.Provider<V, P> accumulatorProvider;
+
+	private LuceneDocValuesFieldProjection(Builder<F, V> builder,
+			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
+		super( builder.scope );
+		this.absoluteFieldPath = builder.field.absolutePath();
+		this.nestedDocumentPath = builder.field.nestedDocumentPath();
+		this.requiredContextAbsoluteFieldPath = accumulatorProvider.isSingleValued()
+				? builder.field.closestMultiValuedParentAbsolutePath()
+				: null;
+		this.decodeFunction = builder.decodeFunction;
+		this.converter = builder.converter;
+		this.accumulatorProvider = accumulatorProvider;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "absoluteFieldPath=" + absoluteFieldPath
+				+ ", accumulatorProvider=" + accumulatorProvider
+				+ "]";
+	}
+
+	@Override
+	public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
+		context.checkValidField( absoluteFieldPath );
+		if ( requiredContextAbsoluteFieldPath != null
+				&& !requiredContextAbsoluteFieldPath.equals( context.absoluteCurrentNestedFieldPath() ) ) {
+			throw log.invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(
+					absoluteFieldPath, requiredContextAbsoluteFieldPath );
+		}
+		// No call to context.requireStoredField(): we don't need stored fields at all.
+		return new ValueFieldExtractor<>( context.absoluteCurrentNestedFieldPath(), accumulatorProvider.get() );
+	}
+
+	/**
+	 * @param <A> The type of the temporary storage for accumulated values, before and after being transformed.
+	 */
+	private class ValueFieldExtractor<A> implements LuceneSearchProjection.Extractor<A, P> {
+
+		private final String contextAbsoluteFieldPath;
+		private final ProjectionAccumulator<F, V, A, P> accumulator;
+
+		public ValueFieldExtractor(String contextAbsoluteFieldPath, ProjectionAccumulator<F, V, A, P> accumulator) {
+			this.accumulator = accumulator;
+			this.contextAbsoluteFieldPath = contextAbsoluteFieldPath;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "["
+					+ "absoluteFieldPath=" + absoluteFieldPath
+					+ ", accumulator=" + accumulator
+					+ "]";
+		}
+
+		@Override
+		public Values<A> values(ProjectionExtractContext context) {
+			return new DocValuesFieldValues( accumulator, context.collectorExecutionContext() );
+		}
+
+		private class DocValuesFieldValues extends AbstractNestingAwareAccumulatingValues<F, A> {
+			private SortedNumericDocValues currentLeafValues;
+
+			public DocValuesFieldValues(ProjectionAccumulator<F, V, A, P> accumulator,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, accumulator, context );
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = DocValues.getSortedNumeric( context.reader(), absoluteFieldPath );
+				return currentLeafValues;
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				if ( currentLeafValues.advanceExact( docId ) ) {
+					for ( int i = 0; i < currentLeafValues.docValueCount(); i++ ) {
+						F decoded = decodeFunction.apply( currentLeafValues.nextValue() );
+						accumulated = accumulator.accumulate( accumulated, decoded );
+					}
+				}
+				return accumulated;
+			}
+		}
+
+		@Override
+		public P transform(LoadingResult<?> loadingResult, A extractedData,
+				ProjectionTransformContext context) {
+			FromDocumentValueConvertContext convertContext = context.fromDocumentValueConvertContext();
+			A transformedData = accumulator.transformAll( extractedData, converter, convertContext );
+			return accumulator.finish( transformedData );
+		}
+	}
+
+	public static class Factory<F>
+			extends
+			AbstractLuceneCodecAwareSearchQueryElementFactory<FieldProjectionBuilder.TypeSelector,
+					F,
+					AbstractLuceneNumericFieldCodec<F, ?>> {
+		public Factory(AbstractLuceneNumericFieldCodec<F, ?> codec) {
+			super( codec );
+		}
+
+		@Override
+		public TypeSelector<?> create(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<F> field) {
+			// Fail early if the nested structure differs in the case of multi-index search.
+			field.nestedPathHierarchy();
+			return new TypeSelector<>( decodeFunction( codec ), scope, field );
+		}
+
+		private static <F, E extends Number> LongFunction<F> decodeFunction(AbstractLuceneNumericFieldCodec<F, E> codec) {
+			LuceneNumericDomain<E> domain = codec.getDomain();
+			return docValue -> codec.decode( domain.sortedDocValueToTerm( docValue ) );
+		}
+	}
+
+	private static class TypeSelector<F> implements FieldProjectionBuilder.TypeSelector {
+		private final LongFunction<F> decodeFunction;
+		private final LuceneSearchIndexScope<?> scope;
+		private final LuceneSearchIndexValueFieldContext<F> field;
+
+		private TypeSelector(LongFunction<F> decodeFunction,
+				LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<F> field) {
+			this.decodeFunction = decodeFunction;
+			this.scope = scope;
+			this.field = field;
+		}
+
+		@Override
+		public <V> Builder<F, V> type(Class<V> expectedType, ValueConvert convert) {
+			return new Builder<>( decodeFunction, scope, field,
+					field.type().projectionConverter( convert ).withConvertedType( expectedType, field ) );
+		}
+	}
+
+	private static class Builder<F, V> extends AbstractLuceneProjection.AbstractBuilder<V>
+			implements FieldProjectionBuilder<V> {
+
+		private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+		private final LongFunction<F> decodeFunction;
+
+		private final LuceneSearchIndexValueFieldContext<F> field;
+
+		private final ProjectionConverter<F, ? extends V> converter;
+
+		private Builder(LongFunction<F> decodeFunction, LuceneSearchIndexScope<?> scope,
+				LuceneSearchIndexValueFieldContext<F> field, ProjectionConverter<F, ? extends V> converter) {
+			super( scope );
+			this.decodeFunction = decodeFunction;
+			this.field = field;
+			this.converter = converter;
+		}
+
+		@Override
+		public <P> SearchProjection<P> build(ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
+			if ( accumulatorProvider.isSingleValued() && field.multiValued() ) {
+				throw log.invalidSingleValuedProjectionOnMultiValuedField( field.absolutePath(), field.eventContext() );
+			}
+			return new LuceneDocValuesFieldProjection<>( this, accumulatorProvider );
+		}
+	}
+}
@@ -38,6 +38,7 @@
 	private final LuceneCollectors luceneCollectors;
 	private final LuceneSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
+	private final Map<AggregationKey<?>, ?> cachedAggregationsOrNull;
 	private final TimeoutManager timeoutManager;
 
 	public LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestContext,
@@ -45,12 +46,27 @@ public LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestCont
 			LuceneCollectors luceneCollectors,
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations, TimeoutManager timeoutManager) {
+		this( requestContext, indexSearcher, luceneCollectors, rootExtractor, aggregations, null, timeoutManager );
+	}
+
+	/**
+	 * @param cachedAggregationsOrNull The result of aggregations, if already known, e.g. from a cache,
+	 * in which case {@code luceneCollectors} is not expected to hold collectors for all matching docs.
+	 */
+	LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestContext,
+			IndexSearcher indexSearcher,
+			LuceneCollectors luceneCollectors,
+			LuceneSearchProjection.Extractor<?, H> rootExtractor,
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
+			Map<AggregationKey<?>, ?> cachedAggregationsOrNull,
+			TimeoutManager timeoutManager) {
 		this.requestContext = requestContext;
 		this.fromDocumentValueConvertContext = new FromDocumentValueConvertContextImpl( requestContext.getSessionContext() );
 		this.indexSearcher = indexSearcher;
 		this.luceneCollectors = luceneCollectors;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
+		this.cachedAggregationsOrNull = cachedAggregationsOrNull;
 		this.timeoutManager = timeoutManager;
 	}
 
@@ -73,8 +89,13 @@ public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusiv
 		ProjectionHitMapper<?> projectionHitMapper = requestContext.getLoadingContext().createProjectionHitMapper();
 		List<Object> extractedData = extractHits( projectionHitMapper, startInclusive, endExclusive );
 
-		Map<AggregationKey<?>, ?> extractedAggregations =
-				aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations();
+		Map<AggregationKey<?>, ?> extractedAggregations;
+		if ( cachedAggregationsOrNull != null ) {
+			extractedAggregations = cachedAggregationsOrNull;
+		}
+		else {
+			extractedAggregations = aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations();
+		}
 
 		return new LuceneLoadableSearchResult<>(
 				fromDocumentValueConvertContext, rootExtractor,
@@ -86,6 +107,18 @@ public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusiv
 		);
 	}
 
+	/**
+	 * @return The last collected hit, to be used as a cursor when collecting the next page of a scroll,
+	 * or {@code null} if there aren't any hits.
+	 */
+	public ScoreDoc lastHitOrNull() {
+		TopDocs topDocs = luceneCollectors.getTopDocs();
+		if ( topDocs == null || topDocs.scoreDocs.length == 0 ) {
+			return null;
+		}
+		return topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+	}
+
 	public int hitSize() {
 		TopDocs topDocs = luceneCollectors.getTopDocs();
 		return ( topDocs == null ) ? 0 : topDocs.scoreDocs.length;
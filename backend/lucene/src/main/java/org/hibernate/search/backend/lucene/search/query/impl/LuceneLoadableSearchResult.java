@@ -68,6 +68,22 @@
 		this.timeoutManager = timeoutManager;
 	}
 
+	SearchResultTotal total() {
+		return resultTotal;
+	}
+
+	TopDocs topDocs() {
+		return topDocs;
+	}
+
+	Map<AggregationKey<?>, ?> aggregations() {
+		return extractedAggregations;
+	}
+
+	boolean timedOut() {
+		return timedOut;
+	}
+
 	LuceneSearchResult<H> loadBlocking() {
 		ProjectionTransformContext transformContext = new ProjectionTransformContext(
 				fromDocumentValueConvertContext );
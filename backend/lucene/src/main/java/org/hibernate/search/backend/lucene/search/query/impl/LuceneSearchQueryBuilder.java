@@ -17,6 +17,7 @@
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
@@ -59,6 +60,7 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final LuceneQueryResultCache resultCacheOrNull;
 
 	private final LuceneSearchQueryIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
@@ -80,12 +82,14 @@
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneSyncWorkOrchestrator queryOrchestrator,
+			LuceneQueryResultCache resultCacheOrNull,
 			LuceneSearchQueryIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
 			LuceneSearchProjection<H> rootProjection) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.resultCacheOrNull = resultCacheOrNull;
 
 		this.scope = scope;
 		this.sessionContext = sessionContext;
@@ -98,7 +102,8 @@ public LuceneSearchQueryBuilder(
 	@Override
 	public void predicate(SearchPredicate predicate) {
 		LuceneSearchPredicate lucenePredicate = LuceneSearchPredicate.from( scope, predicate );
-		this.luceneQuery = lucenePredicate.toQuery( PredicateRequestContext.root() );
+		this.luceneQuery = lucenePredicate.toQuery( PredicateRequestContext.root(
+				scope.filterOrNull( sessionContext.tenantIdentifier() ) ) );
 	}
 
 	@Override
@@ -275,7 +280,8 @@ public LuceneSearchQuery<H> build() {
 				rootExtractor,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
-				timeoutManager
+				timeoutManager,
+				resultCacheOrNull
 		);
 
 		return new LuceneSearchQueryImpl<>(
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -47,6 +48,7 @@
 	private final LuceneSearchQueryIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
 	private final SearchLoadingContext<?> loadingContext;
+	private final Set<String> tenantIds;
 	private final Set<String> routingKeys;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
@@ -69,6 +71,8 @@
 		this.scope = scope;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
+		String tenantId = sessionContext.tenantIdentifier();
+		this.tenantIds = tenantId == null ? Collections.emptySet() : Collections.singleton( tenantId );
 		this.routingKeys = routingKeys;
 		this.timeoutManager = timeoutManager;
 		this.luceneQuery = luceneQuery;
@@ -117,9 +121,9 @@ public long fetchTotalHitCount() {
 	public LuceneSearchScroll<H> scroll(int chunkSize) {
 		Set<String> indexNames = scope.hibernateSearchIndexNames();
 		HibernateSearchMultiReader indexReader = HibernateSearchMultiReader.open(
-				indexNames, scope.indexes(), routingKeys );
-		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, scope, routingKeys, timeoutManager,
-				searcher, totalHitCountThreshold( true ), indexReader, chunkSize );
+				indexNames, scope.indexes(), tenantIds, routingKeys );
+		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, scope, tenantIds, routingKeys,
+				timeoutManager, searcher, totalHitCountThreshold( true ), indexReader, chunkSize );
 	}
 
 	@Override
@@ -202,6 +206,7 @@ private <T> T doSubmit(ReadWork<T> work) {
 		return queryOrchestrator.submit(
 				scope.hibernateSearchIndexNames(),
 				scope.indexes(),
+				tenantIds,
 				routingKeys,
 				work
 		);
@@ -24,6 +24,8 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.ScoreDoc;
+
 public class LuceneSearchScrollImpl<H> implements LuceneSearchScroll<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -32,6 +34,7 @@
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSearchQueryIndexScope<?> scope;
+	private final Set<String> tenantIds;
 	private final Set<String> routingKeys;
 	private final TimeoutManager timeoutManager;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
@@ -40,15 +43,16 @@
 	// specific to this scroll instance:
 	private final HibernateSearchMultiReader indexReader;
 	private final int chunkSize;
+	private final int pageSize;
 
 	private int nextChunkOffset = 0;
-	private int currentPageLimit;
 	private LuceneExtractableSearchResult<H> currentPage;
 	private int currentPageOffset = 0;
+	private boolean lastPage = false;
 
 	public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?> scope,
-			Set<String> routingKeys,
+			Set<String> tenantIds, Set<String> routingKeys,
 			TimeoutManager timeoutManager,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
 			int totalHitCountThreshold,
@@ -56,13 +60,16 @@ public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.scope = scope;
+		this.tenantIds = tenantIds;
 		this.routingKeys = routingKeys;
 		this.timeoutManager = timeoutManager;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.indexReader = indexReader;
 		this.chunkSize = chunkSize;
-		this.currentPageLimit = chunkSize * 4; // Will fetch the topdocs for the first 4 pages initially
+		// Each page holds the topdocs for 4 chunks.
+		// Pages are collected after the last hit of the previous page, so they don't need to grow.
+		this.pageSize = chunkSize <= Integer.MAX_VALUE / 4 ? chunkSize * 4 : chunkSize;
 	}
 
 	@Override
@@ -87,14 +94,21 @@ public LuceneSearchScrollResult<H> next() {
 	}
 
 	private LuceneSearchScrollResult<H> doNext() {
-		if ( currentPage == null || nextChunkOffset + chunkSize > currentPageLimit + currentPageOffset ) {
+		if ( currentPage == null
+				|| !lastPage && nextChunkOffset + chunkSize > currentPage.hitSize() + currentPageOffset ) {
+			// Pages are collected using the last hit of the previous page as a cursor,
+			// so the cost of collecting a page does not depend on its position in the results.
+			// The index reader is pinned for the whole scroll, so doc IDs in the cursor stay valid.
+			ScoreDoc after = null;
 			if ( currentPage != null ) {
-				currentPageLimit *= 2;
+				after = currentPage.lastHitOrNull();
 			}
-			currentPageOffset = nextChunkOffset;
+			currentPageOffset = currentPage == null ? 0 : currentPageOffset + currentPage.hitSize();
 			currentPage = doSubmitWithIndexReader(
-					workFactory.scroll( searcher, currentPageOffset, currentPageLimit, totalHitCountThreshold ),
+					workFactory.scroll( searcher, after, pageSize, totalHitCountThreshold ),
 					indexReader );
+			// If the page is not full, there won't be any more hits: no need to collect another page.
+			lastPage = currentPage.hitSize() < pageSize;
 		}
 
 		int nextChunkStartIndexInPage = nextChunkOffset - currentPageOffset;
@@ -135,6 +149,7 @@ private <T> T doSubmitWithIndexReader(ReadWork<T> work, HibernateSearchMultiRead
 		return queryOrchestrator.submit(
 				scope.hibernateSearchIndexNames(),
 				scope.indexes(),
+				tenantIds,
 				routingKeys,
 				work, indexReader
 		);
@@ -8,10 +8,15 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
@@ -28,6 +33,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 class LuceneSearcherImpl<H> implements LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> {
 
@@ -43,18 +49,22 @@
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
 
+	private final LuceneQueryResultCache resultCacheOrNull;
+
 	private TimeoutManager timeoutManager;
 
 	LuceneSearcherImpl(LuceneSearchQueryRequestContext requestContext,
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
-			TimeoutManager timeoutManager) {
+			TimeoutManager timeoutManager,
+			LuceneQueryResultCache resultCacheOrNull) {
 		this.requestContext = requestContext;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
 		this.timeoutManager = timeoutManager;
+		this.resultCacheOrNull = resultCacheOrNull;
 	}
 
 	@Override
@@ -72,20 +82,42 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit, int totalHitCountThreshold)
 			throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold ).extract();
+		Object cacheKey = resultCacheKeyOrNull( indexSearcher, offset, limit, totalHitCountThreshold );
+		if ( cacheKey == null ) {
+			return doSearch( indexSearcher, metadataResolver, null, offset, limit, totalHitCountThreshold ).extract();
+		}
+
+		LuceneQueryResultCache.CachedResult cachedResult = resultCacheOrNull.get( cacheKey );
+		if ( cachedResult != null ) {
+			queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
+			// Matching, sorting and aggregating are skipped entirely: we only need to extract hits.
+			LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, null,
+					getMaxDocs( indexSearcher.getIndexReader(), offset, limit ), totalHitCountThreshold );
+			luceneCollectors.restoreMatchingDocs( cachedResult.total(), cachedResult.topDocs() );
+			return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
+					rootExtractor, aggregations, cachedResult.aggregations(), timeoutManager )
+					.extract();
+		}
+
+		LuceneLoadableSearchResult<H> result =
+				doSearch( indexSearcher, metadataResolver, null, offset, limit, totalHitCountThreshold ).extract();
+		if ( !result.timedOut() ) {
+			resultCacheOrNull.put( cacheKey, result.total(), result.topDocs(), result.aggregations() );
+		}
+		return result;
 	}
 
 	@Override
 	public LuceneExtractableSearchResult<H> scroll(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold)
+			ScoreDoc after, int limit, int totalHitCountThreshold)
 			throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold );
+		return doSearch( indexSearcher, metadataResolver, after, 0, limit, totalHitCountThreshold );
 	}
 
 	private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold)
+			ScoreDoc after, int offset, Integer limit, int totalHitCountThreshold)
 			throws IOException {
 		if ( limit != null && (long) offset + limit > Integer.MAX_VALUE ) {
 			throw log.offsetLimitExceedsMaxValue( offset, limit );
@@ -95,7 +127,8 @@ private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 
 		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
 		LuceneCollectors luceneCollectors = ( limit != null || maxDocs <= PREFETCH_HITS_SIZE )
-				? collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, maxDocs, totalHitCountThreshold )
+				? collectMatchingDocs( indexSearcher, metadataResolver, after, offset, limit, maxDocs,
+						totalHitCountThreshold )
 				: collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, limit, maxDocs,
 						totalHitCountThreshold );
 
@@ -134,11 +167,11 @@ public void setTimeoutManager(TimeoutManager timeoutManager) {
 	}
 
 	private LuceneCollectors collectMatchingDocs(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit,
+			IndexReaderMetadataResolver metadataResolver, ScoreDoc after, int offset, Integer limit,
 			int maxDocs, int totalHitCountThreshold)
 			throws IOException {
 		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
-				maxDocs, totalHitCountThreshold );
+				after, maxDocs, totalHitCountThreshold );
 		luceneCollectors.collectMatchingDocs( offset, limit );
 		return luceneCollectors;
 	}
@@ -149,13 +182,13 @@ private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSear
 			throws IOException {
 
 		// prefetch:
-		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset, limit,
+		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, null, offset, limit,
 				PREFETCH_HITS_SIZE, Math.max( totalHitCountThreshold, PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) );
 
 		SearchResultTotal resultTotal = luceneCollectors.getResultTotal();
 		if ( resultTotal.isHitCountLowerBound() || resultTotal.hitCount() > PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) {
 			// if the total hit count is unbounded, we need to execute the unbounded query
-			return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, maxDocs, maxDocs );
+			return collectMatchingDocs( indexSearcher, metadataResolver, null, offset, limit, maxDocs, maxDocs );
 		}
 
 		if ( resultTotal.hitCount() < PREFETCH_HITS_SIZE ) {
@@ -165,18 +198,49 @@ private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSear
 
 		// if the total hit count is in the middle between the two cases above, we can execute a bounded query
 		int exactHitCount = Math.toIntExact( resultTotal.hitCount() );
-		return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, exactHitCount, exactHitCount );
+		return collectMatchingDocs( indexSearcher, metadataResolver, null, offset, limit, exactHitCount,
+				exactHitCount );
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int maxDocs, int totalHitCountThreshold)
+			ScoreDoc after, int maxDocs, int totalHitCountThreshold)
 			throws IOException {
 		return extractionRequirements.createCollectors(
-				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(), after,
 				metadataResolver, maxDocs, timeoutManager, totalHitCountThreshold
 		);
 	}
 
+	private Object resultCacheKeyOrNull(IndexSearcher indexSearcher, int offset, Integer limit,
+			int totalHitCountThreshold) {
+		if ( resultCacheOrNull == null ) {
+			return null;
+		}
+		IndexReader indexReader = indexSearcher.getIndexReader();
+		if ( !( indexReader instanceof HibernateSearchMultiReader ) ) {
+			return null;
+		}
+		// Results collected from previous readers must not be reused:
+		// including reader keys in the cache key ensures they will simply stop being hit after a refresh.
+		List<IndexReader.CacheKey> readerKeys =
+				( (HibernateSearchMultiReader) indexReader ).directoryReaderCacheKeysOrNull();
+		if ( readerKeys == null ) {
+			return null;
+		}
+		List<Object> aggregationKeys = new ArrayList<>( aggregations.size() * 2 );
+		for ( Map.Entry<AggregationKey<?>, LuceneSearchAggregation<?>> entry : aggregations.entrySet() ) {
+			Object aggregationKey = entry.getValue().resultCacheKeyOrNull();
+			if ( aggregationKey == null ) {
+				return null;
+			}
+			aggregationKeys.add( entry.getKey() );
+			aggregationKeys.add( aggregationKey );
+		}
+		// Projections are not part of the key: they are extracted from the top docs on each execution.
+		return Arrays.asList( readerKeys, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+				offset, limit, totalHitCountThreshold, extractionRequirements.isScoreRequired(), aggregationKeys );
+	}
+
 	private int getMaxDocs(IndexReader reader, int offset, Integer limit) {
 		if ( limit == null ) {
 			return reader.maxDoc();
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -35,6 +36,12 @@ public Set<String> getIndexNames() {
 		return indexNames;
 	}
 
+	@Override
+	protected void contributeResultCacheKey(List<Object> key) {
+		super.contributeResultCacheKey( key );
+		key.add( absoluteFieldPath );
+	}
+
 	public abstract static class AbstractBuilder<K, V> extends AbstractLuceneNestableAggregation.AbstractBuilder<Map<K, V>>
 			implements SearchAggregationBuilder<Map<K, V>> {
 
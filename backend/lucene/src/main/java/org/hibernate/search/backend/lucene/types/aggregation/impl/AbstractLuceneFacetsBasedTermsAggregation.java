@@ -58,6 +58,15 @@ public void request(AggregationRequestContext context) {
 		context.requireCollector( FacetsCollectorFactory.INSTANCE );
 	}
 
+	@Override
+	protected void contributeResultCacheKey(List<Object> key) {
+		super.contributeResultCacheKey( key );
+		key.add( fromFieldValueConverter );
+		key.add( order );
+		key.add( maxTermCount );
+		key.add( minDocCount );
+	}
+
 	@Override
 	public final Map<K, Long> extract(AggregationExtractContext context) throws IOException {
 		FromDocumentValueConvertContext convertContext = context.fromDocumentValueConvertContext();
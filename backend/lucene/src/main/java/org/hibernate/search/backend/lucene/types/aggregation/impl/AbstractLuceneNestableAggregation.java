@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
@@ -34,6 +36,23 @@
 		this.nestedFilter = builder.nestedFilter;
 	}
 
+	@Override
+	public final Object resultCacheKeyOrNull() {
+		List<Object> key = new ArrayList<>();
+		key.add( getClass() );
+		contributeResultCacheKey( key );
+		return key;
+	}
+
+	/**
+	 * @param key The cache key, to which attributes that affect the result of this aggregation must be added.
+	 * @see #resultCacheKeyOrNull()
+	 */
+	protected void contributeResultCacheKey(List<Object> key) {
+		key.add( nestedDocumentPath );
+		key.add( nestedFilter );
+	}
+
 	protected NestedDocsProvider createNestedDocsProvider(AggregationExtractContext context) {
 		NestedDocsProvider nestedDocsProvider = null;
 		if ( nestedDocumentPath != null ) {
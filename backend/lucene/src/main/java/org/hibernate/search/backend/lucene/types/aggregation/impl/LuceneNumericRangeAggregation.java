@@ -62,6 +62,13 @@ public void request(AggregationRequestContext context) {
 		context.requireCollector( FacetsCollectorFactory.INSTANCE );
 	}
 
+	@Override
+	protected void contributeResultCacheKey(List<Object> key) {
+		super.contributeResultCacheKey( key );
+		key.add( rangesInOrder );
+		key.add( encodedRangesInOrder );
+	}
+
 	@Override
 	public Map<Range<K>, Long> extract(AggregationExtractContext context) throws IOException {
 		LuceneNumericDomain<E> numericDomain = codec.getDomain();
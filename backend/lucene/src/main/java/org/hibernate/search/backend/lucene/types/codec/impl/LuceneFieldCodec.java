@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import org.apache.lucene.codecs.KnnVectorsFormat;
 import org.apache.lucene.index.IndexableField;
 
 /**
@@ -54,4 +55,12 @@
 	 * in doubt.
 	 */
 	boolean isCompatibleWith(LuceneFieldCodec<?> other);
+
+	/**
+	 * @return The format to use when writing vectors of fields using this codec,
+	 * or {@code null} if the codec does not write vectors.
+	 */
+	default KnnVectorsFormat knnVectorsFormatOrNull() {
+		return null;
+	}
 }
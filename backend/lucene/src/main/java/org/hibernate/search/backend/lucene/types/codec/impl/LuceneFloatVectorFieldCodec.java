@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.lucene95.Lucene95HnswVectorsFormat;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.util.BytesRef;
+
+public final class LuceneFloatVectorFieldCodec implements LuceneFieldCodec<float[]> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final int dimension;
+	private final VectorSimilarityFunction similarityFunction;
+	private final int m;
+	private final int efConstruction;
+	private final Indexing indexing;
+	private final Storage storage;
+	private final float[] indexNullAsValue;
+	private final KnnVectorsFormat knnVectorsFormat;
+
+	public LuceneFloatVectorFieldCodec(int dimension, VectorSimilarityFunction similarityFunction,
+			int m, int efConstruction, Indexing indexing, Storage storage, float[] indexNullAsValue) {
+		this.dimension = dimension;
+		this.similarityFunction = similarityFunction;
+		this.m = m;
+		this.efConstruction = efConstruction;
+		this.indexing = indexing;
+		this.storage = storage;
+		this.indexNullAsValue = indexNullAsValue;
+		// Validates the graph parameters as a side effect.
+		this.knnVectorsFormat = new Lucene95HnswVectorsFormat( m, efConstruction );
+	}
+
+	@Override
+	public void addToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, float[] value) {
+		if ( value == null && indexNullAsValue != null ) {
+			value = indexNullAsValue;
+		}
+
+		if ( value == null ) {
+			return;
+		}
+
+		if ( value.length != dimension ) {
+			throw log.vectorDimensionMismatch( dimension, value.length,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+
+		if ( Indexing.ENABLED == indexing ) {
+			documentBuilder.addField( new KnnFloatVectorField( absoluteFieldPath, value, similarityFunction ) );
+		}
+
+		if ( Storage.ENABLED == storage ) {
+			documentBuilder.addField( new StoredField( absoluteFieldPath, toStoredBytes( value ) ) );
+		}
+	}
+
+	@Override
+	public float[] decode(IndexableField field) {
+		return fromStoredBytes( field.binaryValue() );
+	}
+
+	@Override
+	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( LuceneFloatVectorFieldCodec.class != obj.getClass() ) {
+			return false;
+		}
+
+		LuceneFloatVectorFieldCodec other = (LuceneFloatVectorFieldCodec) obj;
+
+		return dimension == other.dimension
+				&& similarityFunction == other.similarityFunction
+				&& m == other.m
+				&& efConstruction == other.efConstruction;
+	}
+
+	@Override
+	public KnnVectorsFormat knnVectorsFormatOrNull() {
+		return Indexing.ENABLED == indexing ? knnVectorsFormat : null;
+	}
+
+	public int dimension() {
+		return dimension;
+	}
+
+	private static BytesRef toStoredBytes(float[] vector) {
+		ByteBuffer buffer = ByteBuffer.allocate( vector.length * Float.BYTES );
+		buffer.asFloatBuffer().put( vector );
+		return new BytesRef( buffer.array() );
+	}
+
+	private static float[] fromStoredBytes(BytesRef bytesRef) {
+		float[] vector = new float[bytesRef.length / Float.BYTES];
+		ByteBuffer.wrap( bytesRef.bytes, bytesRef.offset, bytesRef.length ).asFloatBuffer().get( vector );
+		return vector;
+	}
+}
@@ -66,6 +66,7 @@ protected static boolean resolveDefault(Projectable projectable) {
 			case NO:
 				return false;
 			case YES:
+			case DOC_VALUES:
 				return true;
 			default:
 				throw new AssertionFailure( "Unexpected value for Projectable: " + projectable );
@@ -8,6 +8,7 @@
 
 import java.time.temporal.TemporalAccessor;
 
+import org.hibernate.search.backend.lucene.search.projection.impl.LuceneDocValuesFieldProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneFieldProjection;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericRangeAggregation;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericTermsAggregation;
@@ -21,6 +22,7 @@
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneNumericRangePredicate;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneNumericTermsPredicate;
 import org.hibernate.search.backend.lucene.types.sort.impl.LuceneStandardFieldSort;
+import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.search.aggregation.spi.AggregationTypeKeys;
 import org.hibernate.search.engine.search.predicate.spi.PredicateTypeKeys;
@@ -50,10 +52,14 @@ public LuceneIndexValueFieldType<F> toIndexFieldType() {
 		boolean resolvedSortable = resolveDefault( sortable );
 		boolean resolvedProjectable = resolveDefault( projectable );
 		boolean resolvedAggregable = resolveDefault( aggregable );
+		boolean docValuesProjectable = Projectable.DOC_VALUES.equals( projectable )
+				&& isDocValuesProjectionSupported();
 
 		Indexing indexing = resolvedSearchable ? Indexing.ENABLED : Indexing.DISABLED;
-		DocValues docValues = resolvedSortable || resolvedAggregable ? DocValues.ENABLED : DocValues.DISABLED;
-		Storage storage = resolvedProjectable ? Storage.ENABLED : Storage.DISABLED;
+		DocValues docValues = resolvedSortable || resolvedAggregable || docValuesProjectable
+				? DocValues.ENABLED
+				: DocValues.DISABLED;
+		Storage storage = resolvedProjectable && !docValuesProjectable ? Storage.ENABLED : Storage.DISABLED;
 
 		AbstractLuceneNumericFieldCodec<F, ?> codec = createCodec( indexing, docValues, storage, indexNullAsValue );
 		builder.codec( codec );
@@ -77,7 +83,10 @@ public LuceneIndexValueFieldType<F> toIndexFieldType() {
 
 		if ( resolvedProjectable ) {
 			builder.projectable( true );
-			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new LuceneFieldProjection.Factory<>( codec ) );
+			builder.queryElementFactory( ProjectionTypeKeys.FIELD,
+					docValuesProjectable
+							? new LuceneDocValuesFieldProjection.Factory<>( codec )
+							: new LuceneFieldProjection.Factory<>( codec ) );
 		}
 
 		if ( resolvedAggregable ) {
@@ -89,6 +98,15 @@ public LuceneIndexValueFieldType<F> toIndexFieldType() {
 		return builder.build();
 	}
 
+	/**
+	 * @return {@code true} if values decoded from doc values are identical to the indexed values,
+	 * so that {@link Projectable#DOC_VALUES} can be honored;
+	 * {@code false} if encoding loses information, in which case values are stored as for {@link Projectable#YES}.
+	 */
+	protected boolean isDocValuesProjectionSupported() {
+		return true;
+	}
+
 	protected abstract AbstractLuceneNumericFieldCodec<F, ?> createCodec(Indexing indexing, DocValues docValues,
 			Storage storage, F indexNullAsValue);
 }
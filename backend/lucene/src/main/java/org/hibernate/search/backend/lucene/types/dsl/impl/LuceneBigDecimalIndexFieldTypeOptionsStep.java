@@ -46,6 +46,12 @@ protected LuceneBigDecimalIndexFieldTypeOptionsStep thisAsS() {
 		return this;
 	}
 
+	@Override
+	protected boolean isDocValuesProjectionSupported() {
+		// Doc values hold scaled values: precision beyond the decimal scale is lost.
+		return false;
+	}
+
 	@Override
 	protected AbstractLuceneNumericFieldCodec<BigDecimal, ?> createCodec(
 			Indexing indexing,
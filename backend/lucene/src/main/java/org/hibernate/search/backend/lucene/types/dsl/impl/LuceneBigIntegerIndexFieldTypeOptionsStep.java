@@ -46,6 +46,12 @@ protected LuceneBigIntegerIndexFieldTypeOptionsStep thisAsS() {
 		return this;
 	}
 
+	@Override
+	protected boolean isDocValuesProjectionSupported() {
+		// Doc values hold scaled values: precision beyond the decimal scale is lost.
+		return false;
+	}
+
 	@Override
 	protected AbstractLuceneNumericFieldCodec<BigInteger, ?> createCodec(
 			Indexing indexing,
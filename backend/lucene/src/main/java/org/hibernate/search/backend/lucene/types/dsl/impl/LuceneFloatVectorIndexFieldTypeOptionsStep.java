@@ -0,0 +1,178 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.dsl.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.projection.impl.LuceneFieldProjection;
+import org.hibernate.search.backend.lucene.types.codec.impl.Indexing;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFloatVectorFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.Storage;
+import org.hibernate.search.backend.lucene.types.impl.LuceneIndexValueFieldType;
+import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneExistsPredicate;
+import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFloatVectorKnnPredicate;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
+import org.hibernate.search.engine.search.predicate.spi.PredicateTypeKeys;
+import org.hibernate.search.engine.search.projection.spi.ProjectionTypeKeys;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.lucene95.Lucene95HnswVectorsFormat;
+import org.apache.lucene.index.VectorSimilarityFunction;
+
+class LuceneFloatVectorIndexFieldTypeOptionsStep
+		extends AbstractLuceneIndexFieldTypeOptionsStep<LuceneFloatVectorIndexFieldTypeOptionsStep, float[]>
+		implements VectorFieldTypeOptionsStep<LuceneFloatVectorIndexFieldTypeOptionsStep, float[]> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private Integer dimension;
+	private VectorSimilarity vectorSimilarity = VectorSimilarity.DEFAULT;
+	private int efConstruction = Lucene95HnswVectorsFormat.DEFAULT_BEAM_WIDTH;
+	private int m = Lucene95HnswVectorsFormat.DEFAULT_MAX_CONN;
+	private Projectable projectable = Projectable.DEFAULT;
+	private Searchable searchable = Searchable.DEFAULT;
+	private float[] indexNullAsValue = null;
+
+	LuceneFloatVectorIndexFieldTypeOptionsStep(LuceneIndexFieldTypeBuildContext buildContext) {
+		super( buildContext, float[].class );
+	}
+
+	@Override
+	public LuceneFloatVectorIndexFieldTypeOptionsStep dimension(int dimension) {
+		this.dimension = dimension;
+		return this;
+	}
+
+	@Override
+	public LuceneFloatVectorIndexFieldTypeOptionsStep vectorSimilarity(VectorSimilarity vectorSimilarity) {
+		this.vectorSimilarity = vectorSimilarity;
+		return this;
+	}
+
+	@Override
+	public LuceneFloatVectorIndexFieldTypeOptionsStep efConstruction(int efConstruction) {
+		this.efConstruction = efConstruction;
+		return this;
+	}
+
+	@Override
+	public LuceneFloatVectorIndexFieldTypeOptionsStep m(int m) {
+		this.m = m;
+		return this;
+	}
+
+	@Override
+	public LuceneFloatVectorIndexFieldTypeOptionsStep projectable(Projectable projectable) {
+		this.projectable = projectable;
+		return this;
+	}
+
+	@Override
+	public LuceneFloatVectorIndexFieldTypeOptionsStep searchable(Searchable searchable) {
+		this.searchable = searchable;
+		return this;
+	}
+
+	@Override
+	public LuceneFloatVectorIndexFieldTypeOptionsStep indexNullAs(float[] indexNullAs) {
+		this.indexNullAsValue = indexNullAs;
+		return this;
+	}
+
+	@Override
+	public LuceneIndexValueFieldType<float[]> toIndexFieldType() {
+		if ( dimension == null || dimension < 1 || dimension > KnnVectorsFormat.DEFAULT_MAX_DIMENSIONS ) {
+			throw log.invalidVectorDimension( dimension == null ? 0 : dimension,
+					KnnVectorsFormat.DEFAULT_MAX_DIMENSIONS, buildContext.getEventContext() );
+		}
+		if ( indexNullAsValue != null && indexNullAsValue.length != dimension ) {
+			throw log.vectorDimensionMismatch( dimension, indexNullAsValue.length, buildContext.getEventContext() );
+		}
+
+		boolean resolvedProjectable = resolveDefault( projectable );
+		boolean resolvedSearchable = resolveDefault( searchable );
+
+		Indexing indexing = resolvedSearchable ? Indexing.ENABLED : Indexing.DISABLED;
+		Storage storage = resolvedProjectable ? Storage.ENABLED : Storage.DISABLED;
+
+		LuceneFloatVectorFieldCodec codec;
+		try {
+			codec = new LuceneFloatVectorFieldCodec( dimension, toSimilarityFunction( vectorSimilarity ),
+					m, efConstruction, indexing, storage, indexNullAsValue );
+		}
+		catch (IllegalArgumentException e) {
+			throw log.invalidVectorGraphParameters( e.getMessage(), e, buildContext.getEventContext() );
+		}
+		builder.codec( codec );
+
+		if ( resolvedSearchable ) {
+			builder.searchable( true );
+			// FieldExistsQuery relies on vector values for vector fields.
+			builder.queryElementFactory( PredicateTypeKeys.EXISTS, new LuceneExistsPredicate.DocValuesOrNormsBasedFactory<>() );
+			builder.queryElementFactory( PredicateTypeKeys.KNN, new LuceneFloatVectorKnnPredicate.Factory( codec ) );
+		}
+
+		if ( resolvedProjectable ) {
+			builder.projectable( true );
+			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new LuceneFieldProjection.Factory<>( codec ) );
+		}
+
+		return builder.build();
+	}
+
+	@Override
+	protected LuceneFloatVectorIndexFieldTypeOptionsStep thisAsS() {
+		return this;
+	}
+
+	private static VectorSimilarityFunction toSimilarityFunction(VectorSimilarity vectorSimilarity) {
+		switch ( vectorSimilarity ) {
+			case DEFAULT:
+			case L2:
+				return VectorSimilarityFunction.EUCLIDEAN;
+			case DOT_PRODUCT:
+				return VectorSimilarityFunction.DOT_PRODUCT;
+			case COSINE:
+				return VectorSimilarityFunction.COSINE;
+			case MAX_INNER_PRODUCT:
+				return VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT;
+			default:
+				throw new AssertionFailure( "Unexpected value for VectorSimilarity: " + vectorSimilarity );
+		}
+	}
+
+	private static boolean resolveDefault(Projectable projectable) {
+		switch ( projectable ) {
+			case DEFAULT:
+			case NO:
+				return false;
+			case YES:
+			case DOC_VALUES:
+				return true;
+			default:
+				throw new AssertionFailure( "Unexpected value for Projectable: " + projectable );
+		}
+	}
+
+	private static boolean resolveDefault(Searchable searchable) {
+		switch ( searchable ) {
+			case DEFAULT:
+			case YES:
+				return true;
+			case NO:
+				return false;
+			default:
+				throw new AssertionFailure( "Unexpected value for Searchable: " + searchable );
+		}
+	}
+}
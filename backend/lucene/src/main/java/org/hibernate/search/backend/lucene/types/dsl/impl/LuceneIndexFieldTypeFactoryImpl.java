@@ -31,6 +31,7 @@
 import org.hibernate.search.engine.backend.types.dsl.ScaledNumberIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexFieldTypeDefaultsProvider;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -231,6 +232,11 @@ public ScaledNumberIndexFieldTypeOptionsStep<?, BigInteger> asBigInteger() {
 		return new LuceneBigIntegerIndexFieldTypeOptionsStep( this, typeDefaultsProvider );
 	}
 
+	@Override
+	public VectorFieldTypeOptionsStep<?, float[]> asFloatVector() {
+		return new LuceneFloatVectorIndexFieldTypeOptionsStep( this );
+	}
+
 	@Override
 	public <F> IndexFieldTypeOptionsStep<?, F> asNative(Class<F> indexFieldType,
 			LuceneFieldContributor<F> fieldContributor,
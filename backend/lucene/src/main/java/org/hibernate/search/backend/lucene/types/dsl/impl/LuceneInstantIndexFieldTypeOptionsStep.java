@@ -21,6 +21,12 @@
 		super( buildContext, Instant.class );
 	}
 
+	@Override
+	protected boolean isDocValuesProjectionSupported() {
+		// Doc values hold epoch milliseconds: nanoseconds are lost.
+		return false;
+	}
+
 	@Override
 	protected AbstractLuceneNumericFieldCodec<Instant, ?> createCodec(Indexing indexing, DocValues docValues,
 			Storage storage, Instant indexNullAsValue) {
@@ -26,6 +26,12 @@ protected LuceneLocalDateTimeIndexFieldTypeOptionsStep thisAsS() {
 		return this;
 	}
 
+	@Override
+	protected boolean isDocValuesProjectionSupported() {
+		// Doc values hold epoch milliseconds: nanoseconds are lost.
+		return false;
+	}
+
 	@Override
 	protected AbstractLuceneNumericFieldCodec<LocalDateTime, ?> createCodec(Indexing indexing, DocValues docValues,
 			Storage storage, LocalDateTime indexNullAsValue) {
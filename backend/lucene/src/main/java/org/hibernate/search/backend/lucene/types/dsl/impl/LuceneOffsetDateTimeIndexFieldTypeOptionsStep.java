@@ -26,6 +26,12 @@ protected LuceneOffsetDateTimeIndexFieldTypeOptionsStep thisAsS() {
 		return this;
 	}
 
+	@Override
+	protected boolean isDocValuesProjectionSupported() {
+		// Doc values hold epoch milliseconds: the offset and nanoseconds are lost.
+		return false;
+	}
+
 	@Override
 	protected AbstractLuceneNumericFieldCodec<OffsetDateTime, ?> createCodec(Indexing indexing, DocValues docValues,
 			Storage storage, OffsetDateTime indexNullAsValue) {
@@ -26,6 +26,12 @@ protected LuceneOffsetTimeIndexFieldTypeOptionsStep thisAsS() {
 		return this;
 	}
 
+	@Override
+	protected boolean isDocValuesProjectionSupported() {
+		// Doc values hold the UTC time: the offset is lost.
+		return false;
+	}
+
 	@Override
 	protected AbstractLuceneNumericFieldCodec<OffsetTime, ?> createCodec(Indexing indexing, DocValues docValues,
 			Storage storage, OffsetTime indexNullAsValue) {
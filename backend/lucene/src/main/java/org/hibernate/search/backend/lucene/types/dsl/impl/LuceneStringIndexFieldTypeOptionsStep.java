@@ -34,7 +34,6 @@
 import org.hibernate.search.backend.lucene.types.sort.impl.LuceneStandardFieldSort;
 import org.hibernate.search.engine.backend.types.Highlightable;
 import org.hibernate.search.engine.backend.types.Norms;
-import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.backend.types.TermVector;
 import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
@@ -370,7 +369,7 @@ private Set<SearchHighlighterType> resolveAllowedHighlighterTypes() {
 		}
 		if ( highlightable.contains( Highlightable.DEFAULT ) ) {
 			// means we have the default case, so let's check if either plain or unified highlighters can be applied:
-			if ( Projectable.YES.equals( projectable ) ) {
+			if ( resolveDefault( projectable ) ) {
 				if ( TermVector.WITH_POSITIONS_OFFSETS.equals( termVector )
 						|| TermVector.WITH_POSITIONS_OFFSETS_PAYLOADS.equals( termVector ) ) {
 					highlightable = EnumSet.of( Highlightable.ANY );
@@ -26,6 +26,12 @@ protected LuceneZonedDateTimeIndexFieldTypeOptionsStep thisAsS() {
 		return this;
 	}
 
+	@Override
+	protected boolean isDocValuesProjectionSupported() {
+		// Doc values hold epoch milliseconds: the zone and nanoseconds are lost.
+		return false;
+	}
+
 	@Override
 	protected AbstractLuceneNumericFieldCodec<ZonedDateTime, ?> createCodec(Indexing indexing, DocValues docValues,
 			Storage storage, ZonedDateTime indexNullAsValue) {
@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.predicate.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneValueFieldSearchQueryElementFactory;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.search.predicate.impl.AbstractLuceneSingleFieldPredicate;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
+import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFloatVectorFieldCodec;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.spi.KnnPredicateBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.KnnFloatVectorQuery;
+import org.apache.lucene.search.Query;
+
+public class LuceneFloatVectorKnnPredicate extends AbstractLuceneSingleFieldPredicate {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final int k;
+	private final float[] vector;
+	private final LuceneSearchPredicate filter;
+
+	private LuceneFloatVectorKnnPredicate(Builder builder) {
+		super( builder );
+		this.k = builder.k;
+		this.vector = builder.vector;
+		this.filter = builder.filter;
+	}
+
+	@Override
+	protected Query doToQuery(PredicateRequestContext context) {
+		return new KnnFloatVectorQuery( absoluteFieldPath, vector, k, createFilterOrNull( context ) );
+	}
+
+	/*
+	 * Filters must be applied while searching the graph, not after:
+	 * applying them afterwards would lead to fewer than k hits,
+	 * or even to no hit at all if the k nearest neighbors all belong to other tenants.
+	 */
+	private Query createFilterOrNull(PredicateRequestContext context) {
+		Query tenantFilter = context.getTenantFilterOrNull();
+		if ( filter == null ) {
+			return tenantFilter;
+		}
+		Query filterQuery = filter.toQuery( context );
+		if ( tenantFilter == null ) {
+			return filterQuery;
+		}
+		return new BooleanQuery.Builder()
+				.add( filterQuery, BooleanClause.Occur.FILTER )
+				.add( tenantFilter, BooleanClause.Occur.FILTER )
+				.build();
+	}
+
+	public static class Factory
+			extends AbstractLuceneValueFieldSearchQueryElementFactory<KnnPredicateBuilder, float[]> {
+		private final LuceneFloatVectorFieldCodec codec;
+
+		public Factory(LuceneFloatVectorFieldCodec codec) {
+			this.codec = codec;
+		}
+
+		@Override
+		public Builder create(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<float[]> field) {
+			return new Builder( codec, scope, field );
+		}
+	}
+
+	private static class Builder extends AbstractLuceneSingleFieldPredicate.AbstractBuilder
+			implements KnnPredicateBuilder {
+		private final LuceneFloatVectorFieldCodec codec;
+		private final LuceneSearchIndexValueFieldContext<float[]> field;
+		private int k;
+		private float[] vector;
+		private LuceneSearchPredicate filter;
+
+		private Builder(LuceneFloatVectorFieldCodec codec, LuceneSearchIndexScope<?> scope,
+				LuceneSearchIndexValueFieldContext<float[]> field) {
+			super( scope, field );
+			this.codec = codec;
+			this.field = field;
+		}
+
+		@Override
+		public void k(int k) {
+			this.k = k;
+		}
+
+		@Override
+		public void vector(float[] vector) {
+			if ( vector.length != codec.dimension() ) {
+				throw log.vectorDimensionMismatch( codec.dimension(), vector.length, field.eventContext() );
+			}
+			this.vector = vector;
+		}
+
+		@Override
+		public void filter(SearchPredicate filter) {
+			this.filter = LuceneSearchPredicate.from( scope, filter );
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new LuceneFloatVectorKnnPredicate( this );
+		}
+	}
+}
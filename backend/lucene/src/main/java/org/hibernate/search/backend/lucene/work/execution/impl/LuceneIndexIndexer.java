@@ -101,7 +101,8 @@ private <T> CompletableFuture<T> submit(String documentId, String routingKey, In
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
 			OperationSubmitter operationSubmitter) {
 		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( documentId, routingKey );
+		LuceneSerialWorkOrchestrator orchestrator =
+				indexManagerContext.indexingOrchestrator( tenantId, documentId, routingKey );
 
 		CompletableFuture<T> futureForOrchestrator = new CompletableFuture<>();
 		CompletableFuture<T> futureForCaller;
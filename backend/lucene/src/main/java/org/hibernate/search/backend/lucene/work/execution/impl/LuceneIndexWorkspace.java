@@ -42,7 +42,7 @@ public CompletableFuture<?> mergeSegments(OperationSubmitter operationSubmitter,
 	public CompletableFuture<?> purge(Set<String> routingKeys, OperationSubmitter operationSubmitter,
 			UnsupportedOperationBehavior unsupportedOperationBehavior) {
 		return doSubmit(
-				indexManagerContext.managementOrchestrators( routingKeys ),
+				indexManagerContext.managementOrchestrators( tenantIds, routingKeys ),
 				factory.deleteAll( tenantIds, routingKeys ),
 				true, operationSubmitter
 		);
@@ -62,6 +62,20 @@ public CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.refresh(), false, operationSubmitter );
 	}
 
+	@Override
+	public CompletableFuture<?> beginBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior ignored) {
+		// Lucene indexes do not have settings worth changing for bulk loading:
+		// refreshes and commits are already driven by the works themselves.
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior ignored) {
+		return CompletableFuture.completedFuture( null );
+	}
+
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
 			IndexManagementWork<T> work, boolean commit, OperationSubmitter operationSubmitter) {
 		CompletableFuture<?>[] writeFutures = new CompletableFuture[orchestrators.size()];
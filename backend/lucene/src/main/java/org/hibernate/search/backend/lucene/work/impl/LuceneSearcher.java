@@ -14,6 +14,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R, ER> {
 
@@ -21,8 +22,10 @@ R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolv
 			int offset, Integer limit, int totalHitCountThreshold)
 			throws IOException;
 
+	// "after" is the last hit of the previous page, or null for the first page:
+	// only hits sorted after that hit are collected.
 	ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold)
+			ScoreDoc after, int limit, int totalHitCountThreshold)
 			throws IOException;
 
 	int count(IndexSearcher indexSearcher) throws IOException;
@@ -0,0 +1,127 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSet;
+
+class LuceneParentBitSetCacheTest {
+
+	private static final String NESTED_PATH = "nested";
+
+	@Test
+	void disabled() {
+		assertThat( LuceneParentBitSetCache.createOrNull( 0 ) ).isNull();
+	}
+
+	@Test
+	void hitAndMiss() throws IOException {
+		LuceneParentBitSetCache cache = LuceneParentBitSetCache.createOrNull( 1024 * 1024 );
+		try ( Directory directory = createIndex();
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext context = reader.leaves().get( 0 );
+
+			BitSet roots = cache.getOrCompute( context, null, Queries.parentsFilterQuery( null ) );
+			assertThat( roots.cardinality() ).isEqualTo( 2 );
+			assertThat( roots.get( 2 ) ).isTrue();
+			assertThat( roots.get( 5 ) ).isTrue();
+			assertThat( cache.missCount() ).isEqualTo( 1L );
+
+			assertThat( cache.getOrCompute( context, null, Queries.parentsFilterQuery( null ) ) ).isSameAs( roots );
+			assertThat( cache.hitCount() ).isEqualTo( 1L );
+
+			// Different path => different bitset
+			BitSet nested = cache.getOrCompute( context, NESTED_PATH, Queries.parentsFilterQuery( NESTED_PATH ) );
+			assertThat( nested.cardinality() ).isEqualTo( 4 );
+			assertThat( cache.missCount() ).isEqualTo( 2L );
+
+			// No match => cached as null
+			assertThat( cache.getOrCompute( context, "other", Queries.parentsFilterQuery( "other" ) ) ).isNull();
+			assertThat( cache.getOrCompute( context, "other", Queries.parentsFilterQuery( "other" ) ) ).isNull();
+			assertThat( cache.hitCount() ).isEqualTo( 2L );
+			assertThat( cache.totalBytes() ).isGreaterThan( 0L );
+		}
+		// Closing the segment removes the corresponding entries
+		assertThat( cache.totalBytes() ).isZero();
+	}
+
+	@Test
+	void eviction() throws IOException {
+		// Only one entry fits in the cache
+		LuceneParentBitSetCache cache = LuceneParentBitSetCache.createOrNull( 128 );
+		try ( Directory directory = createIndex();
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext context = reader.leaves().get( 0 );
+
+			cache.getOrCompute( context, null, Queries.parentsFilterQuery( null ) );
+			cache.getOrCompute( context, "other", Queries.parentsFilterQuery( "other" ) );
+			assertThat( cache.evictionCount() ).isEqualTo( 1L );
+
+			cache.getOrCompute( context, null, Queries.parentsFilterQuery( null ) );
+			assertThat( cache.hitCount() ).isZero();
+			assertThat( cache.missCount() ).isEqualTo( 3L );
+		}
+	}
+
+	@Test
+	void clear() throws IOException {
+		LuceneParentBitSetCache cache = LuceneParentBitSetCache.createOrNull( 1024 * 1024 );
+		try ( Directory directory = createIndex();
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext context = reader.leaves().get( 0 );
+			cache.getOrCompute( context, null, Queries.parentsFilterQuery( null ) );
+			cache.clear();
+			assertThat( cache.totalBytes() ).isZero();
+			cache.getOrCompute( context, null, Queries.parentsFilterQuery( null ) );
+			assertThat( cache.missCount() ).isEqualTo( 2L );
+		}
+	}
+
+	private static Directory createIndex() throws IOException {
+		Directory directory = new ByteBuffersDirectory();
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig() ) ) {
+			writer.addDocuments( block( 2 ) );
+			writer.addDocuments( block( 2 ) );
+		}
+		return directory;
+	}
+
+	// Nested documents first, then their root document, as in a block indexed by Hibernate Search
+	private static List<Document> block(int nestedCount) {
+		Document[] documents = new Document[nestedCount + 1];
+		for ( int i = 0; i < nestedCount; i++ ) {
+			Document nested = new Document();
+			nested.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(),
+					MetadataFields.TYPE_CHILD_DOCUMENT ) );
+			nested.add( MetadataFields.searchableMetadataField( MetadataFields.nestedDocumentPathFieldName(),
+					NESTED_PATH ) );
+			documents[i] = nested;
+		}
+		Document root = new Document();
+		root.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(),
+				MetadataFields.TYPE_MAIN_DOCUMENT ) );
+		documents[nestedCount] = root;
+		return Arrays.asList( documents );
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+
+class LuceneQueryResultCacheTest {
+
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "agg" );
+
+	@Test
+	void disabled() {
+		assertThat( LuceneQueryResultCache.createOrNull( 0 ) ).isNull();
+	}
+
+	@Test
+	void hitAndMiss() {
+		LuceneQueryResultCache cache = LuceneQueryResultCache.createOrNull( 100 );
+		Map<String, Long> buckets = new LinkedHashMap<>();
+		buckets.put( "foo", 2L );
+		cache.put( "key1", SimpleSearchResultTotal.exact( 2 ), topDocs( 2 ),
+				Collections.singletonMap( AGGREGATION_KEY, buckets ) );
+
+		assertThat( cache.get( "key2" ) ).isNull();
+		LuceneQueryResultCache.CachedResult result = cache.get( "key1" );
+		assertThat( result ).isNotNull();
+		assertThat( result.total().hitCount() ).isEqualTo( 2L );
+		assertThat( result.topDocs().scoreDocs ).hasSize( 2 );
+		assertThat( result.aggregations().get( AGGREGATION_KEY ) ).isEqualTo( buckets );
+		assertThat( cache.hitCount() ).isEqualTo( 1L );
+		assertThat( cache.missCount() ).isEqualTo( 1L );
+
+		// Changes to the original aggregation result must not affect the cached one, and vice-versa
+		buckets.put( "bar", 1L );
+		@SuppressWarnings("unchecked")
+		Map<String, Long> cachedBuckets = (Map<String, Long>) result.aggregations().get( AGGREGATION_KEY );
+		assertThat( cachedBuckets ).containsOnlyKeys( "foo" );
+		assertThatThrownBy( () -> cachedBuckets.put( "bar", 1L ) )
+				.isInstanceOf( UnsupportedOperationException.class );
+	}
+
+	@Test
+	void topDocs_protectedFromModifications() {
+		LuceneQueryResultCache cache = LuceneQueryResultCache.createOrNull( 100 );
+		TopDocs original = new TopFieldDocs( new TotalHits( 1, TotalHits.Relation.EQUAL_TO ),
+				new FieldDoc[] { new FieldDoc( 0, 1.0f, new Object[] { "foo" } ) },
+				new SortField[] { new SortField( "field", SortField.Type.STRING ) } );
+		cache.put( "key1", SimpleSearchResultTotal.exact( 1 ), original, Collections.emptyMap() );
+
+		// Changes to the original top docs must not affect the cached ones
+		original.scoreDocs[0].shardIndex = 3;
+		( (FieldDoc) original.scoreDocs[0] ).fields[0] = "bar";
+		TopDocs retrieved = cache.get( "key1" ).topDocs();
+		assertThat( retrieved ).isInstanceOf( TopFieldDocs.class );
+		assertThat( retrieved.scoreDocs[0].shardIndex ).isEqualTo( -1 );
+		assertThat( ( (FieldDoc) retrieved.scoreDocs[0] ).fields ).containsExactly( "foo" );
+
+		// Changes to retrieved top docs (e.g. by TopDocs.merge) must not affect the cached ones either
+		retrieved.scoreDocs[0].shardIndex = 2;
+		retrieved.scoreDocs[0] = null;
+		TopDocs retrievedAgain = cache.get( "key1" ).topDocs();
+		assertThat( retrievedAgain.scoreDocs[0] ).isNotNull();
+		assertThat( retrievedAgain.scoreDocs[0].shardIndex ).isEqualTo( -1 );
+	}
+
+	@Test
+	void eviction_leastRecentlyUsed() {
+		// Each entry weighs 1 + 4 top docs = 5
+		LuceneQueryResultCache cache = LuceneQueryResultCache.createOrNull( 10 );
+		cache.put( "key1", SimpleSearchResultTotal.exact( 4 ), topDocs( 4 ), Collections.emptyMap() );
+		cache.put( "key2", SimpleSearchResultTotal.exact( 4 ), topDocs( 4 ), Collections.emptyMap() );
+		// Use key1, so that key2 becomes the least recently used
+		assertThat( cache.get( "key1" ) ).isNotNull();
+
+		cache.put( "key3", SimpleSearchResultTotal.exact( 4 ), topDocs( 4 ), Collections.emptyMap() );
+		assertThat( cache.evictionCount() ).isEqualTo( 1L );
+		assertThat( cache.get( "key2" ) ).isNull();
+		assertThat( cache.get( "key1" ) ).isNotNull();
+		assertThat( cache.get( "key3" ) ).isNotNull();
+	}
+
+	@Test
+	void entryHeavierThanMaxWeight() {
+		LuceneQueryResultCache cache = LuceneQueryResultCache.createOrNull( 10 );
+		cache.put( "key1", SimpleSearchResultTotal.exact( 4 ), topDocs( 4 ), Collections.emptyMap() );
+		cache.put( "key2", SimpleSearchResultTotal.exact( 20 ), topDocs( 20 ), Collections.emptyMap() );
+
+		assertThat( cache.get( "key2" ) ).isNull();
+		// The entry that could not fit must not have evicted anything
+		assertThat( cache.get( "key1" ) ).isNotNull();
+		assertThat( cache.evictionCount() ).isZero();
+	}
+
+	@Test
+	void clear() {
+		LuceneQueryResultCache cache = LuceneQueryResultCache.createOrNull( 10 );
+		cache.put( "key1", SimpleSearchResultTotal.exact( 4 ), topDocs( 4 ), Collections.emptyMap() );
+		cache.clear();
+		assertThat( cache.get( "key1" ) ).isNull();
+	}
+
+	private static TopDocs topDocs(int count) {
+		ScoreDoc[] scoreDocs = new ScoreDoc[count];
+		for ( int i = 0; i < count; i++ ) {
+			scoreDocs[i] = new ScoreDoc( i, 1.0f );
+		}
+		return new TopDocs( new TotalHits( count, TotalHits.Relation.EQUAL_TO ), scoreDocs );
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class WeightedLruCacheTest {
+
+	@Test
+	void hitAndMiss() {
+		WeightedLruCache<String, String> cache = new WeightedLruCache<>( 10, String::length );
+		cache.put( "key1", "foo" );
+
+		assertThat( cache.get( "key1" ) ).isEqualTo( "foo" );
+		assertThat( cache.get( "key2" ) ).isNull();
+		assertThat( cache.hitCount() ).isEqualTo( 1L );
+		assertThat( cache.missCount() ).isEqualTo( 1L );
+		assertThat( cache.totalWeight() ).isEqualTo( 3L );
+	}
+
+	@Test
+	void replace() {
+		WeightedLruCache<String, String> cache = new WeightedLruCache<>( 10, String::length );
+		cache.put( "key1", "foo" );
+		cache.put( "key1", "foobar" );
+
+		assertThat( cache.get( "key1" ) ).isEqualTo( "foobar" );
+		assertThat( cache.totalWeight() ).isEqualTo( 6L );
+		assertThat( cache.evictionCount() ).isZero();
+	}
+
+	@Test
+	void eviction_leastRecentlyUsed() {
+		WeightedLruCache<String, String> cache = new WeightedLruCache<>( 10, String::length );
+		cache.put( "key1", "12345" );
+		cache.put( "key2", "12345" );
+		// Access key1, so that key2 becomes the least recently used entry
+		cache.get( "key1" );
+		cache.put( "key3", "12345" );
+
+		assertThat( cache.get( "key1" ) ).isNotNull();
+		assertThat( cache.get( "key2" ) ).isNull();
+		assertThat( cache.get( "key3" ) ).isNotNull();
+		assertThat( cache.evictionCount() ).isEqualTo( 1L );
+		assertThat( cache.totalWeight() ).isEqualTo( 10L );
+	}
+
+	@Test
+	void tooHeavy() {
+		WeightedLruCache<String, String> cache = new WeightedLruCache<>( 10, String::length );
+		cache.put( "key1", "12345" );
+		cache.put( "key2", "12345678901" );
+
+		// Values heavier than the maximum are ignored and don't evict anything
+		assertThat( cache.get( "key1" ) ).isNotNull();
+		assertThat( cache.get( "key2" ) ).isNull();
+		assertThat( cache.evictionCount() ).isZero();
+	}
+
+	@Test
+	void removeIf() {
+		WeightedLruCache<String, String> cache = new WeightedLruCache<>( 10, String::length );
+		cache.put( "a1", "foo" );
+		cache.put( "a2", "foo" );
+		cache.put( "b1", "foo" );
+		cache.removeIf( key -> key.startsWith( "a" ) );
+
+		assertThat( cache.get( "a1" ) ).isNull();
+		assertThat( cache.get( "a2" ) ).isNull();
+		assertThat( cache.get( "b1" ) ).isNotNull();
+		assertThat( cache.totalWeight() ).isEqualTo( 3L );
+		// Removals are not evictions
+		assertThat( cache.evictionCount() ).isZero();
+	}
+
+	@Test
+	void clear() {
+		WeightedLruCache<String, String> cache = new WeightedLruCache<>( 10, String::length );
+		cache.put( "key1", "foo" );
+		cache.clear();
+
+		assertThat( cache.get( "key1" ) ).isNull();
+		assertThat( cache.totalWeight() ).isZero();
+	}
+}
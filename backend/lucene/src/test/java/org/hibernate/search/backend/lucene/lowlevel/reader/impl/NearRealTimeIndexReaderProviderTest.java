@@ -0,0 +1,155 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class NearRealTimeIndexReaderProviderTest {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+	private static final int REFRESH_INTERVAL = 1000;
+
+	private final EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
+
+	@Mock
+	private IndexWriterProvider indexWriterProviderMock;
+	@Mock
+	private IndexWriterDelegatorImpl indexWriterDelegatorMock;
+	@Mock
+	private DirectoryReader indexReaderMock;
+	@Mock
+	private TimingSource timingSourceMock;
+	@Mock
+	private BackendThreads threadsMock;
+	@Mock
+	private ScheduledExecutorService refreshExecutorMock;
+	@Mock
+	private ScheduledFuture<?> refreshFutureMock;
+	@Mock
+	private FailureHandler failureHandlerMock;
+
+	@Captor
+	private ArgumentCaptor<Runnable> refreshCaptor;
+
+	@Test
+	void backgroundRefresh_reschedules() throws IOException {
+		NearRealTimeIndexReaderProvider provider = createProviderWithBackgroundRefresh();
+		expectReaderOpening();
+
+		assertThat( provider.getOrCreate() ).isSameAs( indexReaderMock );
+		Runnable refresh = verifyRefreshScheduled( 1 );
+
+		when( indexReaderMock.tryIncRef() ).thenReturn( true );
+		when( indexWriterDelegatorMock.openReaderIfChanged( indexReaderMock ) ).thenReturn( null );
+		refresh.run();
+		verifyRefreshScheduled( 2 );
+
+		provider.clear();
+		verify( refreshFutureMock ).cancel( false );
+		verifyNoInteractions( failureHandlerMock );
+	}
+
+	@Test
+	void clear_stopsBackgroundRefresh() throws IOException {
+		NearRealTimeIndexReaderProvider provider = createProviderWithBackgroundRefresh();
+		expectReaderOpening();
+
+		provider.getOrCreate();
+		Runnable refresh = verifyRefreshScheduled( 1 );
+
+		provider.clear();
+		verify( refreshFutureMock ).cancel( false );
+
+		// Simulate an execution that was already running when the provider was cleared:
+		// it must neither open a reader nor re-schedule itself.
+		refresh.run();
+		verify( refreshExecutorMock, times( 1 ) ).schedule( any( Runnable.class ), anyLong(), any() );
+		verifyNoMoreInteractions( refreshExecutorMock );
+		verify( indexWriterDelegatorMock ).openReader();
+		verifyNoMoreInteractions( indexWriterDelegatorMock );
+	}
+
+	@Test
+	void clear_thenReopen_singleBackgroundRefresh() throws IOException {
+		NearRealTimeIndexReaderProvider provider = createProviderWithBackgroundRefresh();
+		expectReaderOpening();
+
+		provider.getOrCreate();
+		Runnable staleRefresh = verifyRefreshScheduled( 1 );
+
+		provider.clear();
+		provider.getOrCreate();
+		verifyRefreshScheduled( 2 );
+
+		// The execution scheduled before the provider was cleared must not start a second refresh loop.
+		when( indexReaderMock.tryIncRef() ).thenReturn( true );
+		when( indexWriterDelegatorMock.openReaderIfChanged( indexReaderMock ) ).thenReturn( null );
+		staleRefresh.run();
+		verify( refreshExecutorMock, times( 2 ) ).schedule( any( Runnable.class ), anyLong(), any() );
+	}
+
+	@Test
+	void noBackgroundRefresh() throws IOException {
+		NearRealTimeIndexReaderProvider provider = new NearRealTimeIndexReaderProvider( indexEventContext,
+				indexWriterProviderMock, timingSourceMock, REFRESH_INTERVAL, false, threadsMock, failureHandlerMock );
+		expectReaderOpening();
+
+		assertThat( provider.getOrCreate() ).isSameAs( indexReaderMock );
+		provider.clear();
+		verifyNoInteractions( threadsMock );
+	}
+
+	private NearRealTimeIndexReaderProvider createProviderWithBackgroundRefresh() {
+		when( threadsMock.getRefreshExecutor() ).thenReturn( refreshExecutorMock );
+		doReturn( refreshFutureMock ).when( refreshExecutorMock ).schedule( any( Runnable.class ), anyLong(), any() );
+		return new NearRealTimeIndexReaderProvider( indexEventContext, indexWriterProviderMock,
+				timingSourceMock, REFRESH_INTERVAL, true, threadsMock, failureHandlerMock );
+	}
+
+	private void expectReaderOpening() throws IOException {
+		when( indexWriterProviderMock.getOrCreate() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.openReader() ).thenReturn( indexReaderMock );
+	}
+
+	private Runnable verifyRefreshScheduled(int expectedTimes) {
+		verify( refreshExecutorMock, times( expectedTimes ) )
+				.schedule( refreshCaptor.capture(), eq( (long) REFRESH_INTERVAL / 2 ), eq( TimeUnit.MILLISECONDS ) );
+		return refreshCaptor.getValue();
+	}
+}
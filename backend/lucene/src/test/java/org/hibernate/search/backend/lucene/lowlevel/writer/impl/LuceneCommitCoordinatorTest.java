@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.jupiter.api.Test;
+
+class LuceneCommitCoordinatorTest {
+
+	private static final EventContext SHARD_1 = EventContext.create( () -> "shard 1" );
+	private static final EventContext SHARD_2 = EventContext.create( () -> "shard 2" );
+
+	@Test
+	void disabled() {
+		LuceneCommitCoordinator coordinator = LuceneCommitCoordinator.create( 0 );
+		LuceneCommitCoordinator.ShardStatistics statistics = coordinator.createShardStatistics( SHARD_1 );
+
+		// Same behavior as without coordination: commit exactly one interval after now
+		assertThat( coordinator.commitExpiration( 1_003L, 1_000, statistics ) ).isEqualTo( 2_003L );
+	}
+
+	@Test
+	void alignment() {
+		LuceneCommitCoordinator coordinator = LuceneCommitCoordinator.create( 2 );
+		LuceneCommitCoordinator.ShardStatistics statistics1 = coordinator.createShardStatistics( SHARD_1 );
+		LuceneCommitCoordinator.ShardStatistics statistics2 = coordinator.createShardStatistics( SHARD_2 );
+
+		// Commits expiring in the same slot happen at the same time
+		assertThat( coordinator.commitExpiration( 1_003L, 1_000, statistics1 ) ).isEqualTo( 2_250L );
+		assertThat( coordinator.commitExpiration( 1_201L, 1_000, statistics2 ) ).isEqualTo( 2_250L );
+		assertThat( coordinator.commitExpiration( 1_250L, 1_000, statistics2 ) ).isEqualTo( 2_250L );
+		assertThat( coordinator.commitExpiration( 1_251L, 1_000, statistics2 ) ).isEqualTo( 2_500L );
+		// Negative times, which are allowed for monotonic time sources
+		assertThat( coordinator.commitExpiration( -1_249L, 1_000, statistics2 ) ).isEqualTo( 0L );
+	}
+
+	@Test
+	void adaptiveInterval() {
+		LuceneCommitCoordinator coordinator = LuceneCommitCoordinator.create( 1 );
+		LuceneCommitCoordinator.ShardStatistics statistics = coordinator.createShardStatistics( SHARD_1 );
+
+		statistics.record( TimeUnit.MILLISECONDS.toNanos( 500L ), TimeUnit.MILLISECONDS.toNanos( 10L ) );
+		// The interval is extended by the time spent waiting for other commits
+		assertThat( coordinator.commitExpiration( 0L, 1_000, statistics ) ).isEqualTo( 1_500L );
+
+		statistics.record( TimeUnit.SECONDS.toNanos( 100L ), TimeUnit.MILLISECONDS.toNanos( 10L ) );
+		// ... but never beyond a multiple of the configured interval
+		assertThat( coordinator.commitExpiration( 0L, 1_000, statistics ) ).isEqualTo( 4_000L );
+	}
+
+	@Test
+	void statistics() throws IOException {
+		LuceneCommitCoordinator coordinator = LuceneCommitCoordinator.create( 0 );
+		LuceneCommitCoordinator.ShardStatistics statistics = coordinator.createShardStatistics( SHARD_1 );
+
+		coordinator.commit( statistics, () -> sleep( 20L ) );
+		assertThat( statistics.commitCount() ).isEqualTo( 1L );
+		assertThat( statistics.averageCommitNanos() ).isGreaterThanOrEqualTo( TimeUnit.MILLISECONDS.toNanos( 20L ) );
+		assertThat( statistics.maxCommitNanos() ).isEqualTo( statistics.averageCommitNanos() );
+
+		// Failed commits are measured too
+		assertThatThrownBy( () -> coordinator.commit( statistics, () -> {
+			throw new IOException( "Simulated failure" );
+		} ) )
+				.isInstanceOf( IOException.class );
+		assertThat( statistics.commitCount() ).isEqualTo( 2L );
+		assertThat( statistics.toString() ).contains( "commitCount=2" );
+
+		// Backend totals include all shards
+		LuceneCommitCoordinator.ShardStatistics otherStatistics = coordinator.createShardStatistics( SHARD_2 );
+		coordinator.commit( otherStatistics, () -> {} );
+		assertThat( coordinator.commitCount() ).isEqualTo( 3L );
+		assertThat( coordinator.totalCommitTime() ).isGreaterThanOrEqualTo( Duration.ofMillis( 20L ) );
+		assertThat( coordinator.totalWaitTime() ).isGreaterThanOrEqualTo( Duration.ZERO );
+	}
+
+	@Test
+	void maxConcurrency() throws Exception {
+		LuceneCommitCoordinator coordinator = LuceneCommitCoordinator.create( 1 );
+		LuceneCommitCoordinator.ShardStatistics statistics1 = coordinator.createShardStatistics( SHARD_1 );
+		LuceneCommitCoordinator.ShardStatistics statistics2 = coordinator.createShardStatistics( SHARD_2 );
+
+		AtomicInteger concurrentCommits = new AtomicInteger();
+		AtomicInteger maxConcurrentCommits = new AtomicInteger();
+		CountDownLatch firstCommitStarted = new CountDownLatch( 1 );
+		LuceneCommitCoordinator.CommitAction action = () -> {
+			int current = concurrentCommits.incrementAndGet();
+			maxConcurrentCommits.accumulateAndGet( current, Math::max );
+			firstCommitStarted.countDown();
+			sleep( 50L );
+			concurrentCommits.decrementAndGet();
+		};
+
+		CompletableFuture<?> first = CompletableFuture.runAsync( () -> commit( coordinator, statistics1, action ) );
+		firstCommitStarted.await();
+		CompletableFuture<?> second = CompletableFuture.runAsync( () -> commit( coordinator, statistics2, action ) );
+		CompletableFuture.allOf( first, second ).get( 10L, TimeUnit.SECONDS );
+
+		assertThat( maxConcurrentCommits ).hasValue( 1 );
+		// The second commit had to wait for the first one to finish
+		assertThat( statistics2.averageWaitNanos() ).isGreaterThan( 0L );
+		assertThat( coordinator.totalWaitTime() ).isPositive();
+	}
+
+	private static void commit(LuceneCommitCoordinator coordinator, LuceneCommitCoordinator.ShardStatistics statistics,
+			LuceneCommitCoordinator.CommitAction action) {
+		try {
+			coordinator.commit( statistics, action );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep( millis );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( e );
+		}
+	}
+}
@@ -9,10 +9,13 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -21,6 +24,7 @@
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.data.impl.MpscArrayBlockingQueue;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
@@ -40,6 +44,7 @@
 	private final FailureHandler failureHandler;
 
 	private final BlockingQueue<W> workQueue;
+	private final AtomicLong oldestPendingSubmitNanos = new AtomicLong();
 	private final BatchWorker<P, ? super W> worker;
 	private final Consumer<? super W> blockingRetryProducer;
 
@@ -59,11 +64,39 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler, Consumer<? super W> blockingRetryProducer) {
+		this( name, processor, maxTasksPerBatch, fair, 0L, false, failureHandler, blockingRetryProducer );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param batchLingerNanos How long to wait for more works, in nanoseconds,
+	 * when a batch is about to start with fewer works than the batch size.
+	 * {@code 0} to never wait.
+	 * @param adaptiveBatchSize if {@code true}, the number of works per batch is adjusted
+	 * between 1 and {@code maxTasksPerBatch} depending on the observed processing throughput;
+	 * if {@code false}, batches always include up to {@code maxTasksPerBatch} works.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param blockingRetryProducer A retry work producer that would be called in case of offloading operation submitter and full queue.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair,
+			long batchLingerNanos, boolean adaptiveBatchSize,
+			FailureHandler failureHandler, Consumer<? super W> blockingRetryProducer) {
 		this.name = name;
 		this.failureHandler = failureHandler;
 		this.blockingRetryProducer = blockingRetryProducer;
-		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		// Works are submitted by many application threads but consumed by a single worker:
+		// use a queue that does not lock on every submit.
+		this.workQueue = new MpscArrayBlockingQueue<>( maxTasksPerBatch, fair );
+		this.worker = new BatchWorker<>( name, processor, workQueue, oldestPendingSubmitNanos,
+				this::ensureProcessingScheduled, maxTasksPerBatch, batchLingerNanos,
+				adaptiveBatchSize ? new AdaptiveBatchSize( maxTasksPerBatch ) : null );
 	}
 
 	@Override
@@ -71,6 +104,8 @@ public String toString() {
 		return "BatchingExecutor["
 				+ "name=" + name
 				+ ", queue size=" + workQueue.size()
+				+ ", batch size=" + worker.batchSize()
+				+ ", queue wait=" + worker.averageQueueWaitNanos() + "ns"
 				+ ", processing=" + processingTask
 				+ "]";
 	}
@@ -83,6 +118,7 @@ public String toString() {
 	 */
 	public synchronized void start(SimpleScheduledExecutor executorService) {
 		log.startingExecutor( name );
+		worker.start( executorService );
 		processingTask = new SingletonTask(
 				name, worker,
 				new BatchScheduler( executorService ),
@@ -100,6 +136,7 @@ public synchronized void stop() {
 		log.stoppingExecutor( name );
 
 		workQueue.clear();
+		worker.stop();
 
 		// It's possible that processing was successfully scheduled in the executor service but had no chance to run,
 		// so we need to release waiting threads:
@@ -130,7 +167,28 @@ public void submit(W work, OperationSubmitter operationSubmitter) throws Interru
 			);
 		}
 		operationSubmitter.submitToQueue( workQueue, work, blockingRetryProducer, ASYNC_FAILURE_REPORTER );
+		if ( oldestPendingSubmitNanos.get() == 0L ) {
+			// First work since the last batch started: remember when it was submitted, to measure queue wait time.
+			oldestPendingSubmitNanos.compareAndSet( 0L, System.nanoTime() );
+		}
 		processingTask.ensureScheduled();
+		worker.onSubmit();
+	}
+
+	/**
+	 * @return The maximum number of works the next batch will include.
+	 * Constant unless adaptive batch sizing is enabled.
+	 */
+	public int batchSize() {
+		return worker.batchSize();
+	}
+
+	/**
+	 * @return The average time, in nanoseconds, works spent in the queue before their batch started,
+	 * measured on the oldest work of each batch over recent batches.
+	 */
+	public long averageQueueWaitNanos() {
+		return worker.averageQueueWaitNanos();
 	}
 
 	/**
@@ -145,8 +203,19 @@ public CompletableFuture<?> completion() {
 		return processingTask.completion();
 	}
 
+	private void ensureProcessingScheduled() {
+		SingletonTask task = processingTask;
+		if ( task != null ) {
+			task.ensureScheduled();
+		}
+	}
+
 	/**
 	 * Takes a batch of works from the queue and submits them to the processor.
+	 * <p>
+	 * When lingering, the worker does not block a thread:
+	 * it returns a future that completes when the linger delay expires or when the batch is full,
+	 * and the next call to {@link #work()} processes the batch.
 	 */
 	private static final class BatchWorker<P extends BatchedWorkProcessor, W extends BatchedWork<? super P>>
 			implements SingletonTask.Worker {
@@ -155,28 +224,95 @@ public CompletableFuture<?> completion() {
 		private final String name;
 		private final P processor;
 		private final BlockingQueue<W> workQueue;
+		private final AtomicLong oldestPendingSubmitNanos;
+		private final Runnable rescheduler;
 		private final int maxTasksPerBatch;
+		private final long batchLingerNanos;
+		private final AdaptiveBatchSize adaptiveBatchSizeOrNull;
 		private final List<W> workBuffer;
+		private final AtomicReference<CompletableFuture<Void>> lingerFuture = new AtomicReference<>();
+
+		private volatile SimpleScheduledExecutor executorService;
+		private volatile Future<?> lingerTimeout;
+		// Only accessed from work(), which never runs concurrently
+		private boolean lingered;
+
+		private volatile long averageQueueWaitNanos;
 
-		private BatchWorker(String name, P processor, BlockingQueue<W> workQueue,
-				int maxTasksPerBatch) {
+		private BatchWorker(String name, P processor, BlockingQueue<W> workQueue, AtomicLong oldestPendingSubmitNanos,
+				Runnable rescheduler, int maxTasksPerBatch, long batchLingerNanos,
+				AdaptiveBatchSize adaptiveBatchSizeOrNull) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
+			this.oldestPendingSubmitNanos = oldestPendingSubmitNanos;
+			this.rescheduler = rescheduler;
 			this.maxTasksPerBatch = maxTasksPerBatch;
+			this.batchLingerNanos = batchLingerNanos;
+			this.adaptiveBatchSizeOrNull = adaptiveBatchSizeOrNull;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
 		}
 
+		void start(SimpleScheduledExecutor executorService) {
+			this.executorService = executorService;
+		}
+
+		void stop() {
+			Future<?> timeout = lingerTimeout;
+			if ( timeout != null ) {
+				timeout.cancel( false );
+			}
+			lingerTimeout = null;
+			CompletableFuture<Void> future = lingerFuture.getAndSet( null );
+			if ( future != null ) {
+				future.complete( null );
+			}
+		}
+
+		void onSubmit() {
+			if ( lingerFuture.get() != null && workQueue.size() >= batchSize() ) {
+				// The batch is full: stop lingering early
+				endLinger();
+			}
+		}
+
 		@Override
 		public CompletableFuture<?> work() {
+			int batchSize = batchSize();
+
+			if ( batchLingerNanos > 0L ) {
+				if ( !lingered ) {
+					int queued = workQueue.size();
+					if ( queued > 0 && queued < batchSize ) {
+						CompletableFuture<?> future = startLinger( batchSize );
+						if ( future != null ) {
+							lingered = true;
+							return future;
+						}
+					}
+				}
+				lingered = false;
+			}
+
+			long oldestSubmitNanos = oldestPendingSubmitNanos.get();
+
 			workBuffer.clear();
-			workQueue.drainTo( workBuffer, maxTasksPerBatch );
+			workQueue.drainTo( workBuffer, batchSize );
+
+			long batchStartNanos = System.nanoTime();
+			if ( oldestSubmitNanos != 0L ) {
+				resetOldestPendingSubmit( oldestSubmitNanos, batchStartNanos );
+			}
 
 			if ( workBuffer.isEmpty() ) {
 				// Nothing to do
 				return completedFuture;
 			}
 
+			if ( oldestSubmitNanos != 0L ) {
+				recordQueueWait( batchStartNanos - oldestSubmitNanos );
+			}
+
 			int workCount = workBuffer.size();
 			boolean traceEnabled = log.isTraceEnabled();
 			if ( traceEnabled ) {
@@ -195,9 +331,18 @@ public CompletableFuture<?> work() {
 
 			// Nothing more to do, end the batch and terminate
 			CompletableFuture<?> future = processor.endBatch();
+			if ( adaptiveBatchSizeOrNull != null ) {
+				// Return the derived future, so that the batch size is updated
+				// before the next call to work() is scheduled:
+				// this guarantees there is no concurrent access to the adaptive batch size.
+				boolean full = workCount == batchSize;
+				future = future.whenComplete( (result, throwable) -> adaptiveBatchSizeOrNull.onBatchProcessed(
+						workCount, full, System.nanoTime() - batchStartNanos ) );
+			}
 			if ( traceEnabled ) {
 				future.whenComplete( (result, throwable) -> {
-					log.tracef( "Processed %d works in executor '%s'", workCount, name );
+					log.tracef( "Processed %d works in executor '%s' (next batch size: %d, average queue wait: %dns)",
+							workCount, name, batchSize(), averageQueueWaitNanos );
 				} );
 			}
 
@@ -208,6 +353,122 @@ public CompletableFuture<?> work() {
 		public void complete() {
 			processor.complete();
 		}
+
+		int batchSize() {
+			return adaptiveBatchSizeOrNull == null ? maxTasksPerBatch : adaptiveBatchSizeOrNull.get();
+		}
+
+		long averageQueueWaitNanos() {
+			return averageQueueWaitNanos;
+		}
+
+		/**
+		 * @return A future that completes when lingering ends, or {@code null} if lingering is not possible.
+		 */
+		private CompletableFuture<?> startLinger(int batchSize) {
+			SimpleScheduledExecutor executor = executorService;
+			if ( executor == null ) {
+				return null;
+			}
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			lingerFuture.set( future );
+			try {
+				lingerTimeout = executor.schedule( this::endLinger, batchLingerNanos, TimeUnit.NANOSECONDS );
+			}
+			catch (RejectedExecutionException e) {
+				// Shutting down: don't linger
+				lingerFuture.set( null );
+				return null;
+			}
+			if ( workQueue.size() >= batchSize ) {
+				// The batch got full before we registered the linger future
+				endLinger();
+			}
+			return future;
+		}
+
+		private void endLinger() {
+			CompletableFuture<Void> future = lingerFuture.getAndSet( null );
+			if ( future == null ) {
+				// Already ended
+				return;
+			}
+			Future<?> timeout = lingerTimeout;
+			if ( timeout != null ) {
+				timeout.cancel( false );
+			}
+			// Make sure work() gets called again to process the batch once the future completes,
+			// even if no other work gets submitted.
+			rescheduler.run();
+			future.complete( null );
+		}
+
+		private void resetOldestPendingSubmit(long oldestSubmitNanos, long drainNanos) {
+			if ( workQueue.isEmpty() ) {
+				oldestPendingSubmitNanos.compareAndSet( oldestSubmitNanos, 0L );
+				// A work submitted between isEmpty() and the reset above saw a non-zero timestamp
+				// and did not record its own: record it now.
+				if ( !workQueue.isEmpty() ) {
+					oldestPendingSubmitNanos.compareAndSet( 0L, System.nanoTime() );
+				}
+			}
+			else {
+				// Works left in the queue were submitted before the drain, at the latest.
+				oldestPendingSubmitNanos.compareAndSet( oldestSubmitNanos, drainNanos );
+			}
+		}
+
+		private void recordQueueWait(long queueWaitNanos) {
+			long previous = averageQueueWaitNanos;
+			// Exponentially weighted moving average, giving more weight to recent batches
+			averageQueueWaitNanos = previous == 0L ? queueWaitNanos : previous + ( queueWaitNanos - previous ) / 8;
+		}
+	}
+
+	/**
+	 * Adjusts the batch size through hill climbing on the observed throughput (works processed per nanosecond):
+	 * keep moving the batch size in the same direction as long as throughput does not degrade,
+	 * reverse direction when it does.
+	 * Smaller batches mean lower latency for each work (earlier commits/bulk responses),
+	 * larger batches mean more optimization opportunities for the processor.
+	 * <p>
+	 * Only batches that were full are taken into account,
+	 * since smaller batches are limited by the amount of submitted works, not by the batch size.
+	 */
+	private static final class AdaptiveBatchSize {
+		private static final double STEP_FACTOR = 1.5;
+		// Ignore throughput variations below this ratio, which are most likely noise
+		private static final double TOLERANCE = 0.05;
+
+		private final int max;
+
+		private volatile int current;
+		// Start at the maximum, which is also what we use without adaptive batch sizing
+		private boolean growing = true;
+		private double lastThroughput = -1;
+
+		AdaptiveBatchSize(int max) {
+			this.max = max;
+			this.current = max;
+		}
+
+		int get() {
+			return current;
+		}
+
+		void onBatchProcessed(int workCount, boolean full, long elapsedNanos) {
+			if ( !full || elapsedNanos <= 0L ) {
+				return;
+			}
+			double throughput = (double) workCount / elapsedNanos;
+			if ( lastThroughput >= 0 && throughput < lastThroughput * ( 1 - TOLERANCE ) ) {
+				growing = !growing;
+			}
+			lastThroughput = throughput;
+			int next = growing ? (int) Math.ceil( current * STEP_FACTOR ) : (int) ( current / STEP_FACTOR );
+			// When reaching a bound, stay there until throughput degrades
+			current = Math.max( 1, Math.min( max, next ) );
+		}
 	}
 
 	private static final class BatchScheduler implements SingletonTask.Scheduler {
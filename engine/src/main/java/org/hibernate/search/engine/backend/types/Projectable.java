@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.backend.types;
 
+import org.hibernate.search.util.common.annotation.Incubating;
+
 /**
  * Whether or not we want to be able to obtain the value of the field as a projection.
  * <p>
@@ -28,5 +30,18 @@ public enum Projectable {
 	/**
 	 * Allow projection on the field.
 	 */
-	YES
+	YES,
+	/**
+	 * Allow projection on the field,
+	 * retrieving values from doc values (columnar storage) instead of storing them in the index.
+	 * <p>
+	 * This is cheaper than {@link #YES} when projecting on a few small fields for many hits,
+	 * since it avoids loading and decompressing the whole stored document.
+	 * However, values of multi-valued fields are returned in ascending order
+	 * instead of the order they were indexed in.
+	 * <p>
+	 * Backends and field types that do not support this fall back to {@link #YES}.
+	 */
+	@Incubating
+	DOC_VALUES
 }
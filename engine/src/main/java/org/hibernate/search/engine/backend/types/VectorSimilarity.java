@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.types;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Defines the function used to compute the similarity between two vectors,
+ * for vector fields in particular.
+ */
+@Incubating
+public enum VectorSimilarity {
+	/**
+	 * Use the backend-specific default, i.e. {@link #L2}.
+	 */
+	DEFAULT,
+	/**
+	 * The euclidean distance, transformed so that the closest vectors get the highest scores.
+	 */
+	L2,
+	/**
+	 * The dot product of the two vectors.
+	 * <p>
+	 * <strong>WARNING:</strong> vectors must be normalized to unit length,
+	 * both when indexing and when searching.
+	 */
+	DOT_PRODUCT,
+	/**
+	 * The cosine of the angle between the two vectors.
+	 * <p>
+	 * Unlike {@link #DOT_PRODUCT}, does not require vectors to be normalized,
+	 * but is more expensive to compute.
+	 */
+	COSINE,
+	/**
+	 * The dot product of the two vectors, without any requirement on vector normalization.
+	 */
+	MAX_INNER_PRODUCT
+}
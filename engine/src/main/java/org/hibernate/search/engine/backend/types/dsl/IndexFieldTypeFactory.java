@@ -21,6 +21,7 @@
 
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * A factory for types of index fields.
@@ -166,6 +167,16 @@ public interface IndexFieldTypeFactory {
 	 */
 	ScaledNumberIndexFieldTypeOptionsStep<?, BigInteger> asBigInteger();
 
+	/**
+	 * Define a field whose values are vectors of floats,
+	 * for use in approximate k-nearest-neighbor search.
+	 *
+	 * @return A DSL step where the index field type can be defined in more details.
+	 * @see VectorFieldTypeOptionsStep
+	 */
+	@Incubating
+	VectorFieldTypeOptionsStep<?, float[]> asFloatVector();
+
 	/**
 	 * Extend the current factory with the given extension,
 	 * resulting in an extended factory offering more field types.
@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.types.dsl;
+
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The initial and final step in a vector index field type definition, where optional parameters can be set.
+ * <p>
+ * Vector fields can be searched with the {@link org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory#knn(int) knn predicate}.
+ * The {@link #dimension(int) dimension} must be set.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <F> The type of field values.
+ */
+@Incubating
+public interface VectorFieldTypeOptionsStep<S extends VectorFieldTypeOptionsStep<?, F>, F>
+		extends IndexFieldTypeOptionsStep<S, F> {
+
+	/**
+	 * @param dimension The number of components in each vector.
+	 * Every vector indexed in this field, as well as every vector passed to the knn predicate,
+	 * must have exactly this number of components.
+	 * @return {@code this}, for method chaining.
+	 */
+	S dimension(int dimension);
+
+	/**
+	 * @param vectorSimilarity The function used to compute the similarity between two vectors,
+	 * which also determines the score of documents matched by the knn predicate.
+	 * @return {@code this}, for method chaining.
+	 * @see VectorSimilarity
+	 */
+	S vectorSimilarity(VectorSimilarity vectorSimilarity);
+
+	/**
+	 * @param efConstruction The size of the dynamic list of candidates used when building the HNSW graph.
+	 * Higher values lead to a more accurate graph, but slow down indexing.
+	 * @return {@code this}, for method chaining.
+	 */
+	S efConstruction(int efConstruction);
+
+	/**
+	 * @param m The maximum number of connections of each node in the HNSW graph.
+	 * Higher values lead to a more accurate graph, but increase memory usage and slow down indexing.
+	 * @return {@code this}, for method chaining.
+	 */
+	S m(int m);
+
+	/**
+	 * @param projectable Whether projections are enabled for this field.
+	 * @return {@code this}, for method chaining.
+	 * @see Projectable
+	 */
+	S projectable(Projectable projectable);
+
+	/**
+	 * @param searchable Whether this field should be searchable with the knn predicate.
+	 * @return {@code this}, for method chaining.
+	 * @see Searchable
+	 */
+	S searchable(Searchable searchable);
+
+	/**
+	 * @param indexNullAs A value used instead of null values when indexing.
+	 * @return {@code this}, for method chaining.
+	 */
+	S indexNullAs(F indexNullAs);
+
+}
@@ -61,4 +61,31 @@ CompletableFuture<?> flush(OperationSubmitter operationSubmitter,
 	CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 			UnsupportedOperationBehavior unsupportedOperationBehavior);
 
+	/**
+	 * Apply temporary index settings that speed up the loading of a large number of documents,
+	 * e.g. by disabling periodic refreshes or replication,
+	 * and remember the original settings so that {@link #endBulkLoad(OperationSubmitter, UnsupportedOperationBehavior)}
+	 * can restore them.
+	 * <p>
+	 * Backends that do not have such settings simply do nothing.
+	 * @param operationSubmitter The behavior to adopt when submitting the operation to a full queue/executor.
+	 * @param unsupportedOperationBehavior The behavior to adopt if the operation is not supported in this index.
+	 * @return A completion stage for the executed operation, or a completed stage if the operation is not supported.
+	 */
+	CompletableFuture<?> beginBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior);
+
+	/**
+	 * Restore the index settings that were in place before the last call to
+	 * {@link #beginBulkLoad(OperationSubmitter, UnsupportedOperationBehavior)}.
+	 * <p>
+	 * Does nothing if settings were not altered, so it is safe to call this method after a failed or skipped
+	 * {@link #beginBulkLoad(OperationSubmitter, UnsupportedOperationBehavior)}.
+	 * @param operationSubmitter The behavior to adopt when submitting the operation to a full queue/executor.
+	 * @param unsupportedOperationBehavior The behavior to adopt if the operation is not supported in this index.
+	 * @return A completion stage for the executed operation, or a completed stage if the operation is not supported.
+	 */
+	CompletableFuture<?> endBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior);
+
 }
@@ -45,6 +45,11 @@ private EngineSpiSettings() {
 	 * <p>
 	 * Expects a reference to a bean of type {@link ThreadProvider}.
 	 * <p>
+	 * Built-in values are {@code embedded}, which creates platform threads for everything,
+	 * and {@code virtual}, which creates virtual threads for blocking I/O
+	 * (e.g. loading entities from the database during mass indexing)
+	 * and platform threads for everything else. {@code virtual} requires JDK 21 or later.
+	 * <p>
 	 * Defaults to {@link Defaults#THREAD_PROVIDER}, an embedded thread provider.
 	 */
 	public static final String THREAD_PROVIDER = PREFIX + Radicals.THREAD_PROVIDER;
@@ -11,6 +11,7 @@
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -56,22 +57,51 @@ public ThreadPoolExecutor newFixedThreadPool(int threads, String threadNamePrefi
 
 	@Override
 	public ThreadPoolExecutor newFixedThreadPool(int threads, String threadNamePrefix, int queueSize) {
+		return newFixedThreadPool( threads, queueSize, threadProviderHolder.get().createThreadFactory( threadNamePrefix ) );
+	}
+
+	@Override
+	public ThreadPoolExecutor newFixedThreadPoolForBlockingIo(int threads, String threadNamePrefix) {
+		// Even with virtual threads, the pool must stay bounded:
+		// callers rely on its size to limit concurrency, e.g. the number of type groups indexed in parallel.
+		return newFixedThreadPool( threads, QUEUE_MAX_LENGTH,
+				threadProviderHolder.get().createBlockingIoThreadFactory( threadNamePrefix ) );
+	}
+
+	@Override
+	public ScheduledExecutorService newScheduledExecutor(int threads, String threadNamePrefix) {
+		return newScheduledExecutor( threads, threadProviderHolder.get().createThreadFactory( threadNamePrefix ) );
+	}
+
+	@Override
+	public ScheduledExecutorService newScheduledExecutorForBlockingIo(int threads, String threadNamePrefix) {
+		return newScheduledExecutor( threads,
+				threadProviderHolder.get().createBlockingIoThreadFactory( threadNamePrefix ) );
+	}
+
+	@Override
+	public boolean isScheduledExecutorBlocking() {
+		// a ScheduledExecutorService returned by this provider is using an unlimited BlockingQueue underneath.
+		// Hence, it'll accept all the tasks and will sooner produce OOM rather than block.
+		return false;
+	}
+
+	private ThreadPoolExecutor newFixedThreadPool(int threads, int queueSize, ThreadFactory threadFactory) {
 		return new ThreadPoolExecutor(
 				threads,
 				threads,
 				0L,
 				TimeUnit.MILLISECONDS,
 				new LinkedBlockingQueue<>( queueSize ),
-				threadProviderHolder.get().createThreadFactory( threadNamePrefix ),
+				threadFactory,
 				new BlockPolicy()
 		);
 	}
 
-	@Override
-	public ScheduledExecutorService newScheduledExecutor(int threads, String threadNamePrefix) {
+	private ScheduledExecutorService newScheduledExecutor(int threads, ThreadFactory threadFactory) {
 		ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(
 				threads,
-				threadProviderHolder.get().createThreadFactory( threadNamePrefix ),
+				threadFactory,
 				new BlockPolicy()
 		);
 		// Prevents cancelled tasks from piling up in the execution queue.
@@ -82,13 +112,6 @@ public ScheduledExecutorService newScheduledExecutor(int threads, String threadN
 		return result;
 	}
 
-	@Override
-	public boolean isScheduledExecutorBlocking() {
-		// a ScheduledExecutorService returned by this provider is using an unlimited BlockingQueue underneath.
-		// Hence, it'll accept all the tasks and will sooner produce OOM rather than block.
-		return false;
-	}
-
 	/**
 	 * A handler for rejected tasks that will have the caller block until space is available.
 	 */
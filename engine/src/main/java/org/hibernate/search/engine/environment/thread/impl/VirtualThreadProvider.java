@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.thread.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A thread provider that relies on virtual threads for blocking I/O,
+ * and on the same platform threads as {@link EmbeddedThreadProvider} for everything else.
+ * <p>
+ * Virtual threads require JDK 21+;
+ * they are accessed through reflection since Hibernate Search itself must run on older JDKs.
+ */
+public final class VirtualThreadProvider implements ThreadProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String NAME = "virtual";
+
+	private final EmbeddedThreadProvider platformThreadProvider;
+	private final String commonThreadNamePrefix;
+	private final Method ofVirtualMethod;
+	private final Method nameMethod;
+	private final Method factoryMethod;
+
+	public VirtualThreadProvider() {
+		this( "Hibernate Search - " );
+	}
+
+	public VirtualThreadProvider(String commonThreadNamePrefix) {
+		this.platformThreadProvider = new EmbeddedThreadProvider( commonThreadNamePrefix );
+		this.commonThreadNamePrefix = commonThreadNamePrefix;
+		try {
+			this.ofVirtualMethod = Thread.class.getMethod( "ofVirtual" );
+			Class<?> ofVirtualClass = ofVirtualMethod.getReturnType();
+			this.nameMethod = ofVirtualClass.getMethod( "name", String.class, long.class );
+			this.factoryMethod = ofVirtualClass.getMethod( "factory" );
+		}
+		catch (NoSuchMethodException | RuntimeException e) {
+			throw log.virtualThreadsUnavailable( Runtime.version().toString(), e );
+		}
+	}
+
+	@Override
+	public String createThreadName(String prefix, int threadNumber) {
+		return platformThreadProvider.createThreadName( prefix, threadNumber );
+	}
+
+	@Override
+	public ThreadFactory createThreadFactory(String prefix) {
+		return platformThreadProvider.createThreadFactory( prefix );
+	}
+
+	@Override
+	public ThreadFactory createBlockingIoThreadFactory(String prefix) {
+		try {
+			Object builder = ofVirtualMethod.invoke( null );
+			builder = nameMethod.invoke( builder, commonThreadNamePrefix + prefix + " - ", 0L );
+			return (ThreadFactory) factoryMethod.invoke( builder );
+		}
+		catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+			throw log.virtualThreadsUnavailable( Runtime.version().toString(), e );
+		}
+	}
+
+}
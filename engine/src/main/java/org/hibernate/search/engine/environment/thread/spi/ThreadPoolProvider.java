@@ -46,6 +46,22 @@ public interface ThreadPoolProvider {
 	 */
 	ThreadPoolExecutor newFixedThreadPool(int threads, String threadNamePrefix, int queueSize);
 
+	/**
+	 * Creates a new fixed size {@link ThreadPoolExecutor} for tasks that spend most of their time blocked on I/O,
+	 * e.g. waiting for a database to return results.
+	 * <p>
+	 * Behaves like {@link #newFixedThreadPool(int, String)},
+	 * but implementations may create threads with {@link ThreadProvider#createBlockingIoThreadFactory(String)}.
+	 * Defaults to {@link #newFixedThreadPool(int, String)}.
+	 *
+	 * @param threads the number of threads
+	 * @param threadNamePrefix a label to identify the threads; useful for profiling.
+	 * @return the new ExecutorService
+	 */
+	default ThreadPoolExecutor newFixedThreadPoolForBlockingIo(int threads, String threadNamePrefix) {
+		return newFixedThreadPool( threads, threadNamePrefix );
+	}
+
 	/**
 	 * Creates a new fixed size {@link ScheduledExecutorService}.
 	 * <p>
@@ -57,6 +73,22 @@ public interface ThreadPoolProvider {
 	 */
 	ScheduledExecutorService newScheduledExecutor(int threads, String threadNamePrefix);
 
+	/**
+	 * Creates a new fixed size {@link ScheduledExecutorService} for tasks that spend most of their time blocked on I/O,
+	 * e.g. waiting for a database to return results.
+	 * <p>
+	 * Behaves like {@link #newScheduledExecutor(int, String)},
+	 * but implementations may create threads with {@link ThreadProvider#createBlockingIoThreadFactory(String)}.
+	 * Defaults to {@link #newScheduledExecutor(int, String)}.
+	 *
+	 * @param threads the number of threads
+	 * @param threadNamePrefix a label to identify the threads; useful for profiling.
+	 * @return the new ExecutorService
+	 */
+	default ScheduledExecutorService newScheduledExecutorForBlockingIo(int threads, String threadNamePrefix) {
+		return newScheduledExecutor( threads, threadNamePrefix );
+	}
+
 	/**
 	 *  @return {@code true} if the executors returned by {@link #newScheduledExecutor} may block when submitting a task;
 	 *  {@code false} if they never block (e.g. they throw an {@link RejectedExecutionException}).
@@ -17,4 +17,14 @@ public interface ThreadProvider {
 
 	ThreadFactory createThreadFactory(String prefix);
 
+	/**
+	 * @param prefix A label to identify the threads; useful for profiling.
+	 * @return A thread factory for threads that will spend most of their time
+	 * blocked on I/O, e.g. waiting for a database to return results.
+	 * Defaults to {@link #createThreadFactory(String)}.
+	 */
+	default ThreadFactory createBlockingIoThreadFactory(String prefix) {
+		return createThreadFactory( prefix );
+	}
+
 }
@@ -10,6 +10,7 @@
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurationContext;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
 import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
+import org.hibernate.search.engine.environment.thread.impl.VirtualThreadProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.impl.LogFailureHandler;
@@ -21,6 +22,10 @@ public void configure(BeanConfigurationContext context) {
 				ThreadProvider.class, EmbeddedThreadProvider.NAME,
 				beanResolver -> BeanHolder.of( new EmbeddedThreadProvider() )
 		);
+		context.define(
+				ThreadProvider.class, VirtualThreadProvider.NAME,
+				beanResolver -> BeanHolder.of( new VirtualThreadProvider() )
+		);
 		context.define(
 				FailureHandler.class, LogFailureHandler.NAME,
 				beanResolver -> BeanHolder.of( new LogFailureHandler() )
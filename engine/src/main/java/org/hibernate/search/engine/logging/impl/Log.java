@@ -570,4 +570,10 @@ SearchException cannotIncludeAndExcludePathsWithinSameFilter(Set<String> include
 			value = "Multiple configuration providers are available for scope '%1$s'. "
 					+ "They will be taken under consideration in the following order: '%2$s'.")
 	void multipleConfigurationProvidersAvailable(String scope, List<ConfigurationProvider> configurationProviders);
+
+	@Message(id = ID_OFFSET + 121,
+			value = "Unable to create virtual threads."
+					+ " Virtual threads require JDK 21 or later, and the current JDK version is '%1$s'."
+					+ " Use another thread provider, or upgrade your JDK.")
+	SearchException virtualThreadsUnavailable(String jdkVersion, @Cause Exception cause);
 }
@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The final step in a "knn" predicate definition, where optional parameters can be set.
+ */
+@Incubating
+public interface KnnPredicateOptionsStep
+		extends PredicateScoreStep<KnnPredicateOptionsStep>, PredicateFinalStep {
+
+	/**
+	 * Only consider documents matching the given predicate when looking for nearest neighbors.
+	 * <p>
+	 * Unlike a filter applied to the knn predicate in a {@link SearchPredicateFactory#bool() boolean predicate},
+	 * this filter is applied <em>before</em> selecting the k nearest neighbors,
+	 * so that the predicate still matches k documents as long as k documents match the filter.
+	 *
+	 * @param filter The predicate documents must match.
+	 * @return {@code this}, for method chaining.
+	 */
+	KnnPredicateOptionsStep filter(SearchPredicate filter);
+
+	/**
+	 * Only consider documents matching the given predicate when looking for nearest neighbors.
+	 *
+	 * @param filter The predicate documents must match.
+	 * @return {@code this}, for method chaining.
+	 * @see #filter(SearchPredicate)
+	 */
+	default KnnPredicateOptionsStep filter(PredicateFinalStep filter) {
+		return filter( filter.toPredicate() );
+	}
+
+	/**
+	 * Only consider documents matching the predicate defined by the given function
+	 * when looking for nearest neighbors.
+	 * <p>
+	 * Best used with lambda expressions.
+	 *
+	 * @param filterContributor A function that will use the factory passed in parameter to create a predicate,
+	 * returning the final step in the predicate DSL.
+	 * Should generally be a lambda expression.
+	 * @return {@code this}, for method chaining.
+	 * @see #filter(SearchPredicate)
+	 */
+	KnnPredicateOptionsStep filter(Function<? super SearchPredicateFactory, ? extends PredicateFinalStep> filterContributor);
+
+}
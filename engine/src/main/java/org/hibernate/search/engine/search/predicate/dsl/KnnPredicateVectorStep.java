@@ -0,0 +1,24 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The step in a "knn" predicate definition where the vector to match can be set.
+ */
+@Incubating
+public interface KnnPredicateVectorStep {
+
+	/**
+	 * @param vector The vector to compare indexed vectors to.
+	 * Must have the same dimension as the targeted field.
+	 * @return The next step.
+	 */
+	KnnPredicateOptionsStep matching(float... vector);
+
+}
@@ -263,6 +263,23 @@ SimpleBooleanPredicateOptionsStep<?> or(PredicateFinalStep firstSearchPredicate,
 	 */
 	SpatialPredicateInitialStep spatial();
 
+	/**
+	 * Match the {@code k} documents whose vector field is the nearest to a given vector,
+	 * according to the {@link org.hibernate.search.engine.backend.types.VectorSimilarity similarity}
+	 * configured on that field.
+	 * <p>
+	 * The search is approximate: it relies on a graph built at indexing time,
+	 * and thus may miss some of the actual nearest neighbors,
+	 * but executes in sub-linear time.
+	 * Matched documents are scored according to their similarity with the given vector.
+	 *
+	 * @param k The number of nearest neighbors to match.
+	 * @return The initial step of a DSL where the "knn" predicate can be defined.
+	 * @see KnnPredicateFieldStep
+	 */
+	@Incubating
+	KnnPredicateFieldStep knn(int k);
+
 	/**
 	 * Match documents if they match a combination of defined named predicate clauses.
 	 *
@@ -35,5 +35,6 @@ public static SearchQueryElementTypeKey<NamedPredicateBuilder> named(String name
 			key( "spatial:within-polygon" );
 	public static final SearchQueryElementTypeKey<SpatialWithinBoundingBoxPredicateBuilder> SPATIAL_WITHIN_BOUNDING_BOX =
 			key( "spatial:within-bounding-box" );
+	public static final SearchQueryElementTypeKey<KnnPredicateBuilder> KNN = key( "knn" );
 
 }
@@ -30,6 +30,7 @@
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -126,6 +127,71 @@ void simple_batchEndsImmediately(String name, OperationSubmitter operationSubmit
 		checkPostExecution( operationSubmitter );
 	}
 
+	@ParameterizedTest(name = "operation submitter = {0}")
+	@MethodSource("params")
+	void batchLinger(String name, OperationSubmitter operationSubmitter) throws InterruptedException {
+		// Linger long enough that only a full batch can end the wait during this test
+		createAndStartExecutor( 3, true, TimeUnit.MINUTES.toNanos( 1 ), false,
+				w -> fail( "Work shouldn't be offloaded." ) );
+
+		StubWork work1Mock = workMock( 1 );
+		executor.submit( work1Mock, operationSubmitter );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// The executor is waiting for more works: no calls expected yet
+		} );
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) batch1Future );
+		StubWork work2Mock = workMock( 2 );
+		StubWork work3Mock = workMock( 3 );
+		executor.submit( work2Mock, operationSubmitter );
+		executor.submit( work3Mock, operationSubmitter );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// The batch is now full: all works should be processed together
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( work3Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).complete();
+		} );
+		assertThat( executor.averageQueueWaitNanos() ).isPositive();
+	}
+
+	@ParameterizedTest(name = "operation submitter = {0}")
+	@MethodSource("params")
+	void batchLinger_expires(String name, OperationSubmitter operationSubmitter) throws InterruptedException {
+		createAndStartExecutor( 3, true, TimeUnit.MILLISECONDS.toNanos( 100 ), false,
+				w -> fail( "Work shouldn't be offloaded." ) );
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) batch1Future );
+		StubWork work1Mock = workMock( 1 );
+		executor.submit( work1Mock, operationSubmitter );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// No other work is submitted: the batch should be processed when the linger delay expires
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).complete();
+		} );
+	}
+
+	@Test
+	void batchLinger_doesNotBlockThread() throws Exception {
+		createAndStartExecutor( 3, true, TimeUnit.MINUTES.toNanos( 1 ), false,
+				w -> fail( "Work shouldn't be offloaded." ), 1 );
+
+		StubWork work1Mock = workMock( 1 );
+		executor.submit( work1Mock, OperationSubmitter.blocking() );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// The executor is waiting for more works: no calls expected yet
+		} );
+
+		// The only thread of the executor service must still be available to other tasks while lingering
+		executorService.submit( () -> {} ).get( 5, TimeUnit.SECONDS );
+	}
+
 	@ParameterizedTest(name = "operation submitter = {0}")
 	@MethodSource("params")
 	void simple_batchEndsLater_someAdditionalWorkBeforeComplete(String name, OperationSubmitter operationSubmitter)
@@ -548,13 +614,26 @@ private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair,
 			Consumer<? super BatchedWork<? super StubWorkProcessor>> blockingRetryProducer) {
-		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock, blockingRetryProducer
-		);
+		createAndStartExecutor( maxTasksPerBatch, fair, 0L, false, blockingRetryProducer );
+	}
 
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair,
+			long batchLingerNanos, boolean adaptiveBatchSize,
+			Consumer<? super BatchedWork<? super StubWorkProcessor>> blockingRetryProducer) {
 		// Having multiple threads should not matter:
 		// the batching executor takes care of executing in only one thread at a time.
-		this.executorService = threadPoolProvider.newScheduledExecutor( 4, "BatchingExecutorTest" );
+		createAndStartExecutor( maxTasksPerBatch, fair, batchLingerNanos, adaptiveBatchSize, blockingRetryProducer, 4 );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair,
+			long batchLingerNanos, boolean adaptiveBatchSize,
+			Consumer<? super BatchedWork<? super StubWorkProcessor>> blockingRetryProducer, int threads) {
+		this.executor = new BatchingExecutor<>(
+				NAME, processorMock, maxTasksPerBatch, fair, batchLingerNanos, adaptiveBatchSize,
+				failureHandlerMock, blockingRetryProducer
+		);
+
+		this.executorService = threadPoolProvider.newScheduledExecutor( threads, "BatchingExecutorTest" );
 
 		executor.start( new DelegatingSimpleScheduledExecutor( executorService, true ) );
 		verifyAsynchronouslyAndReset( inOrder -> {
@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.thread.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+class VirtualThreadProviderTest {
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void blockingIo_virtual() {
+		VirtualThreadProvider provider = new VirtualThreadProvider( "Test - " );
+		Thread thread = provider.createBlockingIoThreadFactory( "Foo" ).newThread( () -> {} );
+		assertThat( thread.getName() ).isEqualTo( "Test - Foo - 0" );
+		assertThat( thread.isDaemon() ).isTrue();
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void other_platform() {
+		VirtualThreadProvider provider = new VirtualThreadProvider( "Test - " );
+		ThreadFactory factory = provider.createThreadFactory( "Foo" );
+		Thread thread = factory.newThread( () -> {} );
+		assertThat( thread.getName() ).isEqualTo( "Test - Foo - 0" );
+		assertThat( thread.isDaemon() ).isFalse();
+		assertThat( provider.createThreadName( "Foo", 3 ) ).isEqualTo( "Test - Foo - 3" );
+	}
+
+	@Test
+	@DisabledForJreRange(min = JRE.JAVA_21)
+	void unsupportedJdk() {
+		assertThatThrownBy( VirtualThreadProvider::new )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to create virtual threads",
+						"Virtual threads require JDK 21 or later",
+						"Use another thread provider, or upgrade your JDK." );
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchTckBackendFeatures;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Checks scrolls relying on a point in time and {@code search_after}, with and without slicing.
+ */
+class ElasticsearchPointInTimeScrollIT {
+
+	private static final int DOCUMENT_COUNT = 250;
+	private static final int CHUNK_SIZE = 30;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void checkAssumption() {
+		assumeTrue(
+				ElasticsearchTckBackendFeatures.supportsPointInTimeScroll(),
+				"This test only is only relevant if the cluster supports point in time with the _shard_doc tiebreaker."
+		);
+	}
+
+	@Test
+	void singleSlice() {
+		setup( 1 );
+
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+				assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+				for ( DocumentReference hit : chunk.hits() ) {
+					ids.add( hit.id() );
+				}
+			}
+		}
+
+		// Hits are sorted across chunks
+		assertThat( ids ).containsExactlyElementsOf( expectedIds() );
+	}
+
+	@Test
+	void multipleSlices() {
+		setup( 3 );
+
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = index.query()
+				.where( f -> f.matchAll() )
+				.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+				assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+				for ( DocumentReference hit : chunk.hits() ) {
+					ids.add( hit.id() );
+				}
+			}
+		}
+
+		// Each hit is returned exactly once, though not in any particular order
+		assertThat( ids ).containsExactlyInAnyOrderElementsOf( expectedIds() );
+	}
+
+	private void setup(int slices) {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchBackendSettings.SCROLL_POINT_IN_TIME, true )
+				.withBackendProperty( ElasticsearchBackendSettings.SCROLL_SLICES, slices )
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider( String.valueOf( i ),
+						document -> document.addValue( index.binding().integer, i ) ) )
+				.join();
+	}
+
+	private static List<String> expectedIds() {
+		return IntStream.range( 0, DOCUMENT_COUNT ).mapToObj( String::valueOf ).collect( Collectors.toList() );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -206,6 +206,16 @@ public static boolean supportsVersionCheck() {
 		);
 	}
 
+	public static boolean supportsPointInTimeScroll() {
+		return isActualVersion(
+				// The _shard_doc tiebreaker was introduced in 7.12
+				es -> !es.isLessThan( "7.12" ),
+				// OpenSearch exposes point in time through a different API
+				os -> false,
+				aoss -> false
+		);
+	}
+
 	public static boolean supportsIndexStatusCheck() {
 		return isActualVersion(
 				es -> true,
@@ -41,6 +41,24 @@ static void setup() {
 		backend = integration.backend().unwrap( LuceneBackend.class );
 	}
 
+	@Test
+	void queryResultCacheStatistics_disabled() {
+		// The query result cache is disabled by default
+		assertThat( backend.queryResultCacheStatistics() ).isEmpty();
+	}
+
+	@Test
+	void parentBitSetCacheStatistics() {
+		// The parent bitset cache is enabled by default
+		assertThat( backend.parentBitSetCacheStatistics() ).isNotEmpty();
+	}
+
+	@Test
+	void commitStatistics() {
+		assertThat( backend.commitStatistics() ).isNotNull();
+		assertThat( backend.commitStatistics().commitCount() ).isGreaterThanOrEqualTo( 0L );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3589")
 	void analyzer() {
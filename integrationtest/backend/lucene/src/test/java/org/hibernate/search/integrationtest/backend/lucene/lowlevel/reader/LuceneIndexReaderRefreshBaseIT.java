@@ -154,6 +154,55 @@ void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce(DocumentComm
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
+	@ParameterizedTest(name = "Commit strategy {0}, commit_interval {1}")
+	@MethodSource("params")
+	void ioStrategyDefault_refreshIntervalPositive_backgroundRefresh_refreshStrategyNone(
+			DocumentCommitStrategy commitStrategy, Integer commitInterval) {
+		setup( null, NON_ZERO_DELAY, commitInterval, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasNoHits();
+
+		// ... but they should be after some time
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@ParameterizedTest(name = "Commit strategy {0}, commit_interval {1}")
+	@MethodSource("params")
+	void ioStrategyDefault_refreshIntervalPositive_backgroundRefresh_refreshStrategyForce(
+			DocumentCommitStrategy commitStrategy, Integer commitInterval) {
+		setup( null, NON_ZERO_DELAY, commitInterval, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.FORCE // This will force a refresh regardless of the background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
 	@ParameterizedTest(name = "Commit strategy {0}, commit_interval {1}")
 	@MethodSource("params")
 	void ioStrategyDebug(DocumentCommitStrategy commitStrategy, Integer commitInterval) {
@@ -177,11 +226,17 @@ void ioStrategyDebug(DocumentCommitStrategy commitStrategy, Integer commitInterv
 	}
 
 	private void setup(String ioStrategyName, Integer refreshIntervalMs, Integer commitInterval) {
+		setup( ioStrategyName, refreshIntervalMs, commitInterval, null );
+	}
+
+	private void setup(String ioStrategyName, Integer refreshIntervalMs, Integer commitInterval,
+			Boolean backgroundRefresh) {
 		setupHelper.start()
 				.withIndex( index )
 				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshIntervalMs )
 				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
+				.withBackendProperty( LuceneIndexSettings.IO_BACKGROUND_REFRESH, backgroundRefresh )
 				.setup();
 	}
 
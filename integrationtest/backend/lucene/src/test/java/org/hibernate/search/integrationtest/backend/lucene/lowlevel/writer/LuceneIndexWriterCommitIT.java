@@ -14,6 +14,7 @@
 import java.util.Arrays;
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
@@ -45,13 +46,16 @@ class LuceneIndexWriterCommitIT {
 
 	public static List<? extends Arguments> params() {
 		return Arrays.asList(
-				Arguments.of( "debug", null ),
-				Arguments.of( null, null ),
-				Arguments.of( null, 0 ),
-				Arguments.of( null, NON_ZERO_DELAY ),
-				Arguments.of( "near-real-time", null ),
-				Arguments.of( "near-real-time", 0 ),
-				Arguments.of( "near-real-time", NON_ZERO_DELAY )
+				Arguments.of( "debug", null, null ),
+				Arguments.of( null, null, null ),
+				Arguments.of( null, 0, null ),
+				Arguments.of( null, NON_ZERO_DELAY, null ),
+				Arguments.of( "near-real-time", null, null ),
+				Arguments.of( "near-real-time", 0, null ),
+				Arguments.of( "near-real-time", NON_ZERO_DELAY, null ),
+				Arguments.of( "debug", null, 1 ),
+				Arguments.of( "near-real-time", 0, 1 ),
+				Arguments.of( "near-real-time", NON_ZERO_DELAY, 1 )
 		);
 	}
 
@@ -60,10 +64,12 @@ public static List<? extends Arguments> params() {
 
 	private final StubMappedIndex index = StubMappedIndex.withoutFields();
 
-	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}")
+	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}, commit coordination max concurrency {2}")
 	@MethodSource("params")
-	void commitStrategyNone(String ioStrategyName, Integer commitInterval) throws IOException {
-		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, ioStrategyName, commitInterval );
+	void commitStrategyNone(String ioStrategyName, Integer commitInterval, Integer commitMaxConcurrency)
+			throws IOException {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, ioStrategyName, commitInterval,
+				commitMaxConcurrency );
 
 		// Initially our document is not in the index
 		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
@@ -88,10 +94,12 @@ void commitStrategyNone(String ioStrategyName, Integer commitInterval) throws IO
 		} );
 	}
 
-	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}")
+	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}, commit coordination max concurrency {2}")
 	@MethodSource("params")
-	void commitStrategyForce(String ioStrategyName, Integer commitInterval) throws IOException {
-		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, ioStrategyName, commitInterval );
+	void commitStrategyForce(String ioStrategyName, Integer commitInterval, Integer commitMaxConcurrency)
+			throws IOException {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP, ioStrategyName, commitInterval,
+				commitMaxConcurrency );
 
 		// Initially our document is not in the index
 		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
@@ -111,12 +119,14 @@ void commitStrategyForce(String ioStrategyName, Integer commitInterval) throws I
 	/**
 	 * Test that changes are actually committed when closing the integration.
 	 */
-	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}")
+	@ParameterizedTest(name = "I/O strategy {0}, commit_interval {1}, commit coordination max concurrency {2}")
 	@MethodSource("params")
-	void integrationClose(String ioStrategyName, Integer commitInterval) throws IOException {
+	void integrationClose(String ioStrategyName, Integer commitInterval, Integer commitMaxConcurrency)
+			throws IOException {
 		StubMapping mapping = setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY,
 				ioStrategyName,
-				commitInterval
+				commitInterval,
+				commitMaxConcurrency
 		);
 
 		// Initially our document is not in the index
@@ -151,12 +161,13 @@ private int countDocsOnDisk() throws IOException {
 	}
 
 	private StubMapping setup(StubMappingSchemaManagementStrategy schemaManagementStrategy, String ioStrategyName,
-			Integer commitInterval) {
+			Integer commitInterval, Integer commitMaxConcurrency) {
 		return setupHelper.start()
 				.withSchemaManagement( schemaManagementStrategy )
 				.withIndex( index )
 				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
+				.withBackendProperty( LuceneBackendSettings.COMMIT_COORDINATION_MAX_CONCURRENCY, commitMaxConcurrency )
 				.setup();
 	}
 }
@@ -0,0 +1,203 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.multitenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubSession;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+
+/**
+ * Tests the "partitioned" multi-tenancy strategy, which spreads tenants over several physical indexes.
+ */
+class LuceneMultiTenancyPartitionedIT {
+
+	private static final int NUMBER_OF_PARTITIONS = 4;
+	private static final int NUMBER_OF_TENANTS = 10;
+	private static final int DOCUMENTS_PER_TENANT = 5;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private StubMapping mapping;
+
+	@Test
+	void search_onlyTargetsTenant() {
+		setup();
+		initData();
+
+		for ( int i = 0; i < NUMBER_OF_TENANTS; i++ ) {
+			String tenantId = tenantId( i );
+			assertThatQuery( index.createScope().query( session( i ) )
+					.where( f -> f.matchAll() )
+					.toQuery() )
+					.hasTotalHitCount( DOCUMENTS_PER_TENANT );
+			assertThatQuery( index.createScope().query( session( i ) )
+					.where( f -> f.match().field( "string" ).matching( tenantId ) )
+					.toQuery() )
+					.hasTotalHitCount( DOCUMENTS_PER_TENANT );
+		}
+	}
+
+	@Test
+	void documentsOfATenantLiveInASinglePartition() throws IOException {
+		setup();
+		initData();
+		index.createWorkspace( session( 0 ) )
+				.flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL )
+				.join();
+
+		Map<String, Integer> partitionCountByTenant = new HashMap<>();
+		int totalDocumentCount = 0;
+		for ( int partition = 0; partition < NUMBER_OF_PARTITIONS; partition++ ) {
+			String partitionPath = index.name() + "/tenant-partition-" + partition;
+			if ( !LuceneIndexContentUtils.indexExists( setupHelper, partitionPath ) ) {
+				continue;
+			}
+			totalDocumentCount += LuceneIndexContentUtils.readIndex( setupHelper, partitionPath, reader -> {
+				countTenantsInPartition( reader, partitionCountByTenant );
+				return reader.getDocCount( MetadataFields.idFieldName() );
+			} );
+		}
+
+		assertThat( totalDocumentCount ).isEqualTo( NUMBER_OF_TENANTS * DOCUMENTS_PER_TENANT );
+		assertThat( partitionCountByTenant ).hasSize( NUMBER_OF_TENANTS )
+				.allSatisfy( (tenantId, partitionCount) -> assertThat( partitionCount ).isEqualTo( 1 ) );
+	}
+
+	@Test
+	void purge_onlyAffectsTenant() {
+		setup();
+		initData();
+
+		index.createWorkspace( session( 0 ) )
+				.purge( Collections.emptySet(), OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL )
+				.join();
+		index.createWorkspace( session( 0 ) )
+				.refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL )
+				.join();
+
+		assertThatQuery( index.createScope().query( session( 0 ) )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasTotalHitCount( 0 );
+		for ( int i = 1; i < NUMBER_OF_TENANTS; i++ ) {
+			assertThatQuery( index.createScope().query( session( i ) )
+					.where( f -> f.matchAll() )
+					.toQuery() )
+					.hasTotalHitCount( DOCUMENTS_PER_TENANT );
+		}
+	}
+
+	@Test
+	void sharding_invalid() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY, "partitioned" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 2 )
+				.withIndex( index ).withMultiTenancy()
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid sharding configuration",
+								"sharding cannot be combined with the 'partitioned' multi-tenancy strategy" ) );
+	}
+
+	@Test
+	void numberOfPartitions_tooMany() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY, "partitioned" )
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_NUMBER_OF_PARTITIONS, 257 )
+				.withIndex( index ).withMultiTenancy()
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.defaultBackendContext()
+						.failure( "Invalid value for configuration property 'hibernate.search.backend."
+								+ LuceneBackendSettings.MULTI_TENANCY_NUMBER_OF_PARTITIONS + "': '257'",
+								"Invalid number of partitions: '257'",
+								"The number of partitions must be between 1 and 256" ) );
+	}
+
+	private void setup() {
+		mapping = setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY, "partitioned" )
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_NUMBER_OF_PARTITIONS, NUMBER_OF_PARTITIONS )
+				.withIndex( index ).withMultiTenancy()
+				.setup();
+	}
+
+	private void initData() {
+		for ( int i = 0; i < NUMBER_OF_TENANTS; i++ ) {
+			String tenantId = tenantId( i );
+			index.bulkIndexer( session( i ), true )
+					.add( DOCUMENTS_PER_TENANT, docId -> documentProvider( String.valueOf( docId ),
+							document -> document.addValue( index.binding().string, tenantId ) ) )
+					.join();
+		}
+	}
+
+	private StubSession session(int tenantIndex) {
+		return mapping.session( tenantId( tenantIndex ) );
+	}
+
+	private static String tenantId(int tenantIndex) {
+		return "tenant_" + tenantIndex;
+	}
+
+	private static void countTenantsInPartition(DirectoryReader reader, Map<String, Integer> partitionCountByTenant)
+			throws IOException {
+		IndexSearcher searcher = new IndexSearcher( reader );
+		for ( int i = 0; i < NUMBER_OF_TENANTS; i++ ) {
+			String tenantId = tenantId( i );
+			int count = searcher.count( new TermQuery( new Term( MetadataFields.tenantIdFieldName(), tenantId ) ) );
+			if ( count > 0 ) {
+				assertThat( count ).isEqualTo( DOCUMENTS_PER_TENANT );
+				partitionCountByTenant.merge( tenantId, 1, Integer::sum );
+			}
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.document.Document;
+
+/**
+ * Tests projections on fields declared as {@link Projectable#DOC_VALUES}.
+ */
+class LuceneDocValuesProjectionIT {
+
+	private static final Instant INSTANT_WITH_NANOS = Instant.parse( "2023-05-12T10:15:30.123456789Z" );
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start().withIndex( index ).setup();
+		initData();
+	}
+
+	@Test
+	void singleValued() {
+		List<List<?>> hits = index.query()
+				.select( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "localDate", LocalDate.class )
+				) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits();
+		assertThat( hits ).containsExactlyInAnyOrder(
+				Arrays.asList( 1, LocalDate.of( 2020, 1, 1 ) ),
+				Arrays.asList( 2, LocalDate.of( 2021, 2, 2 ) ),
+				Arrays.asList( null, null )
+		);
+	}
+
+	@Test
+	void multiValued() {
+		List<List<Long>> hits = index.query()
+				.select( f -> f.field( "multiLong", Long.class ).multi() )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits();
+		// Doc values are sorted: the original order is lost.
+		assertThat( hits ).containsExactly( Arrays.asList( -3L, 7L, 42L ) );
+	}
+
+	@Test
+	void nested() {
+		List<List<Integer>> hits = index.query()
+				.select( f -> f.field( "nested.integer", Integer.class ).multi() )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits();
+		assertThat( hits ).containsExactly( Arrays.asList( 10, 11 ) );
+	}
+
+	@Test
+	void notStored() {
+		List<Document> hits = index.query()
+				.select( f -> f.extension( LuceneExtension.get() ).document() )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits();
+		assertThat( hits ).hasSize( 1 );
+		Document document = hits.get( 0 );
+		assertThat( document.getField( "integer" ) ).isNull();
+		assertThat( document.getField( "localDate" ) ).isNull();
+		assertThat( document.getField( "multiLong" ) ).isNull();
+		// Doc values would lose precision for this type: it's stored as usual.
+		assertThat( document.getField( "instant" ) ).isNotNull();
+	}
+
+	@Test
+	void unsupportedType_fallbackToStorage() {
+		List<Instant> hits = index.query()
+				.select( f -> f.field( "instant", Instant.class ) )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchAllHits();
+		assertThat( hits ).containsExactly( INSTANT_WITH_NANOS );
+	}
+
+	private void initData() {
+		IndexBinding binding = index.binding();
+		index.bulkIndexer()
+				.add( "1", document -> {
+					document.addValue( binding.integer, 1 );
+					document.addValue( binding.localDate, LocalDate.of( 2020, 1, 1 ) );
+					document.addValue( binding.multiLong, 42L );
+					document.addValue( binding.multiLong, -3L );
+					document.addValue( binding.multiLong, 7L );
+					document.addValue( binding.instant, INSTANT_WITH_NANOS );
+					document.addObject( binding.nested ).addValue( binding.nestedInteger, 10 );
+					document.addObject( binding.nested ).addValue( binding.nestedInteger, 11 );
+				} )
+				.add( "2", document -> {
+					document.addValue( binding.integer, 2 );
+					document.addValue( binding.localDate, LocalDate.of( 2021, 2, 2 ) );
+				} )
+				.add( "empty", document -> {} )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<Long> multiLong;
+		final IndexFieldReference<Instant> instant;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.DOC_VALUES ) )
+					.toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate().projectable( Projectable.DOC_VALUES ) )
+					.toReference();
+			multiLong = root.field( "multiLong", f -> f.asLong().projectable( Projectable.DOC_VALUES ) )
+					.multiValued().toReference();
+			instant = root.field( "instant", f -> f.asInstant().projectable( Projectable.DOC_VALUES ) )
+					.toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED )
+					.multiValued();
+			nested = nestedObject.toReference();
+			nestedInteger = nestedObject.field( "integer", f -> f.asInteger().projectable( Projectable.DOC_VALUES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckBackendHelper;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubSession;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Checks the knn predicate, and in particular that filters are applied before selecting the nearest neighbors.
+ */
+class LuceneKnnPredicateIT {
+
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private StubSession tenant1Session;
+	private StubSession tenant2Session;
+
+	@BeforeEach
+	void setup() {
+		StubMapping mapping = setupHelper.start( TckBackendHelper::createMultiTenancyBackendSetupStrategy )
+				.withIndex( index ).withMultiTenancy()
+				.setup();
+		tenant1Session = mapping.session( TENANT_1 );
+		tenant2Session = mapping.session( TENANT_2 );
+
+		IndexIndexingPlan plan = index.createIndexingPlan( tenant1Session );
+		add( plan, "1", 1.0f, 1.0f, "odd" );
+		add( plan, "2", 2.0f, 2.0f, "even" );
+		add( plan, "3", 3.0f, 3.0f, "odd" );
+		add( plan, "4", 4.0f, 4.0f, "even" );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Documents of the other tenant are all closer to the query vector
+		plan = index.createIndexingPlan( tenant2Session );
+		add( plan, "5", 0.0f, 0.0f, "odd" );
+		add( plan, "6", 0.1f, 0.1f, "even" );
+		add( plan, "7", 0.2f, 0.2f, "odd" );
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	@Test
+	void nearestNeighbors() {
+		assertThat( index.createScope().query( tenant1Session )
+				.select( f -> f.field( "label", String.class ) )
+				.where( f -> f.knn( 2 ).field( "vector" ).matching( 0.0f, 0.0f ) )
+				.fetchAllHits() )
+				.containsExactly( "odd", "even" );
+
+		assertThat( index.createScope().query( tenant2Session )
+				.select( f -> f.id() )
+				.where( f -> f.knn( 2 ).field( "vector" ).matching( 0.0f, 0.0f ) )
+				.fetchAllHits() )
+				.containsExactly( "5", "6" );
+	}
+
+	@Test
+	void filter() {
+		List<Object> hits = index.createScope().query( tenant1Session )
+				.select( f -> f.id() )
+				.where( f -> f.knn( 2 ).field( "vector" ).matching( 0.0f, 0.0f )
+						.filter( f.match().field( "label" ).matching( "even" ) ) )
+				.fetchAllHits();
+		// Filtering after the fact would have returned document 2 only
+		assertThat( hits ).containsExactly( "2", "4" );
+	}
+
+	@Test
+	void projection() {
+		assertThat( index.createScope().query( tenant1Session )
+				.select( f -> f.field( "vector", float[].class ) )
+				.where( f -> f.knn( 1 ).field( "vector" ).matching( 4.0f, 4.0f ) )
+				.fetchAllHits() )
+				.containsExactly( new float[] { 4.0f, 4.0f } );
+	}
+
+	@Test
+	void invalidVectorDimension() {
+		assertThatThrownBy( () -> index.createScope().query( tenant1Session )
+				.where( f -> f.knn( 1 ).field( "vector" ).matching( 1.0f, 1.0f, 1.0f ) )
+				.toQuery() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid vector", "expected 2 components, but got 3", "vector" );
+	}
+
+	private void add(IndexIndexingPlan plan, String id, float x, float y, String label) {
+		plan.add( referenceProvider( id ), document -> {
+			document.addValue( index.binding().vector, new float[] { x, y } );
+			document.addValue( index.binding().label, label );
+		} );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<float[]> vector;
+		final IndexFieldReference<String> label;
+
+		IndexBinding(IndexSchemaElement root) {
+			vector = root.field( "vector", c -> c.asFloatVector().dimension( 2 ).projectable( Projectable.YES ) )
+					.toReference();
+			label = root.field( "label", c -> c.asString().projectable( Projectable.YES ) ).toReference();
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.LuceneCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Checks that the query result cache returns correct results for repeated queries,
+ * and that it does not return stale results after the index changes.
+ */
+class LuceneQueryResultCacheIT {
+
+	private static final AggregationKey<Map<String, Long>> TERMS_KEY = AggregationKey.of( "terms" );
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private LuceneBackend backend;
+
+	@BeforeEach
+	void setup() {
+		backend = setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_WEIGHT, 1000 )
+				.withIndex( index )
+				.setup().integration().backend().unwrap( LuceneBackend.class );
+		index.bulkIndexer()
+				.add( 10, i -> documentProvider( String.valueOf( i ), document -> {
+					document.addValue( index.binding().integer, i );
+					document.addValue( index.binding().string, "value" + ( i % 2 ) );
+				} ) )
+				.join();
+	}
+
+	@Test
+	void repeatedQuery() {
+		SearchQuery<Integer> query = index.query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.range().field( "integer" ).atLeast( 5 ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.aggregation( TERMS_KEY, f -> f.terms().field( "string", String.class ) )
+				.toQuery();
+
+		for ( int i = 0; i < 3; i++ ) {
+			SearchResult<Integer> result = query.fetch( 3 );
+			assertThat( result.hits() ).containsExactly( 9, 8, 7 );
+			assertThat( result.total().hitCount() ).isEqualTo( 5L );
+			assertThat( result.aggregation( TERMS_KEY ) )
+					.containsEntry( "value0", 2L )
+					.containsEntry( "value1", 3L );
+		}
+
+		// Different pages must not share results
+		assertThat( query.fetch( 3, 3 ).hits() ).containsExactly( 6, 5 );
+	}
+
+	@Test
+	void statistics() {
+		assertThat( backend.queryResultCacheStatistics() ).isNotEmpty();
+		LuceneCacheStatistics statistics = backend.queryResultCacheStatistics().get();
+		long initialHitCount = statistics.hitCount();
+		long initialMissCount = statistics.missCount();
+
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.range().field( "integer" ).atLeast( 5 ) )
+				.toQuery();
+		query.fetch( 3 );
+		query.fetch( 3 );
+		query.fetch( 3 );
+
+		assertThat( statistics.missCount() - initialMissCount ).isEqualTo( 1L );
+		assertThat( statistics.hitCount() - initialHitCount ).isEqualTo( 2L );
+	}
+
+	@Test
+	void differentAggregations() {
+		AggregationKey<Map<String, Long>> otherKey = AggregationKey.of( "other" );
+		SearchResult<DocumentReference> result1 = index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().field( "string", String.class ) )
+				.fetch( 0 );
+		SearchResult<DocumentReference> result2 = index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( otherKey, f -> f.terms().field( "string", String.class ).maxTermCount( 1 ) )
+				.fetch( 0 );
+
+		assertThat( result1.aggregation( TERMS_KEY ) ).hasSize( 2 );
+		assertThat( result2.aggregation( otherKey ) ).hasSize( 1 );
+	}
+
+	@Test
+	void indexChange() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.match().field( "string" ).matching( "value0" ) )
+				.toQuery();
+		assertThatResult( query.fetchAll() ).hasTotalHitCount( 5L );
+
+		index.index( "10", document -> {
+			document.addValue( index.binding().integer, 10 );
+			document.addValue( index.binding().string, "value0" );
+		} );
+
+		assertThatResult( query.fetchAll() ).hasTotalHitCount( 6L );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", c -> c.asInteger().sortable( Sortable.YES )
+					.projectable( Projectable.YES ) ).toReference();
+			string = root.field( "string", c -> c.asString().aggregable( Aggregable.YES ) ).toReference();
+		}
+	}
+}
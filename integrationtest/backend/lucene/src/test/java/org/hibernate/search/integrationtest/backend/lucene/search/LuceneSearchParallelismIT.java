@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Checks that queries return the same results when slices of segments are searched concurrently.
+ */
+class LuceneSearchParallelismIT {
+
+	// Each batch ends with a refresh, and thus creates a new segment.
+	// Lucene groups at most 5 small segments per slice, so we need more than that to get multiple slices.
+	private static final int BATCH_COUNT = 8;
+	private static final int BATCH_SIZE = 100;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_PARALLELISM, 4 )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	void sort_offsetLimit() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.range().field( "integer" ).between( 100, 699 ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.fetch( 10, 5 );
+
+		assertThatResult( result )
+				.hasDocRefHitsExactOrder( index.typeName(), "689", "688", "687", "686", "685" )
+				.hasTotalHitCount( 600L );
+	}
+
+	@Test
+	void sort_offsetBeyondTotalHitCount() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.range().field( "integer" ).between( 100, 699 ) )
+				.sort( f -> f.field( "integer" ) )
+				.fetch( 700, 5 );
+
+		assertThatResult( result )
+				.hasNoHits()
+				.hasTotalHitCount( 600L );
+	}
+
+	@Test
+	void score_all() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.match().field( "string" ).matching( "value1" ) )
+				.fetchAll();
+
+		assertThat( result.hits() ).hasSize( BATCH_COUNT * BATCH_SIZE / 4 );
+		assertThatResult( result ).hasTotalHitCount( BATCH_COUNT * BATCH_SIZE / 4 );
+	}
+
+	@Test
+	void totalHitCountOnly() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.range().field( "integer" ).atLeast( 250 ) )
+				.fetch( 0 );
+
+		assertThatResult( result ).hasTotalHitCount( BATCH_COUNT * BATCH_SIZE - 250 );
+		assertThat( index.query().where( f -> f.range().field( "integer" ).atLeast( 250 ) ).fetchTotalHitCount() )
+				.isEqualTo( BATCH_COUNT * BATCH_SIZE - 250 );
+	}
+
+	@Test
+	void aggregations() {
+		AggregationKey<Map<String, Long>> termsKey = AggregationKey.of( "terms" );
+		AggregationKey<Map<Range<Integer>, Long>> rangeKey = AggregationKey.of( "range" );
+
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( termsKey, f -> f.terms().field( "string", String.class ) )
+				.aggregation( rangeKey, f -> f.range().field( "integer", Integer.class )
+						.range( 0, 200 )
+						.range( 200, 750 )
+						.range( 750, null ) )
+				.fetch( 0 );
+
+		Map<String, Long> expectedTerms = new LinkedHashMap<>();
+		for ( int i = 0; i < 4; i++ ) {
+			expectedTerms.put( "value" + i, (long) BATCH_COUNT * BATCH_SIZE / 4 );
+		}
+		assertThat( result.aggregation( termsKey ) ).containsExactlyInAnyOrderEntriesOf( expectedTerms );
+
+		Map<Range<Integer>, Long> expectedRanges = new LinkedHashMap<>();
+		expectedRanges.put( Range.canonical( 0, 200 ), 200L );
+		expectedRanges.put( Range.canonical( 200, 750 ), 550L );
+		expectedRanges.put( Range.canonical( 750, null ), (long) BATCH_COUNT * BATCH_SIZE - 750 );
+		assertThat( result.aggregation( rangeKey ) ).containsExactlyEntriesOf( expectedRanges );
+	}
+
+	private static void initData() {
+		for ( int batch = 0; batch < BATCH_COUNT; batch++ ) {
+			int offset = batch * BATCH_SIZE;
+			index.bulkIndexer()
+					.add( BATCH_SIZE, i -> {
+						int value = offset + i;
+						return documentProvider( String.valueOf( value ), document -> {
+							document.addValue( index.binding().integer, value );
+							document.addValue( index.binding().string, "value" + ( value % 4 ) );
+						} );
+					} )
+					.join();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", c -> c.asInteger().sortable( Sortable.YES )
+					.aggregable( Aggregable.YES ) ).toReference();
+			string = root.field( "string", c -> c.asString().aggregable( Aggregable.YES ) ).toReference();
+		}
+	}
+}
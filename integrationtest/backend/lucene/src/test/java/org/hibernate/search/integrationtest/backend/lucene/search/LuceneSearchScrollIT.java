@@ -0,0 +1,104 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Checks that scrolls, which collect each page after the last hit of the previous page,
+ * neither skip nor repeat hits whose sort values are identical.
+ */
+class LuceneSearchScrollIT {
+
+	private static final int DOCUMENT_COUNT = 1000;
+	private static final int CHUNK_SIZE = 7;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+		initData();
+	}
+
+	@Test
+	void fieldSort_ties() {
+		List<String> ids = scrollAll( index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() ) );
+
+		assertThat( ids ).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf( allIds() );
+	}
+
+	@Test
+	void scoreSort_ties() {
+		List<String> ids = scrollAll( index.query()
+				.where( f -> f.exists().field( "integer" ) ) );
+
+		assertThat( ids ).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf( allIds() );
+	}
+
+	private List<String> scrollAll(SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> query) {
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+				// Chunks must not straddle pages, which all have the same size.
+				assertThat( chunk.hits() ).hasSize( Math.min( CHUNK_SIZE, DOCUMENT_COUNT - ids.size() ) );
+				for ( DocumentReference hit : chunk.hits() ) {
+					ids.add( hit.id() );
+				}
+			}
+		}
+		return ids;
+	}
+
+	private static List<String> allIds() {
+		return IntStream.range( 0, DOCUMENT_COUNT ).mapToObj( String::valueOf ).collect( Collectors.toList() );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> document.addValue( index.binding().integer, i % 3 )
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", c -> c.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
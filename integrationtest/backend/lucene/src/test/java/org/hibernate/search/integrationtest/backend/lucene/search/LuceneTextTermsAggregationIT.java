@@ -0,0 +1,121 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Checks terms aggregations on text fields with many distinct terms spread over multiple segments,
+ * both when few documents match (sparse counting) and when most documents match (dense counting).
+ */
+class LuceneTextTermsAggregationIT {
+
+	// Each batch ends with a refresh, and thus creates a new segment,
+	// so that global ordinals are necessary.
+	private static final int BATCH_COUNT = 5;
+	private static final int BATCH_SIZE = 100;
+	private static final int DOCUMENT_COUNT = BATCH_COUNT * BATCH_SIZE;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+		initData();
+	}
+
+	@Test
+	void fewMatchingDocuments() {
+		AggregationKey<Map<String, Long>> termsKey = AggregationKey.of( "terms" );
+
+		SearchQuery<?> query = index.query()
+				.where( f -> f.range().field( "integer" ).between( 150, 152 ) )
+				.aggregation( termsKey, f -> f.terms().field( "text", String.class ) )
+				.toQuery();
+
+		Map<String, Long> expected = new LinkedHashMap<>();
+		expected.put( "shared", 3L );
+		expected.put( term( 150 ), 1L );
+		expected.put( term( 151 ), 1L );
+		expected.put( term( 152 ), 1L );
+
+		assertThat( query.fetch( 0 ).aggregation( termsKey ) ).containsExactlyEntriesOf( expected );
+		// Executing the same query again against the same reader should give the same results
+		assertThat( query.fetch( 0 ).aggregation( termsKey ) ).containsExactlyEntriesOf( expected );
+	}
+
+	@Test
+	void mostMatchingDocuments() {
+		AggregationKey<Map<String, Long>> termsKey = AggregationKey.of( "terms" );
+
+		SearchQuery<?> query = index.query()
+				.where( f -> f.range().field( "integer" ).atLeast( 10 ) )
+				.aggregation( termsKey, f -> f.terms().field( "text", String.class )
+						.maxTermCount( DOCUMENT_COUNT + 1 ) )
+				.toQuery();
+
+		Map<String, Long> result = query.fetch( 0 ).aggregation( termsKey );
+		assertThat( result )
+				.hasSize( DOCUMENT_COUNT - 10 + 1 )
+				.containsEntry( "shared", (long) DOCUMENT_COUNT - 10 )
+				.containsEntry( term( 10 ), 1L )
+				.containsEntry( term( DOCUMENT_COUNT - 1 ), 1L )
+				.doesNotContainKey( term( 9 ) );
+		assertThat( query.fetch( 0 ).aggregation( termsKey ) ).isEqualTo( result );
+	}
+
+	private static String term(int value) {
+		return String.format( Locale.ROOT, "value%04d", value );
+	}
+
+	private static void initData() {
+		for ( int batch = 0; batch < BATCH_COUNT; batch++ ) {
+			int offset = batch * BATCH_SIZE;
+			index.bulkIndexer()
+					.add( BATCH_SIZE, i -> {
+						int value = offset + i;
+						return documentProvider( String.valueOf( value ), document -> {
+							document.addValue( index.binding().integer, value );
+							document.addValue( index.binding().text, term( value ) );
+							document.addValue( index.binding().text, "shared" );
+						} );
+					} )
+					.join();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", c -> c.asInteger().searchable( Searchable.YES ) ).toReference();
+			text = root.field( "text", c -> c.asString().aggregable( Aggregable.YES ) ).multiValued().toReference();
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.OutboxEventFilter;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.TestingOutboxPollingInternalConfigurer;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.spi.HibernateOrmMapperOutboxPollingSpiSettings;
+import org.hibernate.search.mapper.orm.outboxpolling.event.spi.OutboxEventNotifier;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Tests that event processors get woken up as soon as new events are committed,
+ * instead of waiting for the next poll.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OutboxPollingAutomaticIndexingNotificationIT {
+
+	// Long enough that indexing within half that time means we didn't wait for the next poll.
+	private static final Duration POLLING_INTERVAL = Duration.ofSeconds( 5 );
+
+	private static final OutboxEventFilter eventFilter = new OutboxEventFilter();
+	private static final TestNotifier notifier = new TestNotifier();
+
+	@RegisterExtension
+	public static BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public static OrmSetupHelper ormSetupHelper =
+			OrmSetupHelper.withCoordinationStrategy( CoordinationStrategyExpectations.outboxPolling() )
+					.withBackendMock( backendMock );
+	private SessionFactory sessionFactory;
+
+	@BeforeAll
+	void setup() {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b.field( "text", String.class ) );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperOutboxPollingImplSettings.COORDINATION_INTERNAL_CONFIGURER,
+						new TestingOutboxPollingInternalConfigurer().outboxEventFilter( eventFilter ) )
+				.withProperty( HibernateOrmMapperOutboxPollingSpiSettings.COORDINATION_EVENT_PROCESSOR_NOTIFIER, notifier )
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL,
+						POLLING_INTERVAL.toMillis() )
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_PULSE_INTERVAL,
+						POLLING_INTERVAL.toMillis() )
+				.withProperty( HibernateOrmMapperOutboxPollingSettings.COORDINATION_EVENT_PROCESSOR_PULSE_EXPIRATION,
+						POLLING_INTERVAL.multipliedBy( 3 ).toMillis() )
+				.withAnnotatedTypes( IndexedEntity.class )
+				.setup();
+		backendMock.verifyExpectationsMet();
+
+		// Wait for the event processor to join the cluster and start processing,
+		// which takes a few polling intervals.
+		persistAndExpectIndexed( 0 );
+		backendMock.verifyExpectationsMet();
+		assertThat( notifier.listeners ).hasSize( 1 );
+	}
+
+	@BeforeEach
+	void resetFilter() {
+		eventFilter.reset();
+		eventFilter.showAllEvents();
+	}
+
+	@Test
+	void localCommit() {
+		int persistedBefore = notifier.persistedCount.get();
+
+		long start = System.nanoTime();
+		persistAndExpectIndexed( 1 );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( Duration.ofNanos( System.nanoTime() - start ) ).isLessThan( POLLING_INTERVAL.dividedBy( 2 ) );
+		assertThat( notifier.persistedCount.get() ).isGreaterThan( persistedBefore );
+	}
+
+	@Test
+	void notifier() throws InterruptedException {
+		// Simulate events committed on another node:
+		// the local notification will wake up the event processor, but it won't see the events.
+		eventFilter.hideAllEvents();
+		persistAndExpectIndexed( 2 );
+		// Give the event processor some time to run and go back to sleep.
+		Thread.sleep( 200 );
+		assertThat( backendMock.remainingExpectedIndexingCount() ).isEqualTo( 1 );
+
+		long start = System.nanoTime();
+		eventFilter.showAllEvents();
+		notifier.listeners.forEach( Runnable::run );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( Duration.ofNanos( System.nanoTime() - start ) ).isLessThan( POLLING_INTERVAL.dividedBy( 2 ) );
+	}
+
+	private void persistAndExpectIndexed(int id) {
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( id, "text " + id ) );
+
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.add( String.valueOf( id ), b -> b.field( "text", "text " + id ) );
+		} );
+	}
+
+	private static class TestNotifier implements OutboxEventNotifier {
+		private final AtomicInteger persistedCount = new AtomicInteger();
+		private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void eventsPersisted(Session session) {
+			persistedCount.incrementAndGet();
+		}
+
+		@Override
+		public Subscription subscribe(String tenantId, Runnable listener) {
+			listeners.add( listener );
+			return () -> listeners.remove( listener );
+		}
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed
+	public static class IndexedEntity {
+		static final String NAME = "IndexedEntity";
+
+		@Id
+		private Integer id;
+		@KeywordField
+		private String text;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+}
@@ -210,6 +210,107 @@ void mergeSegmentsOnFinish() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	void bulkLoadIndexSettings() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer()
+					// Simulate passing information to connect to a DB, ...
+					.context( StubLoadingContext.class, loadingContext )
+					.bulkLoadIndexSettings( true );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorks(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			// bulkLoadIndexSettings enables mergeSegmentsOnFinish by default,
+			// and original settings must be restored before the final flush and refresh:
+			backendMock.expectIndexScaleWorks( Book.INDEX, searchSession.tenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.beginBulkLoad()
+					.mergeSegments()
+					.endBulkLoad()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void batchesInFlightPerThread() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer()
+					// Simulate passing information to connect to a DB, ...
+					.context( StubLoadingContext.class, loadingContext )
+					.batchesInFlightPerThread( 5 );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorks(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, searchSession.tenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void batchesInFlightPerThread_invalid() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			assertThatThrownBy( () -> searchSession.massIndexer().batchesInFlightPerThread( 0 ) )
+					.isInstanceOf( IllegalArgumentException.class )
+					.hasMessageContaining( "batchesInFlight must be at least 1" );
+		}
+	}
+
 	@Test
 	void dropAndCreateSchemaOnStartAndPurgeBothEnabled() {
 		try ( SearchSession searchSession = mapping.createSession() ) {
@@ -0,0 +1,341 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.loading.PersistenceTypeKey;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.loading.StubLoadingContext;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.loading.StubMassLoadingStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.standalone.mapping.SearchMapping;
+import org.hibernate.search.mapper.pojo.standalone.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.standalone.session.SearchSession;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.pojo.standalone.StandalonePojoMappingSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Checks that {@link MassIndexer#checkpointStore(MassIndexingCheckpointStore)} saves checkpoints,
+ * and that {@link MassIndexer#resumeFrom(MassIndexingCheckpointStore)} skips what was already processed.
+ */
+class MassIndexingCheckpointIT {
+
+	public static final String TITLE_1 = "Oliver Twist";
+	public static final String AUTHOR_1 = "Charles Dickens";
+	public static final String TITLE_2 = "Ulysses";
+	public static final String AUTHOR_2 = "James Joyce";
+	public static final String TITLE_3 = "Frankenstein";
+	public static final String AUTHOR_3 = "Mary Shelley";
+
+	@RegisterExtension
+	public final BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public final StandalonePojoMappingSetupHelper setupHelper =
+			StandalonePojoMappingSetupHelper.withBackendMock( MethodHandles.lookup(), backendMock );
+
+	private SearchMapping mapping;
+
+	private final StubLoadingContext loadingContext = new StubLoadingContext();
+	private final InMemoryCheckpointStore checkpointStore = new InMemoryCheckpointStore();
+
+	@BeforeEach
+	void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+		backendMock.expectAnySchema( Article.INDEX );
+
+		mapping = setupHelper.start()
+				.withConfiguration( b -> {
+					b.addEntityType( Book.class, c -> c
+							.massLoadingStrategy( new StubMassLoadingStrategy<>( Book.PERSISTENCE_KEY, true ) ) );
+					b.addEntityType( Article.class, c -> c
+							.massLoadingStrategy( new StubMassLoadingStrategy<>( Article.PERSISTENCE_KEY ) ) );
+				} )
+				.setup( Book.class, Article.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	void checkpointStore() throws InterruptedException {
+		// Checkpoints from previous runs must be ignored
+		checkpointStore.save( MassIndexingCheckpoint.of( Book.NAME, null, 3, true ) );
+
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer( Book.class )
+					.context( StubLoadingContext.class, loadingContext )
+					.checkpointStore( checkpointStore );
+
+			backendMock.expectWorks(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			// The final checkpoint is preceded by a flush
+			backendMock.expectIndexScaleWorks( Book.INDEX, searchSession.tenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.flush()
+					.refresh();
+
+			indexer.startAndWait();
+		}
+
+		backendMock.verifyExpectationsMet();
+		assertThat( checkpointStore.load( Book.NAME, null ) )
+				.contains( MassIndexingCheckpoint.of( Book.NAME, null, 3, true ) );
+	}
+
+	@Test
+	void checkpointStore_notSupported() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer( Article.class )
+					.context( StubLoadingContext.class, loadingContext )
+					.checkpointStore( checkpointStore );
+
+			assertThatThrownBy( indexer::startAndWait )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Cannot use mass indexing checkpoints for entity '" + Article.NAME + "'",
+							"cannot load identifiers in ascending order starting after the last processed identifier" );
+		}
+		assertThat( checkpointStore.load( Article.NAME, null ) ).isEmpty();
+	}
+
+	@Test
+	void resumeFrom() throws InterruptedException {
+		checkpointStore.save( MassIndexingCheckpoint.of( Book.NAME, null, 2, false ) );
+
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer( Book.class )
+					.context( StubLoadingContext.class, loadingContext )
+					.resumeFrom( checkpointStore );
+
+			// Only entities after the checkpoint are indexed
+			backendMock.expectWorks(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			// Resuming disables the purge by default
+			backendMock.expectIndexScaleWorks( Book.INDEX, searchSession.tenantIdentifier() )
+					.flush()
+					.flush()
+					.refresh();
+
+			indexer.startAndWait();
+		}
+
+		backendMock.verifyExpectationsMet();
+		assertThat( checkpointStore.load( Book.NAME, null ) )
+				.contains( MassIndexingCheckpoint.of( Book.NAME, null, 3, true ) );
+	}
+
+	@Test
+	void resumeFrom_entityDeletedBeforeCheckpoint() throws InterruptedException {
+		checkpointStore.save( MassIndexingCheckpoint.of( Book.NAME, null, 2, false ) );
+		// This must not shift the remaining entities and cause some of them to be skipped
+		loadingContext.persistenceMap( Book.PERSISTENCE_KEY ).remove( 1 );
+
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer( Book.class )
+					.context( StubLoadingContext.class, loadingContext )
+					.resumeFrom( checkpointStore );
+
+			backendMock.expectWorks(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, searchSession.tenantIdentifier() )
+					.flush()
+					.flush()
+					.refresh();
+
+			indexer.startAndWait();
+		}
+
+		backendMock.verifyExpectationsMet();
+		assertThat( checkpointStore.load( Book.NAME, null ) )
+				.contains( MassIndexingCheckpoint.of( Book.NAME, null, 3, true ) );
+	}
+
+	@Test
+	void resumeFrom_notSupported() {
+		checkpointStore.save( MassIndexingCheckpoint.of( Article.NAME, null, 2, false ) );
+
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer( Article.class )
+					.context( StubLoadingContext.class, loadingContext )
+					.resumeFrom( checkpointStore );
+
+			assertThatThrownBy( indexer::startAndWait )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Cannot use mass indexing checkpoints for entity '" + Article.NAME + "'" );
+		}
+	}
+
+	@Test
+	void resumeFrom_completed() throws InterruptedException {
+		checkpointStore.save( MassIndexingCheckpoint.of( Book.NAME, null, 3, true ) );
+
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer( Book.class )
+					.context( StubLoadingContext.class, loadingContext )
+					.resumeFrom( checkpointStore );
+
+			// Nothing to index
+			backendMock.expectIndexScaleWorks( Book.INDEX, searchSession.tenantIdentifier() )
+					.flush()
+					.refresh();
+
+			indexer.startAndWait();
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void resumeFrom_purgeAllOnStart() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer( Book.class )
+					.context( StubLoadingContext.class, loadingContext )
+					.resumeFrom( checkpointStore )
+					.purgeAllOnStart( true );
+
+			assertThatThrownBy( indexer::startAndWait )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Cannot resume mass indexing from checkpoints",
+							"while dropping or purging indexes on start" );
+		}
+	}
+
+	private void initData() {
+		persist( new Book( 1, TITLE_1, AUTHOR_1 ) );
+		persist( new Book( 2, TITLE_2, AUTHOR_2 ) );
+		persist( new Book( 3, TITLE_3, AUTHOR_3 ) );
+	}
+
+	private void persist(Book book) {
+		loadingContext.persistenceMap( Book.PERSISTENCE_KEY ).put( book.id, book );
+	}
+
+	private static class InMemoryCheckpointStore implements MassIndexingCheckpointStore {
+		private final Map<String, MassIndexingCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+		@Override
+		public Optional<MassIndexingCheckpoint> load(String typeGroup, String tenantId) {
+			return Optional.ofNullable( checkpoints.get( typeGroup + "#" + tenantId ) );
+		}
+
+		@Override
+		public void save(MassIndexingCheckpoint checkpoint) {
+			checkpoints.put( checkpoint.typeGroup() + "#" + checkpoint.tenantId(), checkpoint );
+		}
+	}
+
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String INDEX = "Book";
+		public static final String NAME = "Book";
+		public static final PersistenceTypeKey<Book, Integer> PERSISTENCE_KEY =
+				new PersistenceTypeKey<>( Book.class, Integer.class );
+
+		@DocumentId
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		@GenericField
+		private String author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, String author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public String getAuthor() {
+			return author;
+		}
+	}
+
+	@Indexed(index = Article.INDEX)
+	public static class Article {
+
+		public static final String INDEX = "Article";
+		public static final String NAME = "Article";
+		public static final PersistenceTypeKey<Article, Integer> PERSISTENCE_KEY =
+				new PersistenceTypeKey<>( Article.class, Integer.class );
+
+		@DocumentId
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Article() {
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
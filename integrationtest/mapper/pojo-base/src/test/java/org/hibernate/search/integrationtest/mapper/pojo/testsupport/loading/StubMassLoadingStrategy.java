@@ -6,7 +6,11 @@
  */
 package org.hibernate.search.integrationtest.mapper.pojo.testsupport.loading;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.hibernate.search.mapper.pojo.standalone.loading.LoadingTypeGroup;
 import org.hibernate.search.mapper.pojo.standalone.loading.MassEntityLoader;
@@ -18,9 +22,15 @@
 
 public class StubMassLoadingStrategy<E, I> implements MassLoadingStrategy<E, I> {
 	private final PersistenceTypeKey<E, I> key;
+	private final boolean supportsCheckpoints;
 
 	public StubMassLoadingStrategy(PersistenceTypeKey<E, I> key) {
+		this( key, false );
+	}
+
+	public StubMassLoadingStrategy(PersistenceTypeKey<E, I> key, boolean supportsCheckpoints) {
 		this.key = key;
+		this.supportsCheckpoints = supportsCheckpoints;
 	}
 
 	@Override
@@ -40,6 +50,11 @@ public int hashCode() {
 		return key.hashCode();
 	}
 
+	@Override
+	public boolean supportsCheckpoints() {
+		return supportsCheckpoints;
+	}
+
 	@Override
 	public MassIdentifierLoader createIdentifierLoader(LoadingTypeGroup<E> includedTypes, MassIdentifierSink<I> sink,
 			MassLoadingOptions options) {
@@ -50,6 +65,49 @@ public MassIdentifierLoader createIdentifierLoader(LoadingTypeGroup<E> includedT
 		return delegate.createIdentifierLoader( includedTypes, sink, options );
 	}
 
+	@Override
+	@SuppressWarnings("unchecked") // Identifiers are expected to be comparable when checkpoints are supported
+	public MassIdentifierLoader createIdentifierLoader(LoadingTypeGroup<E> includedTypes, MassIdentifierSink<I> sink,
+			MassLoadingOptions options, I lastProcessedIdentifier) {
+		if ( !supportsCheckpoints ) {
+			throw new UnsupportedOperationException();
+		}
+		StubLoadingContext context = options.context( StubLoadingContext.class );
+		List<I> identifiers = context.persistenceMap( key ).entrySet().stream()
+				.filter( e -> includedTypes.includesInstance( e.getValue() ) )
+				.map( Map.Entry::getKey )
+				.filter( id -> lastProcessedIdentifier == null
+						|| ( (Comparable<I>) id ).compareTo( lastProcessedIdentifier ) > 0 )
+				.sorted()
+				.collect( Collectors.toList() );
+		Iterator<I> iterator = identifiers.iterator();
+		return new MassIdentifierLoader() {
+			@Override
+			public void close() {
+				// Nothing to do.
+			}
+
+			@Override
+			public long totalCount() {
+				return identifiers.size();
+			}
+
+			@Override
+			public void loadNext() throws InterruptedException {
+				List<I> batch = new ArrayList<>( options.batchSize() );
+				while ( iterator.hasNext() && batch.size() < options.batchSize() ) {
+					batch.add( iterator.next() );
+				}
+				if ( batch.isEmpty() ) {
+					sink.complete();
+				}
+				else {
+					sink.accept( batch );
+				}
+			}
+		};
+	}
+
 	@Override
 	public MassEntityLoader<I> createEntityLoader(LoadingTypeGroup<E> includedTypes, MassEntitySink<E> sink,
 			MassLoadingOptions options) {
@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.work.operations;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.mapping.annotation.ValueBridgeRef;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.standalone.mapping.SearchMapping;
+import org.hibernate.search.mapper.pojo.standalone.session.SearchSession;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.pojo.standalone.StandalonePojoMappingSetupHelper;
+import org.hibernate.search.util.impl.test.extension.ExpectedLog4jLog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.logging.log4j.Level;
+
+/**
+ * Checks that properties on which only value bridges are applied, directly or on container elements,
+ * get a fused processor node, and that this node behaves like the nodes it replaces.
+ */
+class PojoIndexingProcessorValueBridgeFusionIT {
+
+	@RegisterExtension
+	public final BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public final StandalonePojoMappingSetupHelper setupHelper =
+			StandalonePojoMappingSetupHelper.withBackendMock( MethodHandles.lookup(), backendMock );
+
+	@RegisterExtension
+	public final ExpectedLog4jLog logged = ExpectedLog4jLog.create();
+
+	private SearchMapping mapping;
+
+	@BeforeEach
+	void setup() {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b
+				.field( "single", String.class )
+				.field( "multiple1", String.class )
+				.field( "multiple2", String.class )
+				.field( "list", String.class, b2 -> b2.multiValued( true ) )
+				.field( "failing", String.class, b2 -> b2.multiValued( true ) ) );
+
+		logged.expectEvent( Level.DEBUG, "Type manager for indexed type",
+				"process property with value bridges", "process container element with value bridges" );
+		logged.expectEvent( Level.DEBUG, "Type manager for indexed type", "operation: process property\n" ).never();
+		logged.expectEvent( Level.DEBUG, "Type manager for indexed type", "operation: process container element\n" )
+				.never();
+
+		mapping = setupHelper.start().expectCustomBeans().setup( IndexedEntity.class );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void index() {
+		IndexedEntity entity = new IndexedEntity();
+		entity.id = 1;
+		entity.single = "single";
+		entity.multiple = "multiple";
+		entity.list = Arrays.asList( "first", "second" );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			session.indexingPlan().add( entity );
+
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.add( "1", b -> b
+							.field( "single", "single" )
+							.field( "multiple1", "multiple" )
+							.field( "multiple2", "multiple" )
+							.field( "list", "first" )
+							.field( "list", "second" ) );
+		}
+	}
+
+	@Test
+	void failure_containerElement() {
+		IndexedEntity entity = new IndexedEntity();
+		entity.id = 1;
+		entity.failing = Arrays.asList( "first", FailingBridge.FAILING_VALUE );
+
+		try ( SearchSession session = mapping.createSession() ) {
+			// The failure context must be the same as with the nodes replaced by the fused node
+			assertThatThrownBy( () -> session.indexer().add( entity ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( FailingBridge.MESSAGE, ".failing" );
+		}
+	}
+
+	@Indexed(index = IndexedEntity.NAME)
+	public static final class IndexedEntity {
+
+		static final String NAME = "IndexedEntity";
+
+		@DocumentId
+		private Integer id;
+
+		@GenericField
+		private String single;
+
+		@GenericField(name = "multiple1")
+		@GenericField(name = "multiple2")
+		private String multiple;
+
+		@GenericField
+		private List<String> list;
+
+		@GenericField(valueBridge = @ValueBridgeRef(type = FailingBridge.class))
+		private List<String> failing;
+	}
+
+	public static final class FailingBridge implements ValueBridge<String, String> {
+
+		static final String FAILING_VALUE = "fail";
+		static final String MESSAGE = "Simulated bridge failure";
+
+		@Override
+		public String toIndexedValue(String value, ValueBridgeToIndexedValueContext context) {
+			if ( FAILING_VALUE.equals( value ) ) {
+				throw new IllegalStateException( MESSAGE );
+			}
+			return value;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.IndexInitializer;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.QueryMappedIndex;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Abstract class for JMH benchmarks related to searching,
+ * measuring the latency of the most common predicates, aggregations, sorts and projections.
+ * <p>
+ * Each thread executes queries against its own index,
+ * which is populated when the iteration starts and is not modified afterwards.
+ * Indexes use a dedicated mapping, {@link QueryMappedIndex}, so that indexing benchmarks are not affected;
+ * backend holders passed to {@link #doSetupTrial(AbstractBackendHolder, IndexInitializer, ThreadParams)}
+ * must create indexes of that type.
+ * <p>
+ * To measure latency at several index sizes, pass multiple values to the {@code initialIndexSize} parameter.
+ * To measure allocations, run with the GC profiler ({@code -prof gc}).
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(AbstractBackendHolder.INDEX_COUNT)
+public abstract class AbstractQueryBenchmarks extends AbstractBackendBenchmarks {
+
+	private static final AggregationKey<Map<String, Long>> TERMS_AGGREGATION_KEY = AggregationKey.of( "terms" );
+	private static final AggregationKey<Map<Range<Long>, Long>> RANGE_AGGREGATION_KEY = AggregationKey.of( "range" );
+
+	private static final GeoPoint DISTANCE_SORT_CENTER = GeoPoint.of( 45.757814, 4.834133 );
+
+	/**
+	 * The terms to look for in full-text predicates, and to highlight.
+	 */
+	@Param({ "long time" })
+	private String terms;
+
+	private StubMappingScope scope;
+	private long numericQuarter;
+	private long numericHalf;
+
+	@Override
+	protected void doSetupTrial(AbstractBackendHolder backendHolder, IndexInitializer indexInitializer,
+			ThreadParams threadParams) {
+		super.doSetupTrial( backendHolder, indexInitializer, threadParams );
+		scope = getIndexPartition().getIndex().createScope();
+		// Derive range bounds from the indexed values, so that ranges match documents regardless of the dataset.
+		Range<Long> numericRange = indexInitializer.getInitialNumericRange();
+		long min = numericRange.lowerBoundValue().get();
+		long max = numericRange.upperBoundValue().get();
+		numericQuarter = min + ( max - min ) / 4;
+		numericHalf = min + ( max - min ) / 2;
+	}
+
+	@Benchmark
+	public void match(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( terms ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	public void phrase(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.phrase().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( terms ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	public void range(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.range().field( MappedIndex.NUMERIC_FIELD_NAME )
+						.between( numericQuarter, numericHalf ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	public void nested(QueryParams params, Blackhole blackhole) {
+		String wordPath = QueryMappedIndex.WORDS_FIELD_NAME + "." + QueryMappedIndex.WORD_FIELD_NAME;
+		String positionPath = QueryMappedIndex.WORDS_FIELD_NAME + "." + QueryMappedIndex.POSITION_FIELD_NAME;
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.nested( QueryMappedIndex.WORDS_FIELD_NAME )
+						.add( f.match().field( wordPath ).matching( "the" ) )
+						.add( f.range().field( positionPath ).atMost( 1 ) ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	public void termsAggregation(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.aggregation( TERMS_AGGREGATION_KEY, f -> f.terms()
+						.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class )
+						.maxTermCount( params.getQueryMaxResults() ) )
+				.fetch( 0 );
+		blackhole.consume( results.total().hitCount() );
+		blackhole.consume( results.aggregation( TERMS_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	public void rangeAggregation(Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.aggregation( RANGE_AGGREGATION_KEY, f -> f.range()
+						.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+						.range( null, numericQuarter )
+						.range( numericQuarter, numericHalf )
+						.range( numericHalf, null ) )
+				.fetch( 0 );
+		blackhole.consume( results.total().hitCount() );
+		blackhole.consume( results.aggregation( RANGE_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	public void fieldSort(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.NUMERIC_FIELD_NAME ).desc()
+						.then().field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	public void distanceSort(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.distance( QueryMappedIndex.LOCATION_FIELD_NAME, DISTANCE_SORT_CENTER ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	public void highlighting(QueryParams params, Blackhole blackhole) {
+		SearchResult<List<String>> results = scope.query()
+				.select( f -> f.highlight( MappedIndex.LONG_TEXT_FIELD_NAME ) )
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( terms ) )
+				.highlighter( f -> f.unified() )
+				.fetch( params.getQueryMaxResults() );
+		blackhole.consume( results.total().hitCount() );
+		for ( List<String> hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	public void compositeProjection(QueryParams params, Blackhole blackhole) {
+		SearchResult<List<?>> results = scope.query()
+				.select( f -> f.composite()
+						.from( f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+								f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class ),
+								f.score() )
+						.asList() )
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( terms ) )
+				.fetch( params.getQueryMaxResults() );
+		blackhole.consume( results.total().hitCount() );
+		for ( List<?> hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	private static void consume(SearchResult<DocumentReference> results, Blackhole blackhole) {
+		blackhole.consume( results.total().hitCount() );
+		for ( DocumentReference hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
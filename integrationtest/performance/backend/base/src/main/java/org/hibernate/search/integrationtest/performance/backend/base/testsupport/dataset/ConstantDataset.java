@@ -8,6 +8,7 @@
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.util.common.data.Range;
 
 import org.openjdk.jmh.annotations.CompilerControl;
 
@@ -24,4 +25,9 @@ public void populate(MappedIndex index, DocumentElement documentElement, long do
 		);
 	}
 
+	@Override
+	public Range<Long> numericRange(long documentCount) {
+		return Range.between( 0L, documentCount - 1 );
+	}
+
 }
@@ -8,9 +8,17 @@
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.util.common.data.Range;
 
 public interface Dataset {
 
 	void populate(MappedIndex index, DocumentElement documentElement, long documentId, long randomizer);
 
+	/**
+	 * @param documentCount A number of documents populated with ids from {@code 0} to {@code documentCount - 1},
+	 * and a randomizer equal to {@code 0}.
+	 * @return The range of values of the {@link MappedIndex#NUMERIC_FIELD_NAME numeric field} in these documents.
+	 */
+	Range<Long> numericRange(long documentCount);
+
 }
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.util.common.data.Range;
 import org.hibernate.search.util.common.impl.Contracts;
 
 import org.openjdk.jmh.annotations.CompilerControl;
@@ -46,6 +47,18 @@ public void populate(MappedIndex index, DocumentElement documentElement, long do
 		);
 	}
 
+	@Override
+	public Range<Long> numericRange(long documentCount) {
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		// Only the first documentCount samples are used, see populate().
+		for ( DataSample sample : samples.subList( 0, (int) Math.min( size, documentCount ) ) ) {
+			min = Math.min( min, sample.numeric );
+			max = Math.max( max, sample.numeric );
+		}
+		return Range.between( min, max );
+	}
+
 	public static class DataSample {
 
 		final String shortText;
@@ -22,6 +22,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.dataset.Dataset;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.dataset.DatasetHolder;
+import org.hibernate.search.util.common.data.Range;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils;
 
 import org.jboss.logging.Logger;
@@ -51,6 +52,14 @@ public long getInitialIndexSize() {
 		return initialIndexSize;
 	}
 
+	/**
+	 * @return The range of values of the {@link MappedIndex#NUMERIC_FIELD_NAME numeric field}
+	 * in documents added when initializing indexes.
+	 */
+	public Range<Long> getInitialNumericRange() {
+		return dataset.numericRange( initialIndexSize );
+	}
+
 	public void intializeIndexes(List<MappedIndex> indexes) {
 		ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
 		List<ForkJoinTask<?>> tasks = new ArrayList<>();
@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.testsupport.index;
+
+import java.util.Collections;
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Highlightable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
+
+import org.openjdk.jmh.annotations.CompilerControl;
+
+/**
+ * An index for search query benchmarks.
+ * <p>
+ * Declares the same fields as {@link MappedIndex}, with the additional capabilities
+ * (aggregations, projections, highlighting) and fields (geo-point, nested objects) that queries need.
+ * This is a separate mapping so that indexing benchmarks are not affected.
+ */
+@CompilerControl(CompilerControl.Mode.INLINE)
+public class QueryMappedIndex extends MappedIndex {
+
+	public static final String LOCATION_FIELD_NAME = "location";
+	public static final String WORDS_FIELD_NAME = "words";
+	public static final String WORD_FIELD_NAME = "word";
+	public static final String POSITION_FIELD_NAME = "position";
+
+	/**
+	 * The maximum number of nested {@link #WORDS_FIELD_NAME words} per document,
+	 * to keep the nested document count proportional to the document count.
+	 */
+	private static final int MAX_WORDS = 5;
+
+	private IndexFieldReference<String> shortTextField;
+	private IndexFieldReference<String> longTextField;
+	private IndexFieldReference<Long> numericField;
+	private IndexFieldReference<GeoPoint> locationField;
+	private IndexObjectFieldReference wordsField;
+	private IndexFieldReference<String> wordField;
+	private IndexFieldReference<Integer> positionField;
+
+	public QueryMappedIndex(int indexId) {
+		super( indexId );
+	}
+
+	@Override
+	protected void bind(IndexedEntityBindingContext context) {
+		IndexSchemaElement root = context.schemaElement();
+		shortTextField = root.field(
+				SHORT_TEXT_FIELD_NAME,
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+						.sortable( Sortable.YES ).aggregable( Aggregable.YES ).projectable( Projectable.YES )
+		)
+				.toReference();
+		longTextField = root.field(
+				LONG_TEXT_FIELD_NAME,
+				f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH )
+						.projectable( Projectable.YES ).highlightable( Collections.singleton( Highlightable.UNIFIED ) )
+		)
+				.toReference();
+		numericField = root.field(
+				NUMERIC_FIELD_NAME,
+				f -> f.asLong().sortable( Sortable.YES ).aggregable( Aggregable.YES ).projectable( Projectable.YES )
+		)
+				.toReference();
+		locationField = root.field( LOCATION_FIELD_NAME, f -> f.asGeoPoint().sortable( Sortable.YES ) )
+				.toReference();
+		IndexSchemaObjectField words = root.objectField( WORDS_FIELD_NAME, ObjectStructure.NESTED ).multiValued();
+		wordsField = words.toReference();
+		wordField = words.field( WORD_FIELD_NAME, f -> f.asString() ).toReference();
+		positionField = words.field( POSITION_FIELD_NAME, f -> f.asInteger() ).toReference();
+	}
+
+	@Override
+	public void populate(DocumentElement documentElement, String shortText, String longText, long numeric) {
+		documentElement.addValue( shortTextField, shortText );
+		documentElement.addValue( longTextField, longText );
+		documentElement.addValue( numericField, numeric );
+		// Derive the remaining fields from the values above, so that datasets don't need to know about them.
+		documentElement.addValue( locationField, GeoPoint.of(
+				( numeric * 37 ) % 180 - 90.0 + ( numeric % 1000 ) / 1000.0,
+				( numeric * 53 ) % 360 - 180.0 + ( numeric % 997 ) / 997.0
+		) );
+		int position = 0;
+		for ( String word : shortText.toLowerCase( Locale.ROOT ).split( "[^\\p{L}\\p{N}]+" ) ) {
+			if ( word.isEmpty() ) {
+				continue;
+			}
+			DocumentElement wordElement = documentElement.addObject( wordsField );
+			wordElement.addValue( wordField, word );
+			wordElement.addValue( positionField, position );
+			if ( ++position >= MAX_WORDS ) {
+				break;
+			}
+		}
+	}
+
+}
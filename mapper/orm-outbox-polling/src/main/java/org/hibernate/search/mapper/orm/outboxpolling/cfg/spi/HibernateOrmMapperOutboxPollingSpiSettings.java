@@ -10,6 +10,7 @@
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
 import org.hibernate.search.mapper.orm.outboxpolling.cluster.impl.OutboxPollingAgentAdditionalJaxbMappingProducer;
 import org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer;
+import org.hibernate.search.mapper.orm.outboxpolling.event.spi.OutboxEventNotifier;
 import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
@@ -69,6 +70,21 @@ private HibernateOrmMapperOutboxPollingSpiSettings() {
 	 */
 	public static final String AGENT_ENTITY_MAPPING = PREFIX + Radicals.AGENT_ENTITY_MAPPING;
 
+	/**
+	 * A source of notifications allowing event processors to wake up as soon as new outbox events are committed,
+	 * possibly by other application nodes, instead of waiting for the next poll.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value HibernateOrmMapperOutboxPollingSettings#COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * Expects a reference to a bean of type {@link OutboxEventNotifier}.
+	 * <p>
+	 * Defaults to no value, meaning event processors are only woken up by transactions committed
+	 * on the same application node, and otherwise rely on
+	 * {@link HibernateOrmMapperOutboxPollingSettings#COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL polling}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_NOTIFIER = PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_NOTIFIER;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -82,6 +98,8 @@ private Radicals() {
 		public static final String OUTBOXEVENT_ENTITY_MAPPING =
 				COORDINATION_PREFIX + CoordinationRadicals.OUTBOXEVENT_ENTITY_MAPPING;
 		public static final String AGENT_ENTITY_MAPPING = COORDINATION_PREFIX + CoordinationRadicals.AGENT_ENTITY_MAPPING;
+		public static final String COORDINATION_EVENT_PROCESSOR_NOTIFIER =
+				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_NOTIFIER;
 
 	}
 
@@ -92,6 +110,7 @@ private CoordinationRadicals() {
 
 		public static final String OUTBOXEVENT_ENTITY_MAPPING = "outboxevent.entity.mapping";
 		public static final String AGENT_ENTITY_MAPPING = "agent.entity.mapping";
+		public static final String EVENT_PROCESSOR_NOTIFIER = "event_processor.notifier";
 
 	}
 
@@ -9,6 +9,8 @@
 import static org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer.ENTITY_NAME;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -21,6 +23,7 @@
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.query.MutationQuery;
 import org.hibernate.query.Query;
 import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -30,6 +33,15 @@
 final class OutboxEventLoader implements ToStringTreeAppendable {
 
 	private static final String LOAD_QUERY_STRING = "select e from " + ENTITY_NAME + " e where e.id in (:ids)";
+	private static final String DELETE_QUERY_STRING = "delete from " + ENTITY_NAME + " e where e.id in (:ids)";
+	private static final String RETRY_QUERY_STRING = "update " + ENTITY_NAME + " e"
+			+ " set e.retries = e.retries + 1, e.processAfter = :processAfter where e.id in (:ids)";
+	private static final String ABORT_QUERY_STRING = "update " + ENTITY_NAME + " e"
+			+ " set e.status = :status where e.id in (:ids)";
+
+	// Some databases limit the number of elements in an IN list (e.g. 1000 on Oracle),
+	// and Hibernate ORM may pad IN lists to the next power of two.
+	private static final int MAX_IDS_PER_MUTATION = 500;
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -85,6 +97,8 @@ List<OutboxEvent> loadLocking(Session session, Set<UUID> ids, String processorNa
 			Query<OutboxEvent> query = session.createQuery( LOAD_QUERY_STRING, OutboxEvent.class );
 			query.setParameter( "ids", ids );
 			query.setLockOptions( lockOptions );
+			// We never update the loaded entities directly: see the mutation methods below.
+			query.setReadOnly( true );
 			return query.getResultList();
 		}
 		catch (PessimisticLockException | OptimisticLockException lockException) {
@@ -97,4 +111,58 @@ List<OutboxEvent> loadLocking(Session session, Set<UUID> ids, String processorNa
 			return Collections.emptyList();
 		}
 	}
+
+	/**
+	 * Deletes the given events using bulk statements, bypassing the persistence context.
+	 * <p>
+	 * Events should have been {@link #loadLocking(Session, Set, String) locked} beforehand.
+	 */
+	void delete(Session session, List<UUID> ids) {
+		for ( List<UUID> chunk : chunks( ids ) ) {
+			MutationQuery query = session.createMutationQuery( DELETE_QUERY_STRING );
+			query.setParameter( "ids", chunk );
+			query.executeUpdate();
+		}
+	}
+
+	/**
+	 * Increments the retry count of the given events and delays their processing,
+	 * using bulk statements that bypass the persistence context.
+	 * <p>
+	 * Events should have been {@link #loadLocking(Session, Set, String) locked} beforehand.
+	 */
+	void retry(Session session, List<UUID> ids, Instant processAfter) {
+		for ( List<UUID> chunk : chunks( ids ) ) {
+			MutationQuery query = session.createMutationQuery( RETRY_QUERY_STRING );
+			query.setParameter( "processAfter", processAfter );
+			query.setParameter( "ids", chunk );
+			query.executeUpdate();
+		}
+	}
+
+	/**
+	 * Marks the given events as aborted,
+	 * using bulk statements that bypass the persistence context.
+	 * <p>
+	 * Events should have been {@link #loadLocking(Session, Set, String) locked} beforehand.
+	 */
+	void abort(Session session, List<UUID> ids) {
+		for ( List<UUID> chunk : chunks( ids ) ) {
+			MutationQuery query = session.createMutationQuery( ABORT_QUERY_STRING );
+			query.setParameter( "status", OutboxEvent.Status.ABORTED );
+			query.setParameter( "ids", chunk );
+			query.executeUpdate();
+		}
+	}
+
+	private static List<List<UUID>> chunks(List<UUID> ids) {
+		if ( ids.size() <= MAX_IDS_PER_MUTATION ) {
+			return ids.isEmpty() ? Collections.emptyList() : Collections.singletonList( ids );
+		}
+		List<List<UUID>> chunks = new ArrayList<>( ( ids.size() + MAX_IDS_PER_MUTATION - 1 ) / MAX_IDS_PER_MUTATION );
+		for ( int start = 0; start < ids.size(); start += MAX_IDS_PER_MUTATION ) {
+			chunks.add( ids.subList( start, Math.min( start + MAX_IDS_PER_MUTATION, ids.size() ) ) );
+		}
+		return chunks;
+	}
 }
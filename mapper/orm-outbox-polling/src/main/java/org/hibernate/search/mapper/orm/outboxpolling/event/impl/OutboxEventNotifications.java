@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.event.impl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+
+import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
+import org.hibernate.search.mapper.orm.outboxpolling.event.spi.OutboxEventNotifier;
+import org.hibernate.search.util.common.impl.Closer;
+
+/**
+ * Dispatches "new outbox events may be available" notifications to event processors.
+ * <p>
+ * Transactions that persist outbox events on this application node notify local event processors
+ * as soon as they commit, and never before.
+ * An optional {@link OutboxEventNotifier} can propagate notifications across application nodes;
+ * none is provided out of the box, so without one, other application nodes rely on polling.
+ */
+public final class OutboxEventNotifications implements AutoCloseable {
+
+	private final List<Listener> localListeners = new CopyOnWriteArrayList<>();
+	private volatile BeanHolder<? extends OutboxEventNotifier> notifierHolder;
+
+	public void notifier(BeanHolder<? extends OutboxEventNotifier> notifierHolder) {
+		this.notifierHolder = notifierHolder;
+	}
+
+	@Override
+	public void close() {
+		BeanHolder<? extends OutboxEventNotifier> holder = notifierHolder;
+		notifierHolder = null;
+		if ( holder != null ) {
+			holder.close();
+		}
+	}
+
+	/**
+	 * @param originalSession The session whose transaction persisted the events.
+	 * @param currentSession The session used to persist the events,
+	 * which may be a temporary session if the original one is already closed.
+	 */
+	void eventsPersisted(Session originalSession, Session currentSession) {
+		BeanHolder<? extends OutboxEventNotifier> holder = notifierHolder;
+		if ( holder != null ) {
+			holder.get().eventsPersisted( currentSession );
+		}
+
+		String tenantId = originalSession.getTenantIdentifier();
+		if ( originalSession.isOpen() ) {
+			originalSession.unwrap( SessionImplementor.class ).getActionQueue()
+					.registerProcess( (AfterTransactionCompletionProcess) (success, session) -> {
+						if ( success ) {
+							notifyLocalListeners( tenantId );
+						}
+					} );
+		}
+		else {
+			// We cannot hook into the session's transaction anymore (HSEARCH-4198):
+			// fall back to the JTA transaction, if any.
+			// If we cannot register a synchronization, don't notify at all:
+			// notifying before the commit would be useless at best,
+			// and event processors will find the events on their next poll anyway.
+			JtaPlatform jtaPlatform = HibernateOrmUtils.getServiceOrEmpty(
+					currentSession.unwrap( SessionImplementor.class ).getFactory().getServiceRegistry(),
+					JtaPlatform.class
+			).orElse( null );
+			if ( jtaPlatform != null && jtaPlatform.canRegisterSynchronization() ) {
+				jtaPlatform.registerSynchronization( new Synchronization() {
+					@Override
+					public void beforeCompletion() {
+						// Nothing to do
+					}
+
+					@Override
+					public void afterCompletion(int status) {
+						if ( status == Status.STATUS_COMMITTED ) {
+							notifyLocalListeners( tenantId );
+						}
+					}
+				} );
+			}
+		}
+	}
+
+	public OutboxEventNotifier.Subscription subscribe(String tenantId, Runnable listener) {
+		Listener localListener = new Listener( tenantId, listener );
+		localListeners.add( localListener );
+		BeanHolder<? extends OutboxEventNotifier> holder = notifierHolder;
+		OutboxEventNotifier.Subscription notifierSubscription = holder == null
+				? null
+				: holder.get().subscribe( tenantId, listener );
+		return () -> {
+			try ( Closer<RuntimeException> closer = new Closer<>() ) {
+				closer.push( localListeners::remove, localListener );
+				closer.push( OutboxEventNotifier.Subscription::close, notifierSubscription );
+			}
+		};
+	}
+
+	private void notifyLocalListeners(String tenantId) {
+		for ( Listener listener : localListeners ) {
+			if ( Objects.equals( tenantId, listener.tenantId ) ) {
+				listener.delegate.run();
+			}
+		}
+	}
+
+	private static final class Listener {
+		private final String tenantId;
+		private final Runnable delegate;
+
+		private Listener(String tenantId, Runnable delegate) {
+			this.tenantId = tenantId;
+			this.delegate = delegate;
+		}
+	}
+}
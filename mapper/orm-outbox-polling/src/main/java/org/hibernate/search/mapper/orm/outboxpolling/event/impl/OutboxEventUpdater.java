@@ -55,7 +55,11 @@ public boolean thereAreStillEventsToProcess() {
 
 	public void process() {
 		List<OutboxEvent> lockedEvents = loader.loadLocking( session, eventsIds, processorName );
-		List<OutboxEvent> eventToDelete = new ArrayList<>( lockedEvents );
+		List<UUID> eventsToDelete = new ArrayList<>( lockedEvents.size() );
+		List<UUID> eventsToRetry = new ArrayList<>();
+		List<UUID> eventsToAbort = new ArrayList<>();
+		// Use the same instant for all events: we're going to update them with a single statement.
+		Instant processAfter = ( retryAfter > 0 ) ? Instant.now().plusSeconds( retryAfter ) : Instant.now();
 
 		for ( OutboxEvent event : lockedEvents ) {
 			UUID id = event.getId();
@@ -64,27 +68,22 @@ public void process() {
 
 			if ( !failedEventIds.contains( id ) ) {
 				// The event was processed successfully; we will simply delete it.
+				eventsToDelete.add( id );
 				continue;
 			}
 
-			// We won't delete this event.
-			eventToDelete.remove( event );
-
 			// Failed events have to be processed differently:
 			// we try to update their retry count instead of deleting them,
 			// so that the process will try to process them again.
 			int attempts = event.getRetries() + 1;
 			if ( attempts >= MAX_RETRIES ) {
 				notifyMaxRetriesReached( event );
-				event.setStatus( OutboxEvent.Status.ABORTED );
+				eventsToAbort.add( id );
 			}
 			else {
 				// We will simply increment the retry count of this event,
 				// and the event processor will process it once more in the next batch
-				event.setRetries( attempts );
-
-				Instant processAfter = ( retryAfter > 0 ) ? Instant.now().plusSeconds( retryAfter ) : Instant.now();
-				event.setProcessAfter( processAfter );
+				eventsToRetry.add( id );
 
 				log.backgroundIndexingRetry(
 						event.getId(), event.getEntityName(), event.getEntityId(), attempts, processAfter
@@ -92,9 +91,11 @@ public void process() {
 			}
 		}
 
-		for ( OutboxEvent event : eventToDelete ) {
-			session.remove( event );
-		}
+		// Events are locked, so we can safely update them with bulk statements,
+		// avoiding per-entity dirty checking and one statement per event.
+		loader.delete( session, eventsToDelete );
+		loader.retry( session, eventsToRetry, processAfter );
+		loader.abort( session, eventsToAbort );
 	}
 
 	private void notifyMaxRetriesReached(OutboxEvent failedEvent) {
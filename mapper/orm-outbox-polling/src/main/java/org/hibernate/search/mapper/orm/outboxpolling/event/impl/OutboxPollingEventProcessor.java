@@ -15,6 +15,7 @@
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.persistence.OptimisticLockException;
@@ -32,6 +33,7 @@
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
 import org.hibernate.search.mapper.orm.outboxpolling.cluster.impl.AgentRepositoryProvider;
 import org.hibernate.search.mapper.orm.outboxpolling.cluster.impl.ShardAssignmentDescriptor;
+import org.hibernate.search.mapper.orm.outboxpolling.event.spi.OutboxEventNotifier;
 import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -141,7 +143,7 @@ private Factory(AutomaticIndexingMappingContext mapping, Clock clock, String ten
 
 		public OutboxPollingEventProcessor create(ScheduledExecutorService scheduledExecutor,
 				OutboxEventFinderProvider finderProvider, AgentRepositoryProvider agentRepositoryProvider,
-				ShardAssignmentDescriptor shardAssignmentOrNull) {
+				OutboxEventNotifications notifications, ShardAssignmentDescriptor shardAssignmentOrNull) {
 			String agentName = namePrefix( tenantId )
 					+ ( shardAssignmentOrNull == null ? "" : " - " + shardAssignmentOrNull.assignedShardIndex );
 			OutboxPollingEventProcessorClusterLink clusterLink = new OutboxPollingEventProcessorClusterLink(
@@ -150,7 +152,7 @@ public OutboxPollingEventProcessor create(ScheduledExecutorService scheduledExec
 					shardAssignmentOrNull );
 
 			return new OutboxPollingEventProcessor( agentName, this, scheduledExecutor,
-					agentRepositoryProvider, clusterLink );
+					agentRepositoryProvider, notifications, clusterLink );
 		}
 	}
 
@@ -160,6 +162,7 @@ private enum Status {
 	}
 
 	private final String name;
+	private final String tenantId;
 	private final AutomaticIndexingMappingContext mapping;
 	private final OutboxEventLoader loader;
 	private final long pollingInterval;
@@ -172,16 +175,20 @@ private enum Status {
 	private final SessionHelper sessionHelper;
 	private final AgentClusterLinkContextProvider clusterLinkContextProvider;
 	private final FailureHandler failureHandler;
+	private final OutboxEventNotifications notifications;
 	private final Worker worker;
+	private final Scheduler scheduler;
 	private final SingletonTask processingTask;
+	private OutboxEventNotifier.Subscription notificationSubscription;
 
 	public OutboxPollingEventProcessor(String name, Factory factory,
 			ScheduledExecutorService executor,
 			AgentRepositoryProvider agentRepositoryProvider,
+			OutboxEventNotifications notifications,
 			OutboxPollingEventProcessorClusterLink clusterLink) {
 		this.name = name;
+		this.tenantId = factory.tenantId;
 		this.mapping = factory.mapping;
-		String tenantId = factory.tenantId;
 		this.loader = factory.loader;
 		this.pollingInterval = factory.pollingInterval.toMillis();
 		this.batchSize = factory.batchSize;
@@ -194,11 +201,13 @@ public OutboxPollingEventProcessor(String name, Factory factory,
 				agentRepositoryProvider );
 
 		failureHandler = mapping.failureHandler();
+		this.notifications = notifications;
 		this.worker = new Worker();
+		this.scheduler = new Scheduler( executor );
 		processingTask = new SingletonTask(
 				name,
 				worker,
-				new Scheduler( executor ),
+				scheduler,
 				failureHandler
 		);
 	}
@@ -221,9 +230,22 @@ public void appendTo(ToStringTreeAppender appender) {
 	public void start() {
 		log.startingOutboxEventProcessor( name, this );
 		status.set( Status.STARTED );
+		notificationSubscription = notifications.subscribe( tenantId, this::wakeUp );
 		processingTask.ensureScheduled();
 	}
 
+	/**
+	 * Signals that new events may be available,
+	 * so that processing happens as soon as possible instead of after the polling interval.
+	 */
+	public void wakeUp() {
+		if ( status.get() != Status.STARTED ) {
+			return;
+		}
+		worker.wakeUpRequested = true;
+		scheduler.wakeUp();
+	}
+
 	public CompletableFuture<?> completion() {
 		return processingTask.completion();
 	}
@@ -236,6 +258,8 @@ public CompletableFuture<?> preStop() {
 	public void stop() {
 		log.stoppingOutboxEventProcessor( name );
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( OutboxEventNotifier.Subscription::close, notificationSubscription );
+			closer.push( Scheduler::stop, scheduler );
 			closer.push( SingletonTask::stop, processingTask );
 			closer.push( OutboxPollingEventProcessor::leaveCluster, this );
 		}
@@ -249,10 +273,13 @@ private class Worker implements SingletonTask.Worker {
 
 		private volatile OutboxPollingEventProcessingInstructions instructions;
 		private volatile boolean lastExecutionProcessedEvents;
+		private volatile boolean wakeUpRequested;
 
 		@Override
 		public CompletableFuture<?> work() {
 			lastExecutionProcessedEvents = false;
+			// Any event committed before this point will be seen by this execution.
+			wakeUpRequested = false;
 
 			if ( instructions == null || !instructions.isStillValid() ) {
 				// Never perform event processing in the same transaction as a pulse,
@@ -352,11 +379,51 @@ private void ensureScheduled() {
 
 	private class Scheduler implements SingletonTask.Scheduler {
 		private final ScheduledExecutorService delegate;
+		private volatile DelayedExecution delayedExecution;
 
 		private Scheduler(ScheduledExecutorService delegate) {
 			this.delegate = delegate;
 		}
 
+		/**
+		 * Triggers the pending delayed execution immediately, if any.
+		 * <p>
+		 * If the worker is running, it will be re-scheduled immediately when it finishes:
+		 * see {@link Worker#wakeUpRequested}.
+		 */
+		void wakeUp() {
+			DelayedExecution execution = delayedExecution;
+			OutboxPollingEventProcessingInstructions instructions = worker.instructions;
+			// On rebalancing or when suspended, we need to wait for the current instructions to expire.
+			// Before the first pulse, however, a notification is a sign that the database is up and running,
+			// so there is no reason to wait.
+			if ( execution != null && ( instructions == null || instructions.eventFinder.isPresent() ) ) {
+				execution.triggerNow();
+			}
+		}
+
+		void stop() {
+			DelayedExecution execution = delayedExecution;
+			delayedExecution = null;
+			if ( execution != null ) {
+				execution.cancel();
+			}
+		}
+
+		private Future<?> scheduleDelayed(Runnable runnable, long delayInMillis) {
+			DelayedExecution execution = new DelayedExecution( runnable );
+			delayedExecution = execution;
+			Future<?> future = delegate.schedule( execution, delayInMillis, TimeUnit.MILLISECONDS );
+			// wakeUp() sets the flag, then reads delayedExecution;
+			// we set delayedExecution, then read the flag.
+			// So if wakeUp() was called after our caller checked the flag but didn't see this execution,
+			// we will see the flag here and trigger the execution ourselves.
+			if ( worker.wakeUpRequested ) {
+				wakeUp();
+			}
+			return future;
+		}
+
 		@Override
 		public Future<?> schedule(Runnable runnable) {
 			OutboxPollingEventProcessingInstructions instructions = worker.instructions;
@@ -366,18 +433,20 @@ public Future<?> schedule(Runnable runnable) {
 				// This is to mitigate the impact of infinite loops when there is an unhandled
 				// failure while getting instructions (e.g. if the database is not up and running)
 				// TODO Ideally we should record unhandled failures in a variable and force a wait after they happen.
-				return delegate.schedule( runnable, pollingInterval, TimeUnit.MILLISECONDS );
+				return scheduleDelayed( runnable, pollingInterval );
 			}
 			else if ( instructions.eventFinder.isPresent() ) {
-				if ( worker.lastExecutionProcessedEvents ) {
+				if ( worker.lastExecutionProcessedEvents || worker.wakeUpRequested ) {
 					// When running and there might be  more events to process,
+					// or when we were notified of new events while running,
 					// re-execute the worker immediately.
 					return delegate.submit( runnable );
 				}
 				else {
 					// When running and there are no more events to process,
-					// re-execute the worker after the polling interval.
-					return delegate.schedule( runnable, pollingInterval, TimeUnit.MILLISECONDS );
+					// re-execute the worker after the polling interval,
+					// unless we get notified of new events in the meantime.
+					return scheduleDelayed( runnable, pollingInterval );
 				}
 			}
 			else {
@@ -391,4 +460,37 @@ else if ( instructions.eventFinder.isPresent() ) {
 			}
 		}
 	}
+
+	/**
+	 * A delayed execution of the worker that can be triggered early.
+	 * <p>
+	 * Whichever comes first between the delayed execution and the early trigger runs the worker;
+	 * the other one does nothing, so the worker never runs concurrently with itself.
+	 */
+	private class DelayedExecution implements Runnable {
+		private final Runnable delegate;
+		private final AtomicBoolean done = new AtomicBoolean();
+		private final AtomicBoolean triggered = new AtomicBoolean();
+
+		private DelayedExecution(Runnable delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void run() {
+			if ( done.compareAndSet( false, true ) ) {
+				delegate.run();
+			}
+		}
+
+		void triggerNow() {
+			if ( !done.get() && triggered.compareAndSet( false, true ) ) {
+				scheduler.delegate.submit( this );
+			}
+		}
+
+		void cancel() {
+			done.set( true );
+		}
+	}
 }
@@ -33,12 +33,14 @@ public final class OutboxPollingOutboxEventSendingPlan implements AutomaticIndex
 
 	private final EntityReferenceFactory entityReferenceFactory;
 	private final Session session;
+	private final OutboxEventNotifications notifications;
 	private final List<OutboxEvent> events = new ArrayList<>();
 
 	public OutboxPollingOutboxEventSendingPlan(EntityReferenceFactory entityReferenceFactory,
-			Session session) {
+			Session session, OutboxEventNotifications notifications) {
 		this.entityReferenceFactory = entityReferenceFactory;
 		this.session = session;
+		this.notifications = notifications;
 	}
 
 	@Override
@@ -95,6 +97,11 @@ private CompletableFuture<MultiEntityOperationExecutionReport> sendAndReportOnSe
 			}
 			currentSession.flush();
 			log.tracef( "Persisted %d outbox events: '%s'", events.size(), events );
+			if ( !events.isEmpty() ) {
+				// Wake up event processors when the transaction commits,
+				// so that they don't wait for the next poll.
+				notifications.eventsPersisted( session, currentSession );
+			}
 			return CompletableFuture.completedFuture( builder.build() );
 		}
 		finally {
@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.event.spi;
+
+import org.hibernate.Session;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A source of notifications signaling that new outbox events may be available for processing,
+ * allowing event processors to wake up immediately instead of waiting for the next poll.
+ * <p>
+ * Event processors on the same application node are woken up when a local transaction
+ * that produced outbox events commits;
+ * implementations of this SPI are only necessary to propagate notifications across application nodes,
+ * for example through database-specific mechanisms such as PostgreSQL's {@code LISTEN}/{@code NOTIFY}.
+ * Hibernate Search does not provide any implementation.
+ * <p>
+ * Notifications are best-effort: event processors keep polling the outbox table
+ * at the configured polling interval regardless,
+ * so a lost notification only delays event processing.
+ */
+@Incubating
+public interface OutboxEventNotifier {
+
+	/**
+	 * Called in the transaction that persisted outbox events, right after they were flushed.
+	 * <p>
+	 * Implementations may use this to emit a notification that will only be delivered
+	 * if the transaction commits, e.g. by executing {@code NOTIFY} on PostgreSQL.
+	 *
+	 * @param session The session used to persist the outbox events.
+	 */
+	default void eventsPersisted(Session session) {
+	}
+
+	/**
+	 * Subscribes to notifications signaling that new outbox events may be available.
+	 *
+	 * @param tenantId The tenant identifier, or {@code null} if multi-tenancy is disabled.
+	 * @param listener A listener to call whenever new outbox events may be available.
+	 * The listener is cheap to call and may be called from any thread.
+	 * @return A subscription, to be closed when notifications are no longer necessary.
+	 */
+	Subscription subscribe(String tenantId, Runnable listener);
+
+	interface Subscription extends AutoCloseable {
+
+		@Override
+		void close();
+
+	}
+
+}
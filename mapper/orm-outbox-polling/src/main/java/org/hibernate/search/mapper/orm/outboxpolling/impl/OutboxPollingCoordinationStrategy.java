@@ -22,6 +22,7 @@
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationConfigurationContext;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategy;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategyPreStopContext;
@@ -30,17 +31,20 @@
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.OutboxEventProcessingOrder;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.UuidGenerationStrategy;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.spi.HibernateOrmMapperOutboxPollingSpiSettings;
 import org.hibernate.search.mapper.orm.outboxpolling.cluster.impl.AgentRepositoryProvider;
 import org.hibernate.search.mapper.orm.outboxpolling.cluster.impl.DefaultAgentRepository;
 import org.hibernate.search.mapper.orm.outboxpolling.cluster.impl.OutboxPollingAgentAdditionalJaxbMappingProducer;
 import org.hibernate.search.mapper.orm.outboxpolling.cluster.impl.ShardAssignmentDescriptor;
 import org.hibernate.search.mapper.orm.outboxpolling.event.impl.DefaultOutboxEventFinder;
 import org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxEventFinderProvider;
+import org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxEventNotifications;
 import org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxEventOrder;
 import org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxPollingEventProcessor;
 import org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxPollingMassIndexerAgent;
 import org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer;
 import org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxPollingOutboxEventSendingPlan;
+import org.hibernate.search.mapper.orm.outboxpolling.event.spi.OutboxEventNotifier;
 import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.Log;
 import org.hibernate.search.mapper.orm.outboxpolling.mapping.impl.OutboxPollingSearchMappingImpl;
 import org.hibernate.search.mapper.orm.tenancy.spi.TenancyConfiguration;
@@ -84,6 +88,13 @@ public class OutboxPollingCoordinationStrategy implements CoordinationStrategy {
 					.withDefault( BeanReference.ofInstance( OutboxPollingInternalConfigurer.DEFAULT ) )
 					.build();
 
+	private static final OptionalConfigurationProperty<BeanReference<? extends OutboxEventNotifier>> EVENT_PROCESSOR_NOTIFIER =
+			ConfigurationProperty.forKey(
+					HibernateOrmMapperOutboxPollingSpiSettings.CoordinationRadicals.EVENT_PROCESSOR_NOTIFIER )
+					.asBeanReference( OutboxEventNotifier.class )
+					.build();
+
+	private final OutboxEventNotifications notifications = new OutboxEventNotifications();
 	private OutboxEventFinderProvider finderProvider;
 	private AgentRepositoryProvider agentRepositoryProvider;
 
@@ -96,7 +107,9 @@ public void configure(CoordinationConfigurationContext context) {
 		context.mappingProducer( new OutboxPollingOutboxEventAdditionalJaxbMappingProducer() );
 		context.mappingProducer( new OutboxPollingAgentAdditionalJaxbMappingProducer() );
 		context.sendIndexingEventsTo(
-				ctx -> new OutboxPollingOutboxEventSendingPlan( ctx.entityReferenceFactory(), ctx.session() ), true );
+				ctx -> new OutboxPollingOutboxEventSendingPlan( ctx.entityReferenceFactory(), ctx.session(),
+						notifications ),
+				true );
 	}
 
 	@Override
@@ -119,6 +132,10 @@ public CompletableFuture<?> start(CoordinationStrategyStartContext context) {
 					new DefaultOutboxEventFinder.Provider( processingOrder ) );
 		}
 
+		BeanResolver beanResolver = context.beanResolver();
+		EVENT_PROCESSOR_NOTIFIER.getAndMap( configurationSource, beanResolver::resolve )
+				.ifPresent( notifications::notifier );
+
 		tenancyConfiguration = context.tenancyConfiguration();
 		Set<String> tenantIds = tenancyConfiguration.tenantIdsOrFail();
 
@@ -194,6 +211,7 @@ public void stop() {
 				closer.pushAll( OutboxPollingEventProcessor::stop, tenantDelegate.eventProcessors );
 				closer.push( ScheduledExecutorService::shutdownNow, tenantDelegate.eventProcessorExecutor );
 			}
+			closer.push( OutboxEventNotifications::close, notifications );
 		}
 	}
 
@@ -251,12 +269,12 @@ private void initializeEventProcessors(CoordinationStrategyStartContext context,
 			}
 
 			eventProcessorExecutor = context.threadPoolProvider()
-					.newScheduledExecutor( shardAssignmentOrNulls.size(),
+					.newScheduledExecutorForBlockingIo( shardAssignmentOrNulls.size(),
 							OutboxPollingEventProcessor.namePrefix( tenantId ) );
 			eventProcessors = new ArrayList<>();
 			for ( ShardAssignmentDescriptor shardAssignmentOrNull : shardAssignmentOrNulls ) {
 				eventProcessors.add( factory.create( eventProcessorExecutor, finderProvider,
-						agentRepositoryProvider, shardAssignmentOrNull ) );
+						agentRepositoryProvider, notifications, shardAssignmentOrNull ) );
 			}
 			for ( OutboxPollingEventProcessor eventProcessor : eventProcessors ) {
 				eventProcessor.start();
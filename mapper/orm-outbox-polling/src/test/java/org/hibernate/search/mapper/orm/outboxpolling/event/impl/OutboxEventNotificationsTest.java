@@ -0,0 +1,149 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.event.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.service.spi.ServiceBinding;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class OutboxEventNotificationsTest {
+
+	private static final String TENANT_ID = "tenant1";
+	private static final String OTHER_TENANT_ID = "tenant2";
+
+	@Mock
+	private SessionImplementor sessionMock;
+	@Mock
+	private SessionImplementor temporarySessionMock;
+	@Mock
+	private ActionQueue actionQueueMock;
+	@Mock
+	private SessionFactoryImplementor sessionFactoryMock;
+	@Mock
+	private ServiceRegistryImplementor serviceRegistryMock;
+	@Mock
+	private ServiceBinding<JtaPlatform> jtaPlatformBindingMock;
+	@Mock
+	private JtaPlatform jtaPlatformMock;
+
+	@Mock
+	private Runnable listenerMock;
+	@Mock
+	private Runnable otherTenantListenerMock;
+
+	@Captor
+	private ArgumentCaptor<AfterTransactionCompletionProcess> processCaptor;
+	@Captor
+	private ArgumentCaptor<Synchronization> synchronizationCaptor;
+
+	private final OutboxEventNotifications notifications = new OutboxEventNotifications();
+
+	@BeforeEach
+	void subscribe() {
+		notifications.subscribe( TENANT_ID, listenerMock );
+		notifications.subscribe( OTHER_TENANT_ID, otherTenantListenerMock );
+		when( sessionMock.getTenantIdentifier() ).thenReturn( TENANT_ID );
+	}
+
+	@Test
+	void openSession_commit() {
+		when( sessionMock.isOpen() ).thenReturn( true );
+		when( sessionMock.unwrap( SessionImplementor.class ) ).thenReturn( sessionMock );
+		when( sessionMock.getActionQueue() ).thenReturn( actionQueueMock );
+
+		notifications.eventsPersisted( sessionMock, sessionMock );
+		verify( actionQueueMock ).registerProcess( processCaptor.capture() );
+		verifyNoInteractions( listenerMock, otherTenantListenerMock );
+
+		processCaptor.getValue().doAfterTransactionCompletion( true, sessionMock );
+		verify( listenerMock ).run();
+		verifyNoInteractions( otherTenantListenerMock );
+	}
+
+	@Test
+	void openSession_rollback() {
+		when( sessionMock.isOpen() ).thenReturn( true );
+		when( sessionMock.unwrap( SessionImplementor.class ) ).thenReturn( sessionMock );
+		when( sessionMock.getActionQueue() ).thenReturn( actionQueueMock );
+
+		notifications.eventsPersisted( sessionMock, sessionMock );
+		verify( actionQueueMock ).registerProcess( processCaptor.capture() );
+
+		processCaptor.getValue().doAfterTransactionCompletion( false, sessionMock );
+		verifyNoInteractions( listenerMock, otherTenantListenerMock );
+	}
+
+	@Test
+	void closedSession_jta_commit() {
+		expectJtaPlatform( true );
+
+		notifications.eventsPersisted( sessionMock, temporarySessionMock );
+		verify( jtaPlatformMock ).registerSynchronization( synchronizationCaptor.capture() );
+		Synchronization synchronization = synchronizationCaptor.getValue();
+
+		synchronization.beforeCompletion();
+		verifyNoInteractions( listenerMock, otherTenantListenerMock );
+
+		synchronization.afterCompletion( Status.STATUS_COMMITTED );
+		verify( listenerMock ).run();
+		verifyNoInteractions( otherTenantListenerMock );
+	}
+
+	@Test
+	void closedSession_jta_rollback() {
+		expectJtaPlatform( true );
+
+		notifications.eventsPersisted( sessionMock, temporarySessionMock );
+		verify( jtaPlatformMock ).registerSynchronization( synchronizationCaptor.capture() );
+
+		synchronizationCaptor.getValue().afterCompletion( Status.STATUS_ROLLEDBACK );
+		verifyNoInteractions( listenerMock, otherTenantListenerMock );
+	}
+
+	@Test
+	void closedSession_noJta() {
+		expectJtaPlatform( false );
+
+		notifications.eventsPersisted( sessionMock, temporarySessionMock );
+		verify( jtaPlatformMock, never() ).registerSynchronization( any() );
+		// Notifying before the commit would be pointless: we rely on polling instead.
+		verifyNoInteractions( listenerMock, otherTenantListenerMock );
+	}
+
+	private void expectJtaPlatform(boolean canRegisterSynchronization) {
+		when( sessionMock.isOpen() ).thenReturn( false );
+		when( temporarySessionMock.unwrap( SessionImplementor.class ) ).thenReturn( temporarySessionMock );
+		when( temporarySessionMock.getFactory() ).thenReturn( sessionFactoryMock );
+		when( sessionFactoryMock.getServiceRegistry() ).thenReturn( serviceRegistryMock );
+		when( serviceRegistryMock.locateServiceBinding( JtaPlatform.class ) ).thenReturn( jtaPlatformBindingMock );
+		when( serviceRegistryMock.getService( JtaPlatform.class ) ).thenReturn( jtaPlatformMock );
+		when( jtaPlatformMock.canRegisterSynchronization() ).thenReturn( canRegisterSynchronization );
+	}
+}
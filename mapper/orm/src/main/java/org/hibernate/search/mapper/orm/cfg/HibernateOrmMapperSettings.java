@@ -154,6 +154,24 @@ private HibernateOrmMapperSettings() {
 	public static final String MAPPING_BUILD_MISSING_DISCOVERED_JANDEX_INDEXES =
 			PREFIX + Radicals.MAPPING_BUILD_MISSING_DISCOVERED_JANDEX_INDEXES;
 
+	/**
+	 * When {@link #MAPPING_BUILD_MISSING_DISCOVERED_JANDEX_INDEXES building missing Jandex indexes is enabled} (the default),
+	 * a directory where Hibernate Search should save the Jandex indexes it builds,
+	 * so that subsequent startups can reuse them instead of scanning class files again.
+	 * <p>
+	 * Cached indexes are only reused as long as the class files they were built from
+	 * keep the same path and content (compared through their size and CRC-32 checksum);
+	 * modification dates are ignored.
+	 * Failing to save an index is not fatal: a warning is logged and the index will be built again on next startup.
+	 * <p>
+	 * Expects a String representing a path to a directory accessible in read and write mode.
+	 * The directory will be created if it does not exist.
+	 * <p>
+	 * Defaults to no value, meaning built Jandex indexes are not cached.
+	 */
+	public static final String MAPPING_JANDEX_INDEX_CACHE_DIRECTORY =
+			PREFIX + Radicals.MAPPING_JANDEX_INDEX_CACHE_DIRECTORY;
+
 	/**
 	 * A configurer for the Hibernate Search mapping.
 	 * <p>
@@ -272,6 +290,7 @@ private Radicals() {
 		public static final String MAPPING_PROCESS_ANNOTATIONS = "mapping.process_annotations";
 		public static final String MAPPING_BUILD_MISSING_DISCOVERED_JANDEX_INDEXES =
 				"mapping.build_missing_discovered_jandex_indexes";
+		public static final String MAPPING_JANDEX_INDEX_CACHE_DIRECTORY = "mapping.jandex_index_cache_directory";
 		public static final String MAPPING_CONFIGURER = "mapping.configurer";
 		public static final String SCHEMA_MANAGEMENT_STRATEGY = "schema_management.strategy";
 		public static final String COORDINATION = "coordination";
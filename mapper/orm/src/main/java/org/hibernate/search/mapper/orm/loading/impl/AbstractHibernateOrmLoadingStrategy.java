@@ -34,6 +34,11 @@
 		this.queryFactory = queryFactory;
 	}
 
+	@Override
+	public boolean supportsIdentifierRange() {
+		return queryFactory.supportsUniquePropertyRange();
+	}
+
 	@Override
 	public HibernateOrmQueryLoader<E, I> createQueryLoader(List<LoadingTypeContext<? extends E>> typeContexts,
 			List<ConditionalExpression> conditionalExpressions) {
@@ -64,7 +69,7 @@ public HibernateOrmQueryLoader<E, I> createQueryLoader(List<LoadingTypeContext<?
 			return new HibernateOrmQueryLoaderImpl<>( queryFactory, entityMappingType,
 					includedTypesFilter, conditionalExpressions, order );
 		}
-		return new HibernateOrmQueryLoaderImpl<>( queryFactory, includedTypesFilter );
+		return new HibernateOrmQueryLoaderImpl<>( queryFactory, rootEntityMappingType, includedTypesFilter );
 	}
 
 }
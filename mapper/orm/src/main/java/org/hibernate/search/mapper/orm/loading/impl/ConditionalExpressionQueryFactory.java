@@ -18,6 +18,7 @@
 public abstract class ConditionalExpressionQueryFactory<E, I> implements TypeQueryFactory<E, I> {
 
 	private static final String TYPES_PARAM_NAME = "HIBERNATE_SEARCH_INCLUDED_TYPES_FILTER";
+	private static final String UNIQUE_PROPERTY_LOWER_BOUND_PARAM_NAME = "HIBERNATE_SEARCH_UNIQUE_PROPERTY_LOWER_BOUND";
 	protected final Class<I> uniquePropertyType;
 	protected final String uniquePropertyName;
 
@@ -40,14 +41,34 @@ public Query<Long> createQueryForCount(SharedSessionContractImplementor session,
 	public Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor session,
 			EntityMappingType entityMappingType,
 			Set<? extends Class<? extends E>> includedTypesFilter,
-			List<ConditionalExpression> conditionalExpressions, String order) {
+			List<ConditionalExpression> conditionalExpressions, String order, boolean orderByUniqueProperty) {
 		return createQueryWithConditionalExpressionsOrOrder( session,
 				"select e." + uniquePropertyName + " from " + entityMappingType.getEntityName() + " e",
 				uniquePropertyType, "e",
-				includedTypesFilter, conditionalExpressions, order
+				includedTypesFilter, conditionalExpressions,
+				orderByUniqueProperty ? "e." + uniquePropertyName : order
 		);
 	}
 
+	@Override
+	public boolean supportsUniquePropertyRange() {
+		return uniquePropertyIsBasic()
+				&& ( uniquePropertyType.isPrimitive() || Comparable.class.isAssignableFrom( uniquePropertyType ) );
+	}
+
+	@Override
+	public ConditionalExpression uniquePropertyGreaterThan(I value) {
+		ConditionalExpression expression = new ConditionalExpression(
+				"e." + uniquePropertyName + " > :" + UNIQUE_PROPERTY_LOWER_BOUND_PARAM_NAME );
+		expression.param( UNIQUE_PROPERTY_LOWER_BOUND_PARAM_NAME, value );
+		return expression;
+	}
+
+	/**
+	 * @return {@code true} if the unique property maps to a basic value, e.g. not to an embeddable.
+	 */
+	protected abstract boolean uniquePropertyIsBasic();
+
 	private <T> Query<T> createQueryWithConditionalExpressionsOrOrder(SharedSessionContractImplementor session,
 			String hql, Class<T> returnedType, String entityAlias,
 			Set<? extends Class<? extends E>> includedTypesFilter,
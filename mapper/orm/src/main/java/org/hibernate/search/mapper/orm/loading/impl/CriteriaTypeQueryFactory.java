@@ -14,6 +14,7 @@
 import jakarta.persistence.criteria.ParameterExpression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
 import jakarta.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.MultiIdentifierLoadAccess;
@@ -86,4 +87,9 @@ public MultiIdentifierLoadAccess<E> createMultiIdentifierLoadAccess(SessionImple
 	public boolean uniquePropertyIsTheEntityId() {
 		return uniqueProperty.isId();
 	}
+
+	@Override
+	protected boolean uniquePropertyIsBasic() {
+		return uniqueProperty.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC;
+	}
 }
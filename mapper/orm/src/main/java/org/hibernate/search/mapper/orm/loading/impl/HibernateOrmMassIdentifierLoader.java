@@ -31,11 +31,12 @@
 	private final long totalCount;
 	private long totalLoaded = 0;
 	private final ScrollableResults<I> results;
+	private ArrayList<I> destinationList;
 
 	public HibernateOrmMassIdentifierLoader(HibernateOrmQueryLoader<E, I> typeQueryLoader,
 			HibernateOrmMassLoadingOptions options,
 			PojoMassIdentifierSink<I> sink,
-			SharedSessionContractImplementor session) {
+			SharedSessionContractImplementor session, boolean ordered, I lastProcessedIdentifier) {
 		this.options = options;
 		this.sink = sink;
 		this.session = session;
@@ -45,8 +46,9 @@ public HibernateOrmMassIdentifierLoader(HibernateOrmQueryLoader<E, I> typeQueryL
 
 		try {
 			long objectsLimit = options.objectsLimit();
-			long totalCountFromQuery = typeQueryLoader
-					.createCountQuery( session )
+			long totalCountFromQuery = ( ordered
+					? typeQueryLoader.createCountQuery( session, lastProcessedIdentifier )
+					: typeQueryLoader.createCountQuery( session ) )
 					.setCacheable( false ).uniqueResult();
 			if ( objectsLimit != 0 && objectsLimit < totalCountFromQuery ) {
 				totalCount = objectsLimit;
@@ -59,7 +61,9 @@ public HibernateOrmMassIdentifierLoader(HibernateOrmQueryLoader<E, I> typeQueryL
 				log.debugf( "going to fetch %d primary keys", totalCount );
 			}
 
-			results = typeQueryLoader.createIdentifiersQuery( session )
+			results = ( ordered
+					? typeQueryLoader.createOrderedIdentifiersQuery( session, lastProcessedIdentifier )
+					: typeQueryLoader.createIdentifiersQuery( session ) )
 					.setCacheable( false )
 					.setFetchSize( options.idFetchSize() )
 					.scroll( ScrollMode.FORWARD_ONLY );
@@ -87,7 +91,13 @@ public long totalCount() {
 	@Override
 	public void loadNext() throws InterruptedException {
 		int batchSize = options.objectLoadingBatchSize();
-		ArrayList<I> destinationList = new ArrayList<>( batchSize );
+		if ( destinationList == null ) {
+			destinationList = new ArrayList<>( batchSize );
+		}
+		else {
+			// The sink copies identifiers when accepting them, so we can reuse the same list.
+			destinationList.clear();
+		}
 		while ( destinationList.size() < batchSize && totalLoaded < totalCount && results.next() ) {
 			I id = results.get();
 			destinationList.add( id );
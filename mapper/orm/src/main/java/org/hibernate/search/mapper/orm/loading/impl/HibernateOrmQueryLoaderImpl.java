@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.loading.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -25,10 +26,10 @@
 	private final String order;
 
 	public HibernateOrmQueryLoaderImpl(TypeQueryFactory<E, I> queryFactory,
-			Set<Class<? extends E>> includedTypesFilter) {
+			EntityMappingType rootEntityMappingType, Set<Class<? extends E>> includedTypesFilter) {
 		this.queryFactory = queryFactory;
 		this.includedTypesFilter = includedTypesFilter;
-		this.entityMappingType = null;
+		this.entityMappingType = rootEntityMappingType;
 		this.conditionalExpressions = List.of();
 		this.order = null;
 	}
@@ -56,7 +57,22 @@ public Query<I> createIdentifiersQuery(SharedSessionContractImplementor session)
 		return conditionalExpressions.isEmpty() && order == null
 				? queryFactory.createQueryForIdentifierListing( session, includedTypesFilter )
 				: queryFactory.createQueryForIdentifierListing( session, entityMappingType, includedTypesFilter,
-						conditionalExpressions, order );
+						conditionalExpressions, order, false );
+	}
+
+	@Override
+	public Query<Long> createCountQuery(SharedSessionContractImplementor session, I lastIdentifier) {
+		if ( lastIdentifier == null ) {
+			return createCountQuery( session );
+		}
+		return queryFactory.createQueryForCount( session, entityMappingType, includedTypesFilter,
+				withLowerBound( lastIdentifier ) );
+	}
+
+	@Override
+	public Query<I> createOrderedIdentifiersQuery(SharedSessionContractImplementor session, I lastIdentifier) {
+		return queryFactory.createQueryForIdentifierListing( session, entityMappingType, includedTypesFilter,
+				lastIdentifier == null ? conditionalExpressions : withLowerBound( lastIdentifier ), null, true );
 	}
 
 	@Override
@@ -73,4 +89,11 @@ public MultiIdentifierLoadAccess<E> createMultiIdentifierLoadAccess(SessionImple
 	public boolean uniquePropertyIsTheEntityId() {
 		return queryFactory.uniquePropertyIsTheEntityId();
 	}
+
+	private List<ConditionalExpression> withLowerBound(I lastIdentifier) {
+		List<ConditionalExpression> result = new ArrayList<>( conditionalExpressions.size() + 1 );
+		result.addAll( conditionalExpressions );
+		result.add( queryFactory.uniquePropertyGreaterThan( lastIdentifier ) );
+		return result;
+	}
 }
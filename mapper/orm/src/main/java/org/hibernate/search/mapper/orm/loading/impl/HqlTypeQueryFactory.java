@@ -11,6 +11,7 @@
 import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.query.Query;
 
@@ -64,6 +65,13 @@ public boolean uniquePropertyIsTheEntityId() {
 		return uniquePropertyName.equals( entityMappingType.getIdentifierMapping().getAttributeName() );
 	}
 
+	@Override
+	protected boolean uniquePropertyIsBasic() {
+		return uniquePropertyIsTheEntityId()
+				? entityMappingType.getIdentifierMapping() instanceof BasicValuedModelPart
+				: entityMappingType.findAttributeMapping( uniquePropertyName ) instanceof BasicValuedModelPart;
+	}
+
 	private <T> Query<T> createQueryWithTypesFilter(SharedSessionContractImplementor session,
 			String hql, Class<T> returnedType, String entityAlias,
 			Set<? extends Class<? extends E>> includedTypesFilter) {
@@ -49,7 +49,7 @@ Query<Long> createQueryForCount(SharedSessionContractImplementor session, Entity
 
 	Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor session, EntityMappingType entityMappingType,
 			Set<? extends Class<? extends E>> includedTypesFilter,
-			List<ConditionalExpression> conditionalExpressions, String order);
+			List<ConditionalExpression> conditionalExpressions, String order, boolean orderByUniqueProperty);
 
 	Query<E> createQueryForLoadByUniqueProperty(SessionImplementor session, String parameterName);
 
@@ -57,4 +57,19 @@ Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor sessio
 
 	boolean uniquePropertyIsTheEntityId();
 
+	/**
+	 * @return {@code true} if identifiers can be ordered by the unique property
+	 * and restricted with {@link #uniquePropertyGreaterThan(Object)},
+	 * i.e. if the unique property is single-valued and comparable.
+	 */
+	boolean supportsUniquePropertyRange();
+
+	/**
+	 * @param value A value of the unique property.
+	 * @return A conditional expression matching entities whose unique property is strictly greater than {@code value},
+	 * for use in {@link #createQueryForIdentifierListing(SharedSessionContractImplementor, EntityMappingType, Set, List, String, boolean)}
+	 * or {@link #createQueryForCount(SharedSessionContractImplementor, EntityMappingType, Set, List)}.
+	 */
+	ConditionalExpression uniquePropertyGreaterThan(I value);
+
 }
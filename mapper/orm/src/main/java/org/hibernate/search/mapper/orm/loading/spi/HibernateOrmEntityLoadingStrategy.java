@@ -43,4 +43,12 @@ HibernateOrmQueryLoader<E, I> createQueryLoader(List<LoadingTypeContext<? extend
 	HibernateOrmQueryLoader<E, I> createQueryLoader(List<LoadingTypeContext<? extends E>> typeContexts,
 			List<ConditionalExpression> conditionalExpressions, String order);
 
+	/**
+	 * @return {@code true} if query loaders created by this strategy can list identifiers in ascending order
+	 * and restrict them to a range,
+	 * i.e. if the unique property (generally the entity identifier) is single-valued and comparable.
+	 * @see HibernateOrmQueryLoader#createOrderedIdentifiersQuery(org.hibernate.engine.spi.SharedSessionContractImplementor, Object)
+	 */
+	boolean supportsIdentifierRange();
+
 }
@@ -16,6 +16,25 @@
 
 	Query<I> createIdentifiersQuery(SharedSessionContractImplementor session);
 
+	/**
+	 * @param session The session to create the query with.
+	 * @param lastIdentifier An identifier, or {@code null}.
+	 * Requires {@link HibernateOrmEntityLoadingStrategy#supportsIdentifierRange()} when not {@code null}.
+	 * @return A query counting entities whose unique property (generally the entity identifier)
+	 * is strictly greater than {@code lastIdentifier}, or all entities if {@code lastIdentifier} is {@code null}.
+	 */
+	Query<Long> createCountQuery(SharedSessionContractImplementor session, I lastIdentifier);
+
+	/**
+	 * @param session The session to create the query with.
+	 * @param lastIdentifier An identifier, or {@code null}.
+	 * Requires {@link HibernateOrmEntityLoadingStrategy#supportsIdentifierRange()}.
+	 * @return A query returning identifiers in ascending order of the unique property (generally the entity identifier),
+	 * instead of any order that was requested when creating this loader,
+	 * and only those strictly greater than {@code lastIdentifier} if it is not {@code null}.
+	 */
+	Query<I> createOrderedIdentifiersQuery(SharedSessionContractImplementor session, I lastIdentifier);
+
 	Query<E> createLoadingQuery(SessionImplementor session, String idParameterName);
 
 	MultiIdentifierLoadAccess<E> createMultiIdentifierLoadAccess(SessionImplementor session);
@@ -8,6 +8,8 @@
 
 import static org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils.isDiscriminatorMultiTenancyEnabled;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
 import org.hibernate.annotations.common.reflection.ReflectionManager;
@@ -58,6 +60,11 @@ public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<H
 					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_BUILD_MISSING_DISCOVERED_JANDEX_INDEXES )
 					.build();
 
+	private static final OptionalConfigurationProperty<Path> MAPPING_JANDEX_INDEX_CACHE_DIRECTORY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_JANDEX_INDEX_CACHE_DIRECTORY )
+					.as( Path.class, Paths::get )
+					.build();
+
 	private static final OptionalConfigurationProperty<
 			List<BeanReference<? extends HibernateOrmSearchMappingConfigurer>>> MAPPING_CONFIGURER =
 					ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_CONFIGURER )
@@ -142,6 +149,8 @@ public void configure(MappingBuildContext buildContext,
 					.discoverJandexIndexesFromAddedTypes( true )
 					.buildMissingDiscoveredJandexIndexes(
 							MAPPING_BUILD_MISSING_DISCOVERED_JANDEX_INDEXES.get( propertySource ) )
+					.jandexIndexCacheDirectory(
+							MAPPING_JANDEX_INDEX_CACHE_DIRECTORY.get( propertySource ).orElse( null ) )
 					.discoverAnnotationsFromReferencedTypes( true );
 
 			AnnotationMappingConfigurationContext annotationMapping = annotationMapping();
@@ -12,6 +12,7 @@
 import org.hibernate.search.mapper.orm.loading.spi.ConditionalExpression;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexerFilteringTypeStep;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
@@ -57,6 +58,12 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer batchesInFlightPerThread(int batchesInFlight) {
+		delegate.batchesInFlightPerThread( batchesInFlight );
+		return this;
+	}
+
 	@Override
 	public HibernateOrmMassIndexer batchSizeToLoadObjects(int batchSize) {
 		context.objectLoadingBatchSize( batchSize );
@@ -75,6 +82,24 @@ public MassIndexer mergeSegmentsAfterPurge(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer bulkLoadIndexSettings(boolean enable) {
+		delegate.bulkLoadIndexSettings( enable );
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointStore(MassIndexingCheckpointStore store) {
+		delegate.checkpointStore( store );
+		return this;
+	}
+
+	@Override
+	public MassIndexer resumeFrom(MassIndexingCheckpointStore store) {
+		delegate.resumeFrom( store );
+		return this;
+	}
+
 	@Override
 	public MassIndexer dropAndCreateSchemaOnStart(boolean dropAndCreateSchema) {
 		delegate.dropAndCreateSchemaOnStart( dropAndCreateSchema );
@@ -165,6 +165,12 @@ public int hashCode() {
 			return Objects.hash( delegate, conditionalExpression );
 		}
 
+		@Override
+		public boolean supportsCheckpoints() {
+			// Identifiers are ordered by, and restricted on, their unique property on demand.
+			return delegate.supportsIdentifierRange();
+		}
+
 		@Override
 		public PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifierLoadingContext<E, I> context) {
 			SessionFactoryImplementor sessionFactory = mappingContext.sessionFactory();
@@ -180,7 +186,8 @@ public PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifie
 			try {
 				PojoMassIdentifierSink<I> sink = context.createSink();
 				return new HibernateOrmMassIdentifierLoader<>( typeQueryLoader,
-						HibernateOrmMassIndexingContext.this, sink, session );
+						HibernateOrmMassIndexingContext.this, sink, session,
+						context.ascendingIdentifierOrderRequired(), context.lastProcessedIdentifier() );
 			}
 			catch (RuntimeException e) {
 				new SuppressingCloser( e ).push( SharedSessionContractImplementor::close, session );
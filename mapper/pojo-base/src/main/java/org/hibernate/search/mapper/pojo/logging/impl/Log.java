@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.logging.impl;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 
@@ -899,4 +900,38 @@ SearchException defaultContainerExtractorCyclicRecursion(
 			@FormatWith(PojoTypeModelFormatter.class) PojoTypeModel<?> typeModel,
 			List<String> extractorNames);
 
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 144,
+			value = "Mass indexing progress per stage since start:"
+					+ " identifier loading: %1$d identifiers (%2$f/second),"
+					+ " entity loading: %3$d entities (%4$f/second),"
+					+ " document building: %5$d documents (%6$f/second),"
+					+ " indexing: %7$d documents (%8$f/second).")
+	void indexingProgressStages(long identifiersLoaded, float identifiersLoadedSpeed,
+			long entitiesLoaded, float entitiesLoadedSpeed,
+			long documentsBuilt, float documentsBuiltSpeed,
+			long documentsAdded, float documentsAddedSpeed);
+
+	@Message(id = ID_OFFSET + 145,
+			value = "Cannot resume mass indexing from checkpoints while dropping or purging indexes on start:"
+					+ " this would remove documents indexed before the checkpoints."
+					+ " Do not enable 'dropAndCreateSchemaOnStart' or 'purgeAllOnStart' when resuming mass indexing.")
+	SearchException massIndexingResumeWithPurgeOrDrop();
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 146,
+			value = "Resuming mass indexing for entity '%1$s' from checkpoint: skipping identifiers up to '%2$s'.")
+	void massIndexingResumingFromCheckpoint(String entityName, Object lastProcessedIdentifier);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 147,
+			value = "Skipping mass indexing for entity '%1$s': checkpoint indicates it was completed previously.")
+	void massIndexingSkippingCompletedTypeGroup(String entityName);
+
+	@Message(id = ID_OFFSET + 148,
+			value = "Cannot use mass indexing checkpoints for entity '%1$s':"
+					+ " the loading strategy for this entity cannot load identifiers in ascending order"
+					+ " starting after the last processed identifier.")
+	SearchException massIndexingCheckpointsNotSupported(String entityName);
+
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.definition.annotation;
 
+import java.nio.file.Path;
 import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.RootMapping;
@@ -56,6 +57,17 @@ public interface AnnotationMappingConfigurationContext {
 	 */
 	AnnotationMappingConfigurationContext buildMissingDiscoveredJandexIndexes(boolean enabled);
 
+	/**
+	 * @param directory A directory where Hibernate Search should save the Jandex indexes it
+	 * {@link #buildMissingDiscoveredJandexIndexes(boolean) builds}, so that subsequent startups
+	 * can reuse them instead of building them again, as long as the class files they were built from did not change.
+	 * {@code null} to disable caching, which is the default.
+	 * @return {@code this}, for method chaining.
+	 * @see #buildMissingDiscoveredJandexIndexes(boolean)
+	 */
+	@Incubating
+	AnnotationMappingConfigurationContext jandexIndexCacheDirectory(Path directory);
+
 	/**
 	 * @param enabled {@code true} if Hibernate Search should automatically process mapping annotations
 	 * on types referenced in the mapping of other types (e.g. the target of an {@link IndexedEmbedded}, ...).
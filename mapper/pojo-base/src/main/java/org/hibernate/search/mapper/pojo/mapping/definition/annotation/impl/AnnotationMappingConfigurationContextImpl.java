@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -53,6 +54,7 @@
 	private boolean discoverAnnotatedTypesFromRootMappingAnnotations = false;
 	private boolean discoverJandexIndexesFromAddedTypes = false;
 	private boolean buildMissingJandexIndexes = false;
+	private Path jandexIndexCacheDirectory = null;
 	private boolean discoverAnnotationsFromReferencedTypes = false;
 
 	// Use a LinkedHashSet for deterministic iteration
@@ -81,6 +83,12 @@ public AnnotationMappingConfigurationContext buildMissingDiscoveredJandexIndexes
 		return this;
 	}
 
+	@Override
+	public AnnotationMappingConfigurationContext jandexIndexCacheDirectory(Path directory) {
+		this.jandexIndexCacheDirectory = directory;
+		return this;
+	}
+
 	@Override
 	public AnnotationMappingConfigurationContext discoverAnnotationsFromReferencedTypes(boolean enabled) {
 		this.discoverAnnotationsFromReferencedTypes = enabled;
@@ -221,10 +229,10 @@ private boolean isJandexBuildingAllowed(Class<?> annotatedType) {
 		}
 	}
 
-	private static Optional<Index> jandexIndexForCodeSourceLocation(URL codeSourceLocation, boolean buildIfMissing) {
+	private Optional<Index> jandexIndexForCodeSourceLocation(URL codeSourceLocation, boolean buildIfMissing) {
 		try {
 			if ( buildIfMissing ) {
-				return Optional.of( JandexUtils.readOrBuildIndex( codeSourceLocation ) );
+				return Optional.of( JandexUtils.readOrBuildIndex( codeSourceLocation, jandexIndexCacheDirectory ) );
 			}
 			else {
 				return JandexUtils.readIndex( codeSourceLocation );
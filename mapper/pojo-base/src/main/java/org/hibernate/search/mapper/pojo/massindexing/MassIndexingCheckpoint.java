@@ -0,0 +1,123 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing;
+
+import java.util.Objects;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * The progress of mass indexing for a group of entity types and a tenant,
+ * as recorded in a {@link MassIndexingCheckpointStore}.
+ * <p>
+ * While checkpoints are enabled, identifiers are loaded in ascending order.
+ * A checkpoint states that all identifiers up to and including the {@link #lastProcessedIdentifier() last processed identifier}
+ * were processed, and that the resulting documents were flushed to the indexes.
+ * Entities that failed to index are considered processed as well:
+ * their failure was already reported to the {@link MassIndexingFailureHandler}.
+ * Identifiers whose entities failed to load are not:
+ * the checkpoint never moves past them, so that they are processed again when resuming.
+ * <p>
+ * Resuming only loads identifiers strictly greater than the last processed identifier,
+ * so entities added or deleted in the meantime do not cause other entities to be skipped.
+ */
+@Incubating
+public final class MassIndexingCheckpoint {
+
+	/**
+	 * @param typeGroup The name of the group of entity types this checkpoint applies to,
+	 * as returned by {@link #typeGroup()}.
+	 * @param tenantId The identifier of the tenant this checkpoint applies to, or {@code null}.
+	 * @param lastProcessedIdentifier The greatest identifier such that it and all identifiers before it were processed,
+	 * or {@code null} if no identifier was processed.
+	 * @param completed Whether mass indexing completed for this group of entity types and this tenant.
+	 * @return A checkpoint.
+	 */
+	public static MassIndexingCheckpoint of(String typeGroup, String tenantId, Object lastProcessedIdentifier,
+			boolean completed) {
+		return new MassIndexingCheckpoint( typeGroup, tenantId, lastProcessedIdentifier, completed );
+	}
+
+	private final String typeGroup;
+	private final String tenantId;
+	private final Object lastProcessedIdentifier;
+	private final boolean completed;
+
+	private MassIndexingCheckpoint(String typeGroup, String tenantId, Object lastProcessedIdentifier,
+			boolean completed) {
+		Contracts.assertNotNull( typeGroup, "typeGroup" );
+		this.typeGroup = typeGroup;
+		this.tenantId = tenantId;
+		this.lastProcessedIdentifier = lastProcessedIdentifier;
+		this.completed = completed;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		MassIndexingCheckpoint other = (MassIndexingCheckpoint) obj;
+		return completed == other.completed
+				&& typeGroup.equals( other.typeGroup )
+				&& Objects.equals( tenantId, other.tenantId )
+				&& Objects.equals( lastProcessedIdentifier, other.lastProcessedIdentifier );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( typeGroup, tenantId, lastProcessedIdentifier, completed );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "typeGroup=" + typeGroup
+				+ ", tenantId=" + tenantId
+				+ ", lastProcessedIdentifier=" + lastProcessedIdentifier
+				+ ", completed=" + completed
+				+ "]";
+	}
+
+	/**
+	 * @return The name of the group of entity types this checkpoint applies to:
+	 * the names of the entity types indexed together, sorted and separated by commas.
+	 */
+	public String typeGroup() {
+		return typeGroup;
+	}
+
+	/**
+	 * @return The identifier of the tenant this checkpoint applies to, or {@code null} if multi-tenancy is not used.
+	 */
+	public String tenantId() {
+		return tenantId;
+	}
+
+	/**
+	 * @return The greatest identifier such that it and all identifiers before it were processed,
+	 * or {@code null} if no identifier was processed.
+	 * This is an instance of the identifier type of the entities in the {@link #typeGroup() type group},
+	 * e.g. a {@link Long} for entities with a {@code long} identifier:
+	 * stores must persist it in a way that restores an equal instance of that same type.
+	 */
+	public Object lastProcessedIdentifier() {
+		return lastProcessedIdentifier;
+	}
+
+	/**
+	 * @return {@code true} if mass indexing completed for this group of entity types and this tenant,
+	 * {@code false} otherwise.
+	 */
+	public boolean completed() {
+		return completed;
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing;
+
+import java.util.Optional;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A store for {@link MassIndexingCheckpoint mass indexing checkpoints},
+ * allowing to resume mass indexing after a crash instead of starting over.
+ * <p>
+ * Implementations are expected to persist checkpoints outside of the JVM,
+ * e.g. in a database table or a file, and must be thread-safe:
+ * checkpoints for different groups of entity types may be saved concurrently.
+ */
+@Incubating
+public interface MassIndexingCheckpointStore {
+
+	/**
+	 * @param typeGroup The name of a group of entity types, as returned by {@link MassIndexingCheckpoint#typeGroup()}.
+	 * @param tenantId The identifier of a tenant, or {@code null}.
+	 * @return The checkpoint last {@link #save(MassIndexingCheckpoint) saved} for that group of entity types and tenant,
+	 * or an empty optional if there is none.
+	 */
+	Optional<MassIndexingCheckpoint> load(String typeGroup, String tenantId);
+
+	/**
+	 * Saves a checkpoint, replacing any checkpoint previously saved for the same group of entity types and tenant.
+	 * <p>
+	 * Called periodically during mass indexing, from mass indexing threads.
+	 *
+	 * @param checkpoint The checkpoint to save.
+	 */
+	void save(MassIndexingCheckpoint checkpoint);
+
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.massindexing;
 
+import org.hibernate.search.util.common.annotation.Incubating;
+
 /**
  * A component that monitors progress of mass indexing.
  * <p>
@@ -71,6 +73,28 @@ public interface MassIndexingMonitor {
 	 */
 	void entitiesLoaded(long increment);
 
+	/**
+	 * Notify the monitor that {@code increment} more entity identifiers have been loaded from the database,
+	 * and will be passed to entity loading threads.
+	 * <p>
+	 * Together with {@link #entitiesLoaded(long)}, {@link #documentsBuilt(long)} and {@link #documentsAdded(long)},
+	 * this allows monitoring the throughput of each stage of mass indexing
+	 * and finding which one is the bottleneck.
+	 * <p>
+	 * This method is invoked several times during indexing,
+	 * and calls are <strong>incremental</strong>:
+	 * calling {@code identifiersLoaded(3)} and then {@code identifiersLoaded(1)}
+	 * should be understood as "3+1 identifiers, i.e. 4 identifiers have been loaded".
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param increment additional number of identifiers loaded from database
+	 */
+	@Incubating
+	default void identifiersLoaded(long increment) {
+		// Do nothing by default.
+	}
+
 	/**
 	 * Notify the monitor that {@code increment} more entities have been
 	 * detected in the database and will be indexed.
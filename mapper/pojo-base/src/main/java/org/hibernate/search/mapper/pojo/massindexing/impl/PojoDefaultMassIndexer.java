@@ -13,6 +13,7 @@
 import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
@@ -57,10 +58,14 @@ public void afterExecution(Context context) {
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
 	private int documentBuilderThreads = 6;
+	private int batchesInFlightPerThread = 2;
 	private Boolean mergeSegmentsOnFinish;
 	private Boolean dropAndCreateSchemaOnStart;
 	private Boolean purgeAtStart;
 	private Boolean mergeSegmentsAfterPurge;
+	private boolean bulkLoadIndexSettings = false;
+	private MassIndexingCheckpointStore checkpointStore;
+	private boolean resumeFromCheckpoint = false;
 	private Long failureFloodingThreshold = null;
 
 	private MassIndexingFailureHandler failureHandler;
@@ -101,6 +106,15 @@ public PojoDefaultMassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer batchesInFlightPerThread(int batchesInFlight) {
+		if ( batchesInFlight < 1 ) {
+			throw new IllegalArgumentException( "batchesInFlight must be at least 1" );
+		}
+		this.batchesInFlightPerThread = batchesInFlight;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer mergeSegmentsOnFinish(boolean enable) {
 		this.mergeSegmentsOnFinish = enable;
@@ -113,6 +127,26 @@ public PojoDefaultMassIndexer mergeSegmentsAfterPurge(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer bulkLoadIndexSettings(boolean enable) {
+		this.bulkLoadIndexSettings = enable;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer checkpointStore(MassIndexingCheckpointStore store) {
+		this.checkpointStore = store;
+		this.resumeFromCheckpoint = false;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer resumeFrom(MassIndexingCheckpointStore store) {
+		this.checkpointStore = store;
+		this.resumeFromCheckpoint = store != null;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer dropAndCreateSchemaOnStart(boolean enable) {
 		this.dropAndCreateSchemaOnStart = enable;
@@ -135,7 +169,7 @@ public PojoDefaultMassIndexer monitor(MassIndexingMonitor monitor) {
 	public CompletableFuture<?> start() {
 		PojoMassIndexingBatchCoordinator coordinator = createCoordinator();
 		ExecutorService executor = mappingContext.threadPoolProvider()
-				.newFixedThreadPool( 1,
+				.newFixedThreadPoolForBlockingIo( 1,
 						PojoMassIndexingBatchIndexingWorkspace.THREAD_NAME_PREFIX + "Coordinator" );
 		try {
 			return Futures.runAsync( coordinator, executor );
@@ -178,6 +212,17 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 		if ( Boolean.TRUE.equals( dropAndCreateSchemaOnStart ) && Boolean.TRUE.equals( purgeAtStart ) ) {
 			log.redundantPurgeAfterDrop();
 		}
+		if ( resumeFromCheckpoint
+				&& ( Boolean.TRUE.equals( dropAndCreateSchemaOnStart ) || Boolean.TRUE.equals( purgeAtStart ) ) ) {
+			throw log.massIndexingResumeWithPurgeOrDrop();
+		}
+		if ( checkpointStore != null ) {
+			for ( PojoMassIndexingIndexedTypeGroup<?> typeGroup : typeGroupsToIndex ) {
+				if ( !typeGroup.loadingStrategy().supportsCheckpoints() ) {
+					throw log.massIndexingCheckpointsNotSupported( typeGroup.notifiedGroupName() );
+				}
+			}
+		}
 
 		return new PojoMassIndexingBatchCoordinator(
 				mappingContext,
@@ -185,13 +230,18 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 				typeGroupsToIndex, scopeSchemaManager,
 				tenantIds, pojoScopeDelegate,
 				resolvedMassIndexingEnvironment(),
-				typesToIndexInParallel, documentBuilderThreads,
+				typesToIndexInParallel, documentBuilderThreads, batchesInFlightPerThread,
 				mergeSegmentsOnFinish,
 				// false by default:
 				Boolean.TRUE.equals( dropAndCreateSchemaOnStart ),
-				// false if not set explicitly and dropAndCreateSchemaOnStart is set to true, otherwise true by default:
-				purgeAtStart == null ? !Boolean.TRUE.equals( dropAndCreateSchemaOnStart ) : purgeAtStart,
-				mergeSegmentsAfterPurge
+				// false if not set explicitly and dropAndCreateSchemaOnStart is set to true or resuming,
+				// otherwise true by default:
+				purgeAtStart == null
+						? !Boolean.TRUE.equals( dropAndCreateSchemaOnStart ) && !resumeFromCheckpoint
+						: purgeAtStart,
+				mergeSegmentsAfterPurge,
+				bulkLoadIndexSettings,
+				checkpointStore, resumeFromCheckpoint
 		);
 	}
 
@@ -19,6 +19,7 @@
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
 import org.hibernate.search.engine.reporting.spi.RootFailureCollector;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexerAgent;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingMappingContext;
@@ -48,15 +49,20 @@ public class PojoMassIndexingBatchCoordinator extends PojoMassIndexingFailureHan
 	private final PojoScopeDelegate<?, ?, ?> pojoScopeDelegate;
 	private final int typesToIndexInParallel;
 	private final int documentBuilderThreads;
+	private final int batchesInFlightPerThread;
 	private final Boolean mergeSegmentsOnFinish;
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
 	private final Boolean mergeSegmentsAfterPurge;
+	private final boolean bulkLoadIndexSettings;
+	private final MassIndexingCheckpointStore checkpointStore;
+	private final boolean resumeFromCheckpoint;
 
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 
 	private final Collection<SessionContext> sessionContexts = new ArrayList<>();
 	private PojoScopeWorkspace allTenantsWorkspace;
+	private boolean bulkLoadStarted = false;
 
 	public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingContext,
 			PojoMassIndexingNotifier notifier,
@@ -65,8 +71,11 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 			Set<String> tenantIds,
 			PojoScopeDelegate<?, ?, ?> pojoScopeDelegate,
 			MassIndexingEnvironment environment,
-			int typesToIndexInParallel, int documentBuilderThreads, Boolean mergeSegmentsOnFinish,
-			boolean dropAndCreateSchemaOnStart, Boolean purgeAtStart, Boolean mergeSegmentsAfterPurge) {
+			int typesToIndexInParallel, int documentBuilderThreads, int batchesInFlightPerThread,
+			Boolean mergeSegmentsOnFinish,
+			boolean dropAndCreateSchemaOnStart, Boolean purgeAtStart, Boolean mergeSegmentsAfterPurge,
+			boolean bulkLoadIndexSettings,
+			MassIndexingCheckpointStore checkpointStore, boolean resumeFromCheckpoint) {
 		super( notifier, environment );
 		this.mappingContext = mappingContext;
 		this.typeGroupsToIndex = typeGroupsToIndex;
@@ -76,10 +85,14 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 		this.pojoScopeDelegate = pojoScopeDelegate;
 		this.typesToIndexInParallel = typesToIndexInParallel;
 		this.documentBuilderThreads = documentBuilderThreads;
+		this.batchesInFlightPerThread = batchesInFlightPerThread;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.bulkLoadIndexSettings = bulkLoadIndexSettings;
+		this.checkpointStore = checkpointStore;
+		this.resumeFromCheckpoint = resumeFromCheckpoint;
 
 		this.agentStartContext = new PojoMassIndexerAgentStartContextImpl(
 				mappingContext.threadPoolProvider(),
@@ -93,10 +106,10 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchCoordinator instance not expected to be reused" );
 		}
 
-		beforeBatch(); // purgeAll and mergeSegments if enabled
+		beforeBatch(); // purgeAll and mergeSegments if enabled, then bulk load settings if enabled
 		try {
 			doBatchWork();
-			afterBatch(); // mergeSegments if enabled and flush
+			afterBatch(); // mergeSegments if enabled, restore settings and flush
 		}
 		catch (MassIndexingOperationHandledFailureException e) {
 			// Something is wrong, but it's already been reported.
@@ -145,6 +158,15 @@ private void beforeBatch() throws InterruptedException {
 				);
 			}
 		}
+
+		if ( bulkLoadIndexSettings ) {
+			// Set the flag first: settings may have been altered on some indexes even if this fails,
+			// and they must be restored in that case.
+			bulkLoadStarted = true;
+			Futures.unwrappedExceptionGet(
+					allTenantsWorkspace.beginBulkLoad( OperationSubmitter.blocking(), UnsupportedOperationBehavior.IGNORE )
+			);
+		}
 	}
 
 	private boolean isEnabledWithDefault(Boolean enabled, boolean defaultValue) {
@@ -174,7 +196,7 @@ private SessionContext createSessionContext(String tenantId) {
 	 */
 	private void doBatchWork() throws InterruptedException {
 		ExecutorService executor = mappingContext.threadPoolProvider()
-				.newFixedThreadPool( typesToIndexInParallel,
+				.newFixedThreadPoolForBlockingIo( typesToIndexInParallel,
 						PojoMassIndexingBatchIndexingWorkspace.THREAD_NAME_PREFIX + "Workspace" );
 
 		for ( PojoMassIndexingIndexedTypeGroup<?> typeGroup : typeGroupsToIndex ) {
@@ -195,8 +217,9 @@ private void doBatchWork() throws InterruptedException {
 		return new PojoMassIndexingBatchIndexingWorkspace<>(
 				mappingContext, getNotifier(), getMassIndexingEnvironment(), typeGroup,
 				typeGroup.loadingStrategy(),
-				documentBuilderThreads,
-				context.tenantIdentifier()
+				documentBuilderThreads, batchesInFlightPerThread,
+				context.tenantIdentifier(), context.scopeWorkspace(),
+				checkpointStore, resumeFromCheckpoint
 		);
 	}
 
@@ -204,10 +227,12 @@ mappingContext, getNotifier(), getMassIndexingEnvironment(), typeGroup,
 	 * Operations to do after all subthreads finished their work on index
 	 */
 	private void afterBatch() throws InterruptedException {
-		if ( isEnabledWithDefault( mergeSegmentsOnFinish, false ) ) {
+		// Merging is especially worth it after a bulk load, and cheaper while replicas are disabled
+		if ( isEnabledWithDefault( mergeSegmentsOnFinish, bulkLoadIndexSettings ) ) {
 			Futures.unwrappedExceptionGet( allTenantsWorkspace.mergeSegments( OperationSubmitter.blocking(),
 					failIfUnsupportedAndExplicitlyEnabled( mergeSegmentsOnFinish ) ) );
 		}
+		endBulkLoad();
 		flushAndRefresh();
 		applyToAllContexts(
 				context -> context.agent().preStop()
@@ -228,10 +253,22 @@ private void flushAndRefresh() throws InterruptedException {
 				UnsupportedOperationBehavior.IGNORE ) );
 	}
 
+	private void endBulkLoad() throws InterruptedException {
+		if ( !bulkLoadStarted ) {
+			return;
+		}
+		bulkLoadStarted = false;
+		Futures.unwrappedExceptionGet(
+				allTenantsWorkspace.endBulkLoad( OperationSubmitter.blocking(), UnsupportedOperationBehavior.IGNORE )
+		);
+	}
+
 	@Override
 	protected void cleanUpOnInterruption() throws InterruptedException {
 		try ( Closer<InterruptedException> closer = new Closer<>() ) {
 			closer.pushAll( this::cancelPendingTask, indexingFutures );
+			// Index settings must be restored even though indexing was interrupted
+			closer.push( PojoMassIndexingBatchCoordinator::endBulkLoad, this );
 			// Indexing performed before the exception must still be committed,
 			// in order to leave the index in a consistent state
 			closer.push( PojoMassIndexingBatchCoordinator::flushAndRefresh, this );
@@ -242,9 +279,11 @@ protected void cleanUpOnInterruption() throws InterruptedException {
 	}
 
 	@Override
-	protected void cleanUpOnFailure() {
-		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+	protected void cleanUpOnFailure() throws InterruptedException {
+		try ( Closer<InterruptedException> closer = new Closer<>() ) {
 			closer.pushAll( this::cancelPendingTask, indexingFutures );
+			// Index settings must be restored even though indexing failed
+			closer.push( PojoMassIndexingBatchCoordinator::endBulkLoad, this );
 			closer.pushAll( PojoMassIndexerAgent::stop, sessionContexts, SessionContext::agent );
 			closer.push( PojoMassIndexerAgentStartContextImpl::clear, agentStartContext );
 			sessionContexts.clear();
@@ -14,9 +14,11 @@
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingLoadingStrategy;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingMappingContext;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -42,20 +44,30 @@
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
 
 	private final int entityExtractingThreads;
+	private final int batchesInFlightPerThread;
 	private final String tenantId;
+	private final PojoScopeWorkspace tenantWorkspace;
+	private final MassIndexingCheckpointStore checkpointStore;
+	private final boolean resumeFromCheckpoint;
 
 	PojoMassIndexingBatchIndexingWorkspace(PojoMassIndexingMappingContext mappingContext,
 			PojoMassIndexingNotifier notifier,
 			MassIndexingEnvironment environment,
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			int entityExtractingThreads, String tenantId) {
+			int entityExtractingThreads, int batchesInFlightPerThread, String tenantId,
+			PojoScopeWorkspace tenantWorkspace,
+			MassIndexingCheckpointStore checkpointStore, boolean resumeFromCheckpoint) {
 		super( notifier, environment );
 		this.mappingContext = mappingContext;
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.entityExtractingThreads = entityExtractingThreads;
+		this.batchesInFlightPerThread = batchesInFlightPerThread;
 		this.tenantId = tenantId;
+		this.tenantWorkspace = tenantWorkspace;
+		this.checkpointStore = checkpointStore;
+		this.resumeFromCheckpoint = resumeFromCheckpoint;
 	}
 
 	@Override
@@ -64,16 +76,29 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchIndexingWorkspace instance not expected to be reused" );
 		}
 
-		PojoProducerConsumerQueue<List<I>> identifierQueue = new PojoProducerConsumerQueue<>( 1 );
+		PojoMassIndexingCheckpointTracker checkpointTracker = PojoMassIndexingCheckpointTracker.create(
+				checkpointStore, resumeFromCheckpoint, tenantWorkspace, typeGroup.checkpointName(), tenantId );
+		if ( checkpointTracker.completedPreviously() ) {
+			log.massIndexingSkippingCompletedTypeGroup( typeGroup.notifiedGroupName() );
+			return;
+		}
+		else if ( checkpointTracker.lastProcessedIdentifierFromPreviousRun() != null ) {
+			log.massIndexingResumingFromCheckpoint( typeGroup.notifiedGroupName(),
+					checkpointTracker.lastProcessedIdentifierFromPreviousRun() );
+		}
+
+		PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue =
+				new PojoProducerConsumerQueue<>( 1 );
 
 		// First start the consumers, then the producers (reverse order):
-		startIndexing( identifierQueue );
-		startProducingPrimaryKeys( identifierQueue );
+		startIndexing( identifierQueue, checkpointTracker );
+		startProducingPrimaryKeys( identifierQueue, checkpointTracker );
 		// Wait for indexing to finish.
 		List<CompletableFuture<?>> allFutures = new ArrayList<>();
 		allFutures.addAll( identifierProducingFutures );
 		allFutures.addAll( indexingFutures );
 		Futures.unwrappedExceptionGet( Futures.firstFailureOrAllOf( allFutures ) );
+		checkpointTracker.complete();
 		log.debugf( "Indexing for %s is done", typeGroup.notifiedGroupName() );
 	}
 
@@ -97,17 +122,20 @@ private void cancelPendingTasks() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identifierQueue) {
+	private void startProducingPrimaryKeys(PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue,
+			PojoMassIndexingCheckpointTracker checkpointTracker) {
 		final Runnable runnable = new PojoMassIndexingEntityIdentifierLoadingRunnable<>(
 				getNotifier(),
 				getMassIndexingEnvironment(),
-				typeGroup, loadingStrategy, identifierQueue, tenantId
+				typeGroup, loadingStrategy, identifierQueue, tenantId,
+				checkpointTracker
 		);
 		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
-		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
-				1,
-				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - ID loading"
-		);
+		final ThreadPoolExecutor identifierProducingExecutor =
+				mappingContext.threadPoolProvider().newFixedThreadPoolForBlockingIo(
+						1,
+						THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - ID loading"
+				);
 		try {
 			identifierProducingFutures.add( Futures.runAsync( runnable, identifierProducingExecutor ) );
 		}
@@ -116,13 +144,15 @@ private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identi
 		}
 	}
 
-	private void startIndexing(PojoProducerConsumerQueue<List<I>> identifierQueue) {
+	private void startIndexing(PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue,
+			PojoMassIndexingCheckpointTracker checkpointTracker) {
 		final Runnable runnable = new PojoMassIndexingEntityLoadingRunnable<>(
 				getNotifier(),
 				getMassIndexingEnvironment(),
-				typeGroup, loadingStrategy, identifierQueue, tenantId
+				typeGroup, loadingStrategy, identifierQueue, batchesInFlightPerThread, tenantId,
+				checkpointTracker
 		);
-		final ThreadPoolExecutor indexingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
+		final ThreadPoolExecutor indexingExecutor = mappingContext.threadPoolProvider().newFixedThreadPoolForBlockingIo(
 				entityExtractingThreads,
 				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - Entity loading"
 		);
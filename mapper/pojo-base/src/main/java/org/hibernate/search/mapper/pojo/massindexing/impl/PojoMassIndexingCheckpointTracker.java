@@ -0,0 +1,183 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Tracks which identifier batches of a type group have been processed,
+ * and saves {@link MassIndexingCheckpoint checkpoints} accordingly.
+ * <p>
+ * Batches are produced in ascending identifier order, but may be processed out of order by multiple entity loading threads:
+ * a checkpoint only covers the identifiers from the start of identifier loading
+ * up to the first batch that was not processed yet,
+ * and records the last identifier of the last batch it covers.
+ * <p>
+ * Documents are indexed without committing, so each checkpoint is preceded by a flush;
+ * to keep the cost of flushes reasonable, checkpoints are only saved every {@link #BATCHES_PER_CHECKPOINT} batches.
+ */
+final class PojoMassIndexingCheckpointTracker {
+
+	static final int BATCHES_PER_CHECKPOINT = 50;
+
+	private static final PojoMassIndexingCheckpointTracker DISABLED =
+			new PojoMassIndexingCheckpointTracker( null, null, null, null, null, false );
+
+	static PojoMassIndexingCheckpointTracker create(MassIndexingCheckpointStore store, boolean resume,
+			PojoScopeWorkspace workspace, String typeGroup, String tenantId) {
+		if ( store == null ) {
+			return DISABLED;
+		}
+		Optional<MassIndexingCheckpoint> checkpoint = resume ? store.load( typeGroup, tenantId ) : Optional.empty();
+		return new PojoMassIndexingCheckpointTracker( store, workspace, typeGroup, tenantId,
+				checkpoint.map( MassIndexingCheckpoint::lastProcessedIdentifier ).orElse( null ),
+				checkpoint.map( MassIndexingCheckpoint::completed ).orElse( false ) );
+	}
+
+	private final MassIndexingCheckpointStore store;
+	private final PojoScopeWorkspace workspace;
+	private final String typeGroup;
+	private final String tenantId;
+	private final Object lastProcessedIdentifierFromPreviousRun;
+	private final boolean completedPreviously;
+
+	// Start position => batches that were processed, but not yet included in the checkpoint
+	private final Map<Long, ProcessedBatch> processedBatchesAfterWatermark = new HashMap<>();
+	// Position, from the start of identifier loading in this run, of the first batch not included in the checkpoint
+	private long watermark = 0L;
+	private Object lastProcessedIdentifier;
+	private int batchesSinceLastCheckpoint = 0;
+	private boolean saving = false;
+	private boolean someBatchFailed = false;
+
+	private PojoMassIndexingCheckpointTracker(MassIndexingCheckpointStore store, PojoScopeWorkspace workspace,
+			String typeGroup, String tenantId, Object lastProcessedIdentifierFromPreviousRun, boolean completedPreviously) {
+		this.store = store;
+		this.workspace = workspace;
+		this.typeGroup = typeGroup;
+		this.tenantId = tenantId;
+		this.lastProcessedIdentifierFromPreviousRun = lastProcessedIdentifierFromPreviousRun;
+		this.completedPreviously = completedPreviously;
+		this.lastProcessedIdentifier = lastProcessedIdentifierFromPreviousRun;
+	}
+
+	/**
+	 * @return The last identifier processed in a previous run, or {@code null}:
+	 * only identifiers strictly greater than this one must be loaded.
+	 */
+	Object lastProcessedIdentifierFromPreviousRun() {
+		return lastProcessedIdentifierFromPreviousRun;
+	}
+
+	/**
+	 * @return {@code true} if checkpoints are saved.
+	 */
+	boolean enabled() {
+		return store != null;
+	}
+
+	/**
+	 * @return {@code true} if the whole type group was processed in a previous run.
+	 */
+	boolean completedPreviously() {
+		return completedPreviously;
+	}
+
+	/**
+	 * @param start The position of the first identifier of the batch, from the start of identifier loading.
+	 * @param size The number of identifiers in the batch.
+	 * @param lastIdentifier The last (greatest) identifier in the batch.
+	 * @throws InterruptedException If interrupted while flushing indexes before saving a checkpoint.
+	 */
+	void batchProcessed(long start, int size, Object lastIdentifier) throws InterruptedException {
+		if ( store == null ) {
+			return;
+		}
+		Object checkpointToSave;
+		synchronized (this) {
+			processedBatchesAfterWatermark.put( start, new ProcessedBatch( size, lastIdentifier ) );
+			ProcessedBatch next;
+			while ( ( next = processedBatchesAfterWatermark.remove( watermark ) ) != null ) {
+				watermark += next.size;
+				lastProcessedIdentifier = next.lastIdentifier;
+				++batchesSinceLastCheckpoint;
+			}
+			if ( saving || batchesSinceLastCheckpoint < BATCHES_PER_CHECKPOINT ) {
+				return;
+			}
+			// Only one thread saves checkpoints at a time; others just carry on processing batches.
+			saving = true;
+			batchesSinceLastCheckpoint = 0;
+			checkpointToSave = lastProcessedIdentifier;
+		}
+		try {
+			flushAndSave( checkpointToSave, false );
+		}
+		finally {
+			synchronized (this) {
+				saving = false;
+			}
+		}
+	}
+
+	/**
+	 * To be called instead of {@link #batchProcessed(long, int, Object)} for batches whose entities could not be loaded.
+	 * <p>
+	 * Checkpoints will never move past such a batch,
+	 * so that it is processed again when resuming.
+	 */
+	synchronized void batchFailed() {
+		someBatchFailed = true;
+	}
+
+	/**
+	 * To be called once all batches were processed.
+	 *
+	 * @throws InterruptedException If interrupted while flushing indexes before saving the checkpoint.
+	 */
+	void complete() throws InterruptedException {
+		if ( store == null || completedPreviously ) {
+			return;
+		}
+		Object lastProcessedIdentifierToSave;
+		boolean completed;
+		synchronized (this) {
+			lastProcessedIdentifierToSave = lastProcessedIdentifier;
+			// If a batch failed, the watermark stopped right before it:
+			// batches after it must be processed again when resuming.
+			completed = !someBatchFailed && processedBatchesAfterWatermark.isEmpty();
+		}
+		flushAndSave( lastProcessedIdentifierToSave, completed );
+	}
+
+	private void flushAndSave(Object lastProcessedIdentifier, boolean completed) throws InterruptedException {
+		// The checkpoint must not cover documents that could be lost in a crash.
+		Futures.unwrappedExceptionGet(
+				workspace.flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.IGNORE )
+		);
+		store.save( MassIndexingCheckpoint.of( typeGroup, tenantId, lastProcessedIdentifier, completed ) );
+	}
+
+	private static final class ProcessedBatch {
+		private final int size;
+		private final Object lastIdentifier;
+
+		private ProcessedBatch(int size, Object lastIdentifier) {
+			this.size = size;
+			this.lastIdentifier = lastIdentifier;
+		}
+	}
+}
@@ -27,19 +27,22 @@
 
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
-	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue;
 	private final String tenantId;
+	private final PojoMassIndexingCheckpointTracker checkpointTracker;
 	private final MassIndexingEnvironment.EntityIdentifierLoadingContext identifierLoadingContext;
 
 	public PojoMassIndexingEntityIdentifierLoadingRunnable(PojoMassIndexingNotifier notifier,
 			MassIndexingEnvironment environment, PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			PojoProducerConsumerQueue<List<I>> identifierQueue, String tenantId) {
+			PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue, String tenantId,
+			PojoMassIndexingCheckpointTracker checkpointTracker) {
 		super( notifier, environment );
 		this.loadingStrategy = loadingStrategy;
 		this.typeGroup = typeGroup;
 		this.identifierQueue = identifierQueue;
 		this.tenantId = tenantId;
+		this.checkpointTracker = checkpointTracker;
 
 		this.identifierLoadingContext = new EntityIdentifierLoadingContextImpl();
 	}
@@ -55,10 +58,8 @@ protected void runWithFailureHandler() throws InterruptedException {
 				loader.loadNext();
 			}
 			while ( !context.done );
-			// Only do this when stopping normally,
-			// because this operation will block if the queue is full,
-			// resuming the thread only if the queue gets consumed (consumer still working)
-			// or if the thread is interrupted by the workspace (due to consumer failure).
+			// Only do this when stopping normally:
+			// on failure or interruption, consumers are interrupted by the workspace anyway.
 			identifierQueue.producerStopping();
 		}
 		log.trace( "finished" );
@@ -91,6 +92,8 @@ protected String operationName() {
 
 	private class LoadingContext implements PojoMassIndexingIdentifierLoadingContext<E, I> {
 		private boolean done = false;
+		// Position of the next identifier, from the start of identifier loading
+		private long position = 0L;
 
 		@Override
 		public Set<PojoRawTypeIdentifier<? extends E>> includedTypes() {
@@ -103,8 +106,11 @@ public PojoMassIdentifierSink<I> createSink() {
 				@Override
 				public void accept(List<? extends I> batch) throws InterruptedException {
 					log.tracef( "produced a list of ids %s", batch );
+					long start = position;
+					position += batch.size();
 					List<I> copy = new ArrayList<>( batch );
-					identifierQueue.put( copy );
+					identifierQueue.put( new PojoMassIndexingIdentifierBatch<>( start, copy ) );
+					getNotifier().reportIdentifiersLoaded( copy.size() );
 				}
 
 				@Override
@@ -118,6 +124,18 @@ public void complete() {
 		public String tenantIdentifier() {
 			return tenantId;
 		}
+
+		@Override
+		public boolean ascendingIdentifierOrderRequired() {
+			// Checkpoints record the last processed identifier.
+			return checkpointTracker.enabled();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // Checkpoints for this type group were saved with identifiers of this type
+		public I lastProcessedIdentifier() {
+			return (I) checkpointTracker.lastProcessedIdentifierFromPreviousRun();
+		}
 	}
 
 	private static final class EntityIdentifierLoadingContextImpl
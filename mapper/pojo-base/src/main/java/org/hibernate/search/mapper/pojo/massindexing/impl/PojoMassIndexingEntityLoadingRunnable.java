@@ -36,20 +36,24 @@
 
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
-	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue;
+	private final int batchesInFlight;
 	private final String tenantId;
+	private final PojoMassIndexingCheckpointTracker checkpointTracker;
 	private final MassIndexingEnvironment.EntityLoadingContext entityLoadingContext;
 
 	protected PojoMassIndexingEntityLoadingRunnable(PojoMassIndexingNotifier notifier,
 			MassIndexingEnvironment environment, PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			PojoProducerConsumerQueue<List<I>> identifierQueue,
-			String tenantId) {
+			PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue,
+			int batchesInFlight, String tenantId, PojoMassIndexingCheckpointTracker checkpointTracker) {
 		super( notifier, environment );
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.identifierQueue = identifierQueue;
+		this.batchesInFlight = batchesInFlight;
 		this.tenantId = tenantId;
+		this.checkpointTracker = checkpointTracker;
 
 		this.entityLoadingContext = new EntityLoadingContextImpl();
 	}
@@ -59,21 +63,36 @@ protected void runWithFailureHandler() throws InterruptedException {
 		log.trace( "started" );
 		LoadingContext context = new LoadingContext();
 		try ( PojoMassEntityLoader<I> entityLoader = loadingStrategy.createEntityLoader( context ) ) {
-			List<I> idList;
-			do {
-				idList = identifierQueue.take();
-				if ( idList != null ) {
+			// Take at most as many lists of ids as we can have batches in flight,
+			// but leave lists of ids to idle loading threads so that they still get their share of the queue.
+			List<PojoMassIndexingIdentifierBatch<I>> idBatches = new ArrayList<>( batchesInFlight );
+			while ( identifierQueue.drainTo( idBatches, batchesInFlight ) > 0 ) {
+				for ( PojoMassIndexingIdentifierBatch<I> idBatch : idBatches ) {
+					List<I> idList = idBatch.identifiers();
 					log.tracef( "received list of ids %s", idList );
+					long startedBatchCountBeforeLoading = context.startedBatchCount;
 					// This will pass the loaded entities to the sink, which will trigger indexing for those entities.
 					try {
 						entityLoader.load( idList );
 					}
 					catch (RuntimeException e) {
 						getNotifier().reportEntitiesLoadingFailure( typeGroup, idList, e );
+						// Never report these identifiers as processed,
+						// so that checkpoints don't move past them.
+						checkpointTracker.batchFailed();
+						continue;
+					}
+					if ( context.startedBatchCount == startedBatchCountBeforeLoading ) {
+						// Nothing left to index for these identifiers
+						checkpointTracker.batchProcessed( idBatch.start(), idList.size(), idBatch.lastIdentifier() );
+					}
+					else {
+						// These identifiers will be processed once the last indexing batch they led to is done.
+						context.lastStartedBatch.identifierBatchesToReport.add( idBatch );
 					}
 				}
+				idBatches.clear();
 			}
-			while ( idList != null );
 			context.waitForLastBatches();
 		}
 		log.trace( "finished" );
@@ -105,20 +124,18 @@ protected String operationName() {
 	}
 
 	private final class LoadingContext implements PojoMassIndexingEntityLoadingContext<E> {
-		// The traditional implementation was equivalent to using 1.
-		// Theoretically we could raise this above 2, but it would only help
-		// if loading performance is inconsistent, so as to provide a "buffer"
-		// of ongoing indexing operations that the backend can go through
-		// while the loader is catching up.
-		// So, for now, 2 should be enough.
-		private static final int CONCURRENT_BATCHES = 2;
-
+		// The traditional implementation was equivalent to using 1 batch in flight.
+		// Higher values provide a "buffer" of ongoing indexing operations
+		// that the backend can go through while the loader keeps loading entities and building documents,
+		// which helps if loading or indexing performance is inconsistent.
 		private final List<IndexingBatch> batches;
 		private int currentBatchIndex = 0;
+		private IndexingBatch lastStartedBatch;
+		private long startedBatchCount = 0L;
 
 		public LoadingContext() {
-			batches = new ArrayList<>( CONCURRENT_BATCHES );
-			for ( int i = 0; i < CONCURRENT_BATCHES; i++ ) {
+			batches = new ArrayList<>( batchesInFlight );
+			for ( int i = 0; i < batchesInFlight; i++ ) {
 				batches.add( new IndexingBatch() );
 			}
 		}
@@ -146,7 +163,9 @@ public void accept(List<? extends E> batch) throws InterruptedException {
 					// so we can safely call the loader again for the next batch,
 					// even if the loader clears the session before each batch.
 					currentBatch.startIndexingList( sessionContext, indexer, batch );
-					currentBatchIndex = ( currentBatchIndex + 1 ) % CONCURRENT_BATCHES;
+					lastStartedBatch = currentBatch;
+					++startedBatchCount;
+					currentBatchIndex = ( currentBatchIndex + 1 ) % batchesInFlight;
 					// We will wait for indexing to finish either the next time this method is called,
 					// or when waitForLastBatches() is called at the end.
 				}
@@ -159,8 +178,10 @@ public String tenantIdentifier() {
 		}
 
 		public void waitForLastBatches() throws InterruptedException {
-			for ( IndexingBatch batch : batches ) {
-				batch.waitForIndexingEndAndReport();
+			// Wait in the order batches were started,
+			// so that identifier batches are reported as processed in the order they were loaded.
+			for ( int i = 0; i < batchesInFlight; i++ ) {
+				batches.get( ( currentBatchIndex + i ) % batchesInFlight ).waitForIndexingEndAndReport();
 			}
 		}
 	}
@@ -170,6 +191,8 @@ private final class IndexingBatch {
 		private PojoMassIndexingSessionContext sessionContext;
 		private List<?> entities;
 		private CompletableFuture<?>[] indexingFutures;
+		// Identifier batches whose entities were all passed to this batch or to batches started before it
+		private final List<PojoMassIndexingIdentifierBatch<?>> identifierBatchesToReport = new ArrayList<>();
 
 		public void startIndexingList(PojoMassIndexingSessionContext sessionContext, PojoIndexer indexer,
 				List<?> entities)
@@ -218,6 +241,12 @@ private void waitForIndexingEndAndReport() throws InterruptedException {
 
 			getNotifier().reportDocumentsAdded( successfulEntities );
 
+			for ( PojoMassIndexingIdentifierBatch<?> identifierBatch : identifierBatchesToReport ) {
+				checkpointTracker.batchProcessed( identifierBatch.start(), identifierBatch.identifiers().size(),
+						identifierBatch.lastIdentifier() );
+			}
+			identifierBatchesToReport.clear();
+
 			this.sessionContext = null;
 			this.entities = null;
 			this.indexingFutures = null;
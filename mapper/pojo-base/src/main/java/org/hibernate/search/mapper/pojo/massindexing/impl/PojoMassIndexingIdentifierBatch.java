@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.util.List;
+
+/**
+ * A batch of identifiers passed from identifier loading to entity loading,
+ * along with its position in the stream of loaded identifiers.
+ *
+ * @param <I> The type of identifiers.
+ */
+final class PojoMassIndexingIdentifierBatch<I> {
+
+	private final long start;
+	private final List<I> identifiers;
+
+	PojoMassIndexingIdentifierBatch(long start, List<I> identifiers) {
+		this.start = start;
+		this.identifiers = identifiers;
+	}
+
+	@Override
+	public String toString() {
+		return "[start=" + start + ", identifiers=" + identifiers + "]";
+	}
+
+	/**
+	 * @return The position of the first identifier of this batch, from the start of identifier loading.
+	 */
+	long start() {
+		return start;
+	}
+
+	List<I> identifiers() {
+		return identifiers;
+	}
+
+	/**
+	 * @return The last identifier of this batch, which is also the greatest when identifiers are loaded in ascending order.
+	 */
+	I lastIdentifier() {
+		return identifiers.get( identifiers.size() - 1 );
+	}
+}
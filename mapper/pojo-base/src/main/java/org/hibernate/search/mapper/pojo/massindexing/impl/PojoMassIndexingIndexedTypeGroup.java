@@ -108,6 +108,16 @@ public String notifiedGroupName() {
 				.collect( Collectors.joining( "," ) );
 	}
 
+	/**
+	 * @return A name for this group that does not depend on the iteration order of included types,
+	 * so that it can be used to identify the group across mass indexing runs.
+	 */
+	public String checkpointName() {
+		return includedTypes.stream().map( PojoMassIndexingIndexedTypeContext::entityName )
+				.sorted()
+				.collect( Collectors.joining( "," ) );
+	}
+
 	public Set<PojoRawTypeIdentifier<? extends E>> includedTypesIdentifiers() {
 		return includedTypes.stream().map( PojoMassIndexingIndexedTypeContext::typeIdentifier )
 				.collect( Collectors.toCollection( LinkedHashSet::new ) );
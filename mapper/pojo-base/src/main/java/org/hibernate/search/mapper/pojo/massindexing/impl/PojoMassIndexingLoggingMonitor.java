@@ -29,6 +29,9 @@ public class PojoMassIndexingLoggingMonitor implements MassIndexingMonitor {
 	private final AtomicLong documentsDoneCounter = new AtomicLong();
 	private final AtomicReference<StatusMessageInfo> lastMessageInfo = new AtomicReference<>();
 	private final LongAdder totalCounter = new LongAdder();
+	private final LongAdder identifiersLoadedCounter = new LongAdder();
+	private final LongAdder entitiesLoadedCounter = new LongAdder();
+	private final LongAdder documentsBuiltCounter = new LongAdder();
 	private volatile long startTime;
 	private final int logAfterNumberOfDocuments;
 
@@ -80,12 +83,17 @@ public void documentsAdded(long increment) {
 
 	@Override
 	public void documentsBuilt(long number) {
-		//not used
+		documentsBuiltCounter.add( number );
 	}
 
 	@Override
 	public void entitiesLoaded(long size) {
-		//not used
+		entitiesLoadedCounter.add( size );
+	}
+
+	@Override
+	public void identifiersLoaded(long increment) {
+		identifiersLoadedCounter.add( increment );
 	}
 
 	@Override
@@ -123,6 +131,16 @@ protected void printStatusMessage(long startTime, long currentTime, long totalTo
 				- previousStatusMessageInfo.documentsDone ) * 1_000_000_000f / intervalBetweenLogsNano;
 		float estimatePercentileComplete = doneCount * 100f / totalTodoCount;
 		log.indexingProgressStats( currentSpeed, estimateSpeed, estimatePercentileComplete );
+		if ( log.isDebugEnabled() ) {
+			float elapsedSeconds = elapsedNano / 1_000_000_000f;
+			long identifiersLoaded = identifiersLoadedCounter.longValue();
+			long entitiesLoaded = entitiesLoadedCounter.longValue();
+			long documentsBuilt = documentsBuiltCounter.longValue();
+			log.indexingProgressStages( identifiersLoaded, identifiersLoaded / elapsedSeconds,
+					entitiesLoaded, entitiesLoaded / elapsedSeconds,
+					documentsBuilt, documentsBuilt / elapsedSeconds,
+					doneCount, estimateSpeed );
+		}
 	}
 
 	private static class StatusMessageInfo {
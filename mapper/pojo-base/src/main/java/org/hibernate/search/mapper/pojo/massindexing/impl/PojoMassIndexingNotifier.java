@@ -81,6 +81,10 @@ void reportRunnableFailure(Exception exception, String operation) {
 		failureHandler.handle( contextBuilder.build() );
 	}
 
+	void reportIdentifiersLoaded(int size) {
+		monitor.identifiersLoaded( size );
+	}
+
 	void reportEntitiesLoaded(int size) {
 		monitor.entitiesLoaded( size );
 	}
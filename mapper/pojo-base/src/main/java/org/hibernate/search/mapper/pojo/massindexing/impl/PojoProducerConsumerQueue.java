@@ -6,14 +6,23 @@
  */
 package org.hibernate.search.mapper.pojo.massindexing.impl;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Implements a blocking queue capable of storing
- * a "poison" token to signal consumer threads
- * that the task is finished.
+ * Implements a bounded blocking queue that can be closed
+ * to signal consumer threads that the task is finished.
+ * <p>
+ * Closing the queue wakes up all waiting consumers at once:
+ * there is no "poison" token that each consumer would need to take and put back,
+ * which used to cause a cascade of wake-ups (and potentially blocking puts) when many consumers were waiting.
+ * <p>
+ * Consumers can also take several elements at once with {@link #drainTo(Collection, int)},
+ * which only requires acquiring the lock once,
+ * but always leaves one element per idle consumer so that work is not hoarded by a single consumer.
  *
  * @author Sanne Grinovero
  * @param <T> produced type
@@ -21,11 +30,17 @@
 public class PojoProducerConsumerQueue<T> {
 
 	private static final int DEFAULT_BUFF_LENGTH = 1000;
-	private static final Object exitToken = new Object();
 
-	//doesn't use <T> here as exitToken needs to be put in the queue too:
-	private final BlockingQueue<Object> queue;
-	private final AtomicInteger producersToWaitFor;
+	private final int queueLength;
+	private final Queue<T> queue;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+
+	// Guarded by lock
+	private int producersToWaitFor;
+	// Guarded by lock
+	private int waitingConsumers;
 
 	/**
 	 * @param producersToWaitFor The number of producer threads.
@@ -35,8 +50,9 @@ public PojoProducerConsumerQueue(int producersToWaitFor) {
 	}
 
 	public PojoProducerConsumerQueue(int queueLength, int producersToWaitFor) {
-		queue = new ArrayBlockingQueue<>( queueLength );
-		this.producersToWaitFor = new AtomicInteger( producersToWaitFor );
+		this.queueLength = queueLength;
+		this.queue = new ArrayDeque<>( queueLength );
+		this.producersToWaitFor = producersToWaitFor;
 	}
 
 	/**
@@ -45,16 +61,53 @@ public PojoProducerConsumerQueue(int queueLength, int producersToWaitFor) {
 	 * @return the next object in the queue, or null to exit
 	 * @throws InterruptedException if interrupted while waiting
 	 */
-	@SuppressWarnings("unchecked")
 	public T take() throws InterruptedException {
-		Object obj = queue.take();
-		if ( obj == exitToken ) {
-			//restore exit signal for other threads
-			queue.put( exitToken );
-			return null;
+		lock.lockInterruptibly();
+		try {
+			if ( !awaitNotEmpty() ) {
+				return null;
+			}
+			T obj = queue.poll();
+			notFull.signal();
+			return obj;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Blocks until at least one object is available,
+	 * then transfers available objects, up to {@code maxElements}, to the given collection.
+	 * <p>
+	 * At least one object is transferred, but one object is left in the queue
+	 * for each other consumer currently waiting for objects.
+	 * When zero is returned the client thread should quit.
+	 * @param collection the collection to transfer objects to
+	 * @param maxElements the maximum number of objects to transfer
+	 * @return the number of objects transferred, or zero to exit
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public int drainTo(Collection<? super T> collection, int maxElements) throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			if ( !awaitNotEmpty() ) {
+				return 0;
+			}
+			int toDrain = Math.min( maxElements, Math.max( 1, queue.size() - waitingConsumers ) );
+			for ( int i = 0; i < toDrain; i++ ) {
+				collection.add( queue.poll() );
+			}
+			if ( toDrain == 1 ) {
+				notFull.signal();
+			}
+			else {
+				notFull.signalAll();
+			}
+			return toDrain;
 		}
-		else {
-			return (T) obj;
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -65,29 +118,60 @@ public T take() throws InterruptedException {
 	 * @throws InterruptedException if interrupted while waiting
 	 */
 	public void put(T obj) throws InterruptedException {
-		queue.put( obj );
+		lock.lockInterruptibly();
+		try {
+			while ( queue.size() >= queueLength ) {
+				notFull.await();
+			}
+			queue.add( obj );
+			notEmpty.signal();
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/**
 	 * Each producer thread should call producerStopping() when it has
 	 * finished. After doing it can safely terminate.
 	 * After all producer threads have called producerStopping()
-	 * a token will be inserted in the blocking queue to eventually
-	 * awake sleeping consumers and have them quit, after the
-	 * queue has been processed.
+	 * the queue is closed: sleeping consumers are awoken
+	 * and will quit after the queue has been processed.
+	 * <p>
+	 * This method never blocks.
 	 */
 	public void producerStopping() {
-		int activeProducers = producersToWaitFor.decrementAndGet();
-		//last producer must close consumers
-		if ( activeProducers == 0 ) {
+		lock.lock();
+		try {
+			//last producer must close consumers
+			if ( --producersToWaitFor == 0 ) {
+				notEmpty.signalAll();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Must be called with the lock held.
+	 * @return {@code true} if the queue holds at least one object,
+	 * {@code false} if it is empty and all producers stopped.
+	 */
+	private boolean awaitNotEmpty() throws InterruptedException {
+		while ( queue.isEmpty() ) {
+			if ( producersToWaitFor <= 0 ) {
+				return false;
+			}
+			++waitingConsumers;
 			try {
-				queue.put( exitToken );//awake all waiting threads to let them quit.
+				notEmpty.await();
 			}
-			catch (InterruptedException e) {
-				//just quit, consumers will be interrupted anyway if it's a shutdown.
-				Thread.currentThread().interrupt();
+			finally {
+				--waitingConsumers;
 			}
 		}
+		return true;
 	}
 
 }
@@ -33,4 +33,24 @@
 	 * @return The tenant identifier to use ({@code null} if none).
 	 */
 	String tenantIdentifier();
+
+	/**
+	 * @return {@code true} if the loader must return identifiers in ascending order,
+	 * because mass indexing progress is recorded as the last processed identifier.
+	 * {@code false} if any order will do.
+	 * @see PojoMassIndexingLoadingStrategy#supportsCheckpoints()
+	 */
+	default boolean ascendingIdentifierOrderRequired() {
+		return false;
+	}
+
+	/**
+	 * @return The last identifier processed in a previous mass indexing run,
+	 * or {@code null} to load all identifiers.
+	 * When non-null, the loader must only return identifiers strictly greater than this one.
+	 * @see PojoMassIndexingLoadingStrategy#supportsCheckpoints()
+	 */
+	default I lastProcessedIdentifier() {
+		return null;
+	}
 }
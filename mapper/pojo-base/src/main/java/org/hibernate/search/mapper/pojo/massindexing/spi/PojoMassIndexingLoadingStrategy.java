@@ -44,4 +44,15 @@
 	 */
 	PojoMassEntityLoader<I> createEntityLoader(PojoMassIndexingEntityLoadingContext<E> context);
 
+	/**
+	 * @return {@code true} if identifier loaders created by this strategy can return identifiers
+	 * in ascending order when {@link PojoMassIndexingIdentifierLoadingContext#ascendingIdentifierOrderRequired() required},
+	 * and only identifiers strictly greater than the {@link PojoMassIndexingIdentifierLoadingContext#lastProcessedIdentifier()
+	 * last processed identifier} when there is one.
+	 * {@code false} otherwise or when unsure, in which case mass indexing checkpoints cannot be used.
+	 */
+	default boolean supportsCheckpoints() {
+		return false;
+	}
+
 }
@@ -17,10 +17,13 @@
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorContainerElementNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorContainerElementValueBridgeNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorValueBridgeNode;
 import org.hibernate.search.util.common.impl.Closer;
 
 /**
- * A builder of {@link PojoIndexingProcessorContainerElementNode}.
+ * A builder of {@link PojoIndexingProcessorContainerElementNode}
+ * or {@link PojoIndexingProcessorContainerElementValueBridgeNode}.
  *
  * @param <P> The type of the property on which the container value extractor is applied.
  * @param <C> The type of containers accepted by the container value extractor.
@@ -67,7 +70,7 @@ void closeOnFailure() {
 		}
 	}
 
-	Optional<PojoIndexingProcessorContainerElementNode<C, V>> build(
+	Optional<PojoIndexingProcessor<C>> build(
 			PojoIndexingDependencyCollectorPropertyNode<?, P> parentDependencyCollector) {
 		try {
 			return doBuild( parentDependencyCollector );
@@ -78,7 +81,7 @@ Optional<PojoIndexingProcessorContainerElementNode<C, V>> build(
 		}
 	}
 
-	private Optional<PojoIndexingProcessorContainerElementNode<C, V>> doBuild(
+	private Optional<PojoIndexingProcessor<C>> doBuild(
 			PojoIndexingDependencyCollectorPropertyNode<?, P> parentDependencyCollector) {
 		Collection<PojoIndexingProcessor<? super V>> immutableNestedProcessors =
 				valueNodeProcessorCollectionBuilder.build( parentDependencyCollector );
@@ -92,6 +95,15 @@ private Optional<PojoIndexingProcessorContainerElementNode<C, V>> doBuild(
 			extractorHolder.close();
 			return Optional.empty();
 		}
+		else if ( immutableNestedProcessors.stream().allMatch( PojoIndexingProcessorValueBridgeNode.class::isInstance ) ) {
+			// Simplify the tree: value bridges can be applied directly, without an intermediary node
+			@SuppressWarnings("unchecked") // We checked the type of each node just above
+			Collection<PojoIndexingProcessorValueBridgeNode<? super V, ?>> bridgeNodes =
+					(Collection<PojoIndexingProcessorValueBridgeNode<? super V, ?>>) (Collection<?>) immutableNestedProcessors;
+			return Optional.of( new PojoIndexingProcessorContainerElementValueBridgeNode<>(
+					extractorHolder, bridgeNodes
+			) );
+		}
 		else {
 			return Optional.of( new PojoIndexingProcessorContainerElementNode<>(
 					extractorHolder, createNested( immutableNestedProcessors )
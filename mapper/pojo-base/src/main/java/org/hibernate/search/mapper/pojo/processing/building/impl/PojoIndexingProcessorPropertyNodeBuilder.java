@@ -32,8 +32,11 @@
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorContainerElementValueBridgeNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorPropertyBridgeNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorPropertyNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorPropertyValueBridgeNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorValueBridgeNode;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
@@ -150,7 +153,7 @@ void closeOnFailure() {
 		}
 	}
 
-	Optional<PojoIndexingProcessorPropertyNode<T, P>> build(
+	Optional<PojoIndexingProcessor<T>> build(
 			PojoIndexingDependencyCollectorTypeNode<T> parentDependencyCollector) {
 		try {
 			return doBuild( parentDependencyCollector );
@@ -161,7 +164,7 @@ Optional<PojoIndexingProcessorPropertyNode<T, P>> build(
 		}
 	}
 
-	private Optional<PojoIndexingProcessorPropertyNode<T, P>> doBuild(
+	private Optional<PojoIndexingProcessor<T>> doBuild(
 			PojoIndexingDependencyCollectorTypeNode<T> parentDependencyCollector) {
 		@SuppressWarnings("unchecked") // We know from the property model that this property has type P
 		PojoIndexingDependencyCollectorPropertyNode<T, P> propertyDependencyCollector =
@@ -194,6 +197,16 @@ private Optional<PojoIndexingProcessorPropertyNode<T, P>> doBuild(
 				 */
 				return Optional.empty();
 			}
+			else if ( nestedNodes.stream().allMatch( PojoIndexingProcessorPropertyNodeBuilder::isValueBridgeLeaf ) ) {
+				// Simplify the tree: value bridges, directly or on container elements,
+				// can be applied without an intermediary node.
+				// Nested nodes are kept in the same order, so that fields are added to documents in the same order.
+				return Optional.of( new PojoIndexingProcessorPropertyValueBridgeNode<>(
+						modelPath.getPropertyModel().handle(),
+						nestedNodes,
+						modelPath.toUnboundPath()
+				) );
+			}
 			else {
 				return Optional.of( new PojoIndexingProcessorPropertyNode<>(
 						modelPath.getPropertyModel().handle(),
@@ -209,4 +222,9 @@ private Optional<PojoIndexingProcessorPropertyNode<T, P>> doBuild(
 			throw e;
 		}
 	}
+
+	private static boolean isValueBridgeLeaf(PojoIndexingProcessor<?> node) {
+		return node instanceof PojoIndexingProcessorValueBridgeNode
+				|| node instanceof PojoIndexingProcessorContainerElementValueBridgeNode;
+	}
 }
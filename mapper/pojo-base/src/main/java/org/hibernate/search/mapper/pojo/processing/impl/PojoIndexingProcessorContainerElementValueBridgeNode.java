@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractionContext;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.spi.ToStringTreeAppender;
+
+/**
+ * A node inside a {@link PojoIndexingProcessor} responsible for extracting elements from a container
+ * and applying {@link PojoIndexingProcessorValueBridgeNode value bridge nodes} to the elements.
+ * <p>
+ * This is a fused form of a {@link PojoIndexingProcessorContainerElementNode}
+ * whose nested nodes are all value bridge nodes, e.g. for {@code @GenericField List<String>}.
+ * See {@link PojoIndexingProcessorPropertyValueBridgeNode}.
+ *
+ * @param <C> The container type
+ * @param <V> The extracted value type
+ */
+public final class PojoIndexingProcessorContainerElementValueBridgeNode<C, V> extends PojoIndexingProcessor<C> {
+
+	private final ContainerExtractorHolder<C, V> extractorHolder;
+	private final PojoIndexingProcessorValueBridgeNode<? super V, ?>[] bridgeNodes;
+	private final ValueProcessor<DocumentElement, ? super C, PojoIndexingProcessorRootContext> extractingDelegate;
+
+	@SuppressWarnings("unchecked") // Generic array creation
+	public PojoIndexingProcessorContainerElementValueBridgeNode(ContainerExtractorHolder<C, V> extractorHolder,
+			Collection<? extends PojoIndexingProcessorValueBridgeNode<? super V, ?>> bridgeNodes) {
+		this.extractorHolder = extractorHolder;
+		this.bridgeNodes = bridgeNodes.toArray( new PojoIndexingProcessorValueBridgeNode[0] );
+		this.extractingDelegate = extractorHolder.wrap( this::processElement );
+	}
+
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( ContainerExtractorHolder::close, extractorHolder );
+			closer.pushAll( PojoIndexingProcessor::close, bridgeNodes );
+		}
+	}
+
+	@Override
+	public void appendTo(ToStringTreeAppender appender) {
+		appender.attribute( "operation", "process container element with value bridges" );
+		appender.attribute( "extractor", extractorHolder );
+		appender.attribute( "nested", Arrays.asList( bridgeNodes ) );
+	}
+
+	@Override
+	public void process(DocumentElement target, C source, PojoIndexingProcessorRootContext context) {
+		extractingDelegate.process( target, source, context, PojoIndexingProcessorContainerExtractionContext.INSTANCE );
+	}
+
+	private void processElement(DocumentElement target, V element, PojoIndexingProcessorRootContext context,
+			ContainerExtractionContext extractionContext) {
+		for ( PojoIndexingProcessorValueBridgeNode<? super V, ?> bridgeNode : bridgeNodes ) {
+			bridgeNode.process( target, element, context );
+		}
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
@@ -20,10 +21,12 @@
  */
 public class PojoIndexingProcessorMultiNode<T> extends PojoIndexingProcessor<T> {
 
-	private final Collection<? extends PojoIndexingProcessor<? super T>> elements;
+	// Using an array to avoid the allocation of an iterator on each call to process()
+	private final PojoIndexingProcessor<? super T>[] elements;
 
+	@SuppressWarnings("unchecked") // Generic array creation
 	public PojoIndexingProcessorMultiNode(Collection<? extends PojoIndexingProcessor<? super T>> elements) {
-		this.elements = elements;
+		this.elements = elements.toArray( new PojoIndexingProcessor[0] );
 	}
 
 	@Override
@@ -35,7 +38,7 @@ public void close() {
 
 	@Override
 	public void appendTo(ToStringTreeAppender appender) {
-		appender.attribute( null, elements );
+		appender.attribute( null, Arrays.asList( elements ) );
 	}
 
 	@Override
@@ -0,0 +1,90 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.mapper.pojo.common.annotation.impl.SearchProcessingWithContextException;
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+import org.hibernate.search.mapper.pojo.reporting.spi.PojoEventContexts;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+import org.hibernate.search.util.common.spi.ToStringTreeAppender;
+
+/**
+ * A node inside a {@link PojoIndexingProcessor} responsible for extracting the value of a property,
+ * and applying {@link PojoIndexingProcessorValueBridgeNode value bridge nodes} to that value
+ * or, through {@link PojoIndexingProcessorContainerElementValueBridgeNode}, to its container elements.
+ * <p>
+ * This is a simplified form of a {@link PojoIndexingProcessorPropertyNode}
+ * whose nested nodes only apply value bridges, which is the most common case by far:
+ * nested nodes are applied directly, in the same order, without an intermediary multi-node.
+ *
+ * @param <T> The property holder type
+ * @param <P> The property type
+ */
+public final class PojoIndexingProcessorPropertyValueBridgeNode<T, P> extends PojoIndexingProcessor<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ValueReadHandle<P> handle;
+	private final PojoIndexingProcessor<? super P>[] nestedNodes;
+	private final PojoModelPath modelPath;
+
+	/**
+	 * @param handle The handle to read the property value.
+	 * @param nestedNodes {@link PojoIndexingProcessorValueBridgeNode value bridge nodes}
+	 * and {@link PojoIndexingProcessorContainerElementValueBridgeNode container element value bridge nodes},
+	 * in the order they must be applied.
+	 * @param modelPath The path to the property.
+	 */
+	@SuppressWarnings("unchecked") // Generic array creation
+	public PojoIndexingProcessorPropertyValueBridgeNode(ValueReadHandle<P> handle,
+			Collection<? extends PojoIndexingProcessor<? super P>> nestedNodes,
+			PojoModelPath modelPath) {
+		this.handle = handle;
+		this.nestedNodes = nestedNodes.toArray( new PojoIndexingProcessor[0] );
+		this.modelPath = modelPath;
+	}
+
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( PojoIndexingProcessor::close, nestedNodes );
+		}
+	}
+
+	@Override
+	public void appendTo(ToStringTreeAppender appender) {
+		appender.attribute( "operation", "process property with value bridges" );
+		appender.attribute( "handle", handle );
+		appender.attribute( "nested", Arrays.asList( nestedNodes ) );
+	}
+
+	@Override
+	public void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context) {
+		try {
+			P propertyValue = handle.get( source );
+			for ( PojoIndexingProcessor<? super P> nestedNode : nestedNodes ) {
+				nestedNode.process( target, propertyValue, context );
+			}
+		}
+		catch (SearchProcessingWithContextException e) {
+			// The context was already added to the exception, just re-throw:
+			throw e;
+		}
+		catch (RuntimeException e) {
+			throw log.searchProcessingFailure( e, e.getMessage(), PojoEventContexts.fromPath( modelPath ) );
+		}
+	}
+}
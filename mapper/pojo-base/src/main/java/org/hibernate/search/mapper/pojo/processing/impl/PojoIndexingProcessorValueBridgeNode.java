@@ -20,7 +20,7 @@
  * @param <V> The processed type
  * @param <F> The index field type
  */
-public class PojoIndexingProcessorValueBridgeNode<V, F> extends PojoIndexingProcessor<V> {
+public final class PojoIndexingProcessorValueBridgeNode<V, F> extends PojoIndexingProcessor<V> {
 
 	private final BeanHolder<? extends ValueBridge<? super V, F>> bridgeHolder;
 	private final IndexFieldReference<F> indexFieldReference;
@@ -57,6 +57,18 @@ public CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 		return doOperationOnTypes( IndexWorkspace::refresh, operationSubmitter, unsupportedOperationBehavior );
 	}
 
+	@Override
+	public CompletableFuture<?> beginBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		return doOperationOnTypes( IndexWorkspace::beginBulkLoad, operationSubmitter, unsupportedOperationBehavior );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		return doOperationOnTypes( IndexWorkspace::endBulkLoad, operationSubmitter, unsupportedOperationBehavior );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(
 			TriFunction<IndexWorkspace, OperationSubmitter, UnsupportedOperationBehavior, CompletableFuture<?>> operation,
 			OperationSubmitter operationSubmitter,
@@ -0,0 +1,172 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
+
+import org.junit.jupiter.api.Test;
+
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class PojoMassIndexingCheckpointTrackerTest {
+
+	private static final String TYPE_GROUP = "Book";
+	private static final String TENANT_ID = "tenant1";
+	private static final int BATCH_SIZE = 10;
+
+	@Mock
+	private MassIndexingCheckpointStore store;
+	@Mock
+	private PojoScopeWorkspace workspace;
+
+	@Test
+	void noStore() throws InterruptedException {
+		PojoMassIndexingCheckpointTracker tracker =
+				PojoMassIndexingCheckpointTracker.create( null, true, workspace, TYPE_GROUP, TENANT_ID );
+		assertThat( tracker.lastProcessedIdentifierFromPreviousRun() ).isNull();
+		assertThat( tracker.completedPreviously() ).isFalse();
+
+		for ( int i = 0; i < PojoMassIndexingCheckpointTracker.BATCHES_PER_CHECKPOINT; i++ ) {
+			process( tracker, (long) i * BATCH_SIZE, BATCH_SIZE );
+		}
+		tracker.complete();
+		verify( workspace, never() ).flush( any(), any() );
+	}
+
+	@Test
+	void outOfOrderBatches() throws InterruptedException {
+		expectFlush();
+		PojoMassIndexingCheckpointTracker tracker =
+				PojoMassIndexingCheckpointTracker.create( store, false, workspace, TYPE_GROUP, TENANT_ID );
+		assertThat( tracker.lastProcessedIdentifierFromPreviousRun() ).isNull();
+
+		int batchCount = PojoMassIndexingCheckpointTracker.BATCHES_PER_CHECKPOINT;
+		// Every batch except the first one: nothing can be saved yet.
+		for ( int i = 1; i < batchCount; i++ ) {
+			process( tracker, (long) i * BATCH_SIZE, BATCH_SIZE );
+		}
+		verify( store, never() ).save( any() );
+
+		// The first batch: all batches so far are covered.
+		process( tracker, 0L, BATCH_SIZE );
+		// The last batch is smaller.
+		process( tracker, (long) batchCount * BATCH_SIZE, 3 );
+		tracker.complete();
+
+		InOrder inOrder = inOrder( workspace, store );
+		inOrder.verify( workspace ).flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.IGNORE );
+		inOrder.verify( store ).save( MassIndexingCheckpoint.of( TYPE_GROUP, TENANT_ID,
+				(long) batchCount * BATCH_SIZE - 1, false ) );
+		inOrder.verify( workspace ).flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.IGNORE );
+		inOrder.verify( store ).save( MassIndexingCheckpoint.of( TYPE_GROUP, TENANT_ID,
+				(long) batchCount * BATCH_SIZE + 2, true ) );
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@Test
+	void failedBatch() throws InterruptedException {
+		expectFlush();
+		PojoMassIndexingCheckpointTracker tracker =
+				PojoMassIndexingCheckpointTracker.create( store, false, workspace, TYPE_GROUP, TENANT_ID );
+
+		int batchCount = PojoMassIndexingCheckpointTracker.BATCHES_PER_CHECKPOINT;
+		process( tracker, 0L, BATCH_SIZE );
+		// Entities of the second batch failed to load.
+		tracker.batchFailed();
+		for ( int i = 2; i < batchCount + 2; i++ ) {
+			process( tracker, (long) i * BATCH_SIZE, BATCH_SIZE );
+		}
+		// The checkpoint cannot move past the failed batch.
+		verify( store, never() ).save( any() );
+
+		tracker.complete();
+		// The type group must not be marked as completed, so that the failed batch is processed again on resume.
+		verify( store ).save( MassIndexingCheckpoint.of( TYPE_GROUP, TENANT_ID, (long) BATCH_SIZE - 1, false ) );
+	}
+
+	@Test
+	void resume() throws InterruptedException {
+		when( store.load( TYPE_GROUP, TENANT_ID ) )
+				.thenReturn( Optional.of( MassIndexingCheckpoint.of( TYPE_GROUP, TENANT_ID, 25L, false ) ) );
+		expectFlush();
+		PojoMassIndexingCheckpointTracker tracker =
+				PojoMassIndexingCheckpointTracker.create( store, true, workspace, TYPE_GROUP, TENANT_ID );
+		assertThat( tracker.lastProcessedIdentifierFromPreviousRun() ).isEqualTo( 25L );
+		assertThat( tracker.completedPreviously() ).isFalse();
+
+		// Positions start over, but identifiers are greater than the last processed one.
+		tracker.batchProcessed( 0L, 5, 30L );
+		tracker.complete();
+
+		verify( store ).save( MassIndexingCheckpoint.of( TYPE_GROUP, TENANT_ID, 30L, true ) );
+	}
+
+	@Test
+	void resume_nothingLeft() throws InterruptedException {
+		when( store.load( TYPE_GROUP, TENANT_ID ) )
+				.thenReturn( Optional.of( MassIndexingCheckpoint.of( TYPE_GROUP, TENANT_ID, 25L, false ) ) );
+		expectFlush();
+		PojoMassIndexingCheckpointTracker tracker =
+				PojoMassIndexingCheckpointTracker.create( store, true, workspace, TYPE_GROUP, TENANT_ID );
+
+		tracker.complete();
+
+		// The last processed identifier is preserved
+		verify( store ).save( MassIndexingCheckpoint.of( TYPE_GROUP, TENANT_ID, 25L, true ) );
+	}
+
+	@Test
+	void resume_completed() throws InterruptedException {
+		when( store.load( TYPE_GROUP, TENANT_ID ) )
+				.thenReturn( Optional.of( MassIndexingCheckpoint.of( TYPE_GROUP, TENANT_ID, 30L, true ) ) );
+		PojoMassIndexingCheckpointTracker tracker =
+				PojoMassIndexingCheckpointTracker.create( store, true, workspace, TYPE_GROUP, TENANT_ID );
+		assertThat( tracker.completedPreviously() ).isTrue();
+
+		tracker.complete();
+		verify( store, never() ).save( any() );
+	}
+
+	@Test
+	void noResume_ignoresExistingCheckpoint() {
+		PojoMassIndexingCheckpointTracker tracker =
+				PojoMassIndexingCheckpointTracker.create( store, false, workspace, TYPE_GROUP, TENANT_ID );
+		assertThat( tracker.lastProcessedIdentifierFromPreviousRun() ).isNull();
+		assertThat( tracker.completedPreviously() ).isFalse();
+		verify( store, never() ).load( any(), any() );
+	}
+
+	private static void process(PojoMassIndexingCheckpointTracker tracker, long start, int size)
+			throws InterruptedException {
+		// Identifiers are loaded in ascending order: use positions as identifiers.
+		tracker.batchProcessed( start, size, start + size - 1 );
+	}
+
+	private void expectFlush() {
+		doReturn( CompletableFuture.completedFuture( null ) )
+				.when( workspace ).flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.IGNORE );
+	}
+}
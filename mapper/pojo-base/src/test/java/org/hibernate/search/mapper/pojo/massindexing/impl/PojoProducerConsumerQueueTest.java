@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PojoProducerConsumerQueueTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void cleanup() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void take_afterProducersStopped() throws InterruptedException {
+		PojoProducerConsumerQueue<Integer> queue = new PojoProducerConsumerQueue<>( 10, 1 );
+		queue.put( 1 );
+		queue.put( 2 );
+		queue.producerStopping();
+
+		// Remaining elements are still consumed after the producers stopped
+		assertThat( queue.take() ).isEqualTo( 1 );
+		assertThat( queue.take() ).isEqualTo( 2 );
+		assertThat( queue.take() ).isNull();
+	}
+
+	@Test
+	void drainTo() throws InterruptedException {
+		PojoProducerConsumerQueue<Integer> queue = new PojoProducerConsumerQueue<>( 10, 1 );
+		for ( int i = 0; i < 5; i++ ) {
+			queue.put( i );
+		}
+		queue.producerStopping();
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat( queue.drainTo( drained, 3 ) ).isEqualTo( 3 );
+		assertThat( drained ).containsExactly( 0, 1, 2 );
+		drained.clear();
+		assertThat( queue.drainTo( drained, 3 ) ).isEqualTo( 2 );
+		assertThat( drained ).containsExactly( 3, 4 );
+		drained.clear();
+		assertThat( queue.drainTo( drained, 3 ) ).isZero();
+		assertThat( drained ).isEmpty();
+	}
+
+	@Test
+	void drainTo_leavesElementsForWaitingConsumers() throws Exception {
+		PojoProducerConsumerQueue<Integer> queue = new PojoProducerConsumerQueue<>( 10, 1 );
+		CompletableFuture<Integer> waitingConsumer = CompletableFuture.supplyAsync( () -> {
+			try {
+				return queue.take();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		}, executor );
+		// Let the consumer start waiting
+		Thread.sleep( 100 );
+		assertThat( waitingConsumer ).isNotDone();
+
+		for ( int i = 0; i < 4; i++ ) {
+			queue.put( i );
+		}
+		// Whether the waiting consumer already took an element or not,
+		// one element is left for it.
+		List<Integer> drained = new ArrayList<>();
+		assertThat( queue.drainTo( drained, 10 ) ).isEqualTo( 3 );
+		Integer taken = waitingConsumer.get( 10, TimeUnit.SECONDS );
+		assertThat( taken ).isNotNull();
+		drained.add( taken );
+		assertThat( drained ).containsExactlyInAnyOrder( 0, 1, 2, 3 );
+		queue.producerStopping();
+	}
+
+	@Test
+	void producerStopping_wakesUpAllConsumers() throws Exception {
+		int consumerCount = 8;
+		PojoProducerConsumerQueue<Integer> queue = new PojoProducerConsumerQueue<>( 1, 2 );
+		List<CompletableFuture<Integer>> consumers = new ArrayList<>();
+		for ( int i = 0; i < consumerCount; i++ ) {
+			consumers.add( CompletableFuture.supplyAsync( () -> {
+				try {
+					int consumed = 0;
+					while ( queue.take() != null ) {
+						consumed++;
+					}
+					return consumed;
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException( e );
+				}
+			}, executor ) );
+		}
+
+		for ( int i = 0; i < 100; i++ ) {
+			queue.put( i );
+		}
+		queue.producerStopping();
+		Thread.sleep( 100 );
+		for ( CompletableFuture<Integer> consumer : consumers ) {
+			assertThat( consumer ).isNotDone();
+		}
+
+		// Does not block, even though the queue has a capacity of 1
+		queue.producerStopping();
+		int total = 0;
+		for ( CompletableFuture<Integer> consumer : consumers ) {
+			total += consumer.get( 10, TimeUnit.SECONDS );
+		}
+		assertThat( total ).isEqualTo( 100 );
+	}
+
+}
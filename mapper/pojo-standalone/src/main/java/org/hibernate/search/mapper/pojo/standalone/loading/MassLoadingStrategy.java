@@ -67,4 +67,37 @@ MassIdentifierLoader createIdentifierLoader(LoadingTypeGroup<E> includedTypes, M
 	MassEntityLoader<I> createEntityLoader(LoadingTypeGroup<E> includedTypes, MassEntitySink<E> sink,
 			MassLoadingOptions options);
 
+	/**
+	 * @return {@code true} if this strategy implements
+	 * {@link #createIdentifierLoader(LoadingTypeGroup, MassIdentifierSink, MassLoadingOptions, Object)},
+	 * {@code false} otherwise.
+	 * Mass indexing {@link org.hibernate.search.mapper.pojo.standalone.massindexing.MassIndexer#checkpointStore checkpoints}
+	 * can only be used with strategies that return {@code true}.
+	 */
+	default boolean supportsCheckpoints() {
+		return false;
+	}
+
+	/**
+	 * Creates an entity identifier loader for mass indexing with checkpoints.
+	 * <p>
+	 * The loader must pass identifiers to the sink in ascending order,
+	 * and only identifiers strictly greater than {@code lastProcessedIdentifier} if it is not {@code null}.
+	 * Its {@link MassIdentifierLoader#totalCount() total count} should only include those identifiers.
+	 * <p>
+	 * Only called if {@link #supportsCheckpoints()} returns {@code true}.
+	 *
+	 * @param includedTypes A representation of all entity types that will have to be loaded.
+	 * @param sink A sink to which the entity identifier loader will pass loaded identifiers.
+	 * @param options Loading options configured by the requester (who requested mass indexing, ...).
+	 * @param lastProcessedIdentifier The last identifier processed in a previous mass indexing, as recorded in a checkpoint,
+	 * or {@code null} to load all identifiers.
+	 * @return An entity identifier loader.
+	 */
+	default MassIdentifierLoader createIdentifierLoader(LoadingTypeGroup<E> includedTypes, MassIdentifierSink<I> sink,
+			MassLoadingOptions options, I lastProcessedIdentifier) {
+		throw new UnsupportedOperationException( "Mass loading strategy " + this
+				+ " does not implement createIdentifierLoader(..., lastProcessedIdentifier)." );
+	}
+
 }
@@ -9,6 +9,8 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
@@ -44,6 +46,22 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the maximum number of batches of entities each loading thread may have
+	 * waiting for the backend to finish indexing,
+	 * before it stops loading more entities.
+	 * <p>
+	 * Higher values allow loading threads to keep loading entities and building documents
+	 * while the backend catches up, which helps if indexing throughput is inconsistent,
+	 * at the cost of higher memory usage.
+	 * <p>
+	 * Defaults to {@code 2}.
+	 * @param batchesInFlight the number of batches
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer batchesInFlightPerThread(int batchesInFlight);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -71,6 +89,60 @@ public interface MassIndexer {
 	 */
 	MassIndexer mergeSegmentsAfterPurge(boolean enable);
 
+	/**
+	 * Temporarily applies index settings that speed up the indexing of a large number of documents
+	 * and restores the original settings after indexing, even if indexing fails.
+	 * <p>
+	 * With the Elasticsearch backend, this disables periodic refreshes,
+	 * removes replicas and switches the transaction log to asynchronous durability during indexing.
+	 * Other backends ignore this setting.
+	 * <p>
+	 * When enabled, {@link #mergeSegmentsOnFinish(boolean) mergeSegmentsOnFinish} defaults to {@code true}.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to enable this operation, {@code false} to disable it.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer bulkLoadIndexSettings(boolean enable);
+
+	/**
+	 * Saves {@link MassIndexingCheckpoint checkpoints} to the given store while indexing,
+	 * so that a later mass indexing can {@link #resumeFrom(MassIndexingCheckpointStore) resume}
+	 * where this one stopped, e.g. after a crash.
+	 * <p>
+	 * Existing checkpoints in the store are ignored, and overwritten as indexing progresses.
+	 * <p>
+	 * Mass loading strategies of indexed entities must
+	 * {@link org.hibernate.search.mapper.pojo.standalone.loading.MassLoadingStrategy#supportsCheckpoints() support checkpoints},
+	 * otherwise mass indexing fails.
+	 * <p>
+	 * Defaults to no store: no checkpoints are saved.
+	 * @param store The store to save checkpoints to.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer checkpointStore(MassIndexingCheckpointStore store);
+
+	/**
+	 * Resumes mass indexing from the {@link MassIndexingCheckpoint checkpoints} in the given store,
+	 * skipping entities that were already processed according to the checkpoints,
+	 * and saves new checkpoints to that same store while indexing.
+	 * <p>
+	 * Only entities whose identifier is strictly greater than the last processed identifier
+	 * recorded in the checkpoint are loaded,
+	 * so entities added or deleted in-between do not cause other entities to be skipped.
+	 * Entities added in-between with an identifier lower than the last processed identifier will not be indexed.
+	 * <p>
+	 * When resuming, {@link #purgeAllOnStart(boolean) purgeAllOnStart} defaults to {@code false},
+	 * and neither {@code purgeAllOnStart} nor {@link #dropAndCreateSchemaOnStart(boolean) dropAndCreateSchemaOnStart}
+	 * can be enabled.
+	 * @param store The store to load checkpoints from and save checkpoints to.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer resumeFrom(MassIndexingCheckpointStore store);
+
 	/**
 	 * Drops the indexes and their schema (if they exist) and re-creates them before indexing.
 	 * <p>
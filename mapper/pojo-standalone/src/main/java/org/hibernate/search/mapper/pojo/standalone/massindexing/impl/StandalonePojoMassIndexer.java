@@ -8,6 +8,7 @@
 
 import java.util.concurrent.CompletionStage;
 
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
@@ -37,6 +38,12 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer batchesInFlightPerThread(int batchesInFlight) {
+		delegate.batchesInFlightPerThread( batchesInFlight );
+		return this;
+	}
+
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		context.batchSize( batchSize );
@@ -55,6 +62,24 @@ public MassIndexer mergeSegmentsAfterPurge(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer bulkLoadIndexSettings(boolean enable) {
+		delegate.bulkLoadIndexSettings( enable );
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointStore(MassIndexingCheckpointStore store) {
+		delegate.checkpointStore( store );
+		return this;
+	}
+
+	@Override
+	public MassIndexer resumeFrom(MassIndexingCheckpointStore store) {
+		delegate.resumeFrom( store );
+		return this;
+	}
+
 	@Override
 	public MassIndexer dropAndCreateSchemaOnStart(boolean dropAndCreateSchema) {
 		delegate.dropAndCreateSchemaOnStart( dropAndCreateSchema );
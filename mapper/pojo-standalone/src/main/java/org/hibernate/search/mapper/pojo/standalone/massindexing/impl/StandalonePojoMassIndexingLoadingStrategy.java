@@ -58,12 +58,19 @@ public int hashCode() {
 		return delegate.hashCode();
 	}
 
+	@Override
+	public boolean supportsCheckpoints() {
+		return delegate.supportsCheckpoints();
+	}
+
 	@Override
 	public PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifierLoadingContext<E, I> context) {
 		StandalonePojoLoadingTypeGroup<E> includedTypes = new StandalonePojoLoadingTypeGroup<>(
 				typeContextProvider, context.includedTypes(), mappingContext.runtimeIntrospector() );
 		MassIdentifierSink<I> sink = new StandalonePojoMassIdentifierSink<>( context.createSink() );
-		return new StandalonePojoMassIdentifierLoader( delegate.createIdentifierLoader( includedTypes, sink, options ) );
+		return new StandalonePojoMassIdentifierLoader( context.ascendingIdentifierOrderRequired()
+				? delegate.createIdentifierLoader( includedTypes, sink, options, context.lastProcessedIdentifier() )
+				: delegate.createIdentifierLoader( includedTypes, sink, options ) );
 	}
 
 	@Override
@@ -0,0 +1,495 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.data.impl;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, array-backed {@link BlockingQueue} optimized for many producers and a single consumer.
+ * <p>
+ * Non-blocking operations ({@link #offer(Object)}, {@link #poll()}, {@link #drainTo(Collection, int)})
+ * never acquire a lock: each slot of the ring buffer carries a sequence number,
+ * and producers (resp. consumers) claim slots through a compare-and-set on a shared counter
+ * (see Dmitry Vyukov's bounded MPMC queue).
+ * The consumer side uses a compare-and-set as well, so that occasional extra consumers
+ * (e.g. {@link #clear()} when shutting down) are safe, but it is only expected to be uncontended.
+ * <p>
+ * A lock is only involved when a thread needs to wait:
+ * a producer blocking on a full queue in {@link #put(Object)},
+ * or a consumer blocking on an empty queue in {@link #take()} or {@link #poll(long, TimeUnit)}.
+ * The other side only acquires that lock to wake up a waiting thread, if there is one.
+ * Waiting producers are queued, each with its own condition,
+ * and the consumer only ever wakes up the producer at the head of that queue.
+ * <p>
+ * Iterators are weakly consistent, like those of {@link java.util.concurrent.ConcurrentLinkedQueue}.
+ * Removing an element from the middle of the queue replaces it with a marker that the consumer skips;
+ * the slot only becomes available to producers again once the consumer reaches it.
+ *
+ * @param <E> The type of elements.
+ */
+public final class MpscArrayBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+	// Replaces elements removed through remove(Object) or Iterator.remove()
+	private static final Object REMOVED = new Object();
+
+	private final int capacity;
+	private final int mask;
+	private final boolean fair;
+	private final AtomicReferenceArray<Object> elements;
+	private final AtomicLongArray sequences;
+
+	// Index of the next slot to write to
+	private final AtomicLong tail = new AtomicLong();
+	// Index of the next slot to read from
+	private final AtomicLong head = new AtomicLong();
+	// Number of slots between head and tail holding REMOVED
+	private final AtomicLong removedCount = new AtomicLong();
+
+	private final ReentrantLock waitLock;
+	private final Condition notEmpty;
+	// Guarded by waitLock
+	private final Deque<Condition> producerWaiters = new ArrayDeque<>();
+	private volatile int waitingProducers;
+	private volatile int waitingConsumers;
+
+	/**
+	 * @param capacity The maximum number of elements in the queue.
+	 * @param fair if {@code true}, producers blocked on a full queue get to insert their element in FIFO order,
+	 * and other producers do not get to insert elements while some producers are blocked;
+	 * if {@code false}, producers blocked on a full queue are still woken up in FIFO order,
+	 * but other producers may insert their elements first.
+	 */
+	public MpscArrayBlockingQueue(int capacity, boolean fair) {
+		if ( capacity <= 0 ) {
+			throw new IllegalArgumentException( "Capacity must be strictly positive; got " + capacity );
+		}
+		this.capacity = capacity;
+		int bufferSize = capacity == 1 ? 1 : Integer.highestOneBit( capacity - 1 ) << 1;
+		this.mask = bufferSize - 1;
+		this.fair = fair;
+		this.elements = new AtomicReferenceArray<>( bufferSize );
+		this.sequences = new AtomicLongArray( bufferSize );
+		for ( int i = 0; i < bufferSize; i++ ) {
+			sequences.set( i, i );
+		}
+		this.waitLock = new ReentrantLock();
+		this.notEmpty = waitLock.newCondition();
+	}
+
+	@Override
+	public boolean offer(E element) {
+		Objects.requireNonNull( element );
+		if ( fair && waitingProducers > 0 ) {
+			// Blocked producers go first
+			return false;
+		}
+		if ( !tryInsert( element ) ) {
+			return false;
+		}
+		if ( waitingConsumers > 0 ) {
+			signalConsumer();
+		}
+		return true;
+	}
+
+	@Override
+	public E poll() {
+		Object element;
+		boolean freed = false;
+		while ( ( element = tryRemoveHead() ) == REMOVED ) {
+			freed = true;
+		}
+		if ( ( freed || element != null ) && waitingProducers > 0 ) {
+			signalProducer();
+		}
+		return castElement( element );
+	}
+
+	@Override
+	public E peek() {
+		long position = head.get();
+		while ( true ) {
+			int index = (int) position & mask;
+			if ( sequences.get( index ) != position + 1 ) {
+				// Empty, or the consumer moved on
+				long currentHead = head.get();
+				if ( currentHead <= position ) {
+					return null;
+				}
+				position = currentHead;
+				continue;
+			}
+			Object element = elements.get( index );
+			if ( element != REMOVED && element != null && sequences.get( index ) == position + 1 ) {
+				return castElement( element );
+			}
+			++position;
+		}
+	}
+
+	@Override
+	public void put(E element) throws InterruptedException {
+		if ( offer( element ) ) {
+			return;
+		}
+		awaitInsert( element, false, 0L );
+	}
+
+	@Override
+	public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+		if ( offer( element ) ) {
+			return true;
+		}
+		return awaitInsert( element, true, unit.toNanos( timeout ) );
+	}
+
+	@Override
+	public E take() throws InterruptedException {
+		E element = poll();
+		if ( element != null ) {
+			return element;
+		}
+		waitLock.lockInterruptibly();
+		try {
+			waitingConsumers++;
+			try {
+				while ( ( element = poll() ) == null ) {
+					notEmpty.await();
+				}
+				return element;
+			}
+			finally {
+				waitingConsumers--;
+			}
+		}
+		finally {
+			waitLock.unlock();
+		}
+	}
+
+	@Override
+	public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		E element = poll();
+		if ( element != null ) {
+			return element;
+		}
+		long remainingNanos = unit.toNanos( timeout );
+		waitLock.lockInterruptibly();
+		try {
+			waitingConsumers++;
+			try {
+				while ( ( element = poll() ) == null ) {
+					if ( remainingNanos <= 0L ) {
+						return null;
+					}
+					remainingNanos = notEmpty.awaitNanos( remainingNanos );
+				}
+				return element;
+			}
+			finally {
+				waitingConsumers--;
+			}
+		}
+		finally {
+			waitLock.unlock();
+		}
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return capacity - size();
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection) {
+		return drainTo( collection, Integer.MAX_VALUE );
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection, int maxElements) {
+		Objects.requireNonNull( collection );
+		if ( collection == this ) {
+			throw new IllegalArgumentException( "Cannot drain a queue to itself" );
+		}
+		int drained = 0;
+		boolean freed = false;
+		Object element;
+		while ( drained < maxElements && ( element = tryRemoveHead() ) != null ) {
+			freed = true;
+			if ( element != REMOVED ) {
+				collection.add( castElement( element ) );
+				drained++;
+			}
+		}
+		// Wake up a single producer for the whole batch: it will wake up the next one if there is still room.
+		if ( freed && waitingProducers > 0 ) {
+			signalProducer();
+		}
+		return drained;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if ( o == null ) {
+			return false;
+		}
+		long end = tail.get();
+		for ( long position = head.get(); position < end; position++ ) {
+			int index = (int) position & mask;
+			if ( sequences.get( index ) != position + 1 ) {
+				// Consumed already, or not published yet
+				continue;
+			}
+			Object element = elements.get( index );
+			if ( element != REMOVED && element != null && o.equals( element ) && markRemoved( index, element ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public int size() {
+		// Read head first: reading tail first could lead to a negative size if elements are polled in-between
+		long currentHead = head.get();
+		long currentTail = tail.get();
+		long currentRemoved = removedCount.get();
+		return (int) Math.max( 0L, Math.min( capacity, currentTail - currentHead - currentRemoved ) );
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return peek() == null;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Itr();
+	}
+
+	private boolean tryInsert(E element) {
+		long position = tail.get();
+		while ( true ) {
+			if ( position - head.get() >= capacity ) {
+				return false;
+			}
+			int index = (int) position & mask;
+			long difference = sequences.get( index ) - position;
+			if ( difference == 0 ) {
+				if ( tail.compareAndSet( position, position + 1 ) ) {
+					elements.lazySet( index, element );
+					// Publish the element to the consumer
+					sequences.set( index, position + 1 );
+					return true;
+				}
+				position = tail.get();
+			}
+			else if ( difference < 0 ) {
+				// The consumer did not free this slot yet
+				return false;
+			}
+			else {
+				// Another producer claimed this slot
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * @return The element in the head slot, {@link #REMOVED} if that element was removed,
+	 * or {@code null} if the queue is empty.
+	 */
+	private Object tryRemoveHead() {
+		long position = head.get();
+		while ( true ) {
+			int index = (int) position & mask;
+			long difference = sequences.get( index ) - ( position + 1 );
+			if ( difference == 0 ) {
+				if ( head.compareAndSet( position, position + 1 ) ) {
+					// Atomically take the element, so that concurrent calls to markRemoved() either happen before
+					// (and we get REMOVED) or fail.
+					Object element = elements.getAndSet( index, null );
+					// Release the slot for producers
+					sequences.set( index, position + mask + 1 );
+					if ( element == REMOVED ) {
+						removedCount.decrementAndGet();
+					}
+					return element;
+				}
+				position = head.get();
+			}
+			else if ( difference < 0 ) {
+				// Empty, or a producer claimed this slot but did not publish its element yet
+				return null;
+			}
+			else {
+				// Another consumer took this element
+				position = head.get();
+			}
+		}
+	}
+
+	private boolean markRemoved(int index, Object element) {
+		if ( elements.compareAndSet( index, element, REMOVED ) ) {
+			removedCount.incrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	private boolean awaitInsert(E element, boolean timed, long remainingNanos) throws InterruptedException {
+		waitLock.lockInterruptibly();
+		try {
+			Condition turn = waitLock.newCondition();
+			producerWaiters.addLast( turn );
+			waitingProducers = producerWaiters.size();
+			try {
+				// Retry after registering as a waiting producer:
+				// either we see the slot freed by the consumer, or the consumer sees us waiting and signals us.
+				// Only the producer at the head of the queue gets to retry, so that blocked producers insert in FIFO order.
+				while ( producerWaiters.peekFirst() != turn || !tryInsert( element ) ) {
+					if ( !timed ) {
+						turn.await();
+					}
+					else if ( remainingNanos <= 0L ) {
+						return false;
+					}
+					else {
+						remainingNanos = turn.awaitNanos( remainingNanos );
+					}
+				}
+				if ( waitingConsumers > 0 ) {
+					notEmpty.signal();
+				}
+				return true;
+			}
+			finally {
+				boolean wasFirst = producerWaiters.peekFirst() == turn;
+				producerWaiters.remove( turn );
+				waitingProducers = producerWaiters.size();
+				if ( wasFirst && !producerWaiters.isEmpty() && size() < capacity ) {
+					// Hand over to the next producer, which will not get a signal from the consumer
+					// for a slot that was freed before it became first.
+					producerWaiters.peekFirst().signal();
+				}
+			}
+		}
+		finally {
+			waitLock.unlock();
+		}
+	}
+
+	private void signalProducer() {
+		waitLock.lock();
+		try {
+			Condition first = producerWaiters.peekFirst();
+			if ( first != null ) {
+				first.signal();
+			}
+		}
+		finally {
+			waitLock.unlock();
+		}
+	}
+
+	private void signalConsumer() {
+		waitLock.lock();
+		try {
+			notEmpty.signal();
+		}
+		finally {
+			waitLock.unlock();
+		}
+	}
+
+	@SuppressWarnings("unchecked") // Only instances of E or REMOVED are ever stored, and callers handle REMOVED
+	private static <E> E castElement(Object element) {
+		return (E) element;
+	}
+
+	private class Itr implements Iterator<E> {
+		private long position;
+		private Object nextElement;
+		private long nextPosition;
+		private Object lastElement;
+		private long lastPosition;
+
+		Itr() {
+			this.position = head.get();
+			advance();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextElement != null;
+		}
+
+		@Override
+		public E next() {
+			if ( nextElement == null ) {
+				throw new NoSuchElementException();
+			}
+			lastElement = nextElement;
+			lastPosition = nextPosition;
+			advance();
+			return castElement( lastElement );
+		}
+
+		@Override
+		public void remove() {
+			if ( lastElement == null ) {
+				throw new IllegalStateException();
+			}
+			int index = (int) lastPosition & mask;
+			// The element may have been consumed already, in which case there is nothing to remove.
+			if ( sequences.get( index ) == lastPosition + 1 ) {
+				markRemoved( index, lastElement );
+			}
+			lastElement = null;
+		}
+
+		private void advance() {
+			nextElement = null;
+			while ( true ) {
+				long currentHead = head.get();
+				if ( position < currentHead ) {
+					// The consumer went past us: skip consumed elements
+					position = currentHead;
+				}
+				if ( position >= tail.get() ) {
+					return;
+				}
+				int index = (int) position & mask;
+				long current = position++;
+				if ( sequences.get( index ) != current + 1 ) {
+					// Consumed, or not published yet
+					continue;
+				}
+				Object element = elements.get( index );
+				// Check the slot was not recycled while we were reading it
+				if ( element != REMOVED && element != null && sequences.get( index ) == current + 1 ) {
+					nextElement = element;
+					nextPosition = current;
+					return;
+				}
+			}
+		}
+	}
+}
@@ -8,17 +8,25 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.annotation.Repeatable;
 import java.lang.invoke.MethodHandles;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.Log;
@@ -32,6 +40,7 @@
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
 import org.jboss.jandex.Indexer;
 import org.jboss.jandex.Type;
 
@@ -43,6 +52,7 @@ public final class JandexUtils {
 
 	private static final String META_INF_VERSIONS = "META-INF/versions/";
 	private static final String META_INF_JANDEX_INDEX = "META-INF/jandex.idx";
+	private static final String CACHED_INDEX_SUFFIX = ".idx";
 
 
 	private JandexUtils() {
@@ -97,13 +107,28 @@ public static ClassInfo extractDeclaringClass(AnnotationTarget target) {
 	}
 
 	public static Index readOrBuildIndex(URL codeSourceLocation) {
+		return readOrBuildIndex( codeSourceLocation, null );
+	}
+
+	/**
+	 * @param codeSourceLocation The location of a JAR or directory.
+	 * @param cacheDirectory A directory where indexes built for code sources without a {@code META-INF/jandex.idx}
+	 * are saved, to be reused on subsequent calls as long as the content of class files in the code source did not change.
+	 * May be {@code null}, in which case indexes are built on each call.
+	 * @return The index read from the code source, read from the cache, or built.
+	 */
+	public static Index readOrBuildIndex(URL codeSourceLocation, Path cacheDirectory) {
 		try ( CodeSource codeSource = new CodeSource( codeSourceLocation ) ) {
 			Optional<Index> readIndex = doReadIndex( codeSource );
 			if ( readIndex.isPresent() ) {
 				return readIndex.get();
 			}
 			try {
-				return doBuildJandexIndex( codeSource.classesPathOrFail() );
+				Path classesPath = codeSource.classesPathOrFail();
+				if ( cacheDirectory == null ) {
+					return doBuildJandexIndex( classesPath );
+				}
+				return doReadCachedOrBuildJandexIndex( codeSourceLocation, classesPath, cacheDirectory );
 			}
 			catch (IOException | RuntimeException e) {
 				throw log.errorBuildingJandexIndex( codeSourceLocation, e.getMessage(), e );
@@ -133,6 +158,122 @@ private static Optional<Index> doReadIndex(CodeSource codeSource) throws IOExcep
 		}
 	}
 
+	private static Index doReadCachedOrBuildJandexIndex(URL codeSourceLocation, Path classesPath,
+			Path cacheDirectory)
+			throws IOException {
+		// Cached indexes are named after the code source location and a fingerprint of its class files,
+		// so that a stale index is never used after the code source changes.
+		String locationPrefix = sha256Hex( codeSourceLocation.toExternalForm().getBytes( StandardCharsets.UTF_8 ) )
+				.substring( 0, 16 ) + "-";
+		String cachedIndexFileName = locationPrefix + fingerprint( classesPath ) + CACHED_INDEX_SUFFIX;
+		Path cachedIndexPath = cacheDirectory.resolve( cachedIndexFileName );
+		if ( Files.isRegularFile( cachedIndexPath ) ) {
+			try ( InputStream in = Files.newInputStream( cachedIndexPath ) ) {
+				return new IndexReader( in ).read();
+			}
+			catch (IOException | RuntimeException e) {
+				log.debugf( e, "Ignoring unreadable cached Jandex index at '%s'", cachedIndexPath );
+			}
+		}
+		Index index = doBuildJandexIndex( classesPath );
+		try {
+			writeCachedIndex( cacheDirectory, locationPrefix, cachedIndexFileName, index );
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCacheJandexIndex( codeSourceLocation, cacheDirectory, e.getMessage(), e );
+		}
+		return index;
+	}
+
+	private static void writeCachedIndex(Path cacheDirectory, String locationPrefix, String cachedIndexFileName,
+			Index index)
+			throws IOException {
+		Files.createDirectories( cacheDirectory );
+		// Write to a temporary file then move it, so that concurrent boots never read a partially written index.
+		Path tempPath = Files.createTempFile( cacheDirectory, locationPrefix, ".tmp" );
+		try {
+			try ( OutputStream out = Files.newOutputStream( tempPath ) ) {
+				new IndexWriter( out ).write( index );
+			}
+			Files.move( tempPath, cacheDirectory.resolve( cachedIndexFileName ),
+					StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		finally {
+			Files.deleteIfExists( tempPath );
+		}
+		// Remove indexes cached for previous versions of the same code source.
+		try ( Stream<Path> stream = Files.list( cacheDirectory ) ) {
+			for ( Iterator<Path> it = stream.iterator(); it.hasNext(); ) {
+				Path path = it.next();
+				String fileName = path.getFileName().toString();
+				if ( fileName.startsWith( locationPrefix )
+						&& fileName.endsWith( CACHED_INDEX_SUFFIX )
+						&& !fileName.equals( cachedIndexFileName ) ) {
+					Files.deleteIfExists( path );
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return A hash of the path, size and CRC-32 checksum of every class file in the code source.
+	 * Timestamps are deliberately ignored, so that rebuilding identical class files,
+	 * e.g. with reproducible builds, does not invalidate the cached index.
+	 * For JARs, checksums are read from the ZIP entries, so class files are not read;
+	 * for directories, class files are read but not parsed, which is still much cheaper than building the index.
+	 */
+	private static String fingerprint(Path classesPath) throws IOException {
+		boolean zipCrcAvailable = classesPath.getFileSystem().supportedFileAttributeViews().contains( "zip" );
+		List<String> entries = new ArrayList<>();
+		try ( Stream<Path> stream = Files.walk( classesPath ) ) {
+			for ( Iterator<Path> it = stream.iterator(); it.hasNext(); ) {
+				Path path = it.next();
+				if ( path.getFileName() == null || !path.getFileName().toString().endsWith( ".class" ) ) {
+					continue;
+				}
+				long crc = zipCrcAvailable
+						? ( (Number) Files.getAttribute( path, "zip:crc" ) ).longValue()
+						: crc( path );
+				entries.add( classesPath.relativize( path ) + ":" + Files.size( path ) + ":" + crc );
+			}
+		}
+		// Walking order is not guaranteed to be stable.
+		entries.sort( null );
+		StringBuilder builder = new StringBuilder();
+		for ( String entry : entries ) {
+			builder.append( entry ).append( '\n' );
+		}
+		return sha256Hex( builder.toString().getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static long crc(Path path) throws IOException {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[8192];
+		try ( InputStream in = Files.newInputStream( path ) ) {
+			int read;
+			while ( ( read = in.read( buffer ) ) != -1 ) {
+				crc.update( buffer, 0, read );
+			}
+		}
+		return crc.getValue();
+	}
+
+	private static String sha256Hex(byte[] bytes) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new AssertionFailure( "SHA-256 is not available", e );
+		}
+		StringBuilder builder = new StringBuilder();
+		for ( byte b : digest.digest( bytes ) ) {
+			builder.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) )
+					.append( Character.forDigit( b & 0xF, 16 ) );
+		}
+		return builder.toString();
+	}
+
 	/**
 	 * Code originally released under ASL 2.0.
 	 * <p>
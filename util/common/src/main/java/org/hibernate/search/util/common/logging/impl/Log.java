@@ -8,12 +8,14 @@
 package org.hibernate.search.util.common.logging.impl;
 
 import static org.jboss.logging.Logger.Level.ERROR;
+import static org.jboss.logging.Logger.Level.WARN;
 
 import java.io.IOException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Path;
 
 import org.hibernate.search.util.common.SearchException;
 
@@ -141,4 +143,11 @@ SearchException errorInvokingStaticMember(Member member, String argumentsAsStrin
 					+ "See the reference documentation for information about mapping configurers.")
 	SearchException cannotOpenNestedJar(URI uri, @Cause Throwable e);
 
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 19,
+			value = "Unable to save the Jandex index built for '%1$s' to cache directory '%2$s': %3$s."
+					+ " The index will be built again on next startup.")
+	void unableToCacheJandexIndex(URL codeSourceLocation, Path cacheDirectory, String causeMessage,
+			@Cause Throwable e);
+
 }
@@ -0,0 +1,250 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.data.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MpscArrayBlockingQueueTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void cleanup() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void offerPoll() {
+		MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>( 3, false );
+		assertThat( queue.poll() ).isNull();
+		assertThat( queue.isEmpty() ).isTrue();
+
+		assertThat( queue.offer( 1 ) ).isTrue();
+		assertThat( queue.offer( 2 ) ).isTrue();
+		assertThat( queue.offer( 3 ) ).isTrue();
+		// Capacity is not rounded up to the size of the underlying buffer
+		assertThat( queue.offer( 4 ) ).isFalse();
+		assertThat( queue.size() ).isEqualTo( 3 );
+		assertThat( queue.remainingCapacity() ).isZero();
+		assertThat( queue.peek() ).isEqualTo( 1 );
+
+		assertThat( queue.poll() ).isEqualTo( 1 );
+		assertThat( queue.offer( 4 ) ).isTrue();
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat( queue.drainTo( drained, 2 ) ).isEqualTo( 2 );
+		assertThat( drained ).containsExactly( 2, 3 );
+		assertThat( queue.drainTo( drained ) ).isEqualTo( 1 );
+		assertThat( drained ).containsExactly( 2, 3, 4 );
+		assertThat( queue.isEmpty() ).isTrue();
+		assertThat( queue.size() ).isZero();
+	}
+
+	@Test
+	void put_blocksUntilNotFull() throws Exception {
+		MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>( 1, true );
+		queue.put( 1 );
+
+		CompletableFuture<?> put = CompletableFuture.runAsync( () -> {
+			try {
+				queue.put( 2 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		}, executor );
+		Thread.sleep( 100 );
+		assertThat( put ).isNotDone();
+
+		assertThat( queue.poll() ).isEqualTo( 1 );
+		put.get( 10, TimeUnit.SECONDS );
+		assertThat( queue.poll() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void pollWithTimeout() throws Exception {
+		MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>( 4, false );
+		assertThat( queue.poll( 10, TimeUnit.MILLISECONDS ) ).isNull();
+
+		CompletableFuture<Integer> poll = CompletableFuture.supplyAsync( () -> {
+			try {
+				return queue.poll( 10, TimeUnit.SECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		}, executor );
+		Thread.sleep( 100 );
+		queue.offer( 42 );
+		assertThat( poll.get( 10, TimeUnit.SECONDS ) ).isEqualTo( 42 );
+	}
+
+	@Test
+	void iterationAndRemoval() {
+		MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>( 4, false );
+		queue.offer( 1 );
+		queue.offer( 2 );
+		queue.offer( 3 );
+		queue.offer( 4 );
+		assertThat( queue ).containsExactly( 1, 2, 3, 4 );
+		assertThat( queue.contains( 3 ) ).isTrue();
+		assertThat( queue.toArray() ).containsExactly( 1, 2, 3, 4 );
+		assertThat( queue ).hasToString( "[1, 2, 3, 4]" );
+
+		assertThat( queue.remove( (Object) 2 ) ).isTrue();
+		assertThat( queue.remove( (Object) 2 ) ).isFalse();
+		assertThat( queue.contains( 2 ) ).isFalse();
+		assertThat( queue ).containsExactly( 1, 3, 4 );
+		assertThat( queue.size() ).isEqualTo( 3 );
+
+		Iterator<Integer> iterator = queue.iterator();
+		assertThat( iterator.next() ).isEqualTo( 1 );
+		iterator.remove();
+		assertThat( queue ).containsExactly( 3, 4 );
+		assertThat( queue.peek() ).isEqualTo( 3 );
+
+		// Removed elements are skipped by the consumer, and their slot is reused afterwards
+		assertThat( queue.poll() ).isEqualTo( 3 );
+		assertThat( queue.offer( 5 ) ).isTrue();
+		assertThat( queue.offer( 6 ) ).isTrue();
+		assertThat( queue.offer( 7 ) ).isTrue();
+		assertThat( queue.offer( 8 ) ).isFalse();
+		List<Integer> drained = new ArrayList<>();
+		queue.drainTo( drained );
+		assertThat( drained ).containsExactly( 4, 5, 6, 7 );
+		assertThat( queue.isEmpty() ).isTrue();
+		assertThat( queue.size() ).isZero();
+	}
+
+	@Test
+	void iterator_weaklyConsistent() {
+		MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>( 4, false );
+		queue.offer( 1 );
+		queue.offer( 2 );
+		Iterator<Integer> iterator = queue.iterator();
+		assertThat( iterator.next() ).isEqualTo( 1 );
+		// Concurrent modifications do not throw, and new elements are visible.
+		// The next element was already read by the iterator, so it is returned even though it was consumed.
+		queue.poll();
+		queue.poll();
+		queue.offer( 3 );
+		List<Integer> remaining = new ArrayList<>();
+		iterator.forEachRemaining( remaining::add );
+		assertThat( remaining ).containsExactly( 2, 3 );
+	}
+
+	@Test
+	void put_fair_fifo() throws Exception {
+		int producerCount = 5;
+		MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>( 1, true );
+		queue.put( 0 );
+
+		List<Thread> producers = new ArrayList<>();
+		for ( int i = 1; i <= producerCount; i++ ) {
+			int element = i;
+			Thread producer = new Thread( () -> {
+				try {
+					queue.put( element );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			} );
+			producers.add( producer );
+			producer.start();
+			awaitWaiting( producer );
+		}
+		// Blocked producers go first, even if there is room
+		assertThat( queue.poll() ).isEqualTo( 0 );
+		assertThat( queue.offer( 42 ) ).isFalse();
+
+		List<Integer> consumed = new ArrayList<>();
+		for ( int i = 0; i < producerCount; i++ ) {
+			consumed.add( queue.poll( 10, TimeUnit.SECONDS ) );
+		}
+		assertThat( consumed ).containsExactly( 1, 2, 3, 4, 5 );
+		for ( Thread producer : producers ) {
+			producer.join( 10_000 );
+			assertThat( producer.isAlive() ).isFalse();
+		}
+	}
+
+	@Test
+	void concurrentProducers() throws Exception {
+		concurrentProducers( false );
+	}
+
+	@Test
+	void concurrentProducers_fair() throws Exception {
+		concurrentProducers( true );
+	}
+
+	private void concurrentProducers(boolean fair) throws Exception {
+		int producerCount = 8;
+		int elementsPerProducer = 20_000;
+		MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>( 100, fair );
+
+		CountDownLatch start = new CountDownLatch( 1 );
+		List<CompletableFuture<?>> producers = new ArrayList<>();
+		for ( int p = 0; p < producerCount; p++ ) {
+			int producerIndex = p;
+			producers.add( CompletableFuture.runAsync( () -> {
+				try {
+					start.await();
+					for ( int i = 0; i < elementsPerProducer; i++ ) {
+						queue.put( producerIndex * elementsPerProducer + i );
+					}
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException( e );
+				}
+			}, executor ) );
+		}
+		start.countDown();
+
+		boolean[] seen = new boolean[producerCount * elementsPerProducer];
+		int[] lastSeenPerProducer = new int[producerCount];
+		Arrays.fill( lastSeenPerProducer, -1 );
+		for ( int i = 0; i < seen.length; i++ ) {
+			Integer element = queue.poll( 10, TimeUnit.SECONDS );
+			assertThat( element ).isNotNull();
+			assertThat( seen[element] ).isFalse();
+			seen[element] = true;
+			// Elements from a given producer are consumed in the order they were produced
+			int producerIndex = element / elementsPerProducer;
+			assertThat( element ).isGreaterThan( lastSeenPerProducer[producerIndex] );
+			lastSeenPerProducer[producerIndex] = element;
+		}
+		CompletableFuture.allOf( producers.toArray( new CompletableFuture<?>[0] ) ).get( 10, TimeUnit.SECONDS );
+		assertThat( queue.poll() ).isNull();
+	}
+
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( thread.getState() != Thread.State.WAITING ) {
+			assertThat( System.nanoTime() ).isLessThan( deadline );
+			Thread.sleep( 1 );
+		}
+	}
+
+}
@@ -11,10 +11,16 @@
 import static org.hibernate.search.util.impl.test.jar.JarTestUtils.toJar;
 
 import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.impl.test.HibernateSearchUtilInternalTestCommonClass;
@@ -131,6 +137,80 @@ void readOrBuildIndex_fromDirectory_indexPresent() throws Exception {
 				.returns( HibernateSearchUtilInternalTestCommonClass.class.getName(), ci -> ci.name().toString() );
 	}
 
+	@Test
+	void readOrBuildIndex_cacheDirectory() throws Exception {
+		Path dirPath = toDirectory( temporaryFolder, JUNIT_JAR_URL );
+		checkDirectoryPreconditions( dirPath, false );
+		Path cacheDirectory = temporaryFolder.resolve( "jandex-cache" );
+
+		Index index = JandexUtils.readOrBuildIndex( dirPath.toUri().toURL(), cacheDirectory );
+		assertThat( index.getClassByName( DotName.createSimple( Test.class.getName() ) ) ).isNotNull();
+		List<Path> cachedIndexes = listFiles( cacheDirectory );
+		assertThat( cachedIndexes ).hasSize( 1 );
+
+		// The cached index is used as long as class files did not change
+		Index cachedIndex = JandexUtils.readOrBuildIndex( dirPath.toUri().toURL(), cacheDirectory );
+		assertThat( cachedIndex.getClassByName( DotName.createSimple( Test.class.getName() ) ) ).isNotNull();
+		assertThat( cachedIndex.getKnownClasses() ).hasSameSizeAs( index.getKnownClasses() );
+		assertThat( listFiles( cacheDirectory ) ).isEqualTo( cachedIndexes );
+
+		// Changing class files invalidates the cached index, which gets replaced
+		Path testClassFile = dirPath.resolve( Test.class.getName().replace( '.', '/' ) + ".class" );
+		Files.delete( testClassFile );
+		Index rebuiltIndex = JandexUtils.readOrBuildIndex( dirPath.toUri().toURL(), cacheDirectory );
+		assertThat( rebuiltIndex.getClassByName( DotName.createSimple( Test.class.getName() ) ) ).isNull();
+		assertThat( listFiles( cacheDirectory ) ).hasSize( 1 ).doesNotContainAnyElementsOf( cachedIndexes );
+	}
+
+	@Test
+	void readOrBuildIndex_cacheDirectory_fromJar_ignoresTimestamps() throws Exception {
+		Path jarPath = toJar( temporaryFolder, JUNIT_JAR_URL );
+		checkJarPreconditions( jarPath, false );
+		Path cacheDirectory = temporaryFolder.resolve( "jandex-cache" );
+
+		JandexUtils.readOrBuildIndex( jarPath.toUri().toURL(), cacheDirectory );
+		List<Path> cachedIndexes = listFiles( cacheDirectory );
+		assertThat( cachedIndexes ).hasSize( 1 );
+
+		// Rebuilding the JAR with identical class files, but different timestamps, must not invalidate the cached index
+		try ( FileSystem jarFs = FileSystems.newFileSystem( jarPath, (ClassLoader) null ) ) {
+			setLastModifiedTimeOfClassFiles( jarFs.getRootDirectories().iterator().next() );
+		}
+		Index cachedIndex = JandexUtils.readOrBuildIndex( jarPath.toUri().toURL(), cacheDirectory );
+		assertThat( cachedIndex.getClassByName( DotName.createSimple( Test.class.getName() ) ) ).isNotNull();
+		assertThat( listFiles( cacheDirectory ) ).isEqualTo( cachedIndexes );
+	}
+
+	@Test
+	void readOrBuildIndex_cacheDirectory_fromDirectory_ignoresTimestamps() throws Exception {
+		Path dirPath = toDirectory( temporaryFolder, JUNIT_JAR_URL );
+		checkDirectoryPreconditions( dirPath, false );
+		Path cacheDirectory = temporaryFolder.resolve( "jandex-cache" );
+
+		JandexUtils.readOrBuildIndex( dirPath.toUri().toURL(), cacheDirectory );
+		List<Path> cachedIndexes = listFiles( cacheDirectory );
+		assertThat( cachedIndexes ).hasSize( 1 );
+
+		// Rebuilding identical class files, e.g. with a reproducible build, must not invalidate the cached index
+		setLastModifiedTimeOfClassFiles( dirPath );
+		JandexUtils.readOrBuildIndex( dirPath.toUri().toURL(), cacheDirectory );
+		assertThat( listFiles( cacheDirectory ) ).isEqualTo( cachedIndexes );
+	}
+
+	private static void setLastModifiedTimeOfClassFiles(Path root) throws Exception {
+		try ( Stream<Path> stream = Files.walk( root ) ) {
+			for ( Path path : stream.filter( p -> p.toString().endsWith( ".class" ) ).collect( Collectors.toList() ) ) {
+				Files.setLastModifiedTime( path, FileTime.fromMillis( 0L ) );
+			}
+		}
+	}
+
+	private static List<Path> listFiles(Path directory) throws Exception {
+		try ( Stream<Path> stream = Files.list( directory ) ) {
+			return stream.collect( Collectors.toList() );
+		}
+	}
+
 	private void checkJarPreconditions(Path path, boolean expectedIndexPresent) {
 		if ( !Files.isRegularFile( path ) ) {
 			throw new AssertionFailure( "Code source at path " + path + " is not a JAR file as expected."
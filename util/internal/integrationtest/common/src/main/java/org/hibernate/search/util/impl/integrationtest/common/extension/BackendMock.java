@@ -593,6 +593,14 @@ public IndexScaleWorkCallListContext refresh(CompletableFuture<?> future) {
 			return indexScaleWork( StubIndexScaleWork.Type.REFRESH, future );
 		}
 
+		public IndexScaleWorkCallListContext beginBulkLoad() {
+			return indexScaleWork( StubIndexScaleWork.Type.BEGIN_BULK_LOAD );
+		}
+
+		public IndexScaleWorkCallListContext endBulkLoad() {
+			return indexScaleWork( StubIndexScaleWork.Type.END_BULK_LOAD );
+		}
+
 		public IndexScaleWorkCallListContext indexScaleWork(StubIndexScaleWork.Type type) {
 			return indexScaleWork( type, Collections.emptySet() );
 		}
@@ -88,6 +88,11 @@ public String createThreadName(String prefix, int threadNumber) {
 		public ThreadFactory createThreadFactory(String prefix) {
 			return new SpyingThreadFactory( delegate.createThreadFactory( prefix ) );
 		}
+
+		@Override
+		public ThreadFactory createBlockingIoThreadFactory(String prefix) {
+			return new SpyingThreadFactory( delegate.createBlockingIoThreadFactory( prefix ) );
+		}
 	}
 
 	private class SpyingThreadFactory implements ThreadFactory {
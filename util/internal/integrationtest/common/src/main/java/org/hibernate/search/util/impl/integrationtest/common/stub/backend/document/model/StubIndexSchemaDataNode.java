@@ -18,6 +18,7 @@
 import org.hibernate.search.engine.backend.types.Searchable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.backend.types.TermVector;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.predicate.definition.PredicateDefinition;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -217,6 +218,26 @@ public Builder defaultDecimalScale(int decimalScale) {
 			return this;
 		}
 
+		public Builder dimension(int dimension) {
+			attribute( "dimension", dimension );
+			return this;
+		}
+
+		public Builder vectorSimilarity(VectorSimilarity vectorSimilarity) {
+			attribute( "vectorSimilarity", vectorSimilarity );
+			return this;
+		}
+
+		public Builder efConstruction(int efConstruction) {
+			attribute( "efConstruction", efConstruction );
+			return this;
+		}
+
+		public Builder m(int m) {
+			attribute( "m", m );
+			return this;
+		}
+
 		public Builder searchable(Searchable searchable) {
 			attribute( "searchable", searchable );
 			return this;
@@ -18,7 +18,7 @@
 public final class StubIndexScaleWork implements ToStringTreeAppendable {
 
 	public enum Type {
-		MERGE_SEGMENTS, PURGE, FLUSH, REFRESH
+		MERGE_SEGMENTS, PURGE, FLUSH, REFRESH, BEGIN_BULK_LOAD, END_BULK_LOAD
 	}
 
 	public static Builder builder(Type type) {
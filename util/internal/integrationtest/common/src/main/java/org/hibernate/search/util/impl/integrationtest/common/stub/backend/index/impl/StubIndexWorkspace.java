@@ -75,4 +75,22 @@ public CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 				.build();
 		return behavior.executeIndexScaleWork( indexName, work );
 	}
+
+	@Override
+	public CompletableFuture<?> beginBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		StubIndexScaleWork work = StubIndexScaleWork.builder( StubIndexScaleWork.Type.BEGIN_BULK_LOAD )
+				.tenantIdentifiers( tenantIdentifiers )
+				.build();
+		return behavior.executeIndexScaleWork( indexName, work );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkLoad(OperationSubmitter operationSubmitter,
+			UnsupportedOperationBehavior unsupportedOperationBehavior) {
+		StubIndexScaleWork work = StubIndexScaleWork.builder( StubIndexScaleWork.Type.END_BULK_LOAD )
+				.tenantIdentifiers( tenantIdentifiers )
+				.build();
+		return behavior.executeIndexScaleWork( indexName, work );
+	}
 }
@@ -17,6 +17,7 @@
 import org.hibernate.search.engine.search.predicate.dsl.SimpleQueryFlag;
 import org.hibernate.search.engine.search.predicate.spi.BooleanPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.ExistsPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.KnnPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchAllPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchIdPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchNonePredicateBuilder;
@@ -116,6 +117,7 @@ public void flags(Set<SimpleQueryFlag> flags) {
 			SpatialWithinCirclePredicateBuilder,
 			SpatialWithinPolygonPredicateBuilder,
 			SpatialWithinBoundingBoxPredicateBuilder,
+			KnnPredicateBuilder,
 			NamedPredicateBuilder {
 		private boolean hasClause = false;
 
@@ -198,6 +200,16 @@ public void slop(int slop) {
 			// No-op
 		}
 
+		@Override
+		public void k(int k) {
+			// No-op
+		}
+
+		@Override
+		public void vector(float[] vector) {
+			// No-op
+		}
+
 		@Override
 		public void phrase(String phrase) {
 			// No-op
@@ -24,6 +24,7 @@
 import org.hibernate.search.engine.backend.types.dsl.ScaledNumberIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexFieldTypeDefaultsProvider;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
@@ -157,6 +158,11 @@ public ScaledNumberIndexFieldTypeOptionsStep<?, BigInteger> asBigInteger() {
 		return new StubScaledNumberIndexFieldTypeOptionsStep<>( BigInteger.class, defaultsProvider );
 	}
 
+	@Override
+	public VectorFieldTypeOptionsStep<?, float[]> asFloatVector() {
+		return new StubVectorIndexFieldTypeOptionsStep<>( float[].class );
+	}
+
 	public <T> IndexFieldTypeOptionsStep<?, T> asNonStandard(Class<T> fieldValueType) {
 		return new StubGenericNonStandardIndexFieldTypeOptionsStep<>( fieldValueType );
 	}
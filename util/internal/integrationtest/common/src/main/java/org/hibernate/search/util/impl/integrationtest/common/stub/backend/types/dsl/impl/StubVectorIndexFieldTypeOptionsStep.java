@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.types.dsl.impl;
+
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
+
+public class StubVectorIndexFieldTypeOptionsStep<F>
+		extends AbstractStubIndexFieldTypeOptionsStep<StubVectorIndexFieldTypeOptionsStep<F>, F>
+		implements VectorFieldTypeOptionsStep<StubVectorIndexFieldTypeOptionsStep<F>, F> {
+
+	public StubVectorIndexFieldTypeOptionsStep(Class<F> fieldType) {
+		super( fieldType );
+	}
+
+	@Override
+	StubVectorIndexFieldTypeOptionsStep<F> thisAsS() {
+		return this;
+	}
+
+	@Override
+	public StubVectorIndexFieldTypeOptionsStep<F> dimension(int dimension) {
+		builder.modifier( b -> b.dimension( dimension ) );
+		return this;
+	}
+
+	@Override
+	public StubVectorIndexFieldTypeOptionsStep<F> vectorSimilarity(VectorSimilarity vectorSimilarity) {
+		builder.modifier( b -> b.vectorSimilarity( vectorSimilarity ) );
+		return this;
+	}
+
+	@Override
+	public StubVectorIndexFieldTypeOptionsStep<F> efConstruction(int efConstruction) {
+		builder.modifier( b -> b.efConstruction( efConstruction ) );
+		return this;
+	}
+
+	@Override
+	public StubVectorIndexFieldTypeOptionsStep<F> m(int m) {
+		builder.modifier( b -> b.m( m ) );
+		return this;
+	}
+
+	@Override
+	public StubVectorIndexFieldTypeOptionsStep<F> projectable(Projectable projectable) {
+		builder.modifier( b -> b.projectable( projectable ) );
+		return this;
+	}
+
+	@Override
+	public StubVectorIndexFieldTypeOptionsStep<F> searchable(Searchable searchable) {
+		builder.modifier( b -> b.searchable( searchable ) );
+		return this;
+	}
+
+	@Override
+	public StubVectorIndexFieldTypeOptionsStep<F> indexNullAs(F indexNullAs) {
+		builder.modifier( b -> b.indexNullAs( indexNullAs ) );
+		return this;
+	}
+
+}